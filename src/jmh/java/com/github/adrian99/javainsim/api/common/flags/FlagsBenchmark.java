@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.flags;
+
+import com.github.adrian99.javainsim.api.insim.packets.flags.IsiFlag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating flags out of enum values and out of binary representation, as well as checking flags
+ * of both kinds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlagsBenchmark {
+    private final IsiFlag[] enumValues = {IsiFlag.LOCAL, IsiFlag.MSO_COLS, IsiFlag.NLP, IsiFlag.MCI, IsiFlag.CON};
+    private long binaryValue;
+    private Flags<IsiFlag> flagsFromValues;
+    private Flags<IsiFlag> flagsFromBinaryValue;
+
+    /**
+     * Creates flags used by checking benchmarks.
+     */
+    @Setup
+    public void setup() {
+        flagsFromValues = new Flags<>(enumValues);
+        binaryValue = flagsFromValues.getUnsignedValue();
+        flagsFromBinaryValue = new Flags<>(IsiFlag.class, binaryValue);
+    }
+
+    /**
+     * @return flags created out of enum values
+     */
+    @Benchmark
+    public Flags<IsiFlag> createFromValues() {
+        return new Flags<>(enumValues);
+    }
+
+    /**
+     * @return flags created out of binary representation
+     */
+    @Benchmark
+    public Flags<IsiFlag> createFromBinaryValue() {
+        return new Flags<>(IsiFlag.class, binaryValue);
+    }
+
+    /**
+     * @return whether flags created out of enum values contain checked flag
+     */
+    @Benchmark
+    public boolean hasFlagFromValues() {
+        return flagsFromValues.hasFlag(IsiFlag.MCI);
+    }
+
+    /**
+     * @return whether flags created out of binary representation contain checked flag
+     */
+    @Benchmark
+    public boolean hasFlagFromBinaryValue() {
+        return flagsFromBinaryValue.hasFlag(IsiFlag.MCI);
+    }
+}
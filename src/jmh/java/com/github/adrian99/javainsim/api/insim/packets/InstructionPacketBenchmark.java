@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.packets;
+
+import com.github.adrian99.javainsim.benchmarkutil.PacketSamples;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InstructionPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion of every instruction packet type to bytes sent to LFS.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InstructionPacketBenchmark {
+    @Param({
+            "AIC", "AXM", "BFN", "BTN", "CPP", "HCP", "IPB", "ISI", "JRR", "MAL", "MOD", "MSL", "MST", "MSX",
+            "MTC", "OCO", "PLC", "PLH", "REO", "RIP", "SCC", "SCH", "SFP", "SMALL", "SSH", "TINY", "TTC"
+    })
+    private String packetType;
+    private InstructionPacket packet;
+
+    /**
+     * Creates the benchmarked packet.
+     */
+    @Setup
+    public void setup() {
+        packet = PacketSamples.createInstructionPacket(packetType);
+    }
+
+    /**
+     * @return bytes of the packet
+     */
+    @Benchmark
+    public byte[] getBytes() {
+        return packet.getBytes();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.outgauge;
+
+import com.github.adrian99.javainsim.internal.common.util.PacketDataBytes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of OutGauge packets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OutGaugeDecodeBenchmark {
+    private final byte[] packetBytes = new byte[OutGaugePacket.SIZE];
+
+    /**
+     * @return packet decoded out of bytes
+     */
+    @Benchmark
+    public OutGaugePacket decodePacket() {
+        return new OutGaugePacket(new PacketDataBytes(packetBytes));
+    }
+}
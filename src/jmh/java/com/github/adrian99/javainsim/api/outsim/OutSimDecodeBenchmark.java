@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.outsim;
+
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.outsim.flags.OutSimOpts;
+import com.github.adrian99.javainsim.api.outsim.structures.*;
+import com.github.adrian99.javainsim.internal.common.util.PacketDataBytes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of OutSim packets - both creating {@link OutSimPacket2} and reading values
+ * through {@link OutSimPacketView}. Benchmarked packet either holds all optional structures,
+ * or has the legacy layout (used when OutSim is not configured with any options).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OutSimDecodeBenchmark {
+    @Param({"ALL_OPTS", "LEGACY"})
+    private String layout;
+    private Flags<OutSimOpts> opts;
+    private boolean outSimPack2;
+    private byte[] packetBytes;
+    private OutSimPacketView packetView;
+
+    /**
+     * Prepares bytes of the benchmarked packet.
+     */
+    @Setup
+    public void setup() {
+        outSimPack2 = layout.equals("ALL_OPTS");
+        if (outSimPack2) {
+            opts = new Flags<>(OutSimOpts.values());
+            packetBytes = new byte[OutSimHeader.SIZE + OutSimId.SIZE + OutSimTime.SIZE + OutSimMain.SIZE +
+                    OutSimInputs.SIZE + OutSimDrive.SIZE + OutSimDistance.SIZE + 4 * OutSimWheel.SIZE +
+                    OutSimExtra1.SIZE];
+        } else {
+            opts = new Flags<>();
+            packetBytes = new byte[OutSimTime.SIZE + OutSimMain.SIZE + OutSimId.SIZE];
+        }
+        packetView = new OutSimPacketView(opts, outSimPack2);
+    }
+
+    /**
+     * @return packet decoded out of bytes
+     */
+    @Benchmark
+    public OutSimPacket2 decodePacket() {
+        var packetDataBytes = new PacketDataBytes(packetBytes);
+        return outSimPack2 ?
+                new OutSimPacket2(opts, packetDataBytes) :
+                new OutSimPacket2(packetDataBytes);
+    }
+
+    /**
+     * @return sum of values read through packet view
+     */
+    @Benchmark
+    public float readView() {
+        packetView.wrap(packetBytes);
+        return packetView.getTime() + packetView.getVel(0) + packetView.getVel(1) + packetView.getHeading() +
+                packetView.getPos(0) + packetView.getPos(1);
+    }
+}
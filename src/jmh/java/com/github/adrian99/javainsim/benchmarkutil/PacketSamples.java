@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.benchmarkutil;
+
+import com.github.adrian99.javainsim.api.common.enums.DefaultCar;
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.common.structures.Vec;
+import com.github.adrian99.javainsim.api.insim.packets.*;
+import com.github.adrian99.javainsim.api.insim.packets.enums.*;
+import com.github.adrian99.javainsim.api.insim.packets.flags.*;
+import com.github.adrian99.javainsim.api.insim.packets.structures.*;
+import com.github.adrian99.javainsim.api.insim.packets.structures.objectinfo.*;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.bfn.BfnSubtypes;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.ttc.TtcSubtypes;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.small.SmallSubtypes;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InstructionPacket;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sample packets used by benchmarks.
+ */
+public class PacketSamples {
+    private static final int TEXT_SIZE = 128;
+    private static final int AXM_OBJECTS_COUNT = 30;
+
+    private PacketSamples() {}
+
+    /**
+     * Creates bytes of sample packet of specified type, as sent by LFS. Packets holding variable count
+     * of structures hold maximum allowed count of them, while packets holding text hold 128 bytes of text.
+     * Values of fields, other than counts, are zeros.
+     * @param packetType readable packet type
+     * @return packet bytes, including header
+     */
+    public static byte[] createInfoPacketBytes(PacketType packetType) {
+        var bytes = new byte[getInfoPacketSize(packetType)];
+        bytes[0] = (byte) (bytes.length / 4);
+        bytes[1] = (byte) packetType.ordinal();
+        switch (packetType) {
+            case MCI -> bytes[3] = Constants.MCI_MAX_CARS;
+            case NLP, PLH, REO -> bytes[3] = Constants.NLP_MAX_CARS;
+            case AXM -> bytes[3] = Constants.AXM_MAX_OBJECTS;
+            case MAL -> bytes[3] = Constants.MAL_MAX_MODS;
+            case IPB -> bytes[3] = Constants.IPB_MAX_BANS;
+            default -> {
+                // no structure count to set
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Creates sample instruction packet of specified type.
+     * @param packetType name of instruction packet type
+     * @return instruction packet
+     */
+    public static InstructionPacket createInstructionPacket(String packetType) {
+        Supplier<InstructionPacket> packetSupplier = switch (packetType) {
+            case "AIC" -> () -> new AicPacket(15, List.of(
+                    new AIInputVal(AIInputType.IGNITION, 3),
+                    new AIInputVal(AIInputType.HORN, 100, 1)
+            ));
+            case "AXM" -> () -> new AxmPacket(
+                    8,
+                    PmoAction.ADD_OBJECTS,
+                    new Flags<>(PmoFlag.FILE_END),
+                    createObjects()
+            );
+            case "BFN" -> () -> new BfnPacket(BfnSubtypes.DEL_BTN, 21, 15, 20);
+            case "BTN" -> () -> new BtnPacket(
+                    144,
+                    34,
+                    201,
+                    new Flags<>(ButtonInstFlag.ALWAYS_ON),
+                    new Flags<>(ButtonStyle.COLOUR_OK, ButtonStyle.CLICK, ButtonStyle.DARK, ButtonStyle.RIGHT),
+                    30,
+                    120,
+                    25,
+                    10,
+                    "Button text"
+            );
+            case "CPP" -> () -> new CppPacket(
+                    new Vec(162581, -15489656, 58934),
+                    1605,
+                    238,
+                    302,
+                    29,
+                    ViewIdentifier.CUSTOM,
+                    105,
+                    500,
+                    new Flags<>(CppFlag.SHIFTU, CppFlag.SHIFTU_FOLLOW)
+            );
+            case "HCP" -> () -> new HcpPacket(Map.of(
+                    DefaultCar.LX6, new CarHandicaps(5, 15),
+                    DefaultCar.RAC, new CarHandicaps(15, 20),
+                    DefaultCar.FZ5, new CarHandicaps(15, 25)
+            ));
+            case "IPB" -> () -> new IpbPacket(List.of(
+                    new IPAddress("54.120.161.64"),
+                    new IPAddress("178.24.3.202")
+            ));
+            case "ISI" -> () -> new IsiPacket(
+                    3000,
+                    new Flags<>(IsiFlag.LOCAL, IsiFlag.MSO_COLS, IsiFlag.MCI),
+                    '!',
+                    500,
+                    "admin123",
+                    "benchmark"
+            );
+            case "JRR" -> () -> new JrrPacket(16, 28, JrrAction.SPAWN, new PositionObjectInfo(-53, 954, 2, 221));
+            case "MAL" -> () -> new MalPacket(List.of("31A475", "DB2790", "2C6037", "A03FE5"));
+            case "MOD" -> () -> new ModPacket(16, 60, 640, 480);
+            case "MSL" -> () -> new MslPacket(MessageSound.SILENT, "message that will appear only locally");
+            case "MST" -> () -> new MstPacket("The test message to be sent");
+            case "MSX" -> () -> new MsxPacket("test message to be sent, the message has more than 64 characters already");
+            case "MTC" -> () -> new MtcPacket(MessageSound.MESSAGE, 15, 36, "text sent to single player");
+            case "OCO" -> () -> new OcoPacket(
+                    OcoAction.LIGHTS_SET,
+                    StartLightsIndex.START_LIGHTS1,
+                    55,
+                    new Flags<>(StartLightsDataFlag.RED1, StartLightsDataFlag.RED2_AMBER)
+            );
+            case "PLC" -> () -> new PlcPacket(21, new Flags<>(DefaultCar.RB4, DefaultCar.FXO, DefaultCar.XRT));
+            case "PLH" -> () -> new PlhPacket(List.of(
+                    new PlayerHandicaps(15, false, null, 5),
+                    new PlayerHandicaps(21, true, 50, null),
+                    new PlayerHandicaps(36, true, 200, 25)
+            ));
+            case "REO" -> () -> new ReoPacket(List.of(
+                    1, 17, 5, 2, 18, 19, 28, 21, 3, 23, 14, 11, 9, 7, 6, 25,
+                    27, 30, 15, 20, 26, 22, 4, 16, 31, 29, 10, 12, 13, 24, 8
+            ));
+            case "RIP" -> () -> new RipPacket(
+                    58,
+                    true,
+                    false,
+                    new Flags<>(RipOption.SKINS),
+                    799534,
+                    "FE2R_Some_test_replay_name"
+            );
+            case "SCC" -> () -> new SccPacket(25, ViewIdentifier.DRIVER);
+            case "SCH" -> () -> new SchPacket('A', new Flags<>(SchFlag.SHIFT, SchFlag.CTRL));
+            case "SFP" -> () -> new SfpPacket(SfpFlag.MPSPEEDUP, true);
+            case "SMALL" -> () -> new SmallPacket(SmallSubtypes.NONE, 3885174239L);
+            case "SSH" -> () -> new SshPacket(91, "screenshotName1");
+            case "TINY" -> () -> new TinyPacket(150, TinySubtypes.NONE);
+            case "TTC" -> () -> new TtcPacket(TtcSubtypes.NONE, 128, 129, 130, 131, 150);
+            default -> throw new IllegalArgumentException("Unknown instruction packet type: " + packetType);
+        };
+        return packetSupplier.get();
+    }
+
+    private static int getInfoPacketSize(PacketType packetType) {
+        return switch (packetType) {
+            case TINY, PLP, PLL, CRS, AXO -> 4;
+            case SMALL, VTN, CNL, PSF, PLA, CCH, PEN, TOC, FLG, PFL, BFN, BTC, SLC, CIM -> 8;
+            case MSO, III, ACR -> 8 + TEXT_SIZE;
+            case SPX, NCI, HLV -> 16;
+            case VER, LAP, PIT, FIN, CSC -> 20;
+            case OBH -> 24;
+            case STA, RST, UCO -> 28;
+            case CPP -> 32;
+            case CPR -> 36;
+            case ISM, AXI, SSH, CON -> 40;
+            case REO -> 4 + Constants.NLP_MAX_CARS;
+            case NCN -> 56;
+            case NPL -> 76;
+            case RIP -> 80;
+            case RES, AII -> 84;
+            case BTT -> 104;
+            case NLP -> 4 + Constants.NLP_MAX_CARS * Constants.NODE_LAP_SIZE;
+            case PLH -> 4 + Constants.PLH_MAX_PLAYERS * 4;
+            case MCI -> 4 + Constants.MCI_MAX_CARS * Constants.COMP_CAR_SIZE;
+            case AXM -> 8 + Constants.AXM_MAX_OBJECTS * 8;
+            case MAL -> 8 + Constants.MAL_MAX_MODS * 4;
+            case IPB -> 8 + Constants.IPB_MAX_BANS * 4;
+            default -> throw new IllegalArgumentException("Packet type " + packetType + " is not readable");
+        };
+    }
+
+    private static List<ObjectInfo> createObjects() {
+        var objects = new ArrayList<ObjectInfo>();
+        for (var i = 0; i < AXM_OBJECTS_COUNT; i++) {
+            objects.add(new AutocrossObjectInfo(i * 16, -i * 16, 4, false, ObjectType.CONE_GREEN, i * 4));
+        }
+        return objects;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.packets.util;
+
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.benchmarkutil.PacketSamples;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
+import com.github.adrian99.javainsim.internal.insim.packets.exceptions.PacketReadingException;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading of every packet type that can be received from LFS, both from byte buffer (as done by
+ * InSim transports) and from separate header and data byte arrays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacketReaderBenchmark {
+    @Param({
+            "VER", "TINY", "SMALL", "STA", "MSO", "III", "ACR", "ISM", "VTN", "PLH", "RST", "NCN", "NCI", "SLC",
+            "MAL", "IPB", "CIM", "CNL", "CPR", "NPL", "PLP", "PLL", "CRS", "LAP", "SPX", "PIT", "PSF", "PLA",
+            "CCH", "PEN", "TOC", "FLG", "PFL", "FIN", "RES", "REO", "AXI", "AXO", "NLP", "MCI", "CON", "OBH",
+            "HLV", "UCO", "CSC", "AXM", "CPP", "RIP", "SSH", "BFN", "BTC", "BTT", "AII"
+    })
+    private String packetType;
+    private ByteBuffer packetBuffer;
+    private byte[] headerBytes;
+    private byte[] dataBytes;
+
+    /**
+     * Prepares bytes of the benchmarked packet.
+     */
+    @Setup
+    public void setup() {
+        var packetBytes = PacketSamples.createInfoPacketBytes(PacketType.valueOf(packetType));
+        packetBuffer = ByteBuffer.wrap(packetBytes);
+        headerBytes = Arrays.copyOf(packetBytes, Constants.PACKET_HEADER_SIZE);
+        dataBytes = Arrays.copyOfRange(packetBytes, Constants.PACKET_HEADER_SIZE, packetBytes.length);
+    }
+
+    /**
+     * @return packet read from byte buffer
+     * @throws PacketReadingException if packet could not be read
+     */
+    @Benchmark
+    public InfoPacket readFromBuffer() throws PacketReadingException {
+        packetBuffer.clear();
+        return new PacketReader(packetBuffer).read(packetBuffer);
+    }
+
+    /**
+     * @return packet read from header and data byte arrays
+     * @throws PacketReadingException if packet could not be read
+     */
+    @Benchmark
+    public InfoPacket readFromByteArray() throws PacketReadingException {
+        return new PacketReader(headerBytes).read(dataBytes);
+    }
+}
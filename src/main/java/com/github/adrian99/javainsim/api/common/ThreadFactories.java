@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common;
+
+import com.github.adrian99.javainsim.internal.common.util.VirtualThreads;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * This class provides thread factories that can be passed to InSim, OutSim and OutGauge connections
+ * in order to choose what kind of threads they create for reading packets.
+ * Any other thread factory, e.g. the one used by application scheduler, can be passed as well.
+ */
+public class ThreadFactories {
+    private ThreadFactories() {}
+
+    /**
+     * @return thread factory creating platform threads - used by default
+     */
+    public static ThreadFactory platform() {
+        return Executors.defaultThreadFactory();
+    }
+
+    /**
+     * Creates thread factory creating virtual threads, which are much cheaper than platform threads, so that
+     * many connections can be created within single JVM. Requires Java 21 or newer.
+     * @return thread factory creating virtual threads
+     * @throws UnsupportedOperationException if virtual threads are not supported by current Java runtime
+     */
+    public static ThreadFactory virtual() {
+        return VirtualThreads.newThreadFactory();
+    }
+
+    /**
+     * @return whether virtual threads are supported by current Java runtime
+     */
+    public static boolean isVirtualSupported() {
+        return VirtualThreads.isSupported();
+    }
+}
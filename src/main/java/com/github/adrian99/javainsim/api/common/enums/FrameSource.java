@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.enums;
+
+/**
+ * Source of raw packet frame recorded by {@link com.github.adrian99.javainsim.api.common.recording.SessionRecorder}.
+ */
+public enum FrameSource {
+    /**
+     * InSim packet received over TCP connection.
+     */
+    INSIM_TCP,
+    /**
+     * InSim packet received over UDP.
+     */
+    INSIM_UDP,
+    /**
+     * OutSim packet.
+     */
+    OUTSIM,
+    /**
+     * OutGauge packet.
+     */
+    OUTGAUGE;
+
+    /**
+     * Converts ordinal number to frame source.
+     * @param ordinal ordinal number
+     * @return frame source of specified ordinal number
+     * @throws IllegalArgumentException if there is no frame source of specified ordinal number
+     */
+    public static FrameSource fromOrdinal(int ordinal) {
+        var values = values();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IllegalArgumentException("Unknown frame source: " + ordinal);
+        }
+        return values[ordinal];
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.enums;
+
+/**
+ * Policy describing what should happen when new element is added to a bounded queue that is already full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Thread adding new element waits until there is space in the queue.
+     */
+    BLOCK,
+    /**
+     * New element is dropped.
+     */
+    DROP_NEWEST,
+    /**
+     * The oldest element in the queue is dropped to make space for new element.
+     */
+    DROP_OLDEST,
+    /**
+     * All elements in the queue are dropped, so that only the newest element is kept.
+     */
+    LATEST_ONLY
+}
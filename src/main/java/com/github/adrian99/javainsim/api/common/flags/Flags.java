@@ -14,18 +14,21 @@ import com.github.adrian99.javainsim.internal.common.flags.FlagWithCustomValue;
 import com.github.adrian99.javainsim.internal.insim.packets.structures.base.ByteInstructionStructure;
 import com.github.adrian99.javainsim.internal.insim.packets.structures.base.UnsignedInstructionStructure;
 import com.github.adrian99.javainsim.internal.insim.packets.structures.base.WordInstructionStructure;
+import com.github.adrian99.javainsim.internal.common.enums.EnumHelper;
 import com.github.adrian99.javainsim.internal.common.enums.EnumHelpers;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
- * This class implements flags type used in communication with LFS.
+ * This class implements flags type used in communication with LFS. Flags are stored as binary representation,
+ * so checking presence of values and converting to binary representation do not allocate any objects.
  * @param <T> Enum that represents bits of flags field
  */
 public class Flags<T extends Enum<?>> implements ByteInstructionStructure,
         WordInstructionStructure, UnsignedInstructionStructure {
-    private final Set<T> flagsSet;
+    private static final int MAX_EXPLICIT_FLAGS_ORDINAL = Long.SIZE - 1;
+    private final long unsignedValue;
+    private final long explicitFlags;
+    private final EnumHelper<T> enumHelper;
+    private final long binaryValue;
 
     /**
      * Creates flags out of enum values array.
@@ -33,9 +36,13 @@ public class Flags<T extends Enum<?>> implements ByteInstructionStructure,
      */
     @SafeVarargs
     public Flags(T... flags) {
-        this.flagsSet = new HashSet<>();
+        var valueTmp = 0L;
+        var explicitFlagsTmp = 0L;
         var usedMask = 0;
         for (var flag : flags) {
+            if (flag.ordinal() > MAX_EXPLICIT_FLAGS_ORDINAL) {
+                throw new IllegalArgumentException("Flags enum can have at most " + Long.SIZE + " values");
+            }
             int flagMask;
             if (flag instanceof FlagWithCustomValue flagWithCustomValue) {
                 flagMask = flagWithCustomValue.getValueMask();
@@ -46,9 +53,18 @@ public class Flags<T extends Enum<?>> implements ByteInstructionStructure,
             }
             if ((usedMask & flagMask) == 0) {
                 usedMask |= flagMask;
-                flagsSet.add(flag);
+                explicitFlagsTmp |= 1L << flag.ordinal();
+                if (flag instanceof EnumWithCustomValue enumCustomValue) {
+                    valueTmp |= enumCustomValue.getValue();
+                } else {
+                    valueTmp |= 1L << flag.ordinal();
+                }
             }
         }
+        unsignedValue = valueTmp;
+        explicitFlags = explicitFlagsTmp;
+        enumHelper = null;
+        binaryValue = valueTmp;
     }
 
     /**
@@ -57,46 +73,25 @@ public class Flags<T extends Enum<?>> implements ByteInstructionStructure,
      * @param value binary representation of flags
      */
     public Flags(Class<T> enumClass, long value) {
-        flagsSet = new HashSet<>();
-        for (var enumValue : EnumHelpers.get(enumClass).getAllValuesCached()) {
-            if (enumValue instanceof FlagWithCustomValue enumCustomValue) {
-                var flagValue = enumCustomValue.getValue();
-                var requiredZeros = enumCustomValue.getValueMask() - flagValue;
-                if ((value & flagValue) == flagValue && (value & requiredZeros) == 0) {
-                    flagsSet.add(enumValue);
-                }
-            } else if (enumValue instanceof FlagWithCustomBehavior enumCustomBehavior) {
-                if (enumCustomBehavior.isPresent(value)) {
-                    flagsSet.add(enumValue);
-                }
-            } else {
-                var flagValue = 1 << enumValue.ordinal();
-                if ((value & flagValue) == flagValue) {
-                    flagsSet.add(enumValue);
-                }
-            }
-        }
+        enumHelper = EnumHelpers.get(enumClass);
+        binaryValue = value;
+        unsignedValue = value & enumHelper.getKnownFlagsMask();
+        explicitFlags = 0;
     }
 
     @Override
     public short getByteValue() {
-        return (short) getUnsignedValue();
+        return (short) unsignedValue;
     }
 
     @Override
     public int getWordValue() {
-        return (int) getUnsignedValue();
+        return (int) unsignedValue;
     }
 
     @Override
     public long getUnsignedValue() {
-        return flagsSet.stream().mapToLong(enumValue -> {
-            if (enumValue instanceof EnumWithCustomValue enumCustomValue) {
-                return enumCustomValue.getValue();
-            } else {
-                return (long) 1 << enumValue.ordinal();
-            }
-        }).reduce(0, (all, curr) -> all | curr);
+        return unsignedValue;
     }
 
     /**
@@ -105,7 +100,13 @@ public class Flags<T extends Enum<?>> implements ByteInstructionStructure,
      * @return whether value is present in flags
      */
     public boolean hasFlag(T flag) {
-        return flagsSet.contains(flag);
+        if (flag == null) {
+            return false;
+        } else if (enumHelper != null) {
+            return enumHelper.isFlagPresent(flag, binaryValue);
+        } else {
+            return flag.ordinal() <= MAX_EXPLICIT_FLAGS_ORDINAL && (explicitFlags & (1L << flag.ordinal())) != 0;
+        }
     }
 
     /**
@@ -114,6 +115,6 @@ public class Flags<T extends Enum<?>> implements ByteInstructionStructure,
      * @return whether value is not present in flags
      */
     public boolean hasNoFlag(T flag) {
-        return !flagsSet.contains(flag);
+        return !hasFlag(flag);
     }
 }
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.history;
+
+/**
+ * This interface is implemented by enums describing fields stored in {@link TelemetryHistory}.
+ */
+public interface TelemetryField {
+    /**
+     * @return whether field holds integer values - otherwise it holds float values
+     */
+    boolean isInteger();
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.history;
+
+import com.github.adrian99.javainsim.internal.common.history.ColumnarRingBuffer;
+
+import java.util.function.Consumer;
+
+/**
+ * This class stores the most recent telemetry samples (e.g. OutSim or OutGauge packets) in fixed-capacity
+ * ring buffer allocated off-heap, with values of every field kept in separate column. Samples are identified
+ * by their time, which is expected not to decrease, and can be queried by time range without creating objects
+ * per sample. Samples must be recorded by single thread, while queries can be run by any thread.
+ * @param <F> type of telemetry fields
+ */
+public class TelemetryHistory<F extends Enum<F> & TelemetryField> {
+    private enum Aggregation { MIN, MAX, AVERAGE, COUNT }
+
+    private final ColumnarRingBuffer buffer;
+    private int writeSlot = -1;
+
+    /**
+     * Creates telemetry history.
+     * @param fieldClass class of enum describing telemetry fields
+     * @param capacity maximum count of stored samples - must be greater than 0
+     */
+    public TelemetryHistory(Class<F> fieldClass, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        buffer = new ColumnarRingBuffer(fieldClass.getEnumConstants().length, capacity + 1);
+    }
+
+    /**
+     * Starts recording new sample. Values of the sample should be set using {@link #setFloat} and {@link #setInt}
+     * methods, after which {@link #endSample()} should be called. Values that are not set are undefined.
+     * @param time time of the sample - must not be lower than time of previous sample
+     */
+    public void beginSample(long time) {
+        writeSlot = buffer.beginWrite(time);
+    }
+
+    /**
+     * Sets value of sample being recorded.
+     * @param field telemetry field holding float values
+     * @param value value of the field
+     */
+    public void setFloat(F field, float value) {
+        buffer.put(field.ordinal(), writeSlot, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Sets value of sample being recorded.
+     * @param field telemetry field holding integer values
+     * @param value value of the field
+     */
+    public void setInt(F field, int value) {
+        buffer.put(field.ordinal(), writeSlot, value);
+    }
+
+    /**
+     * Finishes recording sample, making it visible to queries.
+     */
+    public void endSample() {
+        buffer.endWrite();
+    }
+
+    /**
+     * @return maximum count of stored samples
+     */
+    public int getCapacity() {
+        return buffer.getCapacity() - 1;
+    }
+
+    /**
+     * @return count of stored samples
+     */
+    public int getSize() {
+        var writeCount = buffer.getWriteCount();
+        return (int) (writeCount - buffer.getOldestReadableSequence(writeCount));
+    }
+
+    /**
+     * @return count of samples recorded so far, including samples that have already been overwritten
+     */
+    public long getRecordedSamplesCount() {
+        return buffer.getWriteCount();
+    }
+
+    /**
+     * Counts samples with time between specified values (inclusive).
+     * @param fromTime start of time range
+     * @param toTime end of time range
+     * @return count of samples
+     */
+    public int countSamples(long fromTime, long toTime) {
+        return (int) aggregate(null, fromTime, toTime, Aggregation.COUNT);
+    }
+
+    /**
+     * Finds minimum value of specified field among samples with time between specified values (inclusive).
+     * @param field telemetry field
+     * @param fromTime start of time range
+     * @param toTime end of time range
+     * @return minimum value, or {@link Double#NaN} if there are no samples in specified time range
+     */
+    public double min(F field, long fromTime, long toTime) {
+        return aggregate(field, fromTime, toTime, Aggregation.MIN);
+    }
+
+    /**
+     * Finds maximum value of specified field among samples with time between specified values (inclusive).
+     * @param field telemetry field
+     * @param fromTime start of time range
+     * @param toTime end of time range
+     * @return maximum value, or {@link Double#NaN} if there are no samples in specified time range
+     */
+    public double max(F field, long fromTime, long toTime) {
+        return aggregate(field, fromTime, toTime, Aggregation.MAX);
+    }
+
+    /**
+     * Calculates average value of specified field among samples with time between specified values (inclusive).
+     * @param field telemetry field
+     * @param fromTime start of time range
+     * @param toTime end of time range
+     * @return average value, or {@link Double#NaN} if there are no samples in specified time range
+     */
+    public double average(F field, long fromTime, long toTime) {
+        return aggregate(field, fromTime, toTime, Aggregation.AVERAGE);
+    }
+
+    /**
+     * Copies values of specified field of samples with time between specified values (inclusive) into
+     * specified array, starting from the oldest sample, until the array is full.
+     * @param field telemetry field
+     * @param fromTime start of time range
+     * @param toTime end of time range
+     * @param target array to copy values into
+     * @return count of copied values
+     */
+    public int copyValues(F field, long fromTime, long toTime, double[] target) {
+        while (true) {
+            var writeCount = buffer.getWriteCount();
+            var firstSequence = findFirstSequence(writeCount, fromTime);
+            var count = 0;
+            for (var sequence = firstSequence;
+                 sequence < writeCount && count < target.length && buffer.getTime(sequence) <= toTime;
+                 sequence++) {
+                target[count++] = readValue(buffer, field, sequence);
+            }
+            if (buffer.isReadable(firstSequence)) {
+                return count;
+            }
+        }
+    }
+
+    /**
+     * Passes every sample with time between specified values (inclusive) to specified consumer, starting from
+     * the oldest sample. Samples overwritten by newer ones during iteration are skipped.
+     * @param fromTime start of time range
+     * @param toTime end of time range
+     * @param sampleConsumer consumer of samples - the same {@link TelemetrySample} instance is passed
+     *                       for every sample
+     */
+    public void forEachSample(long fromTime, long toTime, Consumer<TelemetrySample<F>> sampleConsumer) {
+        var writeCount = buffer.getWriteCount();
+        var sample = new TelemetrySample<F>(buffer);
+        for (var sequence = findFirstSequence(writeCount, fromTime); sequence < writeCount; sequence++) {
+            if (!buffer.isReadable(sequence)) {
+                continue;
+            }
+            if (buffer.getTime(sequence) > toTime) {
+                break;
+            }
+            sample.moveTo(sequence);
+            sampleConsumer.accept(sample);
+        }
+    }
+
+    static double readValue(ColumnarRingBuffer buffer, TelemetryField field, long sequence) {
+        var bits = buffer.get(((Enum<?>) field).ordinal(), sequence);
+        return field.isInteger() ? bits : Float.intBitsToFloat(bits);
+    }
+
+    private long findFirstSequence(long writeCount, long fromTime) {
+        return buffer.findFirstNotBefore(buffer.getOldestReadableSequence(writeCount), writeCount, fromTime);
+    }
+
+    private double aggregate(F field, long fromTime, long toTime, Aggregation aggregation) {
+        while (true) {
+            var writeCount = buffer.getWriteCount();
+            var firstSequence = findFirstSequence(writeCount, fromTime);
+            var count = 0;
+            var min = Double.POSITIVE_INFINITY;
+            var max = Double.NEGATIVE_INFINITY;
+            var sum = 0.0;
+            for (var sequence = firstSequence;
+                 sequence < writeCount && buffer.getTime(sequence) <= toTime;
+                 sequence++) {
+                count++;
+                if (field != null) {
+                    var value = readValue(buffer, field, sequence);
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                    sum += value;
+                }
+            }
+            if (buffer.isReadable(firstSequence)) {
+                if (aggregation == Aggregation.COUNT) {
+                    return count;
+                } else if (count == 0) {
+                    return Double.NaN;
+                }
+                return switch (aggregation) {
+                    case MIN -> min;
+                    case MAX -> max;
+                    default -> sum / count;
+                };
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.history;
+
+import com.github.adrian99.javainsim.internal.common.history.ColumnarRingBuffer;
+
+/**
+ * Single sample of {@link TelemetryHistory}, passed to the consumer of {@link TelemetryHistory#forEachSample}.
+ * The same instance is reused for all visited samples, reading values directly from the history buffer,
+ * so it must not be used after the consumer returns.
+ * @param <F> type of telemetry fields
+ */
+public class TelemetrySample<F extends Enum<F> & TelemetryField> {
+    private final ColumnarRingBuffer buffer;
+    private long sequence;
+
+    TelemetrySample(ColumnarRingBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    void moveTo(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * @return time of the sample
+     */
+    public long getTime() {
+        return buffer.getTime(sequence);
+    }
+
+    /**
+     * @param field telemetry field
+     * @return value of specified field, converted to double
+     */
+    public double getValue(F field) {
+        return TelemetryHistory.readValue(buffer, field, sequence);
+    }
+
+    /**
+     * @param field telemetry field holding float values
+     * @return value of specified field
+     */
+    public float getFloat(F field) {
+        return Float.intBitsToFloat(buffer.get(field.ordinal(), sequence));
+    }
+
+    /**
+     * @param field telemetry field holding integer values
+     * @return value of specified field
+     */
+    public int getInt(F field) {
+        return buffer.get(field.ordinal(), sequence);
+    }
+}
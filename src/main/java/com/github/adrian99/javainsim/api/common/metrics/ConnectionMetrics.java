@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.metrics;
+
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import com.github.adrian99.javainsim.api.insim.InSimConnection;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.outgauge.OutGaugeConnection;
+import com.github.adrian99.javainsim.api.outsim.OutSimConnection;
+import com.github.adrian99.javainsim.internal.common.metrics.NoOpConnectionMetrics;
+
+/**
+ * This interface is notified about traffic of {@link InSimConnection}, {@link OutSimConnection} and
+ * {@link OutGaugeConnection}, so that it can be exported to any monitoring system. Methods are called by packet
+ * reading threads (and, in case of listener durations, by threads calling listeners), so they should be thread-safe
+ * and cheap. All methods do nothing by default, so implementations can override only the ones they need.
+ */
+public interface ConnectionMetrics {
+    /**
+     * Creates metrics that ignore all notifications. Connections use them until other metrics are set.
+     * @return no-op metrics
+     */
+    static ConnectionMetrics noOp() {
+        return NoOpConnectionMetrics.getInstance();
+    }
+
+    /**
+     * Checks whether durations should be measured. If not, connections do not read the clock and methods
+     * reporting durations ({@link #onPacketDecoded}, {@link #onListenerCalled}, {@link #onDatagramDecoded}
+     * and {@link #onDatagramListenerCalled}) are not called.
+     * @return whether durations should be measured
+     */
+    default boolean isTimingEnabled() {
+        return true;
+    }
+
+    /**
+     * Called when InSim packet is received, no matter whether it is going to be read or skipped.
+     * @param packetType type of received packet
+     * @param bytesCount size of received packet in bytes, including header
+     */
+    default void onPacketReceived(PacketType packetType, int bytesCount) {}
+
+    /**
+     * Called when received InSim packet is skipped, because there are no listeners or requests for it.
+     * @param packetType type of skipped packet
+     */
+    default void onPacketSkipped(PacketType packetType) {}
+
+    /**
+     * Called when received InSim packet is decoded.
+     * @param packetType type of decoded packet
+     * @param durationNanos time (in nanoseconds) that decoding took
+     */
+    default void onPacketDecoded(PacketType packetType, long durationNanos) {}
+
+    /**
+     * Called when single InSim packet listener returns.
+     * @param packetType type of packet passed to the listener
+     * @param durationNanos time (in nanoseconds) that the listener took
+     */
+    default void onListenerCalled(PacketType packetType, long durationNanos) {}
+
+    /**
+     * Called when InSim packet is passed to the connection to be sent (or queued) to LFS.
+     * @param packetType type of sent packet
+     * @param bytesCount size of sent packet in bytes
+     */
+    default void onPacketSent(PacketType packetType, int bytesCount) {}
+
+    /**
+     * Called when packet request times out before all expected packets are received.
+     * @param packetType type of requested packet
+     */
+    default void onRequestTimedOut(PacketType packetType) {}
+
+    /**
+     * Called when count of pending packet requests of InSim connection changes.
+     * @param pendingRequestsCount current count of pending packet requests
+     */
+    default void onPendingRequestsCountChanged(int pendingRequestsCount) {}
+
+    /**
+     * Called when OutSim or OutGauge packet is received.
+     * @param frameSource {@link FrameSource#OUTSIM OUTSIM} or {@link FrameSource#OUTGAUGE OUTGAUGE}
+     * @param bytesCount size of received datagram in bytes
+     */
+    default void onDatagramReceived(FrameSource frameSource, int bytesCount) {}
+
+    /**
+     * Called when received OutSim or OutGauge packet is decoded into packet object.
+     * @param frameSource {@link FrameSource#OUTSIM OUTSIM} or {@link FrameSource#OUTGAUGE OUTGAUGE}
+     * @param durationNanos time (in nanoseconds) that decoding took
+     */
+    default void onDatagramDecoded(FrameSource frameSource, long durationNanos) {}
+
+    /**
+     * Called when all listeners of OutSim or OutGauge packet return.
+     * @param frameSource {@link FrameSource#OUTSIM OUTSIM} or {@link FrameSource#OUTGAUGE OUTGAUGE}
+     * @param durationNanos time (in nanoseconds) that the listeners took together
+     */
+    default void onDatagramListenerCalled(FrameSource frameSource, long durationNanos) {}
+
+    /**
+     * Called when received UDP datagram is dropped, because it is malformed or of unexpected size.
+     * @param frameSource source that the datagram was received from
+     */
+    default void onDatagramDropped(FrameSource frameSource) {}
+}
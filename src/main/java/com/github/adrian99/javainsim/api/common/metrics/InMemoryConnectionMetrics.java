@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.metrics;
+
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Connection metrics that keep counters and {@link LatencyHistogram latency histograms} in memory, separately
+ * for each packet type and frame source. All counters are lock-free, so single instance can be shared by many
+ * connections and read by monitoring thread at any time.
+ */
+public class InMemoryConnectionMetrics implements ConnectionMetrics {
+    private static final int PACKET_TYPES_COUNT = PacketType.values().length;
+    private static final int FRAME_SOURCES_COUNT = FrameSource.values().length;
+    private final LongAdder[] receivedPackets;
+    private final LongAdder[] skippedPackets;
+    private final LongAdder[] sentPackets;
+    private final LongAdder[] timedOutRequests;
+    private final LatencyHistogram[] decodeTimes;
+    private final LatencyHistogram[] listenerTimes;
+    private final LongAdder receivedBytes;
+    private final LongAdder sentBytes;
+    private final LongAdder[] receivedDatagrams;
+    private final LongAdder[] receivedDatagramBytes;
+    private final LongAdder[] droppedDatagrams;
+    private final LatencyHistogram[] datagramDecodeTimes;
+    private final LatencyHistogram[] datagramListenerTimes;
+    private volatile int pendingRequestsCount;
+
+    /**
+     * Creates metrics with all counters set to zero.
+     */
+    public InMemoryConnectionMetrics() {
+        receivedPackets = createArray(PACKET_TYPES_COUNT, LongAdder[]::new, LongAdder::new);
+        skippedPackets = createArray(PACKET_TYPES_COUNT, LongAdder[]::new, LongAdder::new);
+        sentPackets = createArray(PACKET_TYPES_COUNT, LongAdder[]::new, LongAdder::new);
+        timedOutRequests = createArray(PACKET_TYPES_COUNT, LongAdder[]::new, LongAdder::new);
+        decodeTimes = createArray(PACKET_TYPES_COUNT, LatencyHistogram[]::new, LatencyHistogram::new);
+        listenerTimes = createArray(PACKET_TYPES_COUNT, LatencyHistogram[]::new, LatencyHistogram::new);
+        receivedBytes = new LongAdder();
+        sentBytes = new LongAdder();
+        receivedDatagrams = createArray(FRAME_SOURCES_COUNT, LongAdder[]::new, LongAdder::new);
+        receivedDatagramBytes = createArray(FRAME_SOURCES_COUNT, LongAdder[]::new, LongAdder::new);
+        droppedDatagrams = createArray(FRAME_SOURCES_COUNT, LongAdder[]::new, LongAdder::new);
+        datagramDecodeTimes = createArray(FRAME_SOURCES_COUNT, LatencyHistogram[]::new, LatencyHistogram::new);
+        datagramListenerTimes = createArray(FRAME_SOURCES_COUNT, LatencyHistogram[]::new, LatencyHistogram::new);
+    }
+
+    @Override
+    public void onPacketReceived(PacketType packetType, int bytesCount) {
+        receivedPackets[packetType.ordinal()].increment();
+        receivedBytes.add(bytesCount);
+    }
+
+    @Override
+    public void onPacketSkipped(PacketType packetType) {
+        skippedPackets[packetType.ordinal()].increment();
+    }
+
+    @Override
+    public void onPacketDecoded(PacketType packetType, long durationNanos) {
+        decodeTimes[packetType.ordinal()].record(durationNanos);
+    }
+
+    @Override
+    public void onListenerCalled(PacketType packetType, long durationNanos) {
+        listenerTimes[packetType.ordinal()].record(durationNanos);
+    }
+
+    @Override
+    public void onPacketSent(PacketType packetType, int bytesCount) {
+        sentPackets[packetType.ordinal()].increment();
+        sentBytes.add(bytesCount);
+    }
+
+    @Override
+    public void onRequestTimedOut(PacketType packetType) {
+        timedOutRequests[packetType.ordinal()].increment();
+    }
+
+    @Override
+    public void onPendingRequestsCountChanged(int pendingRequestsCount) {
+        this.pendingRequestsCount = pendingRequestsCount;
+    }
+
+    @Override
+    public void onDatagramReceived(FrameSource frameSource, int bytesCount) {
+        receivedDatagrams[frameSource.ordinal()].increment();
+        receivedDatagramBytes[frameSource.ordinal()].add(bytesCount);
+    }
+
+    @Override
+    public void onDatagramDecoded(FrameSource frameSource, long durationNanos) {
+        datagramDecodeTimes[frameSource.ordinal()].record(durationNanos);
+    }
+
+    @Override
+    public void onDatagramListenerCalled(FrameSource frameSource, long durationNanos) {
+        datagramListenerTimes[frameSource.ordinal()].record(durationNanos);
+    }
+
+    @Override
+    public void onDatagramDropped(FrameSource frameSource) {
+        droppedDatagrams[frameSource.ordinal()].increment();
+    }
+
+    /**
+     * @param packetType packet type
+     * @return count of received InSim packets of specified type, including skipped ones
+     */
+    public long getReceivedPacketsCount(PacketType packetType) {
+        return receivedPackets[packetType.ordinal()].sum();
+    }
+
+    /**
+     * @param packetType packet type
+     * @return count of skipped InSim packets of specified type
+     */
+    public long getSkippedPacketsCount(PacketType packetType) {
+        return skippedPackets[packetType.ordinal()].sum();
+    }
+
+    /**
+     * @param packetType packet type
+     * @return count of decoded InSim packets of specified type
+     */
+    public long getDecodedPacketsCount(PacketType packetType) {
+        return decodeTimes[packetType.ordinal()].getCount();
+    }
+
+    /**
+     * @param packetType packet type
+     * @return count of InSim packets of specified type sent to LFS
+     */
+    public long getSentPacketsCount(PacketType packetType) {
+        return sentPackets[packetType.ordinal()].sum();
+    }
+
+    /**
+     * @return count of bytes of all received InSim packets
+     */
+    public long getReceivedBytesCount() {
+        return receivedBytes.sum();
+    }
+
+    /**
+     * @return count of bytes of all InSim packets sent to LFS
+     */
+    public long getSentBytesCount() {
+        return sentBytes.sum();
+    }
+
+    /**
+     * @param packetType packet type
+     * @return histogram of decoding times of InSim packets of specified type
+     */
+    public LatencyHistogram getDecodeTimes(PacketType packetType) {
+        return decodeTimes[packetType.ordinal()];
+    }
+
+    /**
+     * @param packetType packet type
+     * @return histogram of times of listeners of InSim packets of specified type
+     */
+    public LatencyHistogram getListenerTimes(PacketType packetType) {
+        return listenerTimes[packetType.ordinal()];
+    }
+
+    /**
+     * @param packetType packet type
+     * @return count of timed out requests of InSim packets of specified type
+     */
+    public long getTimedOutRequestsCount(PacketType packetType) {
+        return timedOutRequests[packetType.ordinal()].sum();
+    }
+
+    /**
+     * @return most recently reported count of pending packet requests
+     */
+    public int getPendingRequestsCount() {
+        return pendingRequestsCount;
+    }
+
+    /**
+     * @param frameSource frame source
+     * @return count of datagrams received from specified source
+     */
+    public long getReceivedDatagramsCount(FrameSource frameSource) {
+        return receivedDatagrams[frameSource.ordinal()].sum();
+    }
+
+    /**
+     * @param frameSource frame source
+     * @return count of bytes of datagrams received from specified source
+     */
+    public long getReceivedDatagramBytesCount(FrameSource frameSource) {
+        return receivedDatagramBytes[frameSource.ordinal()].sum();
+    }
+
+    /**
+     * @param frameSource frame source
+     * @return count of dropped datagrams received from specified source
+     */
+    public long getDroppedDatagramsCount(FrameSource frameSource) {
+        return droppedDatagrams[frameSource.ordinal()].sum();
+    }
+
+    /**
+     * @param frameSource frame source
+     * @return histogram of decoding times of datagrams received from specified source
+     */
+    public LatencyHistogram getDatagramDecodeTimes(FrameSource frameSource) {
+        return datagramDecodeTimes[frameSource.ordinal()];
+    }
+
+    /**
+     * @param frameSource frame source
+     * @return histogram of times of listeners of datagrams received from specified source
+     */
+    public LatencyHistogram getDatagramListenerTimes(FrameSource frameSource) {
+        return datagramListenerTimes[frameSource.ordinal()];
+    }
+
+    private static <T> T[] createArray(int length,
+                                       IntFunction<T[]> arrayFactory,
+                                       Supplier<T> elementFactory) {
+        var array = arrayFactory.apply(length);
+        for (var i = 0; i < length; i++) {
+            array[i] = elementFactory.get();
+        }
+        return array;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations with logarithmic buckets - bucket of index {@code i} (greater than 0) counts
+ * durations from {@code 2^(i-1)} to {@code 2^i - 1} nanoseconds, while bucket of index 0 counts zero durations.
+ * Recording single duration takes constant time and does not allocate, at the cost of percentiles being
+ * approximated with upper bounds of buckets.
+ */
+public class LatencyHistogram {
+    /**
+     * Count of buckets of the histogram.
+     */
+    public static final int BUCKETS_COUNT = 64;
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final AtomicLong maxNanos;
+
+    /**
+     * Creates empty histogram.
+     */
+    public LatencyHistogram() {
+        buckets = new AtomicLongArray(BUCKETS_COUNT);
+        count = new LongAdder();
+        totalNanos = new LongAdder();
+        maxNanos = new AtomicLong();
+    }
+
+    /**
+     * Records single duration. Negative durations are recorded as zero.
+     * @param durationNanos duration in nanoseconds
+     */
+    public void record(long durationNanos) {
+        var duration = Math.max(durationNanos, 0);
+        buckets.incrementAndGet(getBucketIndex(duration));
+        count.increment();
+        totalNanos.add(duration);
+        var currentMax = maxNanos.get();
+        while (duration > currentMax && !maxNanos.compareAndSet(currentMax, duration)) {
+            currentMax = maxNanos.get();
+        }
+    }
+
+    /**
+     * @return count of recorded durations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return sum of recorded durations in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @return mean of recorded durations in nanoseconds, or 0 if no durations were recorded
+     */
+    public double getMeanNanos() {
+        var currentCount = count.sum();
+        return currentCount > 0 ? (double) totalNanos.sum() / currentCount : 0;
+    }
+
+    /**
+     * @return maximum recorded duration in nanoseconds, or 0 if no durations were recorded
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Calculates approximate percentile of recorded durations, as the upper bound of the bucket that holds it
+     * (limited by maximum recorded duration).
+     * @param percentile percentile - from 0 to 100
+     * @return approximate percentile in nanoseconds, or 0 if no durations were recorded
+     * @throws IllegalArgumentException if percentile is out of range
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        var bucketCounts = new long[BUCKETS_COUNT];
+        var totalCount = 0L;
+        for (var i = 0; i < BUCKETS_COUNT; i++) {
+            bucketCounts[i] = buckets.get(i);
+            totalCount += bucketCounts[i];
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        var rank = Math.max((long) Math.ceil(totalCount * percentile / 100), 1);
+        var cumulativeCount = 0L;
+        for (var i = 0; i < BUCKETS_COUNT; i++) {
+            cumulativeCount += bucketCounts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(getBucketUpperBoundNanos(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * @param bucketIndex index of the bucket - from 0 to {@link #BUCKETS_COUNT} - 1
+     * @return count of durations recorded in specified bucket
+     */
+    public long getBucketCount(int bucketIndex) {
+        return buckets.get(bucketIndex);
+    }
+
+    /**
+     * @param bucketIndex index of the bucket - from 0 to {@link #BUCKETS_COUNT} - 1
+     * @return maximum duration (in nanoseconds) counted by specified bucket
+     */
+    public static long getBucketUpperBoundNanos(int bucketIndex) {
+        return bucketIndex >= BUCKETS_COUNT - 1 ? Long.MAX_VALUE : (1L << bucketIndex) - 1;
+    }
+
+    private static int getBucketIndex(long durationNanos) {
+        return Long.SIZE - Long.numberOfLeadingZeros(durationNanos);
+    }
+}
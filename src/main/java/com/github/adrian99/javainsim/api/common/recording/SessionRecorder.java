@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.recording;
+
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import com.github.adrian99.javainsim.internal.common.recording.RecordingFormat;
+import com.github.adrian99.javainsim.internal.common.recording.RecordingSegment;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class records raw bytes of received packets (InSim, OutSim and OutGauge) into append-only segment files
+ * in specified directory. Each segment file is mapped into memory when created, so recording a packet only copies
+ * its bytes, together with source tag and monotonic timestamp, without any system calls. When a segment is full,
+ * recording continues in the next one. Single recorder can be shared by many connections - see
+ * {@code startRecording} methods of InSim, OutSim and OutGauge connections.
+ */
+public class SessionRecorder implements Closeable {
+    private final Logger logger = LoggerFactory.getLogger(SessionRecorder.class);
+    private final Path directory;
+    private final int segmentSize;
+    private final long startEpochMillis;
+    private final long startNanoTime;
+    private RecordingSegment segment;
+    private int segmentsCount;
+    private long recordedFramesCount;
+
+    /**
+     * Creates session recorder, which writes segment files of default size.
+     * @param directory directory where segment files are written - it is created if it does not exist
+     * @throws IOException if I/O error occurs while creating the first segment file
+     */
+    public SessionRecorder(Path directory) throws IOException {
+        this(directory, Constants.RECORDING_DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates session recorder.
+     * @param directory directory where segment files are written - it is created if it does not exist
+     * @param segmentSize size (in bytes) of single segment file - must not be lower than 64 KiB
+     * @throws IOException if I/O error occurs while creating the first segment file, e.g. when the directory
+     * already contains another recording
+     */
+    public SessionRecorder(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < Constants.RECORDING_MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must not be lower than " +
+                    Constants.RECORDING_MIN_SEGMENT_SIZE + " bytes");
+        }
+        logger.debug("Creating session recorder in {}", directory);
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        startEpochMillis = System.currentTimeMillis();
+        startNanoTime = System.nanoTime();
+        segment = createSegment();
+    }
+
+    /**
+     * Records single frame.
+     * @param source source of the frame
+     * @param bytes array holding frame bytes
+     * @param offset offset of the first frame byte
+     * @param length length of frame bytes
+     * @throws IOException if I/O error occurs while creating next segment file
+     * @throws IllegalStateException if recorder is closed
+     */
+    public synchronized void record(FrameSource source, byte[] bytes, int offset, int length) throws IOException {
+        var timestamp = System.nanoTime() - startNanoTime;
+        ensureFits(length).append(source.ordinal(), timestamp, bytes, offset, length);
+        recordedFramesCount++;
+    }
+
+    /**
+     * Records single frame.
+     * @param source source of the frame
+     * @param bytes buffer holding frame bytes between its position and limit - position is not modified
+     * @throws IOException if I/O error occurs while creating next segment file
+     * @throws IllegalStateException if recorder is closed
+     */
+    public synchronized void record(FrameSource source, ByteBuffer bytes) throws IOException {
+        var timestamp = System.nanoTime() - startNanoTime;
+        ensureFits(bytes.remaining()).append(source.ordinal(), timestamp, bytes);
+        recordedFramesCount++;
+    }
+
+    /**
+     * @return directory where segment files are written
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return count of frames recorded so far
+     */
+    public synchronized long getRecordedFramesCount() {
+        return recordedFramesCount;
+    }
+
+    /**
+     * @return count of segment files created so far
+     */
+    public synchronized int getSegmentsCount() {
+        return segmentsCount;
+    }
+
+    /**
+     * @return whether recorder is still open
+     */
+    public synchronized boolean isOpen() {
+        return segment != null;
+    }
+
+    /**
+     * Closes recorder, flushing recorded frames to the storage device.
+     * @throws IOException if I/O error occurs while closing current segment file
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (segment != null) {
+            logger.debug("Closing session recorder");
+            segment.close();
+            segment = null;
+        }
+    }
+
+    private RecordingSegment ensureFits(int length) throws IOException {
+        if (segment == null) {
+            throw new IllegalStateException("Session recorder is closed");
+        }
+        if (!segment.fits(length)) {
+            if (segment.getWrittenBytesCount() == RecordingFormat.SEGMENT_HEADER_SIZE) {
+                throw new IllegalArgumentException("Frame of " + length + " bytes does not fit into segment");
+            }
+            segment.close();
+            segment = null;
+            segment = createSegment();
+        }
+        return segment;
+    }
+
+    private RecordingSegment createSegment() throws IOException {
+        logger.debug("Creating recording segment {}", segmentsCount);
+        var path = directory.resolve(RecordingFormat.getSegmentFileName(segmentsCount));
+        var newSegment = new RecordingSegment(path, segmentsCount, segmentSize, startEpochMillis, startNanoTime);
+        segmentsCount++;
+        return newSegment;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.recording;
+
+import com.github.adrian99.javainsim.internal.common.recording.FrameSink;
+import com.github.adrian99.javainsim.internal.common.recording.RecordingReader;
+import com.github.adrian99.javainsim.internal.common.util.ListenerArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class replays session recorded by {@link SessionRecorder}. Recorded packets are passed to InSim, OutSim
+ * and OutGauge connections created for the replay (see their constructors accepting {@code SessionReplay}),
+ * which read them and call their listeners the same way as for packets received from LFS. Packets can be
+ * replayed as fast as possible or with speed relative to the speed at which they were recorded.
+ * Listeners are called by the thread that runs the replay.
+ */
+public class SessionReplay implements Closeable {
+    private final Logger logger = LoggerFactory.getLogger(SessionReplay.class);
+    private final RecordingReader recordingReader;
+    private final ListenerArray<FrameSink> frameSinks;
+    private volatile boolean isOpen = true;
+
+    /**
+     * Creates session replay.
+     * @param directory directory holding segment files written by {@link SessionRecorder}
+     * @throws IOException if I/O error occurs while opening the recording, or if directory does not contain
+     * a valid recording
+     */
+    public SessionReplay(Path directory) throws IOException {
+        logger.debug("Creating session replay of {}", directory);
+        recordingReader = new RecordingReader(directory);
+        frameSinks = new ListenerArray<>(new FrameSink[0]);
+    }
+
+    /**
+     * Registers receiver of replayed frames. Used by connections created for the replay.
+     * @param frameSink receiver of replayed frames
+     */
+    public void addFrameSink(FrameSink frameSink) {
+        frameSinks.add(frameSink);
+    }
+
+    /**
+     * @return time of recording start, in milliseconds since epoch
+     */
+    public long getRecordingStartEpochMillis() {
+        return recordingReader.getStartEpochMillis();
+    }
+
+    /**
+     * Replays all remaining recorded packets as fast as possible, on calling thread.
+     * @return count of replayed frames
+     * @throws IOException if I/O error occurs while reading the recording
+     */
+    public long replay() throws IOException {
+        return replay(0);
+    }
+
+    /**
+     * Replays all remaining recorded packets on calling thread, keeping the intervals between them as they were
+     * recorded, divided by specified speed.
+     * @param speed replay speed - 1 for real time, 2 for twice as fast etc., or 0 to replay as fast as possible
+     * @return count of replayed frames
+     * @throws IOException if I/O error occurs while reading the recording
+     */
+    public synchronized long replay(double speed) throws IOException {
+        if (speed < 0) {
+            throw new IllegalArgumentException("Replay speed must not be negative");
+        }
+        logger.debug("Starting replay with speed {}", speed);
+        var replayedFramesCount = 0L;
+        var firstFrameTimestamp = -1L;
+        var replayStartNanoTime = System.nanoTime();
+        while (isOpen && recordingReader.next()) {
+            if (speed > 0) {
+                if (firstFrameTimestamp < 0) {
+                    firstFrameTimestamp = recordingReader.getFrameTimestamp();
+                }
+                var frameDelay = (long) ((recordingReader.getFrameTimestamp() - firstFrameTimestamp) / speed);
+                if (!waitUntil(replayStartNanoTime + frameDelay)) {
+                    logger.debug("Replay interrupted");
+                    break;
+                }
+            }
+            replayFrame();
+            replayedFramesCount++;
+        }
+        logger.debug("Replayed {} frames", replayedFramesCount);
+        return replayedFramesCount;
+    }
+
+    /**
+     * @return whether replay is still open
+     */
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    /**
+     * Closes the replay. If the replay is running, it stops after current frame.
+     */
+    @Override
+    public void close() {
+        logger.debug("Closing session replay");
+        isOpen = false;
+        synchronized (this) {
+            recordingReader.close();
+        }
+    }
+
+    private boolean waitUntil(long nanoTime) {
+        var waitNanos = nanoTime - System.nanoTime();
+        while (waitNanos > 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(waitNanos);
+            waitNanos = nanoTime - System.nanoTime();
+        }
+        return true;
+    }
+
+    private void replayFrame() {
+        var frameSource = recordingReader.getFrameSource();
+        var frameBytes = recordingReader.getFrameBytes();
+        var frameStart = frameBytes.position();
+        var frameEnd = frameBytes.limit();
+        for (var frameSink : frameSinks.get()) {
+            frameBytes.limit(frameEnd).position(frameStart);
+            frameSink.onFrame(frameSource, frameBytes);
+        }
+    }
+}
@@ -8,30 +8,56 @@
 
 package com.github.adrian99.javainsim.api.insim;
 
+import com.github.adrian99.javainsim.api.common.ThreadFactories;
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
 import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.common.metrics.ConnectionMetrics;
+import com.github.adrian99.javainsim.api.common.recording.SessionRecorder;
+import com.github.adrian99.javainsim.api.common.recording.SessionReplay;
+import com.github.adrian99.javainsim.api.insim.dispatch.DispatchStrategy;
 import com.github.adrian99.javainsim.api.insim.packets.IsiPacket;
+import com.github.adrian99.javainsim.api.insim.packets.MciPacket;
+import com.github.adrian99.javainsim.api.insim.packets.NcnPacket;
+import com.github.adrian99.javainsim.api.insim.packets.NlpPacket;
+import com.github.adrian99.javainsim.api.insim.packets.NplPacket;
 import com.github.adrian99.javainsim.api.insim.packets.SmallPacket;
 import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
 import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.insim.packets.requests.ResponseCache;
+import com.github.adrian99.javainsim.api.insim.packets.requests.TinyPacketRequest;
 import com.github.adrian99.javainsim.api.insim.packets.subtypes.small.SmallSubtypes;
 import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.api.insim.session.SessionState;
 import com.github.adrian99.javainsim.api.outgauge.OutGaugeConnection;
 import com.github.adrian99.javainsim.api.outsim.OutSimConnection;
 import com.github.adrian99.javainsim.api.outsim.flags.OutSimOpts;
+import com.github.adrian99.javainsim.internal.common.flow.BufferedPublisher;
 import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
+import com.github.adrian99.javainsim.internal.insim.listeners.PacketListenerRegistry;
 import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
 import com.github.adrian99.javainsim.internal.insim.packets.base.InstructionPacket;
 import com.github.adrian99.javainsim.internal.insim.packets.requests.PacketRequest;
 import com.github.adrian99.javainsim.internal.insim.packets.requests.PacketRequests;
 import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
 import com.github.adrian99.javainsim.internal.insim.packets.util.PacketReader;
+import com.github.adrian99.javainsim.internal.insim.transport.ChannelInSimTransport;
+import com.github.adrian99.javainsim.internal.insim.transport.InSimPacketHandler;
+import com.github.adrian99.javainsim.internal.insim.transport.InSimTransport;
+import com.github.adrian99.javainsim.internal.insim.transport.ReplayInSimTransport;
+import com.github.adrian99.javainsim.internal.insim.transport.SocketInSimTransport;
+import com.github.adrian99.javainsim.internal.insim.transport.UdpPacketReceiver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
-import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.util.*;
-import java.util.concurrent.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * This class is responsible for InSim connection to LFS.
@@ -39,15 +65,20 @@ import java.util.concurrent.*;
 public class InSimConnection implements Closeable {
     private final Logger logger = LoggerFactory.getLogger(InSimConnection.class);
     private final int udpPort;
-    @SuppressWarnings("rawtypes")
-    private final Map<PacketType, Set<PacketListener>> registeredListeners;
+    private final PacketListenerRegistry registeredListeners;
     private final PacketRequests packetRequests;
+    private final ResponseCache responseCache;
+    private final InSimConnectionGroup connectionGroup;
+    private final ThreadFactory threadFactory;
+    private final Set<BufferedPublisher<?>> publishers;
 
-    private Socket socket;
-    private OutputStream out;
-    private InputStream in;
-    private ExecutorService executorService;
-    private boolean isConnected = false;
+    private InSimTransport transport;
+    private volatile UdpPacketReceiver udpPacketReceiver;
+    private volatile SessionRecorder recorder;
+    private volatile SessionState sessionState;
+    private volatile ConnectionMetrics metrics = ConnectionMetrics.noOp();
+    private volatile boolean isConnected = false;
+    private volatile boolean isClosed = false;
 
     /**
      * Creates InSim connection and sends specified initialization packet.
@@ -60,45 +91,141 @@ public class InSimConnection implements Closeable {
         this(hostname, port, initializationPacket, 2000);
     }
 
+    /**
+     * Creates InSim connection and sends specified initialization packet. Threads of the connection, reading
+     * packets, are created by specified thread factory, e.g. {@link ThreadFactories#virtual()}.
+     * @param hostname address of the host where LFS is running
+     * @param port port which has been open by LFS for InSim connection
+     * @param initializationPacket packet sent upon connecting to initialize InSim
+     * @param threadFactory factory of the threads of the connection
+     * @throws IOException if I/O error occurs when creating a connection
+     */
+    public InSimConnection(String hostname,
+                           int port,
+                           IsiPacket initializationPacket,
+                           ThreadFactory threadFactory) throws IOException {
+        this(hostname, port, initializationPacket, 2000, null, threadFactory);
+    }
+
+    /**
+     * Creates InSim connection within specified connection group and sends specified initialization packet.
+     * Connection created this way does not own any threads - reading and writing is performed by the event loop
+     * thread of the group, which is shared by all connections within the group.
+     * @param hostname address of the host where LFS is running
+     * @param port port which has been open by LFS for InSim connection
+     * @param initializationPacket packet sent upon connecting to initialize InSim
+     * @param connectionGroup group that the connection will belong to
+     * @throws IOException if I/O error occurs when creating a connection
+     */
+    public InSimConnection(String hostname,
+                           int port,
+                           IsiPacket initializationPacket,
+                           InSimConnectionGroup connectionGroup) throws IOException {
+        this(hostname, port, initializationPacket, 2000, connectionGroup);
+    }
+
+    /**
+     * Creates InSim connection that is not connected to LFS, but receives InSim packets replayed by specified
+     * session replay - both the ones recorded from TCP connection and from UDP. Listeners are called by the thread
+     * running the replay (unless different {@link DispatchStrategy} is chosen), while sent packets are discarded.
+     * @param sessionReplay replay of recorded session
+     */
+    public InSimConnection(SessionReplay sessionReplay) {
+        this(0, 2000, null, Executors.defaultThreadFactory());
+        var replayTransport = new ReplayInSimTransport(
+                new TransportPacketHandler(FrameSource.INSIM_TCP),
+                new TransportPacketHandler(FrameSource.INSIM_UDP)
+        );
+        transport = replayTransport;
+        sessionReplay.addFrameSink(replayTransport);
+    }
+
     /**
      * Creates InSim connection and sends specified initialization packet.
      * @param hostname address of the host where LFS is running
      * @param port port which has been open by LFS for InSim connection
      * @param initializationPacket packet sent upon connecting to initialize InSim
-     * @param requestsCleanUpInterval interval (milliseconds) at which timed out packet requests should be cleaned up
+     * @param requestsCleanUpInterval interval (milliseconds) at which cancelled recurring packet requests should be
+     *                                cleaned up
      * @throws IOException if I/O error occurs when creating a connection
      */
     protected InSimConnection(String hostname,
                               int port,
                               IsiPacket initializationPacket,
                               long requestsCleanUpInterval) throws IOException {
-        logger.debug("Creating InSim connection");
-        udpPort = initializationPacket.getUdpPort();
-        registeredListeners = new EnumMap<>(PacketType.class);
-        packetRequests = new PacketRequests(requestsCleanUpInterval);
+        this(hostname, port, initializationPacket, requestsCleanUpInterval, null);
+    }
+
+    /**
+     * Creates InSim connection and sends specified initialization packet.
+     * @param hostname address of the host where LFS is running
+     * @param port port which has been open by LFS for InSim connection
+     * @param initializationPacket packet sent upon connecting to initialize InSim
+     * @param requestsCleanUpInterval interval (milliseconds) at which cancelled recurring packet requests should be
+     *                                cleaned up
+     * @param connectionGroup group that the connection will belong to, or null if connection should use
+     *                        its own threads
+     * @throws IOException if I/O error occurs when creating a connection
+     */
+    protected InSimConnection(String hostname,
+                              int port,
+                              IsiPacket initializationPacket,
+                              long requestsCleanUpInterval,
+                              InSimConnectionGroup connectionGroup) throws IOException {
+        this(hostname, port, initializationPacket, requestsCleanUpInterval, connectionGroup,
+                Executors.defaultThreadFactory());
+    }
+
+    private InSimConnection(String hostname,
+                            int port,
+                            IsiPacket initializationPacket,
+                            long requestsCleanUpInterval,
+                            InSimConnectionGroup connectionGroup,
+                            ThreadFactory threadFactory) throws IOException {
+        this(initializationPacket.getUdpPort(), requestsCleanUpInterval, connectionGroup, threadFactory);
         connect(hostname, port, initializationPacket);
     }
 
+    private InSimConnection(int udpPort,
+                            long requestsCleanUpInterval,
+                            InSimConnectionGroup connectionGroup,
+                            ThreadFactory threadFactory) {
+        logger.debug("Creating InSim connection");
+        this.udpPort = udpPort;
+        registeredListeners = new PacketListenerRegistry();
+        this.connectionGroup = connectionGroup;
+        this.threadFactory = threadFactory;
+        var timeoutDispatchStrategy = DispatchStrategy.<InfoPacket>sharedPool();
+        Executor timeoutCallbackExecutor = timeoutCallback -> timeoutDispatchStrategy.dispatch(null, timeoutCallback);
+        packetRequests = connectionGroup != null ?
+                new PacketRequests(requestsCleanUpInterval, connectionGroup.getTimerWheel(), timeoutCallbackExecutor) :
+                new PacketRequests(requestsCleanUpInterval, threadFactory, timeoutCallbackExecutor);
+        responseCache = new ResponseCache();
+        publishers = ConcurrentHashMap.newKeySet();
+    }
+
     @Override
     public void close() throws IOException {
         logger.debug("Closing InSim connection");
-        if (isConnected && !socket.isClosed()) {
+        if (isConnected()) {
             packetRequests.cancelAllRecurringPacketRequests();
             send(new TinyPacket(0, TinySubtypes.CLOSE));
         }
         isConnected = false;
-        executorService.shutdownNow();
+        isClosed = true;
+        publishers.forEach(BufferedPublisher::complete);
         packetRequests.close();
-        in.close();
-        out.close();
-        socket.close();
+        disableUdpReceiving();
+        if (transport != null) {
+            transport.close();
+        }
     }
 
     /**
      * @return whether InSim connection is alive
      */
     public boolean isConnected() {
-        return isConnected && !socket.isClosed();
+        return isConnected && transport != null && transport.isOpen();
     }
 
     /**
@@ -109,14 +236,67 @@ public class InSimConnection implements Closeable {
     public void send(InstructionPacket packet) throws IOException {
         logger.debug("Sending {} packet", packet.getType());
         var bytes = packet.getBytes();
-        out.write(bytes);
+        transport.write(bytes);
+        metrics.onPacketSent(packet.getType(), bytes.length);
+    }
+
+    /**
+     * Sends specified {@link InstructionPacket InstructionPackets} to LFS. All packets are converted to bytes first,
+     * so if any of them is invalid, none of them is sent. Packets are gathered into as few writes as possible,
+     * which makes this method much cheaper than calling {@link #send} for each packet separately.
+     * @param packets packets to be sent, in order
+     * @throws IOException if I/O error occurs while sending packets
+     */
+    public void sendAll(Collection<? extends InstructionPacket> packets) throws IOException {
+        logger.debug("Sending {} packets", packets.size());
+        var packetsBytes = new ArrayList<byte[]>(packets.size());
+        for (var packet : packets) {
+            packetsBytes.add(packet.getBytes());
+        }
+        var currentMetrics = metrics;
+        var packetsIterator = packets.iterator();
+        for (var bytes : packetsBytes) {
+            transport.enqueue(bytes);
+            currentMetrics.onPacketSent(packetsIterator.next().getType(), bytes.length);
+        }
+        transport.flush();
+    }
+
+    /**
+     * Adds specified {@link InstructionPacket} to outbound queue without sending it immediately. Queued packets
+     * are sent on next call to {@link #flush}, {@link #send} or {@link #sendAll}. If too many bytes are waiting
+     * in outbound queue, this method sends them first and may block until LFS receives them.
+     * @param packet packet to be queued
+     * @throws IOException if I/O error occurs while sending pending packets
+     */
+    public void enqueue(InstructionPacket packet) throws IOException {
+        logger.debug("Queueing {} packet", packet.getType());
+        var bytes = packet.getBytes();
+        transport.enqueue(bytes);
+        metrics.onPacketSent(packet.getType(), bytes.length);
+    }
+
+    /**
+     * Sends all packets waiting in outbound queue to LFS.
+     * @throws IOException if I/O error occurs while sending packets
+     */
+    public void flush() throws IOException {
+        transport.flush();
+    }
+
+    /**
+     * @return count of bytes of packets waiting in outbound queue to be sent to LFS
+     */
+    public long getPendingBytesCount() {
+        return transport != null ? transport.getPendingBytes() : 0;
     }
 
     /**
      * Registers packet listener - a function that will be called each time the packet of chosen
      * type will be received from LFS. It is possible to register multiple listeners for single
      * packet type, however duplicate listeners will be ignored. It is possible to unregister packet
-     * listeners later on - see {@link #stopListening} method.
+     * listeners later on - see {@link #stopListening} method. Listener is called directly by the thread
+     * reading packets from LFS - see {@link #listen(Class, PacketListener, DispatchStrategy)} to change that.
      * @param packetClass class of the packet to listen for
      * @param packetListener function that will be called each time the packet of chosen type is
      *                       received from LFS
@@ -124,11 +304,29 @@ public class InSimConnection implements Closeable {
      */
     public <T extends InfoPacket> void listen(Class<T> packetClass,
                                               PacketListener<T> packetListener) {
-        if (packetClass != null && packetListener != null) {
+        listen(packetClass, packetListener, DispatchStrategy.inline());
+    }
+
+    /**
+     * Registers packet listener - a function that will be called each time the packet of chosen
+     * type will be received from LFS - using specified dispatch strategy. Dispatch strategy decides which thread
+     * calls the listener and whether the order of calls is preserved, which allows slow listeners not to delay
+     * reading of further packets. It is possible to register multiple listeners for single packet type, however
+     * duplicate listeners will be ignored. It is possible to unregister packet listeners later on -
+     * see {@link #stopListening} method.
+     * @param packetClass class of the packet to listen for
+     * @param packetListener function that will be called each time the packet of chosen type is
+     *                       received from LFS
+     * @param dispatchStrategy strategy of calling the listener
+     * @param <T> type of the packet to listen for
+     */
+    public <T extends InfoPacket> void listen(Class<T> packetClass,
+                                              PacketListener<T> packetListener,
+                                              DispatchStrategy<? super T> dispatchStrategy) {
+        if (packetClass != null && packetListener != null && dispatchStrategy != null) {
             var packetType = PacketType.fromPacketClass(packetClass);
             logger.debug("Registering listener for {} packets", packetType);
-            registeredListeners.computeIfAbsent(packetType, type -> new HashSet<>());
-            registeredListeners.get(packetType).add(packetListener);
+            registeredListeners.add(packetType, packetListener, dispatchStrategy);
         }
     }
 
@@ -143,27 +341,86 @@ public class InSimConnection implements Closeable {
                                                      PacketListener<T> packetListener) {
         if (packetClass != null && packetListener != null) {
             var packetType = PacketType.fromPacketClass(packetClass);
-            if (registeredListeners.containsKey(packetType) &&
-                    registeredListeners.get(packetType).contains(packetListener)) {
-                logger.debug("Unregistering listener for {} packets", packetType);
-                if (registeredListeners.get(packetType).size() == 1) {
-                    registeredListeners.remove(packetType);
-                } else {
-                    registeredListeners.get(packetType).remove(packetListener);
-                }
+            if (registeredListeners.remove(packetType, packetListener)) {
+                logger.debug("Unregistered listener for {} packets", packetType);
             }
         }
     }
 
+    /**
+     * Creates publisher of packets of chosen type, which passes them to its subscribers according to their demand.
+     * Each subscriber has its own buffer of up to {@link Constants#PUBLISHER_DEFAULT_BUFFER_SIZE} packets,
+     * after which the thread reading packets waits for space in the buffer. Subscribers are called by the thread
+     * reading packets or by the thread requesting more packets, never concurrently. All subscriptions are completed
+     * when the connection is closed.
+     * @param packetClass class of the packets to be published
+     * @return publisher of packets of chosen type
+     * @param <T> type of the packets to be published
+     */
+    public <T extends InfoPacket> Flow.Publisher<T> publisher(Class<T> packetClass) {
+        return publisher(packetClass, Constants.PUBLISHER_DEFAULT_BUFFER_SIZE, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates publisher of packets of chosen type, which passes them to its subscribers according to their demand.
+     * Each subscriber has its own buffer of specified size, and when it is full, specified overflow policy is applied.
+     * Subscribers are called by the thread reading packets or by the thread requesting more packets,
+     * never concurrently. All subscriptions are completed when the connection is closed.
+     * @param packetClass class of the packets to be published
+     * @param bufferSize maximum count of packets waiting for demand of single subscriber
+     * @param overflowPolicy behavior when packet is received while buffer of subscriber is full
+     * @return publisher of packets of chosen type
+     * @param <T> type of the packets to be published
+     */
+    public <T extends InfoPacket> Flow.Publisher<T> publisher(Class<T> packetClass,
+                                                              int bufferSize,
+                                                              OverflowPolicy overflowPolicy) {
+        Objects.requireNonNull(packetClass);
+        var publisher = new BufferedPublisher<T>(bufferSize, overflowPolicy, packetConsumer -> {
+            PacketListener<T> packetListener = (connection, packet) -> packetConsumer.accept(packet);
+            listen(packetClass, packetListener);
+            return () -> stopListening(packetClass, packetListener);
+        });
+        publishers.add(publisher);
+        if (isClosed) {
+            publisher.complete();
+        }
+        return publisher;
+    }
+
     /**
      * Requests packet(s) described by specified packet request from LFS. Calling this method
-     * sends appropriate request packet and adds packet request to pending packet requests list.
+     * sends appropriate request packet and adds packet request to pending packet requests list. If identical
+     * packet request (e.g. created by the same request builder) is already waiting for response, no request packet
+     * is sent - instead, both packet requests receive the same response.
      * @param packetRequest packet request describing requested packet
      * @throws IOException if I/O error occurs when sending request packet
+     * @throws IllegalStateException if the packet request is already pending
      */
     public void request(PacketRequest packetRequest) throws IOException {
-        packetRequests.add(packetRequest);
-        send(packetRequest.getRequestPacket());
+        if (packetRequests.add(packetRequest)) {
+            send(packetRequest.getRequestPacket());
+        }
+    }
+
+    /**
+     * Removes specified packet request from pending packet requests, if it has been requested before using
+     * {@link #request} method. Packets matching the request are no longer passed to it, and its timeout callback
+     * is not called.
+     * @param packetRequest packet request to be cancelled
+     * @return whether the packet request was pending
+     */
+    public boolean cancelRequest(PacketRequest packetRequest) {
+        return packetRequests.cancel(packetRequest);
+    }
+
+    /**
+     * Gets cache of responses to packet requests of this connection. The cache is disabled by default -
+     * it can be enabled with {@link ResponseCache#enable(long)}.
+     * @return response cache of this connection
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
     }
 
     /**
@@ -176,6 +433,7 @@ public class InSimConnection implements Closeable {
      * @param opts OutSim options - should match value from cfg.txt
      * @return active OutSim connection
      * @throws IOException if I/O error occurs while sending {@link SmallPacket} or creating {@link OutSimConnection}
+     * @throws IllegalStateException if UDP port is already used for receiving InSim packets
      */
     public OutSimConnection initializeOutSim(long interval, int opts) throws IOException {
         return initializeOutSim(interval, new Flags<>(OutSimOpts.class, opts));
@@ -191,8 +449,10 @@ public class InSimConnection implements Closeable {
      * @param opts OutSim options - should match value from cfg.txt
      * @return active OutSim connection
      * @throws IOException if I/O error occurs while sending {@link SmallPacket} or creating {@link OutSimConnection}
+     * @throws IllegalStateException if UDP port is already used for receiving InSim packets
      */
     public OutSimConnection initializeOutSim(long interval, Flags<OutSimOpts> opts) throws IOException {
+        assertUdpPortNotUsed();
         send(new SmallPacket(SmallSubtypes.SSP, interval));
         return new OutSimConnection(udpPort, opts);
     }
@@ -215,8 +475,10 @@ public class InSimConnection implements Closeable {
      * @param interval time between updates - must be greater than 0
      * @return active OutGauge connection
      * @throws IOException if I/O error occurs while sending {@link SmallPacket} or creating {@link OutGaugeConnection}
+     * @throws IllegalStateException if UDP port is already used for receiving InSim packets
      */
     public OutGaugeConnection initializeOutGauge(long interval) throws IOException {
+        assertUdpPortNotUsed();
         send(new SmallPacket(SmallSubtypes.SSG, interval));
         return new OutGaugeConnection(udpPort);
     }
@@ -230,6 +492,130 @@ public class InSimConnection implements Closeable {
         send(new SmallPacket(SmallSubtypes.SSG, 0));
     }
 
+    /**
+     * Starts receiving InSim packets sent by LFS over UDP. When UDP port is specified in the {@link IsiPacket},
+     * LFS sends {@link NlpPacket} and {@link MciPacket} packets to that port instead of TCP connection, so that
+     * frequent position updates do not delay other packets. Received packets are passed to the same listeners
+     * and packet requests as packets received over TCP, but they are delivered by separate UDP receiving thread.
+     * As a result, inline listeners of {@link NlpPacket} and {@link MciPacket} may run concurrently with
+     * listeners of packets received over TCP, so state shared between them has to be thread-safe (alternatively,
+     * the same single-threaded {@link DispatchStrategy} can be used for all of them). As OutSim and OutGauge
+     * initialized from InSim use the same UDP port, they cannot be initialized while UDP receiving is enabled.
+     * @throws IOException if I/O error occurs while binding UDP port, e.g. when the port is already in use
+     * @throws IllegalStateException if UDP port was not specified in the {@link IsiPacket}
+     */
+    public synchronized void enableUdpReceiving() throws IOException {
+        if (udpPort == 0) {
+            throw new IllegalStateException("UDP port was not specified in initialization packet");
+        }
+        if (udpPacketReceiver == null) {
+            logger.debug("Enabling UDP receiving on port {}", udpPort);
+            udpPacketReceiver = new UdpPacketReceiver(
+                    udpPort,
+                    new TransportPacketHandler(FrameSource.INSIM_UDP),
+                    connectionGroup != null ? connectionGroup.getThreadFactory() : threadFactory
+            );
+        }
+    }
+
+    /**
+     * Stops receiving InSim packets sent by LFS over UDP, if it has been started before using
+     * {@link #enableUdpReceiving} method.
+     * @throws IOException if I/O error occurs while closing UDP port
+     */
+    public synchronized void disableUdpReceiving() throws IOException {
+        if (udpPacketReceiver != null) {
+            logger.debug("Disabling UDP receiving");
+            udpPacketReceiver.close();
+            udpPacketReceiver = null;
+        }
+    }
+
+    /**
+     * @return whether InSim packets sent by LFS over UDP are being received
+     */
+    public boolean isUdpReceivingEnabled() {
+        var receiver = udpPacketReceiver;
+        return receiver != null && receiver.isOpen();
+    }
+
+    /**
+     * Starts maintaining state of race session (connections, players, their positions, laps and splits), which
+     * is updated by the thread reading packets. Current connections, players and state are requested from LFS only
+     * to trigger initial burst of packets - responses update the state the same way as any other received packets.
+     * Requests of connections and players are followed by ping, so they end as soon as the burst is received.
+     * Positions of cars are updated only if LFS sends {@link MciPacket} (see
+     * {@link com.github.adrian99.javainsim.api.insim.packets.flags.IsiFlag#MCI IsiFlag.MCI}). If the session state
+     * has already been enabled, it is returned without sending any requests.
+     * @return session state, whose snapshots can be read by any thread
+     * @throws IOException if I/O error occurs when sending request packets
+     */
+    public synchronized SessionState enableSessionState() throws IOException {
+        if (sessionState != null) {
+            return sessionState;
+        }
+        logger.debug("Enabling session state");
+        var newSessionState = new SessionState();
+        sessionState = newSessionState;
+        requestInitialSessionState();
+        return newSessionState;
+    }
+
+    /**
+     * Stops maintaining state of race session enabled using {@link #enableSessionState} method. The last snapshot
+     * of the state remains available.
+     */
+    public synchronized void disableSessionState() {
+        logger.debug("Disabling session state");
+        sessionState = null;
+    }
+
+    /**
+     * @return state of race session, if it has been enabled using {@link #enableSessionState} method,
+     * otherwise null
+     */
+    public SessionState getSessionState() {
+        return sessionState;
+    }
+
+    /**
+     * Starts recording raw bytes of all packets received from LFS, both over TCP and UDP, using specified
+     * session recorder. While recording, packets are read even if there are no listeners or requests for them.
+     * If recording has already been started, specified recorder replaces the previous one.
+     * @param sessionRecorder recorder of received packets
+     */
+    public void startRecording(SessionRecorder sessionRecorder) {
+        logger.debug("Starting recording InSim packets");
+        recorder = sessionRecorder;
+    }
+
+    /**
+     * Stops recording received packets, if it has been started before using {@link #startRecording} method.
+     * The recorder is not closed.
+     */
+    public void stopRecording() {
+        logger.debug("Stopping recording InSim packets");
+        recorder = null;
+    }
+
+    /**
+     * Sets metrics notified about packets received and sent by this connection (including packets received
+     * over UDP), durations of decoding and listeners, and packet requests. By default, {@link ConnectionMetrics#noOp()
+     * no-op metrics} are used.
+     * @param connectionMetrics metrics of the connection
+     */
+    public void setMetrics(ConnectionMetrics connectionMetrics) {
+        metrics = Objects.requireNonNull(connectionMetrics);
+        packetRequests.setMetrics(connectionMetrics);
+    }
+
+    /**
+     * @return metrics of the connection
+     */
+    public ConnectionMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Creates InSim connection and sends specified initialization packet.
      * @param hostname address of the host where LFS is running
@@ -238,58 +624,50 @@ public class InSimConnection implements Closeable {
      * @throws IOException if I/O error occurs when creating a connection
      */
     protected void connect(String hostname, int port, IsiPacket initializationPacket) throws IOException {
-        socket = new Socket(hostname, port);
-        out = socket.getOutputStream();
-        in = socket.getInputStream();
-        executorService = Executors.newSingleThreadExecutor();
-        executorService.submit(this::readIncomingPackets);
+        var packetHandler = new TransportPacketHandler(FrameSource.INSIM_TCP);
+        transport = connectionGroup != null ?
+                new ChannelInSimTransport(hostname, port, connectionGroup.getEventLoop(), packetHandler) :
+                new SocketInSimTransport(hostname, port, packetHandler, threadFactory);
         send(initializationPacket);
     }
 
-    private void readIncomingPackets() {
-        logger.debug("Started packet reading thread");
-        try {
-            byte[] headerBytes;
-            while ((headerBytes = in.readNBytes(Constants.PACKET_HEADER_SIZE)).length == Constants.PACKET_HEADER_SIZE) {
-                onPacketReceived(headerBytes);
-            }
-            isConnected = false;
-            logger.error("Lost connection to LFS");
-        } catch (IOException exception) {
-            isConnected = false;
-            logger.error("Error occurred while reading packet header bytes: {}", exception.getMessage());
-            LoggerUtils.logStacktrace(logger, "reading packet header", exception);
-        }
-        logger.debug("Stopping packet reading thread");
+    private void requestInitialSessionState() throws IOException {
+        NcnPacket.request(this).aggregate();
+        NplPacket.request(this).aggregate();
+        request(new TinyPacketRequest<>(
+                TinySubtypes.SST,
+                (connection, packet) -> {},
+                Constants.SESSION_STATE_REQUEST_TIMEOUT_MILLIS
+        ));
     }
 
-    private void onPacketReceived(byte[] headerBytes) {
-        try {
-            var packetReader = new PacketReader(headerBytes);
-            if (shouldPacketBeRead(packetReader.getPacketType(), packetReader.getPacketReqI())) {
-                logger.atDebug().log("Received {} packet - reading", packetReader.getPacketType());
-                var dataBytes = in.readNBytes(packetReader.getDataBytesCount());
-                var packet = packetReader.read(dataBytes);
-                handleReadPacket(packet);
-            } else {
-                logger.atDebug().log("Received {} packet - skipping", packetReader.getPacketType());
-                in.skipNBytes(packetReader.getDataBytesCount());
-            }
-        } catch (Exception exception) {
-            logger.error("Error occurred while reading packet: {}", exception.getMessage());
-            LoggerUtils.logStacktrace(logger, "reading packet", exception);
+    private void assertUdpPortNotUsed() {
+        if (udpPacketReceiver != null) {
+            throw new IllegalStateException("UDP port is already used for receiving InSim packets");
         }
     }
 
     private boolean shouldPacketBeRead(PacketType packetType, short reqI) {
         return packetType == PacketType.VER ||
                 packetType == PacketType.TINY ||
-                registeredListeners.containsKey(packetType) ||
-                packetRequests.anyMatch(packetType, reqI);
+                registeredListeners.hasListeners(packetType) ||
+                packetRequests.anyMatch(packetType, reqI) ||
+                responseCache.isRefreshedBy(packetType) ||
+                isSessionStateUpdatedBy(packetType);
+    }
+
+    private boolean isSessionStateUpdatedBy(PacketType packetType) {
+        var currentSessionState = sessionState;
+        return currentSessionState != null && currentSessionState.isUpdatedBy(packetType);
     }
 
     private void handleReadPacket(InfoPacket packet) throws IOException {
         handleBasicReadPacket(packet);
+        responseCache.refresh(packet);
+        var currentSessionState = sessionState;
+        if (currentSessionState != null) {
+            currentSessionState.update(packet);
+        }
         handleReadPacketForPacketListeners(packet);
         packetRequests.handle(this, packet);
     }
@@ -303,21 +681,111 @@ public class InSimConnection implements Closeable {
                 logger.debug("Received keep alive packet");
                 send(tinyPacket);
                 isConnected = true;
+            } else {
+                responseCache.invalidateBy(tinyPacket.getSubT());
             }
         }
     }
 
     @SuppressWarnings("unchecked")
     private void handleReadPacketForPacketListeners(InfoPacket packet) {
-        if (registeredListeners.containsKey(packet.getType())) {
-            for (var listener : registeredListeners.get(packet.getType())) {
-                try {
-                    listener.onPacketReceived(this, packet);
-                } catch (Exception exception) {
-                    logger.error("Error occurred in packet listener callback: {}", exception.getMessage());
-                    LoggerUtils.logStacktrace(logger, "listener callback", exception);
+        for (var registration : registeredListeners.get(packet.getType())) {
+            var listener = registration.getPacketListener();
+            try {
+                registration.getDispatchStrategy().dispatch(packet, () -> callPacketListener(listener, packet));
+            } catch (Exception exception) {
+                logger.error("Error occurred while dispatching packet to listener: {}", exception.getMessage());
+                LoggerUtils.logStacktrace(logger, "dispatching packet", exception);
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void callPacketListener(PacketListener listener, InfoPacket packet) {
+        var currentMetrics = metrics;
+        var startTime = currentMetrics.isTimingEnabled() ? System.nanoTime() : 0;
+        try {
+            listener.onPacketReceived(this, packet);
+        } catch (Exception exception) {
+            logger.error("Error occurred in packet listener callback: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "listener callback", exception);
+        }
+        if (currentMetrics.isTimingEnabled()) {
+            currentMetrics.onListenerCalled(packet.getType(), System.nanoTime() - startTime);
+        }
+    }
+
+    private void recordPacket(SessionRecorder sessionRecorder, FrameSource frameSource, ByteBuffer dataBytes) {
+        var dataPosition = dataBytes.position();
+        try {
+            dataBytes.position(dataPosition - Constants.PACKET_HEADER_SIZE);
+            sessionRecorder.record(frameSource, dataBytes);
+        } catch (Exception exception) {
+            logger.error("Error occurred while recording packet: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "recording packet", exception);
+        } finally {
+            dataBytes.position(dataPosition);
+        }
+    }
+
+    private class TransportPacketHandler implements InSimPacketHandler {
+        private final FrameSource frameSource;
+
+        private TransportPacketHandler(FrameSource frameSource) {
+            this.frameSource = frameSource;
+        }
+
+        @Override
+        public boolean shouldPacketBeRead(PacketType packetType, short reqI) {
+            return recorder != null || InSimConnection.this.shouldPacketBeRead(packetType, reqI);
+        }
+
+        @Override
+        public void onPacketReceived(PacketReader packetReader, ByteBuffer dataBytes) {
+            var currentMetrics = metrics;
+            var packetType = packetReader.getPacketType();
+            currentMetrics.onPacketReceived(packetType, Constants.PACKET_HEADER_SIZE + dataBytes.remaining());
+            var currentRecorder = recorder;
+            if (currentRecorder != null) {
+                recordPacket(currentRecorder, frameSource, dataBytes);
+                if (!InSimConnection.this.shouldPacketBeRead(packetType, packetReader.getPacketReqI())) {
+                    currentMetrics.onPacketSkipped(packetType);
+                    return;
                 }
             }
+            try {
+                logger.atDebug().log("Received {} packet - reading", packetType);
+                var startTime = currentMetrics.isTimingEnabled() ? System.nanoTime() : 0;
+                var packet = packetReader.read(dataBytes);
+                if (currentMetrics.isTimingEnabled()) {
+                    currentMetrics.onPacketDecoded(packetType, System.nanoTime() - startTime);
+                }
+                handleReadPacket(packet);
+            } catch (Exception exception) {
+                logger.error("Error occurred while reading packet: {}", exception.getMessage());
+                LoggerUtils.logStacktrace(logger, "reading packet", exception);
+            }
+        }
+
+        @Override
+        public void onPacketSkipped(PacketReader packetReader) {
+            var currentMetrics = metrics;
+            var packetType = packetReader.getPacketType();
+            currentMetrics.onPacketReceived(
+                    packetType,
+                    Constants.PACKET_HEADER_SIZE + packetReader.getDataBytesCount()
+            );
+            currentMetrics.onPacketSkipped(packetType);
+        }
+
+        @Override
+        public void onDatagramDropped() {
+            metrics.onDatagramDropped(frameSource);
+        }
+
+        @Override
+        public void onConnectionLost() {
+            isConnected = false;
         }
     }
 }
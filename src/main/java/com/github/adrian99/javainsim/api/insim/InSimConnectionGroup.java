@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim;
+
+import com.github.adrian99.javainsim.api.common.ThreadFactories;
+import com.github.adrian99.javainsim.internal.common.util.HashedTimerWheel;
+import com.github.adrian99.javainsim.internal.insim.transport.SelectorEventLoop;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * This class allows many {@link InSimConnection InSim connections} to share threads. All connections created
+ * within the group are served by single event loop thread, which multiplexes reading and writing using
+ * non-blocking socket channels. Timeouts of their packet requests are tracked by single timer thread of the group.
+ * Packet listeners of the connections in the group are called on the event loop thread, so they should not
+ * perform long-running operations.
+ */
+public class InSimConnectionGroup implements Closeable {
+    private final Logger logger = LoggerFactory.getLogger(InSimConnectionGroup.class);
+    private final SelectorEventLoop eventLoop;
+    private final ThreadFactory threadFactory;
+    private final HashedTimerWheel timerWheel;
+
+    /**
+     * Creates InSim connection group and starts its thread.
+     * @throws IOException if I/O error occurs when opening selector
+     */
+    public InSimConnectionGroup() throws IOException {
+        this(Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Creates InSim connection group and starts its thread using specified thread factory,
+     * e.g. {@link ThreadFactories#virtual()}.
+     * @param threadFactory factory of the threads of the group
+     * @throws IOException if I/O error occurs when opening selector
+     */
+    public InSimConnectionGroup(ThreadFactory threadFactory) throws IOException {
+        logger.debug("Creating InSim connection group");
+        this.threadFactory = threadFactory;
+        eventLoop = new SelectorEventLoop(threadFactory);
+        timerWheel = new HashedTimerWheel(threadFactory);
+    }
+
+    /**
+     * Closes the group. All InSim connections that were created within the group lose their connection to LFS.
+     * @throws IOException if I/O error occurs when closing the group
+     */
+    @Override
+    public void close() throws IOException {
+        logger.debug("Closing InSim connection group");
+        timerWheel.stop();
+        eventLoop.close();
+    }
+
+    /**
+     * @return whether the group is still open
+     */
+    public boolean isOpen() {
+        return eventLoop.isRunning();
+    }
+
+    SelectorEventLoop getEventLoop() {
+        return eventLoop;
+    }
+
+    ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    HashedTimerWheel getTimerWheel() {
+        return timerWheel;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.dispatch;
+
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import com.github.adrian99.javainsim.api.insim.InSimConnection;
+import com.github.adrian99.javainsim.api.insim.PacketListener;
+import com.github.adrian99.javainsim.internal.common.util.VirtualThreads;
+import com.github.adrian99.javainsim.internal.insim.dispatch.ExecutorDispatchStrategy;
+import com.github.adrian99.javainsim.internal.insim.dispatch.InlineDispatchStrategy;
+import com.github.adrian99.javainsim.internal.insim.dispatch.OrderedLanesDispatchStrategy;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToIntFunction;
+
+/**
+ * This interface describes how {@link PacketListener packet listeners} registered using
+ * {@link InSimConnection#listen(Class, PacketListener, DispatchStrategy)} are called. By default, listeners are
+ * called inline, on the thread that reads packets from LFS, so slow listener delays reading of all further packets.
+ * Other strategies allow to isolate such listeners from the reading thread. Strategies that queue listener calls
+ * keep their own queue, so single strategy instance shared by many listeners limits the count of their queued calls
+ * together.
+ * @param <T> type of dispatched packets
+ */
+@FunctionalInterface
+public interface DispatchStrategy<T extends InfoPacket> {
+    /**
+     * Dispatches single listener call. This method is called by the thread that reads packets from LFS.
+     * @param packet received packet
+     * @param listenerCall call of the listener with received packet
+     */
+    void dispatch(T packet, Runnable listenerCall);
+
+    /**
+     * @return count of listener calls dropped according to {@link OverflowPolicy} because queued calls reached
+     * their limit - always 0 for strategies that do not queue calls
+     */
+    default long getDroppedEventsCount() {
+        return 0;
+    }
+
+    /**
+     * Creates strategy that calls listeners directly on the thread that reads packets from LFS.
+     * @return dispatch strategy
+     * @param <T> type of dispatched packets
+     */
+    static <T extends InfoPacket> DispatchStrategy<T> inline() {
+        return InlineDispatchStrategy.getInstance();
+    }
+
+    /**
+     * Creates strategy that calls listeners using {@link ForkJoinPool#commonPool() common pool}. Up to
+     * {@link Constants#DISPATCH_DEFAULT_MAX_QUEUED_EVENTS} listener calls can wait in queue, after which reading
+     * thread waits for space in the queue.
+     * @return dispatch strategy
+     * @param <T> type of dispatched packets
+     */
+    static <T extends InfoPacket> DispatchStrategy<T> sharedPool() {
+        return sharedPool(Constants.DISPATCH_DEFAULT_MAX_QUEUED_EVENTS, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates strategy that calls listeners using {@link ForkJoinPool#commonPool() common pool}.
+     * @param maxQueuedEvents maximum count of listener calls waiting to be run
+     * @param overflowPolicy behavior when listener call is dispatched while the queue is full
+     * @return dispatch strategy
+     * @param <T> type of dispatched packets
+     */
+    static <T extends InfoPacket> DispatchStrategy<T> sharedPool(int maxQueuedEvents, OverflowPolicy overflowPolicy) {
+        return executor(ForkJoinPool.commonPool(), maxQueuedEvents, overflowPolicy);
+    }
+
+    /**
+     * Creates strategy that calls listeners using specified executor.
+     * @param executor executor that will run listener calls
+     * @param maxQueuedEvents maximum count of listener calls waiting to be run
+     * @param overflowPolicy behavior when listener call is dispatched while the queue is full
+     * @return dispatch strategy
+     * @param <T> type of dispatched packets
+     */
+    static <T extends InfoPacket> DispatchStrategy<T> executor(Executor executor,
+                                                               int maxQueuedEvents,
+                                                               OverflowPolicy overflowPolicy) {
+        return new ExecutorDispatchStrategy<>(executor, maxQueuedEvents, overflowPolicy);
+    }
+
+    /**
+     * Creates strategy that calls each listener in new virtual thread. Up to
+     * {@link Constants#DISPATCH_DEFAULT_MAX_QUEUED_EVENTS} listener calls can wait for their thread to start,
+     * after which reading thread waits for space in the queue. Requires Java 21 or newer.
+     * @return dispatch strategy
+     * @param <T> type of dispatched packets
+     * @throws UnsupportedOperationException if virtual threads are not supported by current Java runtime
+     */
+    static <T extends InfoPacket> DispatchStrategy<T> virtualThreadPerEvent() {
+        return virtualThreadPerEvent(Constants.DISPATCH_DEFAULT_MAX_QUEUED_EVENTS, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates strategy that calls each listener in new virtual thread. Requires Java 21 or newer.
+     * @param maxQueuedEvents maximum count of listener calls waiting for their thread to start
+     * @param overflowPolicy behavior when listener call is dispatched while the queue is full
+     * @return dispatch strategy
+     * @param <T> type of dispatched packets
+     * @throws UnsupportedOperationException if virtual threads are not supported by current Java runtime
+     */
+    static <T extends InfoPacket> DispatchStrategy<T> virtualThreadPerEvent(int maxQueuedEvents,
+                                                                            OverflowPolicy overflowPolicy) {
+        return executor(VirtualThreads.newThreadPerTaskExecutor(), maxQueuedEvents, overflowPolicy);
+    }
+
+    /**
+     * Creates strategy that calls listeners using {@link ForkJoinPool#commonPool() common pool}, preserving order
+     * of packets with the same key (e.g. PLID or UCID). Packets with different keys are handled in parallel.
+     * Up to {@link Constants#DISPATCH_DEFAULT_MAX_QUEUED_EVENTS} listener calls can wait in queue of each of
+     * {@link Constants#DISPATCH_DEFAULT_LANES_COUNT} lanes, after which reading thread waits for space in the queue.
+     * @param laneKeyExtractor function extracting key from packet, e.g. {@code NcnPacket::getUcid}
+     * @return dispatch strategy
+     * @param <T> type of dispatched packets
+     */
+    static <T extends InfoPacket> DispatchStrategy<T> orderedLanes(ToIntFunction<? super T> laneKeyExtractor) {
+        return orderedLanes(
+                ForkJoinPool.commonPool(),
+                laneKeyExtractor,
+                Constants.DISPATCH_DEFAULT_LANES_COUNT,
+                Constants.DISPATCH_DEFAULT_MAX_QUEUED_EVENTS,
+                OverflowPolicy.BLOCK
+        );
+    }
+
+    /**
+     * Creates strategy that calls listeners using specified executor, preserving order of packets with the same key
+     * (e.g. PLID or UCID). Packets with different keys are handled in parallel, unless they share the same lane.
+     * @param executor executor that will run listener calls
+     * @param laneKeyExtractor function extracting key from packet, e.g. {@code NcnPacket::getUcid}
+     * @param lanesCount count of lanes
+     * @param maxQueuedEventsPerLane maximum count of listener calls waiting to be run in single lane
+     * @param overflowPolicy behavior when listener call is dispatched while the lane queue is full
+     * @return dispatch strategy
+     * @param <T> type of dispatched packets
+     */
+    static <T extends InfoPacket> DispatchStrategy<T> orderedLanes(Executor executor,
+                                                                   ToIntFunction<? super T> laneKeyExtractor,
+                                                                   int lanesCount,
+                                                                   int maxQueuedEventsPerLane,
+                                                                   OverflowPolicy overflowPolicy) {
+        return new OrderedLanesDispatchStrategy<>(
+                executor,
+                laneKeyExtractor,
+                lanesCount,
+                maxQueuedEventsPerLane,
+                overflowPolicy
+        );
+    }
+}
@@ -24,17 +24,25 @@ import com.github.adrian99.javainsim.internal.insim.packets.base.RequestablePack
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Multi Car Info - if more than {@link Constants#MCI_MAX_CARS} in race then more than one is sent.
  * To receive this packet at a specified interval:<br>
  * 1) Set the Interval field in the {@link IsiPacket} packet (10, 20, 30... 8000 ms),<br>
- * 2) Set flag {@link IsiFlag#MCI Isi MCI} in the {@link IsiPacket}.
+ * 2) Set flag {@link IsiFlag#MCI Isi MCI} in the {@link IsiPacket}.<br>
+ * Packet keeps raw bytes of car info structures and decodes them only when they are accessed.
  */
 public class MciPacket extends AbstractPacket implements RequestablePacket {
+    private static final int PLID_OFFSET = 4;
+
     @Structure
     @Array(length = Constants.MCI_MAX_CARS, dynamicLength = true)
-    private final List<CompCar> info;
+    private volatile List<CompCar> info;
+    private final short numC;
+    private final byte[] infoBytes;
 
     /**
      * Creates multi car info packet.
@@ -44,26 +52,74 @@ public class MciPacket extends AbstractPacket implements RequestablePacket {
      */
     public MciPacket(short size, short reqI, PacketDataBytes packetDataBytes) {
         super(size, PacketType.MCI, reqI);
-        var numC = packetDataBytes.readByte();
-        var infoTmp = new ArrayList<CompCar>();
-        for (var i = 0; i < numC; i++) {
-            infoTmp.add(new CompCar(packetDataBytes));
-        }
-        info = Collections.unmodifiableList(infoTmp);
+        numC = packetDataBytes.readByte();
+        infoBytes = packetDataBytes.readRawBytes(numC * Constants.COMP_CAR_SIZE);
     }
 
     /**
      * @return number of valid {@link CompCar} structs in this packet
      */
     public short getNumC() {
-        return (short) info.size();
+        return numC;
     }
 
     /**
      * @return car info for each player
      */
     public List<CompCar> getInfo() {
-        return info;
+        var result = info;
+        if (result == null) {
+            var infoTmp = new ArrayList<CompCar>(numC);
+            for (var i = 0; i < numC; i++) {
+                infoTmp.add(readCompCar(i));
+            }
+            result = Collections.unmodifiableList(infoTmp);
+            info = result;
+        }
+        return result;
+    }
+
+    /**
+     * Decodes single {@link CompCar} structure, without decoding the others.
+     * @param index index of the structure, from 0 to {@link #getNumC()} - 1
+     * @return car info of the player
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public CompCar getCar(int index) {
+        var currentInfo = info;
+        if (currentInfo != null) {
+            return currentInfo.get(index);
+        }
+        Objects.checkIndex(index, numC);
+        return readCompCar(index);
+    }
+
+    /**
+     * Decodes {@link CompCar} structure of player with specified PLID, without decoding the others.
+     * @param plid player's unique id
+     * @return car info of the player, or empty optional if this packet does not contain info of the player
+     */
+    public Optional<CompCar> getCarByPlid(short plid) {
+        for (var i = 0; i < numC; i++) {
+            if (PacketDataBytes.convertByte(infoBytes[i * Constants.COMP_CAR_SIZE + PLID_OFFSET]) == plid) {
+                return Optional.of(getCar(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Performs specified action for each {@link CompCar} structure, decoding them one by one.
+     * @param action action to be performed
+     */
+    public void forEachCar(Consumer<CompCar> action) {
+        for (var i = 0; i < numC; i++) {
+            action.accept(getCar(i));
+        }
+    }
+
+    private CompCar readCompCar(int index) {
+        return new CompCar(new PacketDataBytes(infoBytes, index * Constants.COMP_CAR_SIZE, Constants.COMP_CAR_SIZE));
     }
 
     /**
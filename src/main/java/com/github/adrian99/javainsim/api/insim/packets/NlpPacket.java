@@ -24,16 +24,24 @@ import com.github.adrian99.javainsim.internal.insim.packets.base.RequestablePack
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Node and Lap Packet - variable size. To receive this packet at a specified interval:<br>
  * 1) Set the Interval field in the {@link IsiPacket} packet (10, 20, 30... 8000 ms),<br>
- * 2) Set flag {@link IsiFlag#NLP Isi NLP} in the {@link IsiPacket}.
+ * 2) Set flag {@link IsiFlag#NLP Isi NLP} in the {@link IsiPacket}.<br>
+ * Packet keeps raw bytes of node and lap structures and decodes them only when they are accessed.
  */
 public class NlpPacket extends AbstractPacket implements RequestablePacket {
+    private static final int PLID_OFFSET = 4;
+
     @Structure
     @Array(length = Constants.NLP_MAX_CARS, dynamicLength = true)
-    private final List<NodeLap> info;
+    private volatile List<NodeLap> info;
+    private final short numP;
+    private final byte[] infoBytes;
 
     /**
      * Creates node and lap packet. Constructor used only internally.
@@ -43,26 +51,74 @@ public class NlpPacket extends AbstractPacket implements RequestablePacket {
      */
     public NlpPacket(short size, short reqI, PacketDataBytes packetDataBytes) {
         super(size, PacketType.NLP, reqI);
-        var numP = packetDataBytes.readByte();
-        var infoTmp = new ArrayList<NodeLap>();
-        for (var i = 0; i < numP; i++) {
-            infoTmp.add(new NodeLap(packetDataBytes));
-        }
-        info = Collections.unmodifiableList(infoTmp);
+        numP = packetDataBytes.readByte();
+        infoBytes = packetDataBytes.readRawBytes(numP * Constants.NODE_LAP_SIZE);
     }
 
     /**
      * @return number of players in race
      */
     public short getNumP() {
-        return (short) info.size();
+        return numP;
     }
 
     /**
      * @return node and lap of each player
      */
     public List<NodeLap> getInfo() {
-        return info;
+        var result = info;
+        if (result == null) {
+            var infoTmp = new ArrayList<NodeLap>(numP);
+            for (var i = 0; i < numP; i++) {
+                infoTmp.add(readNodeLap(i));
+            }
+            result = Collections.unmodifiableList(infoTmp);
+            info = result;
+        }
+        return result;
+    }
+
+    /**
+     * Decodes single {@link NodeLap} structure, without decoding the others.
+     * @param index index of the structure, from 0 to {@link #getNumP()} - 1
+     * @return node and lap of the player
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public NodeLap getNodeLap(int index) {
+        var currentInfo = info;
+        if (currentInfo != null) {
+            return currentInfo.get(index);
+        }
+        Objects.checkIndex(index, numP);
+        return readNodeLap(index);
+    }
+
+    /**
+     * Decodes {@link NodeLap} structure of player with specified PLID, without decoding the others.
+     * @param plid player's unique id
+     * @return node and lap of the player, or empty optional if this packet does not contain info of the player
+     */
+    public Optional<NodeLap> getNodeLapByPlid(short plid) {
+        for (var i = 0; i < numP; i++) {
+            if (PacketDataBytes.convertByte(infoBytes[i * Constants.NODE_LAP_SIZE + PLID_OFFSET]) == plid) {
+                return Optional.of(getNodeLap(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Performs specified action for each {@link NodeLap} structure, decoding them one by one.
+     * @param action action to be performed
+     */
+    public void forEachNodeLap(Consumer<NodeLap> action) {
+        for (var i = 0; i < numP; i++) {
+            action.accept(getNodeLap(i));
+        }
+    }
+
+    private NodeLap readNodeLap(int index) {
+        return new NodeLap(new PacketDataBytes(infoBytes, index * Constants.NODE_LAP_SIZE, Constants.NODE_LAP_SIZE));
     }
 
     /**
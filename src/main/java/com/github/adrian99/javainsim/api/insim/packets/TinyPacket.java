@@ -11,8 +11,8 @@ package com.github.adrian99.javainsim.api.insim.packets;
 import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtype;
 import com.github.adrian99.javainsim.internal.common.util.PacketDataBytes;
 import com.github.adrian99.javainsim.internal.insim.packets.annotations.Byte;
-import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
 import com.github.adrian99.javainsim.internal.insim.packets.base.InstructionPacket;
+import com.github.adrian99.javainsim.internal.insim.packets.base.RequestablePacket;
 import com.github.adrian99.javainsim.internal.insim.packets.exceptions.PacketValidationException;
 import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
 import com.github.adrian99.javainsim.internal.insim.packets.base.AbstractPacket;
@@ -22,7 +22,7 @@ import com.github.adrian99.javainsim.internal.insim.packets.util.PacketValidator
 /**
  * General purpose 4 byte packet.
  */
-public class TinyPacket extends AbstractPacket implements InstructionPacket, InfoPacket {
+public class TinyPacket extends AbstractPacket implements InstructionPacket, RequestablePacket {
     @Byte
     private final TinySubtype subT;
 
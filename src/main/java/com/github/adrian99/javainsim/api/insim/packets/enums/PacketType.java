@@ -297,6 +297,17 @@ public enum PacketType {
      */
     AII(AiiPacket.class);
 
+    private static final ClassValue<PacketType> packetTypesByClass = new ClassValue<>() {
+        @Override
+        protected PacketType computeValue(Class<?> packetClass) {
+            for (var packetType : EnumHelpers.get(PacketType.class).getAllValuesCached()) {
+                if (packetClass.equals(packetType.packetClass)) {
+                    return packetType;
+                }
+            }
+            return NONE;
+        }
+    };
     private final Class<? extends Packet> packetClass;
 
     PacketType(Class<? extends Packet> packetClass) {
@@ -319,12 +330,7 @@ public enum PacketType {
      */
     public static PacketType fromPacketClass(Class<? extends Packet> packetClass) {
         if (packetClass != null) {
-            var enumHelper = EnumHelpers.get(PacketType.class);
-            for (var packetType : enumHelper.getAllValuesCached()) {
-                if (packetClass.equals(packetType.packetClass)) {
-                    return packetType;
-                }
-            }
+            return packetTypesByClass.get(packetClass);
         }
         return NONE;
     }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.packets.requests;
+
+import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinyRequestingSubtype;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtype;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
+import com.github.adrian99.javainsim.internal.insim.packets.base.RequestablePacket;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of responses to packet requests where {@link TinyPacket} serves as a request packet. While the cache
+ * is enabled, packets requested using request builders (e.g. {@code StaPacket.request(inSimConnection)}) are served
+ * from the cache if they were received within specified time to live, without sending request packet to LFS.
+ * Only requests answered with single packet are cached, except for ping requests. Once packet of dedicated type
+ * (e.g. {@link com.github.adrian99.javainsim.api.insim.packets.StaPacket StaPacket}) has been requested, packets
+ * of that type sent by LFS on its own refresh the cache as well. Cached packets describing state that goes away
+ * are invalidated when LFS reports it with {@link TinyPacket} (e.g. {@link TinySubtypes#MPE} or
+ * {@link TinySubtypes#CLR}). The cache is disabled by default.
+ */
+public class ResponseCache {
+    private static final Map<TinySubtype, List<TinyRequestingSubtype<?>>> INVALIDATED_SUBTYPES = Map.of(
+            TinySubtypes.MPE, List.of(
+                    TinySubtypes.SST, TinySubtypes.ISM, TinySubtypes.NLP, TinySubtypes.REO, TinySubtypes.RST,
+                    TinySubtypes.AXI, TinySubtypes.RIP, TinySubtypes.ALC, TinySubtypes.MAL, TinySubtypes.PLH,
+                    TinySubtypes.IPB
+            ),
+            TinySubtypes.REN, List.of(TinySubtypes.SST, TinySubtypes.NLP, TinySubtypes.REO, TinySubtypes.RIP),
+            TinySubtypes.CLR, List.of(TinySubtypes.SST, TinySubtypes.NLP, TinySubtypes.REO, TinySubtypes.PLH),
+            TinySubtypes.AXC, List.of(TinySubtypes.AXI)
+    );
+
+    private final Map<TinyRequestingSubtype<?>, CachedPacket> cachedPackets;
+    private final Map<PacketType, TinyRequestingSubtype<?>> refreshingPacketTypes;
+    private volatile long ttlNanos;
+
+    /**
+     * Creates disabled response cache.
+     */
+    public ResponseCache() {
+        cachedPackets = new ConcurrentHashMap<>();
+        refreshingPacketTypes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Enables the cache. If it has already been enabled, only its time to live is changed.
+     * @param ttlMillis time (in milliseconds) for which received packets are served from the cache
+     * @throws IllegalArgumentException if time to live is not positive
+     */
+    public void enable(long ttlMillis) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("Time to live must be greater than 0");
+        }
+        ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * Disables the cache and removes all cached packets.
+     */
+    public void disable() {
+        ttlNanos = 0;
+        invalidateAll();
+        refreshingPacketTypes.clear();
+    }
+
+    /**
+     * @return whether the cache is enabled
+     */
+    public boolean isEnabled() {
+        return ttlNanos > 0;
+    }
+
+    /**
+     * Gets cached response to the request with specified subtype. Packets of dedicated type requested by the subtype
+     * refresh the cache from now on.
+     * @param tinySubtype subtype of request packet
+     * @return packet received within time to live, or empty optional if there is no such packet or the cache
+     * is disabled
+     * @param <T> type of requested packet
+     */
+    public <T extends RequestablePacket> Optional<T> get(TinyRequestingSubtype<T> tinySubtype) {
+        var currentTtlNanos = ttlNanos;
+        if (currentTtlNanos <= 0 || !isCacheable(tinySubtype)) {
+            return Optional.empty();
+        }
+        var packetType = PacketType.fromPacketClass(tinySubtype.getRequestingPacketClass());
+        if (packetType != PacketType.SMALL) {
+            refreshingPacketTypes.putIfAbsent(packetType, tinySubtype);
+        }
+        var cachedPacket = cachedPackets.get(tinySubtype);
+        if (cachedPacket == null || System.nanoTime() - cachedPacket.receivedNanos > currentTtlNanos) {
+            return Optional.empty();
+        }
+        return Optional.of(tinySubtype.getRequestingPacketClass().cast(cachedPacket.packet));
+    }
+
+    /**
+     * Caches response to the request with specified subtype, if the cache is enabled.
+     * @param tinySubtype subtype of request packet
+     * @param packet received packet
+     * @param <T> type of requested packet
+     */
+    public <T extends RequestablePacket> void put(TinyRequestingSubtype<T> tinySubtype, T packet) {
+        if (isEnabled() && isCacheable(tinySubtype)) {
+            cachedPackets.put(tinySubtype, new CachedPacket(packet));
+        }
+    }
+
+    /**
+     * Refreshes the cache with specified received packet, if packets of its type have been requested before.
+     * @param packet packet received from LFS
+     */
+    public void refresh(InfoPacket packet) {
+        if (!isEnabled()) {
+            return;
+        }
+        var tinySubtype = refreshingPacketTypes.get(packet.getType());
+        if (tinySubtype != null) {
+            cachedPackets.put(tinySubtype, new CachedPacket(packet));
+        }
+    }
+
+    /**
+     * @param packetType packet type
+     * @return whether received packets of specified type refresh the cache
+     */
+    public boolean isRefreshedBy(PacketType packetType) {
+        return isEnabled() && refreshingPacketTypes.containsKey(packetType);
+    }
+
+    /**
+     * Removes cached response to the request with specified subtype, so that it is requested from LFS next time.
+     * @param tinySubtype subtype of request packet
+     */
+    public void invalidate(TinyRequestingSubtype<?> tinySubtype) {
+        cachedPackets.remove(tinySubtype);
+    }
+
+    /**
+     * Removes cached responses describing state that has gone away according to received {@link TinyPacket}
+     * with specified subtype:
+     * <ul>
+     *     <li>{@link TinySubtypes#MPE} - all responses except {@link TinySubtypes#VER}, {@link TinySubtypes#SCP}
+     *     and {@link TinySubtypes#GTH}</li>
+     *     <li>{@link TinySubtypes#REN} - {@link TinySubtypes#SST}, {@link TinySubtypes#NLP},
+     *     {@link TinySubtypes#REO} and {@link TinySubtypes#RIP}</li>
+     *     <li>{@link TinySubtypes#CLR} - {@link TinySubtypes#SST}, {@link TinySubtypes#NLP},
+     *     {@link TinySubtypes#REO} and {@link TinySubtypes#PLH}</li>
+     *     <li>{@link TinySubtypes#AXC} - {@link TinySubtypes#AXI}</li>
+     * </ul>
+     * Other subtypes do not invalidate anything.
+     * @param tinySubtype subtype of received packet
+     */
+    public void invalidateBy(TinySubtype tinySubtype) {
+        INVALIDATED_SUBTYPES.getOrDefault(tinySubtype, List.of()).forEach(cachedPackets::remove);
+    }
+
+    /**
+     * Removes all cached packets.
+     */
+    public void invalidateAll() {
+        cachedPackets.clear();
+    }
+
+    private static boolean isCacheable(TinyRequestingSubtype<?> tinySubtype) {
+        return tinySubtype.isSinglePacketResponse()
+                && PacketType.fromPacketClass(tinySubtype.getRequestingPacketClass()) != PacketType.TINY;
+    }
+
+    private static class CachedPacket {
+        private final InfoPacket packet;
+        private final long receivedNanos;
+
+        private CachedPacket(InfoPacket packet) {
+            this.packet = packet;
+            receivedNanos = System.nanoTime();
+        }
+    }
+}
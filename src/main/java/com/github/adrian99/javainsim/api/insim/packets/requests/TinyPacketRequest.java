@@ -22,6 +22,7 @@ import com.github.adrian99.javainsim.internal.insim.packets.base.RequestablePack
  */
 public class TinyPacketRequest<T extends RequestablePacket> extends AbstractPacketRequest<T> {
     private final TinyRequestingSubtype<T> tinySubtype;
+    private final boolean coalescing;
 
     /**
      * Creates packet request.
@@ -30,6 +31,22 @@ public class TinyPacketRequest<T extends RequestablePacket> extends AbstractPack
      * @param timeoutMillis period of time (in milliseconds) after which packet request should be considered timed out
      */
     public TinyPacketRequest(TinyRequestingSubtype<T> tinySubtype, PacketListener<T> callback, long timeoutMillis) {
+        this(tinySubtype, callback, timeoutMillis, false);
+    }
+
+    /**
+     * Creates packet request.
+     * @param tinySubtype subtype to be used in request packet
+     * @param callback method to be called when requested packet is received
+     * @param timeoutMillis period of time (in milliseconds) after which packet request should be considered timed out
+     * @param coalescing whether the packet request can share response with pending packet request
+     *                   of the same subtype, instead of sending another request packet - applies only to subtypes
+     *                   with single packet response, as LFS may answer other requests with no packets at all
+     */
+    public TinyPacketRequest(TinyRequestingSubtype<T> tinySubtype,
+                             PacketListener<T> callback,
+                             long timeoutMillis,
+                             boolean coalescing) {
         super(
                 LoggerFactory.getLogger(TinyPacketRequest.class),
                 PacketType.fromPacketClass(tinySubtype.getRequestingPacketClass()),
@@ -38,10 +55,16 @@ public class TinyPacketRequest<T extends RequestablePacket> extends AbstractPack
                 timeoutMillis
         );
         this.tinySubtype = tinySubtype;
+        this.coalescing = coalescing;
     }
 
     @Override
     protected InstructionPacket createRequestPacket(short reqI) {
         return new TinyPacket(reqI, tinySubtype);
     }
+
+    @Override
+    public Object getCoalescingKey() {
+        return coalescing && tinySubtype.isSinglePacketResponse() ? tinySubtype : null;
+    }
 }
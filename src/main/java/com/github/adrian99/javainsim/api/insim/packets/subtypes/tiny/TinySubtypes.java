@@ -36,9 +36,9 @@ public class TinySubtypes {
      */
     public static final TinySubtype CLOSE = new TinySubtype(2);
     /**
-     * 3 - ping request: external program requesting a reply
+     * 3 - ping request: external program requesting a reply (i.e. {@link #REPLY REPLY} {@link TinyPacket})
      */
-    public static final TinySubtype PING = new TinySubtype(3);
+    public static final TinyRequestingSubtype<TinyPacket> PING = new TinyRequestingSubtype<>(3, TinyPacket.class, true);
     /**
      * 4 - ping reply: reply to a ping request
      */
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.session;
+
+/**
+ * Immutable table of connections indexed by UCID. Modifying methods return new table, leaving this one unchanged.
+ */
+class ConnectionTable {
+    private final String[] userNames;
+    private final String[] nicknames;
+    private final boolean[] admins;
+    private final short[] ucids;
+
+    ConnectionTable() {
+        this(new String[SessionSnapshot.IDS_COUNT], new String[SessionSnapshot.IDS_COUNT],
+                new boolean[SessionSnapshot.IDS_COUNT]);
+    }
+
+    private ConnectionTable(String[] userNames, String[] nicknames, boolean[] admins) {
+        this.userNames = userNames;
+        this.nicknames = nicknames;
+        this.admins = admins;
+        ucids = SessionSnapshot.collectIds(ucid -> userNames[ucid] != null);
+    }
+
+    ConnectionTable with(int ucid, String userName, String nickname, boolean admin) {
+        var newUserNames = userNames.clone();
+        var newNicknames = nicknames.clone();
+        var newAdmins = admins.clone();
+        newUserNames[ucid] = userName;
+        newNicknames[ucid] = nickname;
+        newAdmins[ucid] = admin;
+        return new ConnectionTable(newUserNames, newNicknames, newAdmins);
+    }
+
+    ConnectionTable withNickname(int ucid, String nickname) {
+        if (userNames[ucid] == null) {
+            return this;
+        }
+        var newNicknames = nicknames.clone();
+        newNicknames[ucid] = nickname;
+        return new ConnectionTable(userNames, newNicknames, admins);
+    }
+
+    ConnectionTable without(int ucid) {
+        if (userNames[ucid] == null) {
+            return this;
+        }
+        return with(ucid, null, null, false);
+    }
+
+    boolean contains(int ucid) {
+        return userNames[ucid] != null;
+    }
+
+    String getUserName(int ucid) {
+        return userNames[ucid];
+    }
+
+    String getNickname(int ucid) {
+        return nicknames[ucid];
+    }
+
+    boolean isAdmin(int ucid) {
+        return admins[ucid];
+    }
+
+    short[] getUcids() {
+        return ucids;
+    }
+}
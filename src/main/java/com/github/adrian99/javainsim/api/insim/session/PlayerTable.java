@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.session;
+
+import com.github.adrian99.javainsim.api.common.structures.Car;
+
+import java.util.Arrays;
+
+/**
+ * Immutable table of players indexed by PLID. Modifying methods return new table, leaving this one unchanged.
+ */
+class PlayerTable {
+    private final short[] ucids;
+    private final String[] nicknames;
+    private final String[] plates;
+    private final Car[] cars;
+    private final short[] plids;
+
+    PlayerTable() {
+        this(createEmptyUcids(), new String[SessionSnapshot.IDS_COUNT], new String[SessionSnapshot.IDS_COUNT],
+                new Car[SessionSnapshot.IDS_COUNT]);
+    }
+
+    private PlayerTable(short[] ucids, String[] nicknames, String[] plates, Car[] cars) {
+        this.ucids = ucids;
+        this.nicknames = nicknames;
+        this.plates = plates;
+        this.cars = cars;
+        plids = SessionSnapshot.collectIds(plid -> ucids[plid] >= 0);
+    }
+
+    PlayerTable with(int plid, short ucid, String nickname, String plate, Car car) {
+        var newUcids = ucids.clone();
+        var newNicknames = nicknames.clone();
+        var newPlates = plates.clone();
+        var newCars = cars.clone();
+        newUcids[plid] = ucid;
+        newNicknames[plid] = nickname;
+        newPlates[plid] = plate;
+        newCars[plid] = car;
+        return new PlayerTable(newUcids, newNicknames, newPlates, newCars);
+    }
+
+    PlayerTable withUcid(int plid, short ucid) {
+        if (ucids[plid] < 0) {
+            return this;
+        }
+        var newUcids = ucids.clone();
+        newUcids[plid] = ucid;
+        return new PlayerTable(newUcids, nicknames, plates, cars);
+    }
+
+    PlayerTable withNameOfConnection(short ucid, String nickname, String plate) {
+        var newNicknames = nicknames.clone();
+        var newPlates = plates.clone();
+        for (var plid : plids) {
+            if (ucids[plid] == ucid) {
+                newNicknames[plid] = nickname;
+                newPlates[plid] = plate;
+            }
+        }
+        return new PlayerTable(ucids, newNicknames, newPlates, cars);
+    }
+
+    PlayerTable without(int plid) {
+        if (ucids[plid] < 0) {
+            return this;
+        }
+        return with(plid, (short) -1, null, null, null);
+    }
+
+    boolean contains(int plid) {
+        return ucids[plid] >= 0;
+    }
+
+    short getUcid(int plid) {
+        return ucids[plid];
+    }
+
+    String getNickname(int plid) {
+        return nicknames[plid];
+    }
+
+    String getPlate(int plid) {
+        return plates[plid];
+    }
+
+    Car getCar(int plid) {
+        return cars[plid];
+    }
+
+    short[] getPlids() {
+        return plids;
+    }
+
+    private static short[] createEmptyUcids() {
+        var emptyUcids = new short[SessionSnapshot.IDS_COUNT];
+        Arrays.fill(emptyUcids, (short) -1);
+        return emptyUcids;
+    }
+}
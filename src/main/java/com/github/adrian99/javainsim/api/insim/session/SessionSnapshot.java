@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.session;
+
+import com.github.adrian99.javainsim.api.common.structures.Car;
+import com.github.adrian99.javainsim.api.insim.packets.enums.RaceProgress;
+import com.github.adrian99.javainsim.api.insim.packets.structures.CompCar;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable, consistent view of the state of race session at single point in time, published by
+ * {@link SessionState}. Connections are identified by UCID and players by PLID - both from 0 to 255. Values
+ * are read directly from arrays indexed by these identifiers, so every query takes constant time. Snapshots
+ * share unchanged arrays with each other, so they can be kept at low cost.
+ */
+public class SessionSnapshot {
+    static final int IDS_COUNT = 256;
+    static final int SPLITS_COUNT = 3;
+    static final int POSITION_NODE = 0;
+    static final int POSITION_LAP = 1;
+    static final int POSITION_RACE_POSITION = 2;
+    static final int POSITION_X = 3;
+    static final int POSITION_Y = 4;
+    static final int POSITION_Z = 5;
+    static final int POSITION_SPEED = 6;
+    static final int POSITION_HEADING = 7;
+    static final int POSITION_STRIDE = 8;
+    static final int TIMING_LAPS_DONE = 0;
+    static final int TIMING_LAST_LAP_TIME = 1;
+    static final int TIMING_ELAPSED_TIME = 2;
+    static final int TIMING_SPLIT_TIMES = 3;
+    static final int TIMING_STRIDE = TIMING_SPLIT_TIMES + SPLITS_COUNT;
+    private final long version;
+    private final String track;
+    private final RaceProgress raceProgress;
+    private final ConnectionTable connections;
+    private final PlayerTable players;
+    private final int[] positions;
+    private final long[] timings;
+
+    SessionSnapshot(long version,
+                    String track,
+                    RaceProgress raceProgress,
+                    ConnectionTable connections,
+                    PlayerTable players,
+                    int[] positions,
+                    long[] timings) {
+        this.version = version;
+        this.track = track;
+        this.raceProgress = raceProgress;
+        this.connections = connections;
+        this.players = players;
+        this.positions = positions;
+        this.timings = timings;
+    }
+
+    /**
+     * @return version of the snapshot - incremented with every received packet that changed the state
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return short name of current track, or null if it is not known yet
+     */
+    public String getTrack() {
+        return track;
+    }
+
+    /**
+     * @return race progress, or null if it is not known yet
+     */
+    public RaceProgress getRaceProgress() {
+        return raceProgress;
+    }
+
+    /**
+     * @return count of connections, including host
+     */
+    public int getConnectionsCount() {
+        return connections.getUcids().length;
+    }
+
+    /**
+     * @return unique ids of all connections, in ascending order
+     */
+    public short[] getUcids() {
+        return connections.getUcids().clone();
+    }
+
+    /**
+     * @param ucid connection's unique id
+     * @return whether connection of specified id exists
+     */
+    public boolean isConnected(int ucid) {
+        return connections.contains(ucid);
+    }
+
+    /**
+     * @param ucid connection's unique id
+     * @return username of the connection, or null if it does not exist
+     */
+    public String getUserName(int ucid) {
+        return connections.getUserName(ucid);
+    }
+
+    /**
+     * @param ucid connection's unique id
+     * @return nickname of the connection, or null if it does not exist
+     */
+    public String getConnectionNickname(int ucid) {
+        return connections.getNickname(ucid);
+    }
+
+    /**
+     * @param ucid connection's unique id
+     * @return whether the connection is an admin
+     */
+    public boolean isAdmin(int ucid) {
+        return connections.isAdmin(ucid);
+    }
+
+    /**
+     * @return count of players in race
+     */
+    public int getPlayersCount() {
+        return players.getPlids().length;
+    }
+
+    /**
+     * @return unique ids of all players in race, in ascending order
+     */
+    public short[] getPlids() {
+        return players.getPlids().clone();
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return whether player of specified id is in race
+     */
+    public boolean isInRace(int plid) {
+        return players.contains(plid);
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return unique id of the connection controlling the player, or -1 if the player is not in race
+     */
+    public short getPlayerUcid(int plid) {
+        return players.getUcid(plid);
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return nickname of the player, or null if the player is not in race
+     */
+    public String getPlayerNickname(int plid) {
+        return players.getNickname(plid);
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return number plate of the player, or null if the player is not in race
+     */
+    public String getPlate(int plid) {
+        return players.getPlate(plid);
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return car of the player, or null if the player is not in race
+     */
+    public Car getCar(int plid) {
+        return players.getCar(plid);
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return current path node of the player (see {@link CompCar#getNode()}), or 0 if not known
+     */
+    public int getNode(int plid) {
+        return positions[plid * POSITION_STRIDE + POSITION_NODE];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return current lap of the player (see {@link CompCar#getLap()}), or 0 if not known
+     */
+    public int getLap(int plid) {
+        return positions[plid * POSITION_STRIDE + POSITION_LAP];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return current race position of the player (see {@link CompCar#getPosition()}), or 0 if not known
+     */
+    public int getRacePosition(int plid) {
+        return positions[plid * POSITION_STRIDE + POSITION_RACE_POSITION];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return X coordinate of the player's car (see {@link CompCar#getX()})
+     */
+    public int getX(int plid) {
+        return positions[plid * POSITION_STRIDE + POSITION_X];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return Y coordinate of the player's car (see {@link CompCar#getY()})
+     */
+    public int getY(int plid) {
+        return positions[plid * POSITION_STRIDE + POSITION_Y];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return Z coordinate of the player's car (see {@link CompCar#getZ()})
+     */
+    public int getZ(int plid) {
+        return positions[plid * POSITION_STRIDE + POSITION_Z];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return speed of the player's car (see {@link CompCar#getSpeed()})
+     */
+    public int getSpeed(int plid) {
+        return positions[plid * POSITION_STRIDE + POSITION_SPEED];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return heading of the player's car (see {@link CompCar#getHeading()})
+     */
+    public int getHeading(int plid) {
+        return positions[plid * POSITION_STRIDE + POSITION_HEADING];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return count of laps completed by the player in current race
+     */
+    public int getLapsDone(int plid) {
+        return (int) timings[plid * TIMING_STRIDE + TIMING_LAPS_DONE];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return time (in milliseconds) of the last lap completed by the player, or 0 if not known
+     */
+    public long getLastLapTime(int plid) {
+        return timings[plid * TIMING_STRIDE + TIMING_LAST_LAP_TIME];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @return total time (in milliseconds) elapsed in current race at the last lap or split reached by the player
+     */
+    public long getElapsedTime(int plid) {
+        return timings[plid * TIMING_STRIDE + TIMING_ELAPSED_TIME];
+    }
+
+    /**
+     * @param plid player's unique id
+     * @param split number of split - from 1 to 3
+     * @return time (in milliseconds) of specified split in current lap of the player, or 0 if it has not been
+     * reached yet
+     * @throws IllegalArgumentException if split number is out of range
+     */
+    public long getSplitTime(int plid, int split) {
+        if (split < 1 || split > SPLITS_COUNT) {
+            throw new IllegalArgumentException("Split number must be between 1 and " + SPLITS_COUNT);
+        }
+        return timings[plid * TIMING_STRIDE + TIMING_SPLIT_TIMES + split - 1];
+    }
+
+    static short[] collectIds(IntPredicate isPresent) {
+        var count = 0;
+        var ids = new short[IDS_COUNT];
+        for (var id = 0; id < IDS_COUNT; id++) {
+            if (isPresent.test(id)) {
+                ids[count++] = (short) id;
+            }
+        }
+        return count == IDS_COUNT ? ids : Arrays.copyOf(ids, count);
+    }
+}
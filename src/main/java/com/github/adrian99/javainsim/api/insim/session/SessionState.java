@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.session;
+
+import com.github.adrian99.javainsim.api.insim.packets.*;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.insim.packets.enums.RaceProgress;
+import com.github.adrian99.javainsim.api.insim.packets.flags.CompCarFlag;
+import com.github.adrian99.javainsim.api.insim.packets.structures.CompCar;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class maintains the state of race session - connections, players, their positions, laps and splits -
+ * updating it incrementally with packets received from LFS. After each change, new immutable
+ * {@link SessionSnapshot} is published, so that any thread can read consistent state without locks and without
+ * requesting any packets. Only arrays affected by the received packet are copied, while the rest are shared
+ * with the previous snapshot, and packets that do not change anything do not publish new snapshot. When positions
+ * of cars are sent in several {@link MciPacket} packets (more than 16 cars), they are published together once
+ * the last packet of the set is received (see {@link CompCarFlag#LAST}), so that a snapshot never holds a partially
+ * applied update.
+ */
+public class SessionState {
+    private static final Set<PacketType> UPDATING_PACKET_TYPES = EnumSet.of(
+            PacketType.NCN,
+            PacketType.CNL,
+            PacketType.CPR,
+            PacketType.NPL,
+            PacketType.PLL,
+            PacketType.TOC,
+            PacketType.LAP,
+            PacketType.SPX,
+            PacketType.MCI,
+            PacketType.STA,
+            PacketType.RST
+    );
+    private volatile SessionSnapshot snapshot;
+    private String track;
+    private RaceProgress raceProgress;
+    private ConnectionTable connections;
+    private PlayerTable players;
+    private int[] positions;
+    private int[] pendingPositions;
+    private boolean isPendingPositionsComplete;
+    private long[] timings;
+
+    /**
+     * Creates empty session state.
+     */
+    public SessionState() {
+        connections = new ConnectionTable();
+        players = new PlayerTable();
+        positions = new int[SessionSnapshot.IDS_COUNT * SessionSnapshot.POSITION_STRIDE];
+        timings = new long[SessionSnapshot.IDS_COUNT * SessionSnapshot.TIMING_STRIDE];
+        snapshot = new SessionSnapshot(0, track, raceProgress, connections, players, positions, timings);
+    }
+
+    /**
+     * @return the most recent snapshot of the state
+     */
+    public SessionSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @param packetType packet type
+     * @return whether received packets of specified type update the state
+     */
+    public boolean isUpdatedBy(PacketType packetType) {
+        return UPDATING_PACKET_TYPES.contains(packetType);
+    }
+
+    /**
+     * Updates the state with specified received packet and publishes new snapshot, if the state has changed.
+     * Packets of types that do not update the state are ignored. InSim connection calls this method for every
+     * received packet once the state has been enabled with
+     * {@link com.github.adrian99.javainsim.api.insim.InSimConnection#enableSessionState() enableSessionState} method.
+     * @param packet packet received from LFS
+     */
+    public synchronized void update(InfoPacket packet) {
+        var isChanged = switch (packet.getType()) {
+            case NCN -> handleNcnPacket((NcnPacket) packet);
+            case CNL -> handleCnlPacket((CnlPacket) packet);
+            case CPR -> handleCprPacket((CprPacket) packet);
+            case NPL -> handleNplPacket((NplPacket) packet);
+            case PLL -> removePlayer(((PllPacket) packet).getPlid());
+            case TOC -> handleTocPacket((TocPacket) packet);
+            case LAP -> handleLapPacket((LapPacket) packet);
+            case SPX -> handleSpxPacket((SpxPacket) packet);
+            case MCI -> handleMciPacket((MciPacket) packet);
+            case STA -> handleStaPacket((StaPacket) packet);
+            case RST -> handleRstPacket();
+            default -> false;
+        };
+        if (isChanged) {
+            snapshot = new SessionSnapshot(
+                    snapshot.getVersion() + 1,
+                    track,
+                    raceProgress,
+                    connections,
+                    players,
+                    positions,
+                    timings
+            );
+        }
+    }
+
+    private boolean handleNcnPacket(NcnPacket packet) {
+        connections = connections.with(packet.getUcid(), packet.getUName(), packet.getPName(), packet.isAdmin());
+        return true;
+    }
+
+    private boolean handleCnlPacket(CnlPacket packet) {
+        var isChanged = false;
+        for (var plid : players.getPlids()) {
+            if (players.getUcid(plid) == packet.getUcid()) {
+                isChanged |= removePlayer(plid);
+            }
+        }
+        if (connections.contains(packet.getUcid())) {
+            connections = connections.without(packet.getUcid());
+            isChanged = true;
+        }
+        return isChanged;
+    }
+
+    private boolean handleCprPacket(CprPacket packet) {
+        connections = connections.withNickname(packet.getUcid(), packet.getPName());
+        players = players.withNameOfConnection(packet.getUcid(), packet.getPName(), packet.getPlate());
+        return true;
+    }
+
+    private boolean handleNplPacket(NplPacket packet) {
+        if (packet.getNumP() == 0) {
+            return false;
+        }
+        players = players.with(packet.getPlid(), packet.getUcid(), packet.getPName(), packet.getPlate(),
+                packet.getCar());
+        return true;
+    }
+
+    private boolean handleTocPacket(TocPacket packet) {
+        if (!players.contains(packet.getPlid())) {
+            return false;
+        }
+        players = players.withUcid(packet.getPlid(), packet.getNewUcid());
+        return true;
+    }
+
+    private boolean handleLapPacket(LapPacket packet) {
+        timings = timings.clone();
+        var offset = packet.getPlid() * SessionSnapshot.TIMING_STRIDE;
+        timings[offset + SessionSnapshot.TIMING_LAPS_DONE] = packet.getLapsDone();
+        timings[offset + SessionSnapshot.TIMING_LAST_LAP_TIME] = packet.getLTime();
+        timings[offset + SessionSnapshot.TIMING_ELAPSED_TIME] = packet.getETime();
+        Arrays.fill(timings, offset + SessionSnapshot.TIMING_SPLIT_TIMES, offset + SessionSnapshot.TIMING_STRIDE, 0);
+        return true;
+    }
+
+    private boolean handleSpxPacket(SpxPacket packet) {
+        if (packet.getSplit() < 1 || packet.getSplit() > SessionSnapshot.SPLITS_COUNT) {
+            return false;
+        }
+        timings = timings.clone();
+        var offset = packet.getPlid() * SessionSnapshot.TIMING_STRIDE;
+        timings[offset + SessionSnapshot.TIMING_ELAPSED_TIME] = packet.getETime();
+        timings[offset + SessionSnapshot.TIMING_SPLIT_TIMES + packet.getSplit() - 1] = packet.getSTime();
+        return true;
+    }
+
+    private boolean handleMciPacket(MciPacket packet) {
+        packet.forEachCar(this::updatePendingPosition);
+        if (!isPendingPositionsComplete) {
+            return false;
+        }
+        positions = pendingPositions;
+        pendingPositions = null;
+        isPendingPositionsComplete = false;
+        return true;
+    }
+
+    private void updatePendingPosition(CompCar car) {
+        if (pendingPositions == null || car.getInfo().hasFlag(CompCarFlag.FIRST)) {
+            pendingPositions = positions.clone();
+        }
+        var offset = car.getPlid() * SessionSnapshot.POSITION_STRIDE;
+        pendingPositions[offset + SessionSnapshot.POSITION_NODE] = car.getNode();
+        pendingPositions[offset + SessionSnapshot.POSITION_LAP] = car.getLap();
+        pendingPositions[offset + SessionSnapshot.POSITION_RACE_POSITION] = car.getPosition();
+        pendingPositions[offset + SessionSnapshot.POSITION_X] = car.getX();
+        pendingPositions[offset + SessionSnapshot.POSITION_Y] = car.getY();
+        pendingPositions[offset + SessionSnapshot.POSITION_Z] = car.getZ();
+        pendingPositions[offset + SessionSnapshot.POSITION_SPEED] = car.getSpeed();
+        pendingPositions[offset + SessionSnapshot.POSITION_HEADING] = car.getHeading();
+        isPendingPositionsComplete |= car.getInfo().hasFlag(CompCarFlag.LAST);
+    }
+
+    private boolean handleStaPacket(StaPacket packet) {
+        if (Objects.equals(track, packet.getTrack()) && raceProgress == packet.getRaceInProg()) {
+            return false;
+        }
+        track = packet.getTrack();
+        raceProgress = packet.getRaceInProg();
+        return true;
+    }
+
+    private boolean handleRstPacket() {
+        if (Arrays.stream(timings).allMatch(timing -> timing == 0)) {
+            return false;
+        }
+        timings = new long[timings.length];
+        return true;
+    }
+
+    private boolean removePlayer(short plid) {
+        var positionsOffset = plid * SessionSnapshot.POSITION_STRIDE;
+        var timingsOffset = plid * SessionSnapshot.TIMING_STRIDE;
+        if (!players.contains(plid) &&
+                Arrays.stream(positions, positionsOffset, positionsOffset + SessionSnapshot.POSITION_STRIDE)
+                        .allMatch(position -> position == 0) &&
+                Arrays.stream(timings, timingsOffset, timingsOffset + SessionSnapshot.TIMING_STRIDE)
+                        .allMatch(timing -> timing == 0)) {
+            return false;
+        }
+        players = players.without(plid);
+        positions = positions.clone();
+        Arrays.fill(positions, positionsOffset, positionsOffset + SessionSnapshot.POSITION_STRIDE, 0);
+        if (pendingPositions != null) {
+            Arrays.fill(pendingPositions, positionsOffset, positionsOffset + SessionSnapshot.POSITION_STRIDE, 0);
+        }
+        timings = timings.clone();
+        Arrays.fill(timings, timingsOffset, timingsOffset + SessionSnapshot.TIMING_STRIDE, 0);
+        return true;
+    }
+}
@@ -8,8 +8,18 @@
 
 package com.github.adrian99.javainsim.api.outgauge;
 
+import com.github.adrian99.javainsim.api.common.ThreadFactories;
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import com.github.adrian99.javainsim.api.common.history.TelemetryHistory;
+import com.github.adrian99.javainsim.api.common.metrics.ConnectionMetrics;
+import com.github.adrian99.javainsim.api.common.recording.SessionRecorder;
+import com.github.adrian99.javainsim.api.common.recording.SessionReplay;
+import com.github.adrian99.javainsim.internal.common.flow.BufferedPublisher;
+import com.github.adrian99.javainsim.internal.common.util.ListenerArray;
 import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
 import com.github.adrian99.javainsim.internal.common.util.PacketDataBytes;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,20 +28,31 @@ import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.SocketException;
-import java.util.HashSet;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 /**
  * This class is responsible for OutGauge connection to LFS.
  */
 public class OutGaugeConnection implements Closeable {
+    private static final OutGaugeHistoryField[] HISTORY_FIELDS = OutGaugeHistoryField.values();
     private final Logger logger = LoggerFactory.getLogger(OutGaugeConnection.class);
     private final DatagramSocket serverSocket;
-    private final Set<Consumer<OutGaugePacket>> registeredListeners;
+    private final ListenerArray<Consumer<OutGaugePacket>> registeredListeners;
     private final ExecutorService listenerExecutor;
+    private final byte[] replayBuffer;
+    private final Set<BufferedPublisher<?>> publishers;
+    private volatile boolean isOpen = true;
+    private volatile TelemetryHistory<OutGaugeHistoryField> history;
+    private volatile SessionRecorder recorder;
+    private volatile ConnectionMetrics metrics = ConnectionMetrics.noOp();
 
     /**
      * Creates OutGauge connection.
@@ -39,25 +60,69 @@ public class OutGaugeConnection implements Closeable {
      * @throws SocketException if error occurs when creating a connection
      */
     public OutGaugeConnection(int port) throws SocketException {
+        this(port, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Creates OutGauge connection, which reads packets using thread created by specified thread factory,
+     * e.g. {@link ThreadFactories#virtual()}.
+     * @param port IP port - should match value from cfg.txt
+     * @param threadFactory factory of packet reading thread
+     * @throws SocketException if error occurs when creating a connection
+     */
+    public OutGaugeConnection(int port, ThreadFactory threadFactory) throws SocketException {
+        this(new DatagramSocket(port), threadFactory);
+    }
+
+    /**
+     * Creates OutGauge connection that is not connected to LFS, but receives OutGauge packets replayed
+     * by specified session replay. Listeners are called by the thread running the replay.
+     * @param sessionReplay replay of recorded session
+     */
+    public OutGaugeConnection(SessionReplay sessionReplay) {
+        this(null, null);
+        sessionReplay.addFrameSink(this::onReplayedFrame);
+    }
+
+    private OutGaugeConnection(DatagramSocket serverSocket, ThreadFactory threadFactory) {
         logger.debug("Creating OutGauge connection");
-        serverSocket = new DatagramSocket(port);
-        registeredListeners = new HashSet<>();
-        listenerExecutor = Executors.newSingleThreadExecutor();
-        listenerExecutor.submit(this::readIncomingPackets);
+        this.serverSocket = serverSocket;
+        registeredListeners = new ListenerArray<>(newListenersArray());
+        publishers = ConcurrentHashMap.newKeySet();
+        if (serverSocket != null) {
+            replayBuffer = null;
+            listenerExecutor = Executors.newSingleThreadExecutor(threadFactory);
+            listenerExecutor.submit(this::readIncomingPackets);
+        } else {
+            replayBuffer = new byte[OutGaugePacket.SIZE];
+            listenerExecutor = null;
+        }
     }
 
     @Override
     public void close() {
         logger.debug("Closing OutGauge connection");
-        listenerExecutor.shutdownNow();
-        serverSocket.close();
+        isOpen = false;
+        publishers.forEach(BufferedPublisher::complete);
+        if (serverSocket != null) {
+            listenerExecutor.shutdownNow();
+            serverSocket.close();
+        }
     }
 
     /**
      * @return whether OutGauge connection is alive
      */
     public boolean isConnected() {
-        return !serverSocket.isClosed();
+        return isOpen && (serverSocket == null || !serverSocket.isClosed());
+    }
+
+    /**
+     * @return IP port on which OutGauge packets are received (e.g. assigned by the system if the connection has been
+     * created with port 0), or -1 if the connection has been closed or receives packets replayed by session replay
+     */
+    public int getPort() {
+        return serverSocket != null ? serverSocket.getLocalPort() : -1;
     }
 
     /**
@@ -85,6 +150,104 @@ public class OutGaugeConnection implements Closeable {
         }
     }
 
+    /**
+     * Creates publisher of OutGauge packets, which passes them to its subscribers according to their demand.
+     * Each subscriber has its own buffer of up to {@link Constants#PUBLISHER_DEFAULT_BUFFER_SIZE} packets,
+     * after which the thread reading packets waits for space in the buffer. Subscribers are called by the thread
+     * reading packets or by the thread requesting more packets, never concurrently. All subscriptions are completed
+     * when the connection is closed.
+     * @return publisher of OutGauge packets
+     */
+    public Flow.Publisher<OutGaugePacket> publisher() {
+        return publisher(Constants.PUBLISHER_DEFAULT_BUFFER_SIZE, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates publisher of OutGauge packets, which passes them to its subscribers according to their demand.
+     * Each subscriber has its own buffer of specified size, and when it is full, specified overflow policy is applied.
+     * Subscribers are called by the thread reading packets or by the thread requesting more packets,
+     * never concurrently. All subscriptions are completed when the connection is closed.
+     * @param bufferSize maximum count of packets waiting for demand of single subscriber
+     * @param overflowPolicy behavior when packet is received while buffer of subscriber is full
+     * @return publisher of OutGauge packets
+     */
+    public Flow.Publisher<OutGaugePacket> publisher(int bufferSize, OverflowPolicy overflowPolicy) {
+        var publisher = new BufferedPublisher<OutGaugePacket>(bufferSize, overflowPolicy, packetListener -> {
+            listen(packetListener);
+            return () -> stopListening(packetListener);
+        });
+        publishers.add(publisher);
+        if (!isOpen) {
+            publisher.complete();
+        }
+        return publisher;
+    }
+
+    /**
+     * Starts recording received OutGauge packets in {@link TelemetryHistory}, which keeps specified count of
+     * the most recent packets in off-heap memory and allows to query them by time range. If history has already
+     * been enabled, it is replaced by the new one.
+     * @param capacity maximum count of packets stored in history
+     * @return created history
+     */
+    public synchronized TelemetryHistory<OutGaugeHistoryField> enableHistory(int capacity) {
+        logger.debug("Enabling OutGauge history");
+        history = new TelemetryHistory<>(OutGaugeHistoryField.class, capacity);
+        return history;
+    }
+
+    /**
+     * Stops recording received OutGauge packets in history enabled using {@link #enableHistory} method.
+     * Samples recorded so far remain available in the history.
+     */
+    public synchronized void disableHistory() {
+        logger.debug("Disabling OutGauge history");
+        history = null;
+    }
+
+    /**
+     * @return history of received OutGauge packets, if it has been enabled using {@link #enableHistory} method,
+     * otherwise null
+     */
+    public TelemetryHistory<OutGaugeHistoryField> getHistory() {
+        return history;
+    }
+
+    /**
+     * Starts recording raw bytes of received OutGauge packets using specified session recorder. If recording
+     * has already been started, specified recorder replaces the previous one.
+     * @param sessionRecorder recorder of received packets
+     */
+    public void startRecording(SessionRecorder sessionRecorder) {
+        logger.debug("Starting recording OutGauge packets");
+        recorder = sessionRecorder;
+    }
+
+    /**
+     * Stops recording received packets, if it has been started before using {@link #startRecording} method.
+     * The recorder is not closed.
+     */
+    public void stopRecording() {
+        logger.debug("Stopping recording OutGauge packets");
+        recorder = null;
+    }
+
+    /**
+     * Sets metrics notified about received OutGauge packets and durations of their decoding and listeners.
+     * By default, {@link ConnectionMetrics#noOp() no-op metrics} are used.
+     * @param connectionMetrics metrics of the connection
+     */
+    public void setMetrics(ConnectionMetrics connectionMetrics) {
+        metrics = Objects.requireNonNull(connectionMetrics);
+    }
+
+    /**
+     * @return metrics of the connection
+     */
+    public ConnectionMetrics getMetrics() {
+        return metrics;
+    }
+
     private void readIncomingPackets() {
         logger.debug("Started packet reading thread");
         try {
@@ -92,11 +255,7 @@ public class OutGaugeConnection implements Closeable {
             var datagramPacket = new DatagramPacket(buffer, buffer.length);
             while (!serverSocket.isClosed()) {
                 serverSocket.receive(datagramPacket);
-                if (!registeredListeners.isEmpty()) {
-                    var packetDataBytes = new PacketDataBytes(buffer);
-                    var packet = new OutGaugePacket(packetDataBytes);
-                    handleReadPacket(packet);
-                }
+                handleReceivedBytes(buffer, datagramPacket.getLength());
             }
         } catch (IOException exception) {
             logger.error("Error occurred while reading OutGauge packet: {}", exception.getMessage());
@@ -105,8 +264,52 @@ public class OutGaugeConnection implements Closeable {
         logger.debug("Stopping packet reading thread");
     }
 
+    private void onReplayedFrame(FrameSource source, ByteBuffer frameBytes) {
+        if (source != FrameSource.OUTGAUGE || !isOpen) {
+            return;
+        }
+        var length = frameBytes.remaining();
+        if (length > OutGaugePacket.SIZE) {
+            logger.debug("Replayed OutGauge packet of unexpected size - skipping");
+            metrics.onDatagramDropped(FrameSource.OUTGAUGE);
+            return;
+        }
+        try {
+            frameBytes.get(replayBuffer, 0, length);
+            handleReceivedBytes(replayBuffer, length);
+        } catch (Exception exception) {
+            logger.error("Error occurred while reading replayed OutGauge packet: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "reading replayed OutGauge packet", exception);
+        }
+    }
+
+    private void handleReceivedBytes(byte[] buffer, int length) {
+        var currentMetrics = metrics;
+        currentMetrics.onDatagramReceived(FrameSource.OUTGAUGE, length);
+        var currentRecorder = recorder;
+        if (currentRecorder != null) {
+            recordPacket(currentRecorder, buffer, length);
+        }
+        var currentHistory = history;
+        if (!registeredListeners.isEmpty() || currentHistory != null) {
+            var isTimingEnabled = currentMetrics.isTimingEnabled();
+            var decodeStartTime = isTimingEnabled ? System.nanoTime() : 0;
+            var packetDataBytes = new PacketDataBytes(buffer);
+            var packet = new OutGaugePacket(packetDataBytes);
+            var listenersStartTime = isTimingEnabled ? System.nanoTime() : 0;
+            handleReadPacket(packet);
+            if (isTimingEnabled) {
+                currentMetrics.onDatagramDecoded(FrameSource.OUTGAUGE, listenersStartTime - decodeStartTime);
+                currentMetrics.onDatagramListenerCalled(FrameSource.OUTGAUGE, System.nanoTime() - listenersStartTime);
+            }
+            if (currentHistory != null) {
+                recordHistory(currentHistory, packet);
+            }
+        }
+    }
+
     private void handleReadPacket(OutGaugePacket packet) {
-        for (var packetListener : registeredListeners) {
+        for (var packetListener : registeredListeners.get()) {
             try {
                 packetListener.accept(packet);
             } catch (Exception exception) {
@@ -115,4 +318,26 @@ public class OutGaugeConnection implements Closeable {
             }
         }
     }
+
+    private void recordHistory(TelemetryHistory<OutGaugeHistoryField> history, OutGaugePacket packet) {
+        history.beginSample(packet.getTime());
+        for (var field : HISTORY_FIELDS) {
+            field.record(history, packet);
+        }
+        history.endSample();
+    }
+
+    private void recordPacket(SessionRecorder sessionRecorder, byte[] buffer, int length) {
+        try {
+            sessionRecorder.record(FrameSource.OUTGAUGE, buffer, 0, length);
+        } catch (Exception exception) {
+            logger.error("Error occurred while recording OutGauge packet: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "recording OutGauge packet", exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<OutGaugePacket>[] newListenersArray() {
+        return new Consumer[0];
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.outgauge;
+
+import com.github.adrian99.javainsim.api.common.history.TelemetryField;
+import com.github.adrian99.javainsim.api.common.history.TelemetryHistory;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Fields of OutGauge packet stored in {@link TelemetryHistory} - see {@link OutGaugeConnection#enableHistory}.
+ */
+public enum OutGaugeHistoryField implements TelemetryField {
+    /** OutGauge flags */
+    FLAGS(true, packet -> packet.getFlags().getUnsignedValue()),
+    /** Gear - reverse: 0, neutral: 1, first: 2... */
+    GEAR(true, OutGaugePacket::getGear),
+    /** Unique ID of viewed player (0 = none) */
+    PLID(true, OutGaugePacket::getPlid),
+    /** Speed - m/s */
+    SPEED(false, OutGaugePacket::getSpeed),
+    /** RPM */
+    RPM(false, OutGaugePacket::getRpm),
+    /** Turbo - bar */
+    TURBO(false, OutGaugePacket::getTurbo),
+    /** Engine temperature - C */
+    ENG_TEMP(false, OutGaugePacket::getEngTemp),
+    /** Fuel - 0 to 1 */
+    FUEL(false, OutGaugePacket::getFuel),
+    /** Oil pressure - bar */
+    OIL_PRESSURE(false, OutGaugePacket::getOilPressure),
+    /** Oil temperature - C */
+    OIL_TEMP(false, OutGaugePacket::getOilTemp),
+    /** Dash lights available */
+    DASH_LIGHTS(true, packet -> packet.getDashLights().getUnsignedValue()),
+    /** Dash lights currently switched on */
+    SHOW_LIGHTS(true, packet -> packet.getShowLights().getUnsignedValue()),
+    /** Throttle - 0 to 1 */
+    THROTTLE(false, OutGaugePacket::getThrottle),
+    /** Brake - 0 to 1 */
+    BRAKE(false, OutGaugePacket::getBrake),
+    /** Clutch - 0 to 1 */
+    CLUTCH(false, OutGaugePacket::getClutch);
+
+    private final boolean integer;
+    private final ToDoubleFunction<OutGaugePacket> valueReader;
+
+    OutGaugeHistoryField(boolean integer, ToDoubleFunction<OutGaugePacket> valueReader) {
+        this.integer = integer;
+        this.valueReader = valueReader;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return integer;
+    }
+
+    void record(TelemetryHistory<OutGaugeHistoryField> history, OutGaugePacket packet) {
+        var value = valueReader.applyAsDouble(packet);
+        if (integer) {
+            history.setInt(this, (int) (long) value);
+        } else {
+            history.setFloat(this, (float) value);
+        }
+    }
+}
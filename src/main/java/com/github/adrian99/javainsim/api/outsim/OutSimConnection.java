@@ -8,10 +8,20 @@
 
 package com.github.adrian99.javainsim.api.outsim;
 
+import com.github.adrian99.javainsim.api.common.ThreadFactories;
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import com.github.adrian99.javainsim.api.common.history.TelemetryHistory;
+import com.github.adrian99.javainsim.api.common.metrics.ConnectionMetrics;
+import com.github.adrian99.javainsim.api.common.recording.SessionRecorder;
+import com.github.adrian99.javainsim.api.common.recording.SessionReplay;
 import com.github.adrian99.javainsim.api.outsim.flags.OutSimOpts;
 import com.github.adrian99.javainsim.api.outsim.structures.*;
+import com.github.adrian99.javainsim.internal.common.flow.BufferedPublisher;
+import com.github.adrian99.javainsim.internal.common.util.ListenerArray;
 import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
 import com.github.adrian99.javainsim.internal.common.util.PacketDataBytes;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.github.adrian99.javainsim.api.common.flags.Flags;
@@ -21,23 +31,36 @@ import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.SocketException;
-import java.util.HashSet;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 /**
  * This class is responsible for OutSim connection to LFS.
  */
 public class OutSimConnection implements Closeable {
+    private static final OutSimHistoryField[] HISTORY_FIELDS = OutSimHistoryField.values();
     private final Logger logger = LoggerFactory.getLogger(OutSimConnection.class);
     private final DatagramSocket serverSocket;
     private final Flags<OutSimOpts> opts;
     private final boolean outSimPack2Requested;
     private final short packetSize;
-    private final Set<Consumer<OutSimPacket2>> registeredListeners;
+    private final ListenerArray<Consumer<OutSimPacket2>> registeredListeners;
+    private final ListenerArray<Consumer<OutSimPacketView>> registeredViewListeners;
     private final ExecutorService listenerExecutor;
+    private final byte[] replayBuffer;
+    private final OutSimPacketView replayPacketView;
+    private final Set<BufferedPublisher<?>> publishers;
+    private volatile boolean isOpen = true;
+    private volatile TelemetryHistory<OutSimHistoryField> history;
+    private volatile SessionRecorder recorder;
+    private volatile ConnectionMetrics metrics = ConnectionMetrics.noOp();
 
     /**
      * Creates OutSim connection.
@@ -56,8 +79,35 @@ public class OutSimConnection implements Closeable {
      * @throws SocketException if error occurs when creating a connection
      */
     public OutSimConnection(int port, Flags<OutSimOpts> opts) throws SocketException {
+        this(port, opts, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Creates OutSim connection, which reads packets using thread created by specified thread factory,
+     * e.g. {@link ThreadFactories#virtual()}.
+     * @param port IP port - should match value from cfg.txt
+     * @param opts OutSim options - should match value from cfg.txt
+     * @param threadFactory factory of packet reading thread
+     * @throws SocketException if error occurs when creating a connection
+     */
+    public OutSimConnection(int port, Flags<OutSimOpts> opts, ThreadFactory threadFactory) throws SocketException {
+        this(new DatagramSocket(port), opts, threadFactory);
+    }
+
+    /**
+     * Creates OutSim connection that is not connected to LFS, but receives OutSim packets replayed by specified
+     * session replay. Listeners are called by the thread running the replay.
+     * @param sessionReplay replay of recorded session
+     * @param opts OutSim options - should match value from cfg.txt at the time of recording
+     */
+    public OutSimConnection(SessionReplay sessionReplay, Flags<OutSimOpts> opts) {
+        this(null, opts, null);
+        sessionReplay.addFrameSink(this::onReplayedFrame);
+    }
+
+    private OutSimConnection(DatagramSocket serverSocket, Flags<OutSimOpts> opts, ThreadFactory threadFactory) {
         logger.debug("Creating OutSim connection");
-        serverSocket = new DatagramSocket(port);
+        this.serverSocket = serverSocket;
         this.opts = opts;
         if (opts.getUnsignedValue() > 0) {
             outSimPack2Requested = true;
@@ -66,23 +116,46 @@ public class OutSimConnection implements Closeable {
             outSimPack2Requested = false;
             packetSize = OutSimTime.SIZE + OutSimMain.SIZE + OutSimId.SIZE;
         }
-        registeredListeners = new HashSet<>();
-        listenerExecutor = Executors.newSingleThreadExecutor();
-        listenerExecutor.submit(this::readIncomingPackets);
+        registeredListeners = new ListenerArray<>(newListenersArray());
+        registeredViewListeners = new ListenerArray<>(newViewListenersArray());
+        publishers = ConcurrentHashMap.newKeySet();
+        if (serverSocket != null) {
+            replayBuffer = null;
+            replayPacketView = null;
+            listenerExecutor = Executors.newSingleThreadExecutor(threadFactory);
+            listenerExecutor.submit(this::readIncomingPackets);
+        } else {
+            replayBuffer = new byte[packetSize];
+            replayPacketView = new OutSimPacketView(opts, outSimPack2Requested);
+            replayPacketView.wrap(replayBuffer);
+            listenerExecutor = null;
+        }
     }
 
     @Override
     public void close() {
         logger.debug("Closing OutSim connection");
-        listenerExecutor.shutdownNow();
-        serverSocket.close();
+        isOpen = false;
+        publishers.forEach(BufferedPublisher::complete);
+        if (serverSocket != null) {
+            listenerExecutor.shutdownNow();
+            serverSocket.close();
+        }
     }
 
     /**
      * @return whether OutSim connection is alive
      */
     public boolean isConnected() {
-        return !serverSocket.isClosed();
+        return isOpen && (serverSocket == null || !serverSocket.isClosed());
+    }
+
+    /**
+     * @return IP port on which OutSim packets are received (e.g. assigned by the system if the connection has been
+     * created with port 0), or -1 if the connection has been closed or receives packets replayed by session replay
+     */
+    public int getPort() {
+        return serverSocket != null ? serverSocket.getLocalPort() : -1;
     }
 
     /**
@@ -110,6 +183,136 @@ public class OutSimConnection implements Closeable {
         }
     }
 
+    /**
+     * Registers packet view listener - a function that will be called each time the OutSim packet
+     * will be received from LFS, with {@link OutSimPacketView} reading values directly from the receive buffer.
+     * The same view instance is passed for every packet, so it must not be used after the listener returns.
+     * Unlike {@link #listen}, no objects are allocated per packet. It is possible to register multiple listeners,
+     * however duplicate listeners will be ignored. It is possible to unregister packet view listeners later on -
+     * see {@link #stopListeningView} method.
+     * @param packetViewListener function that will be called each time the OutSim packet is received from LFS
+     */
+    public void listenView(Consumer<OutSimPacketView> packetViewListener) {
+        if (packetViewListener != null) {
+            logger.debug("Registering OutSim view listener");
+            registeredViewListeners.add(packetViewListener);
+        }
+    }
+
+    /**
+     * Unregisters specified packet view listener, if it has been registered before using {@link #listenView} method.
+     * @param packetViewListener function that was called each time the OutSim packet was received from LFS
+     */
+    public void stopListeningView(Consumer<OutSimPacketView> packetViewListener) {
+        if (packetViewListener != null) {
+            logger.debug("Unregistering OutSim view listener");
+            registeredViewListeners.remove(packetViewListener);
+        }
+    }
+
+    /**
+     * Creates publisher of OutSim packets, which passes them to its subscribers according to their demand.
+     * Each subscriber has its own buffer of up to {@link Constants#PUBLISHER_DEFAULT_BUFFER_SIZE} packets,
+     * after which the thread reading packets waits for space in the buffer. Subscribers are called by the thread
+     * reading packets or by the thread requesting more packets, never concurrently. All subscriptions are completed
+     * when the connection is closed.
+     * @return publisher of OutSim packets
+     */
+    public Flow.Publisher<OutSimPacket2> publisher() {
+        return publisher(Constants.PUBLISHER_DEFAULT_BUFFER_SIZE, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates publisher of OutSim packets, which passes them to its subscribers according to their demand.
+     * Each subscriber has its own buffer of specified size, and when it is full, specified overflow policy is applied.
+     * Subscribers are called by the thread reading packets or by the thread requesting more packets,
+     * never concurrently. All subscriptions are completed when the connection is closed.
+     * @param bufferSize maximum count of packets waiting for demand of single subscriber
+     * @param overflowPolicy behavior when packet is received while buffer of subscriber is full
+     * @return publisher of OutSim packets
+     */
+    public Flow.Publisher<OutSimPacket2> publisher(int bufferSize, OverflowPolicy overflowPolicy) {
+        var publisher = new BufferedPublisher<OutSimPacket2>(bufferSize, overflowPolicy, packetListener -> {
+            listen(packetListener);
+            return () -> stopListening(packetListener);
+        });
+        publishers.add(publisher);
+        if (!isOpen) {
+            publisher.complete();
+        }
+        return publisher;
+    }
+
+    /**
+     * Starts recording received OutSim packets in {@link TelemetryHistory}, which keeps specified count of
+     * the most recent packets in off-heap memory and allows to query them by time range. Only fields present
+     * in received packets (according to OutSim options) are recorded. If history has already been enabled,
+     * it is replaced by the new one.
+     * @param capacity maximum count of packets stored in history
+     * @return created history
+     * @throws IllegalStateException if OutSim options do not include time
+     */
+    public synchronized TelemetryHistory<OutSimHistoryField> enableHistory(int capacity) {
+        if (!new OutSimPacketView(opts, outSimPack2Requested).hasTime()) {
+            throw new IllegalStateException("OutSim history requires time to be included in OutSim packets");
+        }
+        logger.debug("Enabling OutSim history");
+        history = new TelemetryHistory<>(OutSimHistoryField.class, capacity);
+        return history;
+    }
+
+    /**
+     * Stops recording received OutSim packets in history enabled using {@link #enableHistory} method.
+     * Samples recorded so far remain available in the history.
+     */
+    public synchronized void disableHistory() {
+        logger.debug("Disabling OutSim history");
+        history = null;
+    }
+
+    /**
+     * @return history of received OutSim packets, if it has been enabled using {@link #enableHistory} method,
+     * otherwise null
+     */
+    public TelemetryHistory<OutSimHistoryField> getHistory() {
+        return history;
+    }
+
+    /**
+     * Starts recording raw bytes of received OutSim packets using specified session recorder. If recording
+     * has already been started, specified recorder replaces the previous one.
+     * @param sessionRecorder recorder of received packets
+     */
+    public void startRecording(SessionRecorder sessionRecorder) {
+        logger.debug("Starting recording OutSim packets");
+        recorder = sessionRecorder;
+    }
+
+    /**
+     * Stops recording received packets, if it has been started before using {@link #startRecording} method.
+     * The recorder is not closed.
+     */
+    public void stopRecording() {
+        logger.debug("Stopping recording OutSim packets");
+        recorder = null;
+    }
+
+    /**
+     * Sets metrics notified about received OutSim packets and durations of their decoding and listeners.
+     * By default, {@link ConnectionMetrics#noOp() no-op metrics} are used.
+     * @param connectionMetrics metrics of the connection
+     */
+    public void setMetrics(ConnectionMetrics connectionMetrics) {
+        metrics = Objects.requireNonNull(connectionMetrics);
+    }
+
+    /**
+     * @return metrics of the connection
+     */
+    public ConnectionMetrics getMetrics() {
+        return metrics;
+    }
+
     private short calculateOutSimPack2Size() {
         var size = 0;
         if (opts.hasFlag(OutSimOpts.HEADER)) {
@@ -147,15 +350,11 @@ public class OutSimConnection implements Closeable {
         try {
             var buffer = new byte[packetSize];
             var datagramPacket = new DatagramPacket(buffer, buffer.length);
+            var packetView = new OutSimPacketView(opts, outSimPack2Requested);
+            packetView.wrap(buffer);
             while (!serverSocket.isClosed()) {
                 serverSocket.receive(datagramPacket);
-                if (!registeredListeners.isEmpty()) {
-                    var packetDataBytes = new PacketDataBytes(buffer);
-                    var packet = outSimPack2Requested ?
-                            new OutSimPacket2(opts, packetDataBytes) :
-                            new OutSimPacket2(packetDataBytes);
-                    handleReadPacket(packet);
-                }
+                handleReceivedBytes(buffer, datagramPacket.getLength(), packetView);
             }
             logger.error("Lost connection to LFS");
         } catch (IOException exception) {
@@ -165,8 +364,59 @@ public class OutSimConnection implements Closeable {
         logger.debug("Stopping packet reading thread");
     }
 
+    private void onReplayedFrame(FrameSource source, ByteBuffer frameBytes) {
+        if (source != FrameSource.OUTSIM || !isOpen) {
+            return;
+        }
+        if (frameBytes.remaining() != packetSize) {
+            logger.debug("Replayed OutSim packet of unexpected size - skipping");
+            metrics.onDatagramDropped(FrameSource.OUTSIM);
+            return;
+        }
+        try {
+            frameBytes.get(replayBuffer);
+            handleReceivedBytes(replayBuffer, packetSize, replayPacketView);
+        } catch (Exception exception) {
+            logger.error("Error occurred while reading replayed OutSim packet: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "reading replayed OutSim packet", exception);
+        }
+    }
+
+    private void handleReceivedBytes(byte[] buffer, int length, OutSimPacketView packetView) {
+        var currentMetrics = metrics;
+        currentMetrics.onDatagramReceived(FrameSource.OUTSIM, length);
+        var currentRecorder = recorder;
+        if (currentRecorder != null) {
+            recordPacket(currentRecorder, buffer, length);
+        }
+        var isTimingEnabled = currentMetrics.isTimingEnabled();
+        var viewListenersStartTime = isTimingEnabled ? System.nanoTime() : 0;
+        handleReadPacketView(packetView);
+        var listenersDuration = isTimingEnabled ? System.nanoTime() - viewListenersStartTime : 0;
+        var currentHistory = history;
+        if (currentHistory != null) {
+            recordHistory(currentHistory, packetView);
+        }
+        if (!registeredListeners.isEmpty()) {
+            var decodeStartTime = isTimingEnabled ? System.nanoTime() : 0;
+            var packetDataBytes = new PacketDataBytes(buffer);
+            var packet = outSimPack2Requested ?
+                    new OutSimPacket2(opts, packetDataBytes) :
+                    new OutSimPacket2(packetDataBytes);
+            var listenersStartTime = isTimingEnabled ? System.nanoTime() : 0;
+            handleReadPacket(packet);
+            if (isTimingEnabled) {
+                currentMetrics.onDatagramDecoded(FrameSource.OUTSIM, listenersStartTime - decodeStartTime);
+                listenersDuration += System.nanoTime() - listenersStartTime;
+            }
+        }
+        if (isTimingEnabled) {
+            currentMetrics.onDatagramListenerCalled(FrameSource.OUTSIM, listenersDuration);
+        }
+    }
+
     private void handleReadPacket(OutSimPacket2 packet) {
-        for (var packetListener : registeredListeners) {
+        for (var packetListener : registeredListeners.get()) {
             try {
                 packetListener.accept(packet);
             } catch (Exception exception) {
@@ -175,4 +425,44 @@ public class OutSimConnection implements Closeable {
             }
         }
     }
+
+    private void handleReadPacketView(OutSimPacketView packetView) {
+        for (var packetViewListener : registeredViewListeners.get()) {
+            try {
+                packetViewListener.accept(packetView);
+            } catch (Exception exception) {
+                logger.error("Error occurred in packet view listener callback: {}", exception.getMessage());
+                LoggerUtils.logStacktrace(logger, "view listener callback", exception);
+            }
+        }
+    }
+
+    private void recordHistory(TelemetryHistory<OutSimHistoryField> history, OutSimPacketView packetView) {
+        history.beginSample(packetView.getTime());
+        for (var field : HISTORY_FIELDS) {
+            if (field.isPresent(packetView)) {
+                field.record(history, packetView);
+            }
+        }
+        history.endSample();
+    }
+
+    private void recordPacket(SessionRecorder sessionRecorder, byte[] buffer, int length) {
+        try {
+            sessionRecorder.record(FrameSource.OUTSIM, buffer, 0, length);
+        } catch (Exception exception) {
+            logger.error("Error occurred while recording OutSim packet: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "recording OutSim packet", exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<OutSimPacket2>[] newListenersArray() {
+        return new Consumer[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<OutSimPacketView>[] newViewListenersArray() {
+        return new Consumer[0];
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.outsim;
+
+import com.github.adrian99.javainsim.api.common.history.TelemetryField;
+import com.github.adrian99.javainsim.api.common.history.TelemetryHistory;
+
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Fields of OutSim packet stored in {@link TelemetryHistory} - see {@link OutSimConnection#enableHistory}.
+ * Fields are recorded only if they are present in received packets, according to OutSim options.
+ */
+public enum OutSimHistoryField implements TelemetryField {
+    /** Angular velocity along X axis */
+    ANG_VEL_X(false, OutSimPacketView::hasMain, view -> view.getAngVel(0)),
+    /** Angular velocity along Y axis */
+    ANG_VEL_Y(false, OutSimPacketView::hasMain, view -> view.getAngVel(1)),
+    /** Angular velocity along Z axis */
+    ANG_VEL_Z(false, OutSimPacketView::hasMain, view -> view.getAngVel(2)),
+    /** Heading - anticlockwise from above (Z) */
+    HEADING(false, OutSimPacketView::hasMain, OutSimPacketView::getHeading),
+    /** Pitch - anticlockwise from right (X) */
+    PITCH(false, OutSimPacketView::hasMain, OutSimPacketView::getPitch),
+    /** Roll - anticlockwise from front (Y) */
+    ROLL(false, OutSimPacketView::hasMain, OutSimPacketView::getRoll),
+    /** Acceleration along X axis */
+    ACCEL_X(false, OutSimPacketView::hasMain, view -> view.getAccel(0)),
+    /** Acceleration along Y axis */
+    ACCEL_Y(false, OutSimPacketView::hasMain, view -> view.getAccel(1)),
+    /** Acceleration along Z axis */
+    ACCEL_Z(false, OutSimPacketView::hasMain, view -> view.getAccel(2)),
+    /** Velocity along X axis */
+    VEL_X(false, OutSimPacketView::hasMain, view -> view.getVel(0)),
+    /** Velocity along Y axis */
+    VEL_Y(false, OutSimPacketView::hasMain, view -> view.getVel(1)),
+    /** Velocity along Z axis */
+    VEL_Z(false, OutSimPacketView::hasMain, view -> view.getVel(2)),
+    /** Position along X axis (1m = 65536) */
+    POS_X(true, OutSimPacketView::hasMain, view -> view.getPos(0)),
+    /** Position along Y axis (1m = 65536) */
+    POS_Y(true, OutSimPacketView::hasMain, view -> view.getPos(1)),
+    /** Position along Z axis (1m = 65536) */
+    POS_Z(true, OutSimPacketView::hasMain, view -> view.getPos(2)),
+    /** Throttle - 0 to 1 */
+    THROTTLE(false, OutSimPacketView::hasInputs, OutSimPacketView::getThrottle),
+    /** Brake - 0 to 1 */
+    BRAKE(false, OutSimPacketView::hasInputs, OutSimPacketView::getBrake),
+    /** Steering - radians */
+    INPUT_STEER(false, OutSimPacketView::hasInputs, OutSimPacketView::getInputSteer),
+    /** Clutch - 0 to 1 */
+    CLUTCH(false, OutSimPacketView::hasInputs, OutSimPacketView::getClutch),
+    /** Handbrake - 0 to 1 */
+    HANDBRAKE(false, OutSimPacketView::hasInputs, OutSimPacketView::getHandbrake),
+    /** Gear - 0=R, 1=N, 2=first gear */
+    GEAR(true, OutSimPacketView::hasDrive, OutSimPacketView::getGear),
+    /** Engine angular velocity - radians/s */
+    ENGINE_ANG_VEL(false, OutSimPacketView::hasDrive, OutSimPacketView::getEngineAngVel),
+    /** Maximum torque at velocity - Nm : output torque for throttle 1.0 */
+    MAX_TORQUE_AT_VEL(false, OutSimPacketView::hasDrive, OutSimPacketView::getMaxTorqueAtVel),
+    /** Current lap distance - m travelled by car */
+    CURRENT_LAP_DIST(false, OutSimPacketView::hasDistance, OutSimPacketView::getCurrentLapDist),
+    /** Indexed distance - m track ruler measurement */
+    INDEXED_DISTANCE(false, OutSimPacketView::hasDistance, OutSimPacketView::getIndexedDistance),
+    /** Vertical load of left rear wheel */
+    LEFT_REAR_VERTICAL_LOAD(false, OutSimPacketView::hasWheels, view -> view.getWheelVerticalLoad(0)),
+    /** Vertical load of right rear wheel */
+    RIGHT_REAR_VERTICAL_LOAD(false, OutSimPacketView::hasWheels, view -> view.getWheelVerticalLoad(1)),
+    /** Vertical load of left front wheel */
+    LEFT_FRONT_VERTICAL_LOAD(false, OutSimPacketView::hasWheels, view -> view.getWheelVerticalLoad(2)),
+    /** Vertical load of right front wheel */
+    RIGHT_FRONT_VERTICAL_LOAD(false, OutSimPacketView::hasWheels, view -> view.getWheelVerticalLoad(3)),
+    /** Slip ratio of left rear wheel */
+    LEFT_REAR_SLIP_RATIO(false, OutSimPacketView::hasWheels, view -> view.getWheelSlipRatio(0)),
+    /** Slip ratio of right rear wheel */
+    RIGHT_REAR_SLIP_RATIO(false, OutSimPacketView::hasWheels, view -> view.getWheelSlipRatio(1)),
+    /** Slip ratio of left front wheel */
+    LEFT_FRONT_SLIP_RATIO(false, OutSimPacketView::hasWheels, view -> view.getWheelSlipRatio(2)),
+    /** Slip ratio of right front wheel */
+    RIGHT_FRONT_SLIP_RATIO(false, OutSimPacketView::hasWheels, view -> view.getWheelSlipRatio(3)),
+    /** Tangent of slip angle of left rear wheel */
+    LEFT_REAR_TAN_SLIP_ANGLE(false, OutSimPacketView::hasWheels, view -> view.getWheelTanSlipAngle(0)),
+    /** Tangent of slip angle of right rear wheel */
+    RIGHT_REAR_TAN_SLIP_ANGLE(false, OutSimPacketView::hasWheels, view -> view.getWheelTanSlipAngle(1)),
+    /** Tangent of slip angle of left front wheel */
+    LEFT_FRONT_TAN_SLIP_ANGLE(false, OutSimPacketView::hasWheels, view -> view.getWheelTanSlipAngle(2)),
+    /** Tangent of slip angle of right front wheel */
+    RIGHT_FRONT_TAN_SLIP_ANGLE(false, OutSimPacketView::hasWheels, view -> view.getWheelTanSlipAngle(3)),
+    /** Steering torque on front wheels - Nm */
+    STEER_TORQUE(false, OutSimPacketView::hasExtra1, OutSimPacketView::getSteerTorque);
+
+    private final boolean integer;
+    private final Predicate<OutSimPacketView> presenceChecker;
+    private final ToDoubleFunction<OutSimPacketView> valueReader;
+
+    OutSimHistoryField(boolean integer,
+                       Predicate<OutSimPacketView> presenceChecker,
+                       ToDoubleFunction<OutSimPacketView> valueReader) {
+        this.integer = integer;
+        this.presenceChecker = presenceChecker;
+        this.valueReader = valueReader;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return integer;
+    }
+
+    boolean isPresent(OutSimPacketView packetView) {
+        return presenceChecker.test(packetView);
+    }
+
+    void record(TelemetryHistory<OutSimHistoryField> history, OutSimPacketView packetView) {
+        var value = valueReader.applyAsDouble(packetView);
+        if (integer) {
+            history.setInt(this, (int) value);
+        } else {
+            history.setFloat(this, (float) value);
+        }
+    }
+}
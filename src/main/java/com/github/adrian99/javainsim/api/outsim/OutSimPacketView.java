@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.outsim;
+
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.outsim.flags.OutSimOpts;
+import com.github.adrian99.javainsim.api.outsim.structures.*;
+import com.github.adrian99.javainsim.internal.common.util.PacketDataBytes;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * This class is a flyweight view of OutSim packet sent by LFS. Contrary to {@link OutSimPacket2}, values are read
+ * directly from the receive buffer of {@link OutSimConnection} each time a getter is called, and single view
+ * instance is reused for all received packets, so that no objects are allocated per packet. Because of that,
+ * the view is valid only until the listener it has been passed to returns - to retain packet data for later,
+ * use {@link #toPacket()}.
+ */
+public class OutSimPacketView {
+    private static final int ABSENT = -1;
+    private final Flags<OutSimOpts> opts;
+    private final boolean outSimPack2;
+    private final int idOffset;
+    private final int timeOffset;
+    private final int mainOffset;
+    private final int inputsOffset;
+    private final int driveOffset;
+    private final int distanceOffset;
+    private final int wheelsOffset;
+    private final int extra1Offset;
+    private ByteBuffer buffer;
+
+    OutSimPacketView(Flags<OutSimOpts> opts, boolean outSimPack2) {
+        this.opts = opts;
+        this.outSimPack2 = outSimPack2;
+        if (outSimPack2) {
+            var offset = 0;
+            offset += opts.hasFlag(OutSimOpts.HEADER) ? OutSimHeader.SIZE : 0;
+            idOffset = opts.hasFlag(OutSimOpts.ID) ? offset : ABSENT;
+            offset += opts.hasFlag(OutSimOpts.ID) ? OutSimId.SIZE : 0;
+            timeOffset = opts.hasFlag(OutSimOpts.TIME) ? offset : ABSENT;
+            offset += opts.hasFlag(OutSimOpts.TIME) ? OutSimTime.SIZE : 0;
+            mainOffset = opts.hasFlag(OutSimOpts.MAIN) ? offset : ABSENT;
+            offset += opts.hasFlag(OutSimOpts.MAIN) ? OutSimMain.SIZE : 0;
+            inputsOffset = opts.hasFlag(OutSimOpts.INPUTS) ? offset : ABSENT;
+            offset += opts.hasFlag(OutSimOpts.INPUTS) ? OutSimInputs.SIZE : 0;
+            driveOffset = opts.hasFlag(OutSimOpts.DRIVE) ? offset : ABSENT;
+            offset += opts.hasFlag(OutSimOpts.DRIVE) ? OutSimDrive.SIZE : 0;
+            distanceOffset = opts.hasFlag(OutSimOpts.DISTANCE) ? offset : ABSENT;
+            offset += opts.hasFlag(OutSimOpts.DISTANCE) ? OutSimDistance.SIZE : 0;
+            wheelsOffset = opts.hasFlag(OutSimOpts.WHEELS) ? offset : ABSENT;
+            offset += opts.hasFlag(OutSimOpts.WHEELS) ? 4 * OutSimWheel.SIZE : 0;
+            extra1Offset = opts.hasFlag(OutSimOpts.EXTRA_1) ? offset : ABSENT;
+        } else {
+            timeOffset = 0;
+            mainOffset = OutSimTime.SIZE;
+            idOffset = OutSimTime.SIZE + OutSimMain.SIZE;
+            inputsOffset = ABSENT;
+            driveOffset = ABSENT;
+            distanceOffset = ABSENT;
+            wheelsOffset = ABSENT;
+            extra1Offset = ABSENT;
+        }
+    }
+
+    void wrap(byte[] packetBytes) {
+        if (buffer == null || buffer.array() != packetBytes) {
+            buffer = ByteBuffer.wrap(packetBytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Creates {@link OutSimPacket2} out of the data currently visible through this view. Created packet
+     * is independent of the view, so it can be retained after the listener returns.
+     * @return created packet
+     */
+    public OutSimPacket2 toPacket() {
+        var packetDataBytes = new PacketDataBytes(Arrays.copyOf(buffer.array(), buffer.capacity()));
+        return outSimPack2 ? new OutSimPacket2(opts, packetDataBytes) : new OutSimPacket2(packetDataBytes);
+    }
+
+    /**
+     * @return whether packet contains ID
+     */
+    public boolean hasId() {
+        return idOffset != ABSENT;
+    }
+
+    /**
+     * @return whether packet contains time
+     */
+    public boolean hasTime() {
+        return timeOffset != ABSENT;
+    }
+
+    /**
+     * @return whether packet contains main data
+     */
+    public boolean hasMain() {
+        return mainOffset != ABSENT;
+    }
+
+    /**
+     * @return whether packet contains inputs
+     */
+    public boolean hasInputs() {
+        return inputsOffset != ABSENT;
+    }
+
+    /**
+     * @return whether packet contains drive
+     */
+    public boolean hasDrive() {
+        return driveOffset != ABSENT;
+    }
+
+    /**
+     * @return whether packet contains distance
+     */
+    public boolean hasDistance() {
+        return distanceOffset != ABSENT;
+    }
+
+    /**
+     * @return whether packet contains wheels
+     */
+    public boolean hasWheels() {
+        return wheelsOffset != ABSENT;
+    }
+
+    /**
+     * @return whether packet contains extra 1
+     */
+    public boolean hasExtra1() {
+        return extra1Offset != ABSENT;
+    }
+
+    /**
+     * @return OutSim ID from cfg.txt
+     * @throws IllegalStateException if packet does not contain ID
+     */
+    public int getId() {
+        return buffer.getInt(offsetOf(idOffset, "ID"));
+    }
+
+    /**
+     * @return time in milliseconds (to check order)
+     * @throws IllegalStateException if packet does not contain time
+     */
+    public long getTime() {
+        return Integer.toUnsignedLong(buffer.getInt(offsetOf(timeOffset, "time")));
+    }
+
+    /**
+     * @param axis axis index - 0 for X, 1 for Y, 2 for Z
+     * @return angular velocity along specified axis
+     * @throws IllegalStateException if packet does not contain main data
+     */
+    public float getAngVel(int axis) {
+        return buffer.getFloat(offsetOf(mainOffset, "main data") + axisOffset(axis));
+    }
+
+    /**
+     * @return heading - anticlockwise from above (Z)
+     * @throws IllegalStateException if packet does not contain main data
+     */
+    public float getHeading() {
+        return buffer.getFloat(offsetOf(mainOffset, "main data") + 12);
+    }
+
+    /**
+     * @return pitch - anticlockwise from right (X)
+     * @throws IllegalStateException if packet does not contain main data
+     */
+    public float getPitch() {
+        return buffer.getFloat(offsetOf(mainOffset, "main data") + 16);
+    }
+
+    /**
+     * @return roll - anticlockwise from front (Y)
+     * @throws IllegalStateException if packet does not contain main data
+     */
+    public float getRoll() {
+        return buffer.getFloat(offsetOf(mainOffset, "main data") + 20);
+    }
+
+    /**
+     * @param axis axis index - 0 for X, 1 for Y, 2 for Z
+     * @return acceleration along specified axis
+     * @throws IllegalStateException if packet does not contain main data
+     */
+    public float getAccel(int axis) {
+        return buffer.getFloat(offsetOf(mainOffset, "main data") + 24 + axisOffset(axis));
+    }
+
+    /**
+     * @param axis axis index - 0 for X, 1 for Y, 2 for Z
+     * @return velocity along specified axis
+     * @throws IllegalStateException if packet does not contain main data
+     */
+    public float getVel(int axis) {
+        return buffer.getFloat(offsetOf(mainOffset, "main data") + 36 + axisOffset(axis));
+    }
+
+    /**
+     * @param axis axis index - 0 for X, 1 for Y, 2 for Z
+     * @return position along specified axis (1m = 65536)
+     * @throws IllegalStateException if packet does not contain main data
+     */
+    public int getPos(int axis) {
+        return buffer.getInt(offsetOf(mainOffset, "main data") + 48 + axisOffset(axis));
+    }
+
+    /**
+     * @return throttle - 0 to 1
+     * @throws IllegalStateException if packet does not contain inputs
+     */
+    public float getThrottle() {
+        return buffer.getFloat(offsetOf(inputsOffset, "inputs"));
+    }
+
+    /**
+     * @return brake - 0 to 1
+     * @throws IllegalStateException if packet does not contain inputs
+     */
+    public float getBrake() {
+        return buffer.getFloat(offsetOf(inputsOffset, "inputs") + 4);
+    }
+
+    /**
+     * @return steering - radians
+     * @throws IllegalStateException if packet does not contain inputs
+     */
+    public float getInputSteer() {
+        return buffer.getFloat(offsetOf(inputsOffset, "inputs") + 8);
+    }
+
+    /**
+     * @return clutch - 0 to 1
+     * @throws IllegalStateException if packet does not contain inputs
+     */
+    public float getClutch() {
+        return buffer.getFloat(offsetOf(inputsOffset, "inputs") + 12);
+    }
+
+    /**
+     * @return handbrake - 0 to 1
+     * @throws IllegalStateException if packet does not contain inputs
+     */
+    public float getHandbrake() {
+        return buffer.getFloat(offsetOf(inputsOffset, "inputs") + 16);
+    }
+
+    /**
+     * @return gear - 0=R, 1=N, 2=first gear
+     * @throws IllegalStateException if packet does not contain drive
+     */
+    public short getGear() {
+        return PacketDataBytes.convertByte(buffer.get(offsetOf(driveOffset, "drive")));
+    }
+
+    /**
+     * @return engine angular velocity - radians/s
+     * @throws IllegalStateException if packet does not contain drive
+     */
+    public float getEngineAngVel() {
+        return buffer.getFloat(offsetOf(driveOffset, "drive") + 4);
+    }
+
+    /**
+     * @return maximum torque at velocity - Nm : output torque for throttle 1.0
+     * @throws IllegalStateException if packet does not contain drive
+     */
+    public float getMaxTorqueAtVel() {
+        return buffer.getFloat(offsetOf(driveOffset, "drive") + 8);
+    }
+
+    /**
+     * @return current lap distance - m travelled by car
+     * @throws IllegalStateException if packet does not contain distance
+     */
+    public float getCurrentLapDist() {
+        return buffer.getFloat(offsetOf(distanceOffset, "distance"));
+    }
+
+    /**
+     * @return indexed distance - m track ruler measurement
+     * @throws IllegalStateException if packet does not contain distance
+     */
+    public float getIndexedDistance() {
+        return buffer.getFloat(offsetOf(distanceOffset, "distance") + 4);
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return compression from unloaded
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public float getWheelSuspDeflect(int wheel) {
+        return buffer.getFloat(wheelOffset(wheel));
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return steering - including Ackermann and toe
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public float getWheelSteer(int wheel) {
+        return buffer.getFloat(wheelOffset(wheel) + 4);
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return force right
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public float getWheelXForce(int wheel) {
+        return buffer.getFloat(wheelOffset(wheel) + 8);
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return force forward
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public float getWheelYForce(int wheel) {
+        return buffer.getFloat(wheelOffset(wheel) + 12);
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return vertical load - perpendicular to surface
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public float getWheelVerticalLoad(int wheel) {
+        return buffer.getFloat(wheelOffset(wheel) + 16);
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return angular velocity - radians/s
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public float getWheelAngVel(int wheel) {
+        return buffer.getFloat(wheelOffset(wheel) + 20);
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return lean relative to road - radians a-c viewed from rear
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public float getWheelLeanRelToRoad(int wheel) {
+        return buffer.getFloat(wheelOffset(wheel) + 24);
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return air temperature - degrees C
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public short getWheelAirTemp(int wheel) {
+        return PacketDataBytes.convertByte(buffer.get(wheelOffset(wheel) + 28));
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return slip fraction - 0 to 255
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public short getWheelSlipFraction(int wheel) {
+        return PacketDataBytes.convertByte(buffer.get(wheelOffset(wheel) + 29));
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return touching ground
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public short getWheelTouching(int wheel) {
+        return PacketDataBytes.convertByte(buffer.get(wheelOffset(wheel) + 30));
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return slip ratio
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public float getWheelSlipRatio(int wheel) {
+        return buffer.getFloat(wheelOffset(wheel) + 32);
+    }
+
+    /**
+     * @param wheel wheel index - 0 = left rear, 1 = right rear, 2 = left front, 3 = right front
+     * @return tangent of slip angle
+     * @throws IllegalStateException if packet does not contain wheels
+     */
+    public float getWheelTanSlipAngle(int wheel) {
+        return buffer.getFloat(wheelOffset(wheel) + 36);
+    }
+
+    /**
+     * @return Nm : steering torque on front wheels (proportional to force feedback)
+     * @throws IllegalStateException if packet does not contain extra 1
+     */
+    public float getSteerTorque() {
+        return buffer.getFloat(offsetOf(extra1Offset, "extra 1"));
+    }
+
+    private int wheelOffset(int wheel) {
+        if (wheel < 0 || wheel > 3) {
+            throw new IndexOutOfBoundsException("Wheel index must be between 0 and 3");
+        }
+        return offsetOf(wheelsOffset, "wheels") + wheel * OutSimWheel.SIZE;
+    }
+
+    private static int axisOffset(int axis) {
+        if (axis < 0 || axis > 2) {
+            throw new IndexOutOfBoundsException("Axis index must be between 0 and 2");
+        }
+        return axis * 4;
+    }
+
+    private static int offsetOf(int sectionOffset, String sectionName) {
+        if (sectionOffset == ABSENT) {
+            throw new IllegalStateException("OutSim packet does not contain " + sectionName);
+        }
+        return sectionOffset;
+    }
+}
@@ -8,18 +8,57 @@
 
 package com.github.adrian99.javainsim.internal.common.enums;
 
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.internal.common.flags.FlagWithCustomBehavior;
+import com.github.adrian99.javainsim.internal.common.flags.FlagWithCustomValue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * This class is a helper that provides useful methods to operating on enums.
  * Instances of this class are managed by {@link EnumHelpers}.
  * @param <T> type of enum that is handler by helper instance
  */
 public class EnumHelper<T extends Enum<?>> {
-    private final Class<T> enumClass;
+    private static final int MAX_DENSE_CUSTOM_VALUE = 0xFFFF;
     private final T[] allValuesCached;
+    private final T[] valuesByCustomValue;
+    private final Map<Integer, T> sparseValuesByCustomValue;
+    private final long[] flagValues;
+    private final long[] flagRequiredZeros;
+    private final long knownFlagsMask;
 
     EnumHelper(Class<T> enumClass) {
-        this.enumClass = enumClass;
         this.allValuesCached = enumClass.getEnumConstants();
+        if (EnumWithCustomValue.class.isAssignableFrom(enumClass)) {
+            valuesByCustomValue = createValuesByCustomValue(allValuesCached);
+            sparseValuesByCustomValue = valuesByCustomValue == null ?
+                    createSparseValuesByCustomValue(allValuesCached) :
+                    null;
+        } else {
+            valuesByCustomValue = null;
+            sparseValuesByCustomValue = null;
+        }
+        flagValues = new long[allValuesCached.length];
+        flagRequiredZeros = new long[allValuesCached.length];
+        var knownFlagsMaskTmp = 0L;
+        for (var enumValue : allValuesCached) {
+            var ordinal = enumValue.ordinal();
+            if (enumValue instanceof FlagWithCustomValue flagWithCustomValue) {
+                flagValues[ordinal] = flagWithCustomValue.getValue();
+                flagRequiredZeros[ordinal] = flagWithCustomValue.getValueMask() - flagWithCustomValue.getValue();
+                knownFlagsMaskTmp |= flagWithCustomValue.getValueMask();
+            } else if (enumValue instanceof EnumWithCustomValue enumWithCustomValue) {
+                flagValues[ordinal] = enumWithCustomValue.getValue();
+                knownFlagsMaskTmp |= flagValues[ordinal];
+            } else {
+                flagValues[ordinal] = 1L << ordinal;
+                knownFlagsMaskTmp |= flagValues[ordinal];
+            }
+        }
+        knownFlagsMask = knownFlagsMaskTmp;
     }
 
     /**
@@ -35,15 +74,74 @@ public class EnumHelper<T extends Enum<?>> {
      * @return enum value
      */
     public T fromOrdinal(int ordinal) {
-        if (EnumWithCustomValue.class.isAssignableFrom(enumClass)) {
-            for (var enumValue : allValuesCached) {
-                if (((EnumWithCustomValue) enumValue).getValue() == ordinal) {
-                    return enumValue;
-                }
+        if (valuesByCustomValue != null) {
+            if (ordinal >= 0 && ordinal < valuesByCustomValue.length && valuesByCustomValue[ordinal] != null) {
+                return valuesByCustomValue[ordinal];
             }
             return allValuesCached[0];
+        } else if (sparseValuesByCustomValue != null) {
+            return sparseValuesByCustomValue.getOrDefault(ordinal, allValuesCached[0]);
         } else {
             return allValuesCached[ordinal];
         }
     }
+
+    /**
+     * Returns value of specified enum when used as one of {@link Flags}.
+     * @param flag enum value
+     * @return value of the flag - custom value for {@link EnumWithCustomValue}, bit of ordinal number otherwise
+     */
+    public long getFlagValue(T flag) {
+        return flagValues[flag.ordinal()];
+    }
+
+    /**
+     * @return mask of all bits that are used by values of the enum when used as {@link Flags}
+     */
+    public long getKnownFlagsMask() {
+        return knownFlagsMask;
+    }
+
+    /**
+     * Checks if specified enum value is present in flags of specified binary representation.
+     * @param flag enum value to check
+     * @param flagsValue binary representation of flags
+     * @return whether enum value is present in flags
+     */
+    public boolean isFlagPresent(T flag, long flagsValue) {
+        if (flag instanceof FlagWithCustomBehavior flagWithCustomBehavior) {
+            return flagWithCustomBehavior.isPresent(flagsValue);
+        }
+        var ordinal = flag.ordinal();
+        var flagValue = flagValues[ordinal];
+        return (flagsValue & flagValue) == flagValue && (flagsValue & flagRequiredZeros[ordinal]) == 0;
+    }
+
+    private static <T extends Enum<?>> T[] createValuesByCustomValue(T[] allValues) {
+        var maxCustomValue = -1;
+        for (var enumValue : allValues) {
+            var customValue = ((EnumWithCustomValue) enumValue).getValue();
+            if (customValue < 0 || customValue > MAX_DENSE_CUSTOM_VALUE) {
+                return null;
+            }
+            maxCustomValue = Math.max(maxCustomValue, customValue);
+        }
+        var valuesByCustomValue = Arrays.copyOf(allValues, maxCustomValue + 1);
+        Arrays.fill(valuesByCustomValue, null);
+        for (var enumValue : allValues) {
+            var customValue = ((EnumWithCustomValue) enumValue).getValue();
+            if (valuesByCustomValue[customValue] == null) {
+                valuesByCustomValue[customValue] = enumValue;
+            }
+        }
+        return valuesByCustomValue;
+    }
+
+    private static <T extends Enum<?>> Map<Integer, T> createSparseValuesByCustomValue(T[] allValues) {
+        var valuesByCustomValue = new HashMap<Integer, T>();
+        for (var enumValue : allValues) {
+            valuesByCustomValue.putIfAbsent(((EnumWithCustomValue) enumValue).getValue(), enumValue);
+        }
+        return valuesByCustomValue;
+    }
 }
@@ -8,14 +8,17 @@
 
 package com.github.adrian99.javainsim.internal.common.enums;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * This class is a helper that manages {@link EnumHelper} instances.
  */
 public class EnumHelpers {
-    private static final Map<Class<?>, EnumHelper<?>> enumHelpersMap = new HashMap<>();
+    private static final ClassValue<EnumHelper<?>> enumHelpers = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumHelper<?> computeValue(Class<?> enumClass) {
+            return new EnumHelper(enumClass);
+        }
+    };
 
     private EnumHelpers() {}
 
@@ -28,7 +31,6 @@ public class EnumHelpers {
      */
     @SuppressWarnings("unchecked")
     public static <T extends Enum<?>> EnumHelper<T> get(Class<T> enumClass) {
-        enumHelpersMap.computeIfAbsent(enumClass, newEnumClass -> new EnumHelper<>(enumClass));
-        return (EnumHelper<T>) enumHelpersMap.get(enumClass);
+        return (EnumHelper<T>) enumHelpers.get(enumClass);
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.flow;
+
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+
+import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Publisher passing items received by a connection to its subscribers, according to their demand. Each subscriber
+ * has its own bounded buffer with specified overflow policy, so that slow subscriber does not lose items
+ * of other subscribers (unless {@link OverflowPolicy#BLOCK} is used, which holds back the thread receiving items).
+ * No additional threads are used - items are delivered either by the thread receiving them
+ * or by the thread requesting them.
+ * @param <T> type of published items
+ */
+public class BufferedPublisher<T> implements Flow.Publisher<T> {
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Function<Consumer<T>, Runnable> registerFunction;
+    private final Map<BufferedSubscription<T>, Runnable> subscriptions;
+    private volatile boolean isCompleted;
+
+    /**
+     * Creates publisher.
+     * @param bufferSize maximum count of items waiting for demand of single subscriber - must be greater than 0
+     * @param overflowPolicy behavior when item is received while buffer of subscriber is full
+     * @param registerFunction function registering consumer of received items in the connection, which returns
+     *                         action unregistering it
+     */
+    public BufferedPublisher(int bufferSize,
+                             OverflowPolicy overflowPolicy,
+                             Function<Consumer<T>, Runnable> registerFunction) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than 0");
+        }
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.registerFunction = Objects.requireNonNull(registerFunction);
+        subscriptions = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        var subscription = new BufferedSubscription<T>(subscriber, bufferSize, overflowPolicy);
+        subscriber.onSubscribe(subscription);
+        if (isCompleted) {
+            subscription.complete();
+            return;
+        }
+        var unregisterAction = registerFunction.apply(subscription);
+        subscriptions.put(subscription, unregisterAction);
+        subscription.setCancelAction(() -> {
+            if (subscriptions.remove(subscription) != null) {
+                unregisterAction.run();
+            }
+        });
+        if (isCompleted) {
+            complete();
+        }
+    }
+
+    /**
+     * Completes all current and future subscriptions - items remaining in their buffers are still delivered,
+     * after which subscribers are notified about completion. Should be called when the connection is closed.
+     */
+    public void complete() {
+        isCompleted = true;
+        for (var subscription : subscriptions.keySet()) {
+            var unregisterAction = subscriptions.remove(subscription);
+            if (unregisterAction != null) {
+                unregisterAction.run();
+                subscription.complete();
+            }
+        }
+    }
+
+    /**
+     * @return count of active subscriptions
+     */
+    public int getSubscriptionsCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * @return count of items dropped because of overflow, summed over active subscriptions
+     */
+    public long getDroppedItemsCount() {
+        var droppedItemsCount = 0L;
+        for (var subscription : subscriptions.keySet()) {
+            droppedItemsCount += subscription.getDroppedItemsCount();
+        }
+        return droppedItemsCount;
+    }
+}
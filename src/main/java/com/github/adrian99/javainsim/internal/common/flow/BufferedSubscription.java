@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.flow;
+
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Subscription of single subscriber of {@link BufferedPublisher}. Items are accepted by the thread receiving
+ * packets and kept in bounded buffer until subscriber requests them. Items are passed to the subscriber by
+ * the thread that makes them available - either the receiving thread (if there is outstanding demand) or the thread
+ * calling {@link #request} - but never concurrently. Items dropped because of overflow are counted, while warning
+ * is logged only once per overload - when the buffer overflows for the first time since it was last empty.
+ * @param <T> type of items
+ */
+public class BufferedSubscription<T> implements Flow.Subscription, Consumer<T> {
+    private final Logger logger = LoggerFactory.getLogger(BufferedSubscription.class);
+    private final Flow.Subscriber<? super T> subscriber;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Deque<T> buffer;
+    private final AtomicLong demand;
+    private final AtomicInteger drainRequests;
+    private volatile Runnable cancelAction;
+    private volatile boolean isCancelled;
+    private volatile boolean isCompleted;
+    private volatile Throwable error;
+    private boolean isTerminated;
+    private long droppedItemsCount;
+    private boolean isOverloaded;
+
+    /**
+     * Creates subscription.
+     * @param subscriber subscriber receiving items
+     * @param bufferSize maximum count of items waiting for demand - must be greater than 0
+     * @param overflowPolicy behavior when item is accepted while the buffer is full
+     */
+    public BufferedSubscription(Flow.Subscriber<? super T> subscriber, int bufferSize, OverflowPolicy overflowPolicy) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than 0");
+        }
+        this.subscriber = subscriber;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        buffer = new ArrayDeque<>();
+        demand = new AtomicLong();
+        drainRequests = new AtomicInteger();
+    }
+
+    /**
+     * Sets action called once when the subscription is cancelled, e.g. unregistering it from the source of items.
+     * @param cancelAction action called on cancel
+     */
+    public void setCancelAction(Runnable cancelAction) {
+        this.cancelAction = cancelAction;
+        if (isCancelled) {
+            cancelAction.run();
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            error = new IllegalArgumentException("Count of requested items must be greater than 0");
+            cancel();
+        } else {
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (isCancelled) {
+            return;
+        }
+        isCancelled = true;
+        synchronized (buffer) {
+            buffer.clear();
+            buffer.notifyAll();
+        }
+        var currentCancelAction = cancelAction;
+        if (currentCancelAction != null) {
+            currentCancelAction.run();
+        }
+    }
+
+    /**
+     * Adds item to the buffer, applying overflow policy if the buffer is full, and passes buffered items
+     * to the subscriber if it has requested them.
+     * @param item item to be passed to the subscriber
+     */
+    @Override
+    public void accept(T item) {
+        if (isCancelled || isCompleted) {
+            return;
+        }
+        if (offer(item)) {
+            drain();
+        }
+    }
+
+    /**
+     * Completes the subscription - items remaining in the buffer are still passed to the subscriber,
+     * after which the subscriber is notified about completion.
+     */
+    public void complete() {
+        isCompleted = true;
+        synchronized (buffer) {
+            buffer.notifyAll();
+        }
+        drain();
+    }
+
+    /**
+     * @return whether the subscription has been cancelled
+     */
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * @return count of items dropped because of overflow since the subscription was created
+     */
+    public long getDroppedItemsCount() {
+        synchronized (buffer) {
+            return droppedItemsCount;
+        }
+    }
+
+    private boolean offer(T item) {
+        synchronized (buffer) {
+            while (buffer.size() >= bufferSize) {
+                switch (overflowPolicy) {
+                    case BLOCK -> {
+                        if (isCancelled || isCompleted) {
+                            return false;
+                        }
+                        try {
+                            buffer.wait();
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                            logger.warn("Interrupted while waiting for space in subscription buffer - dropping item");
+                            return false;
+                        }
+                    }
+                    case DROP_NEWEST -> {
+                        onItemsDropped(1);
+                        return false;
+                    }
+                    case DROP_OLDEST -> {
+                        onItemsDropped(1);
+                        buffer.poll();
+                    }
+                    case LATEST_ONLY -> {
+                        onItemsDropped(buffer.size());
+                        buffer.clear();
+                    }
+                }
+            }
+            buffer.add(item);
+            return true;
+        }
+    }
+
+    private T poll() {
+        synchronized (buffer) {
+            var item = buffer.poll();
+            if (item != null) {
+                buffer.notifyAll();
+            }
+            if (isOverloaded && buffer.isEmpty()) {
+                isOverloaded = false;
+                logger.debug("Subscription buffer has been drained - {} items dropped so far", droppedItemsCount);
+            }
+            return item;
+        }
+    }
+
+    private void onItemsDropped(int count) {
+        droppedItemsCount += count;
+        if (!isOverloaded) {
+            isOverloaded = true;
+            logger.warn("Subscription buffer is full - dropping items ({}) until it is drained", overflowPolicy);
+        }
+    }
+
+    private boolean isBufferEmpty() {
+        synchronized (buffer) {
+            return buffer.isEmpty();
+        }
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        var missedDrainRequests = 1;
+        do {
+            drainBuffer();
+            missedDrainRequests = drainRequests.addAndGet(-missedDrainRequests);
+        } while (missedDrainRequests != 0);
+    }
+
+    private void drainBuffer() {
+        if (isTerminated) {
+            return;
+        }
+        if (isCancelled) {
+            var currentError = error;
+            if (currentError != null) {
+                isTerminated = true;
+                subscriber.onError(currentError);
+            }
+            return;
+        }
+        while (demand.get() > 0) {
+            var item = poll();
+            if (item == null) {
+                break;
+            }
+            if (demand.get() != Long.MAX_VALUE) {
+                demand.decrementAndGet();
+            }
+            try {
+                subscriber.onNext(item);
+            } catch (Exception exception) {
+                logger.error("Error occurred in subscriber callback: {}", exception.getMessage());
+                LoggerUtils.logStacktrace(logger, "subscriber callback", exception);
+                cancel();
+                return;
+            }
+            if (isCancelled) {
+                return;
+            }
+        }
+        if (isCompleted && isBufferEmpty()) {
+            isTerminated = true;
+            subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.history;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Fixed-capacity ring buffer of samples, stored off-heap in columns - one column of sample times and one column
+ * of 4-byte values per field. Every written sample gets consecutive sequence number, and the newest sample
+ * overwrites the oldest one once the buffer is full. Samples must be written by single thread, while any thread
+ * can read them. As the slot of the oldest sample is reused by the sample being written, only the newest
+ * {@code capacity - 1} samples are readable, and readers should check using {@link #isReadable} whether samples
+ * they have read were not overwritten in the meantime.
+ */
+public class ColumnarRingBuffer {
+    private final int capacity;
+    private final LongBuffer times;
+    private final IntBuffer values;
+    private volatile long writeCount;
+
+    /**
+     * Creates ring buffer and allocates its off-heap memory.
+     * @param columnsCount count of value columns
+     * @param capacity count of sample slots - must be greater than 1
+     */
+    public ColumnarRingBuffer(int columnsCount, int capacity) {
+        if (capacity <= 1) {
+            throw new IllegalArgumentException("Capacity must be greater than 1");
+        }
+        this.capacity = capacity;
+        times = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        values = ByteBuffer.allocateDirect(Math.multiplyExact(columnsCount * Integer.BYTES, capacity))
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    /**
+     * @return count of sample slots
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return count of samples written so far - the sequence number of the next sample
+     */
+    public long getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * Starts writing next sample. Sample becomes visible to readers once {@link #endWrite()} is called.
+     * @param time time of the sample
+     * @return slot of the sample, to be passed to {@link #put}
+     */
+    public int beginWrite(long time) {
+        var slot = (int) (writeCount % capacity);
+        times.put(slot, time);
+        return slot;
+    }
+
+    /**
+     * Puts value of single column of sample being written.
+     * @param column column index
+     * @param slot slot returned by {@link #beginWrite}
+     * @param value value bits
+     */
+    public void put(int column, int slot, int value) {
+        values.put(column * capacity + slot, value);
+    }
+
+    /**
+     * Publishes sample being written.
+     */
+    public void endWrite() {
+        writeCount = writeCount + 1;
+    }
+
+    /**
+     * @param writeCount write count read by the reader
+     * @return sequence number of the oldest readable sample
+     */
+    public long getOldestReadableSequence(long writeCount) {
+        return Math.max(0, writeCount - capacity + 1);
+    }
+
+    /**
+     * Checks whether sample of specified sequence number and all newer ones are still readable,
+     * i.e. were not overwritten by newer samples.
+     * @param sequence sequence number of sample
+     * @return whether sample is still readable
+     */
+    public boolean isReadable(long sequence) {
+        return sequence >= getOldestReadableSequence(writeCount);
+    }
+
+    /**
+     * @param sequence sequence number of sample
+     * @return time of sample
+     */
+    public long getTime(long sequence) {
+        return times.get((int) (sequence % capacity));
+    }
+
+    /**
+     * @param column column index
+     * @param sequence sequence number of sample
+     * @return value bits of sample
+     */
+    public int get(int column, long sequence) {
+        return values.get(column * capacity + (int) (sequence % capacity));
+    }
+
+    /**
+     * Finds the first sample with time not lower than specified one, assuming that sample times are
+     * not decreasing.
+     * @param fromSequence sequence number of the first sample to be searched
+     * @param toSequence sequence number following the last sample to be searched
+     * @param time searched time
+     * @return sequence number of found sample, or {@code toSequence} if there is no such sample
+     */
+    public long findFirstNotBefore(long fromSequence, long toSequence, long time) {
+        var low = fromSequence;
+        var high = toSequence;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (getTime(middle) < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.metrics;
+
+import com.github.adrian99.javainsim.api.common.metrics.ConnectionMetrics;
+
+/**
+ * Connection metrics that ignore all notifications. As they disable timing, connections using them do not read
+ * the clock at all.
+ */
+public class NoOpConnectionMetrics implements ConnectionMetrics {
+    private static final NoOpConnectionMetrics INSTANCE = new NoOpConnectionMetrics();
+
+    private NoOpConnectionMetrics() {}
+
+    /**
+     * @return shared instance of no-op metrics
+     */
+    public static NoOpConnectionMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean isTimingEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.recording;
+
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface is implemented by receivers of frames replayed by
+ * {@link com.github.adrian99.javainsim.api.common.recording.SessionReplay}.
+ */
+public interface FrameSink {
+    /**
+     * Handles single replayed frame. Frame bytes are stored in the buffer of the replay, so they are valid
+     * only until this method returns.
+     * @param source source of the frame
+     * @param frameBytes buffer holding frame bytes between its position and limit
+     */
+    void onFrame(FrameSource source, ByteBuffer frameBytes);
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.recording;
+
+import java.nio.ByteOrder;
+
+/**
+ * This class describes the format of segment files written by
+ * {@link com.github.adrian99.javainsim.api.common.recording.SessionRecorder}. Each segment file starts with
+ * a header, followed by frames. Each frame consists of a frame header and raw packet bytes. The end of frames
+ * within a segment is marked by frame length equal to 0 - as the length of a frame is written last, partially
+ * written frames are never visible.
+ * <pre>
+ * segment header: int magic, short version, short reserved, int segment index, int reserved,
+ *                 long recording start epoch millis, long recording start nano time
+ * frame header:   int length, short source ordinal, short reserved, long nanos since recording start
+ * </pre>
+ */
+public class RecordingFormat {
+    private RecordingFormat() {}
+
+    /**
+     * Magic number placed at the beginning of every segment file ("JISR")
+     */
+    public static final int MAGIC = 0x5253494A;
+    /**
+     * Version of the format
+     */
+    public static final short VERSION = 1;
+    /**
+     * Byte order of all values
+     */
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    /**
+     * Size (in bytes) of segment header
+     */
+    public static final int SEGMENT_HEADER_SIZE = 32;
+    /**
+     * Offset of segment index within segment header
+     */
+    public static final int SEGMENT_INDEX_OFFSET = 8;
+    /**
+     * Offset of recording start epoch millis within segment header
+     */
+    public static final int START_EPOCH_MILLIS_OFFSET = 16;
+    /**
+     * Offset of recording start nano time within segment header
+     */
+    public static final int START_NANO_TIME_OFFSET = 24;
+    /**
+     * Size (in bytes) of frame header
+     */
+    public static final int FRAME_HEADER_SIZE = 16;
+    /**
+     * Offset of source ordinal within frame header
+     */
+    public static final int FRAME_SOURCE_OFFSET = 4;
+    /**
+     * Offset of timestamp within frame header
+     */
+    public static final int FRAME_TIMESTAMP_OFFSET = 8;
+    /**
+     * File name extension of segment files
+     */
+    public static final String SEGMENT_FILE_EXTENSION = ".jisr";
+
+    /**
+     * @param segmentIndex index of the segment
+     * @return name of the segment file
+     */
+    public static String getSegmentFileName(int segmentIndex) {
+        return String.format("segment-%06d%s", segmentIndex, SEGMENT_FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.recording;
+
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential reader of frames of session recording, which maps segment files one by one into memory, in order
+ * of their indexes. Not thread safe.
+ */
+public class RecordingReader implements Closeable {
+    private final Path directory;
+    private int segmentIndex = 0;
+    private MappedByteBuffer segment;
+    private ByteBuffer frameBytes;
+    private int nextFramePosition;
+    private long startEpochMillis;
+    private FrameSource frameSource;
+    private long frameTimestamp;
+
+    /**
+     * Creates reader and maps the first segment file of the recording.
+     * @param directory directory holding segment files
+     * @throws IOException if I/O error occurs while mapping the first segment file or if it is not a valid segment
+     */
+    public RecordingReader(Path directory) throws IOException {
+        this.directory = directory;
+        if (!openSegment()) {
+            throw new IOException("No recording found in " + directory);
+        }
+    }
+
+    /**
+     * Moves to the next frame, opening next segment file if necessary.
+     * @return whether there is next frame
+     * @throws IOException if I/O error occurs while mapping next segment file or if it is not a valid segment
+     */
+    public boolean next() throws IOException {
+        while (segment != null) {
+            if (segment.capacity() - nextFramePosition >= RecordingFormat.FRAME_HEADER_SIZE) {
+                var length = segment.getInt(nextFramePosition);
+                if (length > 0) {
+                    var frameStart = nextFramePosition + RecordingFormat.FRAME_HEADER_SIZE;
+                    frameSource = FrameSource.fromOrdinal(
+                            segment.getShort(nextFramePosition + RecordingFormat.FRAME_SOURCE_OFFSET)
+                    );
+                    frameTimestamp = segment.getLong(nextFramePosition + RecordingFormat.FRAME_TIMESTAMP_OFFSET);
+                    frameBytes.limit(frameStart + length).position(frameStart);
+                    nextFramePosition = frameStart + length;
+                    return true;
+                }
+            }
+            openSegment();
+        }
+        return false;
+    }
+
+    /**
+     * @return source of current frame
+     */
+    public FrameSource getFrameSource() {
+        return frameSource;
+    }
+
+    /**
+     * @return timestamp of current frame - nanoseconds since recording start
+     */
+    public long getFrameTimestamp() {
+        return frameTimestamp;
+    }
+
+    /**
+     * @return buffer holding bytes of current frame between its position and limit - the same buffer instance
+     * is returned for all frames of the segment
+     */
+    public ByteBuffer getFrameBytes() {
+        return frameBytes;
+    }
+
+    /**
+     * @return time of recording start, in milliseconds since epoch
+     */
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    @Override
+    public void close() {
+        segment = null;
+        frameBytes = null;
+    }
+
+    private boolean openSegment() throws IOException {
+        var path = directory.resolve(RecordingFormat.getSegmentFileName(segmentIndex));
+        if (!Files.exists(path)) {
+            segment = null;
+            frameBytes = null;
+            return false;
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        segment.order(RecordingFormat.BYTE_ORDER);
+        if (segment.capacity() < RecordingFormat.SEGMENT_HEADER_SIZE ||
+                segment.getInt(0) != RecordingFormat.MAGIC ||
+                segment.getShort(4) != RecordingFormat.VERSION ||
+                segment.getInt(RecordingFormat.SEGMENT_INDEX_OFFSET) != segmentIndex) {
+            throw new IOException("Invalid recording segment: " + path);
+        }
+        startEpochMillis = segment.getLong(RecordingFormat.START_EPOCH_MILLIS_OFFSET);
+        frameBytes = segment.duplicate().order(RecordingFormat.BYTE_ORDER);
+        nextFramePosition = RecordingFormat.SEGMENT_HEADER_SIZE;
+        segmentIndex++;
+        return true;
+    }
+}
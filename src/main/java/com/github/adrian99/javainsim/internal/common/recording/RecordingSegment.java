@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.recording;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Single segment file of session recording, mapped into memory as a whole when created, so that appending
+ * frames does not require any system calls. Not thread safe.
+ */
+public class RecordingSegment implements Closeable {
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int position = RecordingFormat.SEGMENT_HEADER_SIZE;
+
+    /**
+     * Creates segment file and writes its header.
+     * @param path path of the file
+     * @param segmentIndex index of the segment
+     * @param size size (in bytes) of the file
+     * @param startEpochMillis time of recording start, in milliseconds since epoch
+     * @param startNanoTime value of {@link System#nanoTime()} at recording start
+     * @throws IOException if I/O error occurs while creating or mapping the file
+     */
+    public RecordingSegment(Path path,
+                            int segmentIndex,
+                            int size,
+                            long startEpochMillis,
+                            long startNanoTime) throws IOException {
+        channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+        buffer.order(RecordingFormat.BYTE_ORDER);
+        buffer.putInt(0, RecordingFormat.MAGIC);
+        buffer.putShort(4, RecordingFormat.VERSION);
+        buffer.putInt(RecordingFormat.SEGMENT_INDEX_OFFSET, segmentIndex);
+        buffer.putLong(RecordingFormat.START_EPOCH_MILLIS_OFFSET, startEpochMillis);
+        buffer.putLong(RecordingFormat.START_NANO_TIME_OFFSET, startNanoTime);
+    }
+
+    /**
+     * Checks whether frame of specified length fits into remaining space of the segment. Space for the length
+     * of following frame is reserved, so that the end of frames can always be marked.
+     * @param length length of frame bytes
+     * @return whether the frame fits
+     */
+    public boolean fits(int length) {
+        return (long) buffer.capacity() - position - Integer.BYTES >= RecordingFormat.FRAME_HEADER_SIZE + length;
+    }
+
+    /**
+     * Appends frame. It must be checked before, using {@link #fits}, that the frame fits into the segment.
+     * @param source ordinal of frame source
+     * @param timestamp nanoseconds since recording start
+     * @param bytes array holding frame bytes
+     * @param offset offset of the first frame byte
+     * @param length length of frame bytes
+     */
+    public void append(int source, long timestamp, byte[] bytes, int offset, int length) {
+        buffer.put(position + RecordingFormat.FRAME_HEADER_SIZE, bytes, offset, length);
+        publish(source, timestamp, length);
+    }
+
+    /**
+     * Appends frame. It must be checked before, using {@link #fits}, that the frame fits into the segment.
+     * @param source ordinal of frame source
+     * @param timestamp nanoseconds since recording start
+     * @param bytes buffer holding frame bytes between its position and limit - position is not modified
+     */
+    public void append(int source, long timestamp, ByteBuffer bytes) {
+        var length = bytes.remaining();
+        buffer.put(position + RecordingFormat.FRAME_HEADER_SIZE, bytes, bytes.position(), length);
+        publish(source, timestamp, length);
+    }
+
+    /**
+     * @return count of bytes written to the segment, including its header
+     */
+    public int getWrittenBytesCount() {
+        return position;
+    }
+
+    /**
+     * Flushes written frames to the storage device and closes the file.
+     * @throws IOException if I/O error occurs while closing the file
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void publish(int source, long timestamp, int length) {
+        buffer.putShort(position + RecordingFormat.FRAME_SOURCE_OFFSET, (short) source);
+        buffer.putLong(position + RecordingFormat.FRAME_TIMESTAMP_OFFSET, timestamp);
+        buffer.putInt(position, length);
+        position += RecordingFormat.FRAME_HEADER_SIZE + length;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel, which runs tasks after specified delays measured with {@link System#nanoTime()}. Scheduling
+ * and cancelling a timeout takes constant time regardless of the count of pending timeouts, at the cost of tasks
+ * being run up to single tick later than requested. Tasks are run by single thread of the wheel, created by specified
+ * thread factory when the first timeout is scheduled, so they should be short - longer work should be handed off
+ * to other threads. The thread parks while there are no timeouts, and finishes when the wheel is stopped.
+ */
+public class HashedTimerWheel {
+    private static final long DEFAULT_TICK_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int DEFAULT_BUCKETS_COUNT = 512;
+    private final Logger logger = LoggerFactory.getLogger(HashedTimerWheel.class);
+    private final long tickDurationNanos;
+    private final Bucket[] buckets;
+    private final int bucketsMask;
+    private final Queue<Timeout> scheduledTimeouts;
+    private final Queue<Timeout> cancelledTimeouts;
+    private final ThreadFactory threadFactory;
+    private final AtomicBoolean isStarted;
+    private volatile Thread workerThread;
+    private volatile boolean isIdle;
+    private volatile boolean isStopped;
+    private long startTimeNanos;
+    private long tick;
+    private int activeTimeoutsCount;
+
+    /**
+     * Creates timer wheel with default tick duration and buckets count. Its thread is started when the first timeout
+     * is scheduled.
+     * @param threadFactory factory of the thread of the wheel
+     */
+    public HashedTimerWheel(ThreadFactory threadFactory) {
+        this(DEFAULT_TICK_DURATION_NANOS, DEFAULT_BUCKETS_COUNT, threadFactory);
+    }
+
+    /**
+     * Creates timer wheel. Its thread is started when the first timeout is scheduled.
+     * @param tickDurationNanos duration (in nanoseconds) of single tick - precision of the wheel
+     * @param bucketsCount count of buckets - rounded up to power of 2
+     * @param threadFactory factory of the thread of the wheel
+     * @throws IllegalArgumentException if tick duration or buckets count is not positive
+     */
+    public HashedTimerWheel(long tickDurationNanos, int bucketsCount, ThreadFactory threadFactory) {
+        if (tickDurationNanos <= 0 || bucketsCount <= 0) {
+            throw new IllegalArgumentException("Tick duration and buckets count must be greater than 0");
+        }
+        this.tickDurationNanos = tickDurationNanos;
+        var normalizedBucketsCount = Integer.highestOneBit(bucketsCount);
+        if (normalizedBucketsCount < bucketsCount) {
+            normalizedBucketsCount <<= 1;
+        }
+        buckets = new Bucket[normalizedBucketsCount];
+        for (var i = 0; i < normalizedBucketsCount; i++) {
+            buckets[i] = new Bucket();
+        }
+        bucketsMask = normalizedBucketsCount - 1;
+        scheduledTimeouts = new ConcurrentLinkedQueue<>();
+        cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        this.threadFactory = threadFactory;
+        isStarted = new AtomicBoolean();
+    }
+
+    /**
+     * Schedules specified task to be run after specified delay.
+     * @param task task to be run by the thread of the wheel
+     * @param delayNanos delay (in nanoseconds) - task is run immediately on next tick if it is not positive
+     * @return scheduled timeout, which can be cancelled - its task is never run if the wheel has been stopped
+     */
+    public Timeout schedule(Runnable task, long delayNanos) {
+        var timeout = new Timeout(this, task, System.nanoTime() + Math.max(delayNanos, 0));
+        if (isStopped) {
+            return timeout;
+        }
+        scheduledTimeouts.add(timeout);
+        if (isStarted.compareAndSet(false, true)) {
+            workerThread = threadFactory.newThread(this::run);
+            workerThread.start();
+        } else if (isIdle) {
+            LockSupport.unpark(workerThread);
+        }
+        return timeout;
+    }
+
+    /**
+     * Stops the wheel and finishes its thread. Pending timeouts are discarded without running their tasks.
+     */
+    public void stop() {
+        isStopped = true;
+        scheduledTimeouts.clear();
+        var thread = workerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        logger.debug("Started timer wheel thread");
+        startTimeNanos = System.nanoTime();
+        while (!isStopped && !Thread.currentThread().isInterrupted()) {
+            if (activeTimeoutsCount == 0 && scheduledTimeouts.isEmpty()) {
+                waitForTimeouts();
+            }
+            if (isStopped || !waitForNextTick()) {
+                break;
+            }
+            removeCancelledTimeouts();
+            addScheduledTimeouts();
+            expireTimeouts(buckets[(int) (tick & bucketsMask)]);
+            tick++;
+        }
+        logger.debug("Stopping timer wheel thread");
+    }
+
+    private void waitForTimeouts() {
+        isIdle = true;
+        while (scheduledTimeouts.isEmpty() && !isStopped && !Thread.currentThread().isInterrupted()) {
+            LockSupport.park(this);
+        }
+        isIdle = false;
+        tick = (System.nanoTime() - startTimeNanos) / tickDurationNanos;
+    }
+
+    private boolean waitForNextTick() {
+        var tickDeadline = startTimeNanos + (tick + 1) * tickDurationNanos;
+        var remainingNanos = tickDeadline - System.nanoTime();
+        while (remainingNanos > 0) {
+            if (isStopped || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(this, remainingNanos);
+            remainingNanos = tickDeadline - System.nanoTime();
+        }
+        return true;
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                activeTimeoutsCount--;
+            }
+        }
+    }
+
+    private void addScheduledTimeouts() {
+        Timeout timeout;
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            var deadlineTick = (timeout.deadlineNanos - startTimeNanos) / tickDurationNanos;
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (Math.max(deadlineTick, tick) & bucketsMask)].add(timeout);
+            activeTimeoutsCount++;
+        }
+    }
+
+    private void expireTimeouts(Bucket bucket) {
+        var timeout = bucket.head;
+        while (timeout != null) {
+            var nextTimeout = timeout.next;
+            if (timeout.remainingRounds <= 0) {
+                bucket.remove(timeout);
+                activeTimeoutsCount--;
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = nextTimeout;
+        }
+    }
+
+    /**
+     * Single task scheduled in {@link HashedTimerWheel}.
+     */
+    public static class Timeout {
+        private static final int STATE_SCHEDULED = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+        private final HashedTimerWheel timerWheel;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state;
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(HashedTimerWheel timerWheel, Runnable task, long deadlineNanos) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            state = new AtomicInteger(STATE_SCHEDULED);
+        }
+
+        /**
+         * Cancels the timeout, so that its task is not run.
+         * @return whether the timeout was cancelled - false if it has already been cancelled or its task has been run
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_SCHEDULED, STATE_CANCELLED)) {
+                return false;
+            }
+            timerWheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        /**
+         * @return whether the timeout has been cancelled
+         */
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        /**
+         * @return whether the task of the timeout has been run
+         */
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_SCHEDULED, STATE_EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable throwable) {
+                timerWheel.logger.error("Error occurred in timer task: {}", throwable.getMessage());
+                LoggerUtils.logStacktrace(timerWheel.logger, "timer task", throwable);
+            }
+        }
+    }
+
+    private static class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            } else {
+                tail = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
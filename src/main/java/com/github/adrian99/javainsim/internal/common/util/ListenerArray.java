@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.util;
+
+import java.util.Arrays;
+
+/**
+ * Copy-on-write array of registered listeners. Listeners can be added and removed from any thread, which replaces
+ * the whole array, while reading threads iterate over the current array snapshot without any locking.
+ * Duplicate listeners (according to {@link Object#equals}) are ignored.
+ * @param <L> type of listeners
+ */
+public class ListenerArray<L> {
+    private volatile L[] listeners;
+
+    /**
+     * Creates empty listener array.
+     * @param emptyArray empty array of listeners, used to create arrays of proper type
+     */
+    public ListenerArray(L[] emptyArray) {
+        listeners = emptyArray;
+    }
+
+    /**
+     * Adds listener at the end of the array, if it is not present yet.
+     * @param listener listener to be added
+     * @return whether the listener has been added
+     */
+    public synchronized boolean add(L listener) {
+        var current = listeners;
+        if (indexOf(current, listener) >= 0) {
+            return false;
+        }
+        var updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+        return true;
+    }
+
+    /**
+     * Removes listener from the array, if it is present.
+     * @param listener listener to be removed
+     * @return whether the listener has been removed
+     */
+    public synchronized boolean remove(L listener) {
+        var current = listeners;
+        var index = indexOf(current, listener);
+        if (index < 0) {
+            return false;
+        }
+        var updated = Arrays.copyOf(current, current.length - 1);
+        System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        listeners = updated;
+        return true;
+    }
+
+    /**
+     * Returns current snapshot of listeners. Returned array is shared, so it must not be modified.
+     * @return array of registered listeners
+     */
+    public L[] get() {
+        return listeners;
+    }
+
+    /**
+     * @return whether there are no registered listeners
+     */
+    public boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    private static int indexOf(Object[] array, Object listener) {
+        for (var i = 0; i < array.length; i++) {
+            if (array[i].equals(listener)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
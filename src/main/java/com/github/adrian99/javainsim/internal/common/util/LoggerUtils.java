@@ -17,12 +17,12 @@ public class LoggerUtils {
     private LoggerUtils() {}
 
     /**
-     * Logs stacktrace of exception at debug logger level.
+     * Logs stacktrace of exception (or error) at debug logger level.
      * @param logger logger to log to
      * @param step name of the step when exception occurred
      * @param exception thrown exception
      */
-    public static void logStacktrace(Logger logger, String step, Exception exception) {
+    public static void logStacktrace(Logger logger, String step, Throwable exception) {
         if (logger.isDebugEnabled()) {
             var messageBuilder = new StringBuilder(exception.getClass().getSimpleName())
                     .append(" thrown in ")
@@ -11,20 +11,42 @@ package com.github.adrian99.javainsim.internal.common.util;
 import com.github.adrian99.javainsim.api.outsim.OutSimPacket2;
 import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * This class is a helper that is used while creating {@link InfoPacket} or {@link OutSimPacket2} out of its byte representation.
+ * Packet bytes can be backed either by byte array or by {@link ByteBuffer} (heap or direct). In the latter case
+ * bytes are read in place, without copying them first.
  */
 public class PacketDataBytes {
-    private final byte[] dataBytes;
-    private int dataBytesReaderIndex;
+    private final ByteBuffer dataBytes;
 
     /**
      * Creates packet data bytes. Constructor used only internally.
      * @param packetDataBytes packet bytes array
      */
     public PacketDataBytes(byte[] packetDataBytes) {
-        dataBytes = packetDataBytes;
-        dataBytesReaderIndex = 0;
+        this(ByteBuffer.wrap(packetDataBytes));
+    }
+
+    /**
+     * Creates packet data bytes backed by part of specified array. Constructor used only internally.
+     * @param packetDataBytes packet bytes array
+     * @param offset index of first packet byte in the array
+     * @param length count of packet bytes
+     */
+    public PacketDataBytes(byte[] packetDataBytes, int offset, int length) {
+        this(ByteBuffer.wrap(packetDataBytes, offset, length));
+    }
+
+    /**
+     * Creates packet data bytes backed by specified buffer. Bytes between current position and limit
+     * of the buffer are treated as packet bytes. Position of the buffer is not modified. Constructor used only internally.
+     * @param packetDataBytes packet bytes buffer
+     */
+    public PacketDataBytes(ByteBuffer packetDataBytes) {
+        dataBytes = packetDataBytes.slice().order(ByteOrder.LITTLE_ENDIAN);
     }
 
     /**
@@ -32,7 +54,7 @@ public class PacketDataBytes {
      * @return read byte value
      */
     public short readByte() {
-        return convertByte(dataBytes[dataBytesReaderIndex++]);
+        return convertByte(dataBytes.get());
     }
 
     /**
@@ -48,11 +70,22 @@ public class PacketDataBytes {
         return result;
     }
 
+    /**
+     * Copies next bytes from packet bytes without interpreting them.
+     * @param length count of bytes to copy
+     * @return copied bytes
+     */
+    public byte[] readRawBytes(int length) {
+        var result = new byte[length];
+        dataBytes.get(result);
+        return result;
+    }
+
     /**
      * Skips next single byte in packet bytes.
      */
     public void skipZeroByte() {
-        dataBytesReaderIndex++;
+        skipZeroBytes(1);
     }
 
     /**
@@ -60,7 +93,7 @@ public class PacketDataBytes {
      * @param count count of bytes to skip
      */
     public void skipZeroBytes(int count) {
-        dataBytesReaderIndex += count;
+        dataBytes.position(Math.min(dataBytes.position() + count, dataBytes.limit()));
     }
 
     /**
@@ -68,7 +101,7 @@ public class PacketDataBytes {
      * @return read word value
      */
     public int readWord() {
-        return readByte() + (readByte() << 8);
+        return Short.toUnsignedInt(dataBytes.getShort());
     }
 
     /**
@@ -76,7 +109,7 @@ public class PacketDataBytes {
      * @return read short value
      */
     public short readShort() {
-        return (short) readWord();
+        return dataBytes.getShort();
     }
 
     /**
@@ -84,7 +117,7 @@ public class PacketDataBytes {
      * @return read char value
      */
     public byte readChar() {
-        return dataBytes[dataBytesReaderIndex++];
+        return dataBytes.get();
     }
 
     /**
@@ -93,16 +126,17 @@ public class PacketDataBytes {
      * @return read char array value
      */
     public String readCharArray(int length) {
+        var startIndex = dataBytes.position();
         var stringLength = length;
         for (int i = 0; i < length; i++) {
-            if (dataBytes[dataBytesReaderIndex + i] == 0) {
+            if (dataBytes.get(startIndex + i) == 0) {
                 stringLength = i;
                 break;
             }
         }
         byte[] stringBytes = new byte[stringLength];
-        System.arraycopy(dataBytes, dataBytesReaderIndex, stringBytes, 0, stringLength);
-        dataBytesReaderIndex += length;
+        dataBytes.get(stringBytes);
+        dataBytes.position(startIndex + length);
         return new String(stringBytes);
     }
 
@@ -111,7 +145,7 @@ public class PacketDataBytes {
      * @return read unsigned value
      */
     public long readUnsigned() {
-        return readByte() + ((long) readByte() << 8) + ((long) readByte() << 16) + ((long) readByte() << 24);
+        return Integer.toUnsignedLong(dataBytes.getInt());
     }
 
     /**
@@ -132,7 +166,7 @@ public class PacketDataBytes {
      * @return read int value
      */
     public int readInt() {
-        return (int) readUnsigned();
+        return dataBytes.getInt();
     }
 
     /**
@@ -140,12 +174,7 @@ public class PacketDataBytes {
      * @return read float value
      */
     public float readFloat() {
-        var asInt = (dataBytes[dataBytesReaderIndex] & 0xFF) |
-                ((dataBytes[dataBytesReaderIndex + 1] & 0xFF) << 8) |
-                ((dataBytes[dataBytesReaderIndex + 2] & 0xFF) << 16) |
-                ((dataBytes[dataBytesReaderIndex + 3] & 0xFF) << 24);
-        dataBytesReaderIndex += 4;
-        return Float.intBitsToFloat(asInt);
+        return dataBytes.getFloat();
     }
 
     /**
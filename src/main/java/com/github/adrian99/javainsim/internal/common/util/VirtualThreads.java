@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * This class gives access to virtual threads, which are available since Java 21. Library itself is compiled
+ * for older Java version, so virtual threads are accessed using reflection.
+ */
+public class VirtualThreads {
+    private VirtualThreads() {}
+
+    /**
+     * @return whether virtual threads are supported by current Java runtime
+     */
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates executor that starts new virtual thread for each task.
+     * @return created executor
+     * @throws UnsupportedOperationException if virtual threads are not supported by current Java runtime
+     */
+    public static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) java.util.concurrent.Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer", exception);
+        }
+    }
+
+    /**
+     * Creates thread factory that creates virtual threads.
+     * @return created thread factory
+     * @throws UnsupportedOperationException if virtual threads are not supported by current Java runtime
+     */
+    public static ThreadFactory newThreadFactory() {
+        try {
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+                    .getMethod("factory")
+                    .invoke(builder);
+        } catch (ReflectiveOperationException exception) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer", exception);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.dispatch;
+
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Queue of listener calls waiting to be executed, with limited size and configurable behavior on overflow.
+ * Dropped listener calls are counted, while warning is logged only once per overload - when the queue overflows
+ * for the first time since it was last empty.
+ */
+public class BoundedTaskQueue {
+    private final Logger logger = LoggerFactory.getLogger(BoundedTaskQueue.class);
+    private final int maxSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Deque<Runnable> tasks;
+    private long droppedTasksCount;
+    private boolean isOverloaded;
+
+    /**
+     * Creates bounded task queue.
+     * @param maxSize maximum count of tasks waiting in the queue - must be greater than 0
+     * @param overflowPolicy behavior when task is added to full queue
+     */
+    public BoundedTaskQueue(int maxSize, OverflowPolicy overflowPolicy) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max queue size must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.overflowPolicy = overflowPolicy;
+        tasks = new ArrayDeque<>();
+    }
+
+    /**
+     * Adds task at the end of the queue, applying overflow policy if the queue is full.
+     * @param task task to be added
+     * @return whether the task has been added
+     */
+    public synchronized boolean offer(Runnable task) {
+        while (tasks.size() >= maxSize) {
+            switch (overflowPolicy) {
+                case BLOCK -> {
+                    try {
+                        wait();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        logger.warn("Interrupted while waiting for space in dispatch queue - dropping packet");
+                        return false;
+                    }
+                }
+                case DROP_NEWEST -> {
+                    onTasksDropped(1);
+                    return false;
+                }
+                case DROP_OLDEST -> {
+                    onTasksDropped(1);
+                    tasks.poll();
+                }
+                case LATEST_ONLY -> {
+                    onTasksDropped(tasks.size());
+                    tasks.clear();
+                }
+            }
+        }
+        tasks.add(task);
+        return true;
+    }
+
+    /**
+     * Removes the first task from the queue.
+     * @return removed task, or null if the queue is empty
+     */
+    public synchronized Runnable poll() {
+        var task = tasks.poll();
+        if (task != null) {
+            notifyAll();
+        }
+        if (isOverloaded && tasks.isEmpty()) {
+            isOverloaded = false;
+            logger.debug("Dispatch queue has been drained - {} packets dropped so far", droppedTasksCount);
+        }
+        return task;
+    }
+
+    /**
+     * @return count of tasks dropped because of overflow since the queue was created
+     */
+    public synchronized long getDroppedTasksCount() {
+        return droppedTasksCount;
+    }
+
+    /**
+     * @return count of tasks waiting in the queue
+     */
+    public synchronized int size() {
+        return tasks.size();
+    }
+
+    private void onTasksDropped(int count) {
+        droppedTasksCount += count;
+        if (!isOverloaded) {
+            isOverloaded = true;
+            logger.warn("Dispatch queue is full - dropping packets ({}) until it is drained", overflowPolicy);
+        }
+    }
+}
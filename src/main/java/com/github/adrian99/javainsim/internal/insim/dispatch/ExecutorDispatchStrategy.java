@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.dispatch;
+
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import com.github.adrian99.javainsim.api.insim.dispatch.DispatchStrategy;
+import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Dispatch strategy that calls listeners using specified executor. Listener calls wait in bounded queue
+ * until executor is ready to run them, so they are started in the order in which packets were received,
+ * but may run in parallel.
+ * @param <T> type of dispatched packets
+ */
+public class ExecutorDispatchStrategy<T extends InfoPacket> implements DispatchStrategy<T> {
+    private final Logger logger = LoggerFactory.getLogger(ExecutorDispatchStrategy.class);
+    private final Executor executor;
+    private final BoundedTaskQueue queue;
+
+    /**
+     * Creates executor dispatch strategy.
+     * @param executor executor that will run listener calls
+     * @param maxQueuedEvents maximum count of listener calls waiting to be run
+     * @param overflowPolicy behavior when listener call is dispatched while the queue is full
+     */
+    public ExecutorDispatchStrategy(Executor executor, int maxQueuedEvents, OverflowPolicy overflowPolicy) {
+        this.executor = executor;
+        queue = new BoundedTaskQueue(maxQueuedEvents, overflowPolicy);
+    }
+
+    @Override
+    public void dispatch(T packet, Runnable listenerCall) {
+        if (queue.offer(listenerCall)) {
+            try {
+                executor.execute(this::runNext);
+            } catch (RejectedExecutionException exception) {
+                logger.error("Error occurred while dispatching packet: {}", exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return count of listener calls waiting to be run
+     */
+    public int getQueuedEventsCount() {
+        return queue.size();
+    }
+
+    @Override
+    public long getDroppedEventsCount() {
+        return queue.getDroppedTasksCount();
+    }
+
+    private void runNext() {
+        var listenerCall = queue.poll();
+        if (listenerCall != null) {
+            runListenerCall(listenerCall);
+        }
+    }
+
+    private void runListenerCall(Runnable listenerCall) {
+        try {
+            listenerCall.run();
+        } catch (Exception exception) {
+            logger.error("Error occurred in packet listener callback: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "listener callback", exception);
+        }
+    }
+}
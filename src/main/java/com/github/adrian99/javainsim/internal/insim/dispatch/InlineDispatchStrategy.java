@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.dispatch;
+
+import com.github.adrian99.javainsim.api.insim.dispatch.DispatchStrategy;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
+
+/**
+ * Dispatch strategy that calls listeners directly on the thread that has read the packet.
+ * @param <T> type of dispatched packets
+ */
+public class InlineDispatchStrategy<T extends InfoPacket> implements DispatchStrategy<T> {
+    @SuppressWarnings("rawtypes")
+    private static final InlineDispatchStrategy INSTANCE = new InlineDispatchStrategy<>();
+
+    private InlineDispatchStrategy() {}
+
+    /**
+     * @return shared instance of inline dispatch strategy
+     * @param <T> type of dispatched packets
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends InfoPacket> InlineDispatchStrategy<T> getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void dispatch(T packet, Runnable listenerCall) {
+        listenerCall.run();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.dispatch;
+
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import com.github.adrian99.javainsim.api.insim.dispatch.DispatchStrategy;
+import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToIntFunction;
+
+/**
+ * Dispatch strategy that divides packets into lanes by key extracted from the packet (e.g. PLID or UCID).
+ * Listener calls within single lane are run one after another, in the order in which packets were received,
+ * while different lanes are run in parallel using specified executor.
+ * @param <T> type of dispatched packets
+ */
+public class OrderedLanesDispatchStrategy<T extends InfoPacket> implements DispatchStrategy<T> {
+    private final ToIntFunction<? super T> laneKeyExtractor;
+    private final Lane[] lanes;
+
+    /**
+     * Creates ordered lanes dispatch strategy.
+     * @param executor executor that will run lanes
+     * @param laneKeyExtractor function extracting lane key from packet
+     * @param lanesCount count of lanes - packets with different keys may share single lane if there are
+     *                   more keys than lanes
+     * @param maxQueuedEventsPerLane maximum count of listener calls waiting to be run in single lane
+     * @param overflowPolicy behavior when listener call is dispatched while the lane queue is full
+     */
+    public OrderedLanesDispatchStrategy(Executor executor,
+                                        ToIntFunction<? super T> laneKeyExtractor,
+                                        int lanesCount,
+                                        int maxQueuedEventsPerLane,
+                                        OverflowPolicy overflowPolicy) {
+        if (lanesCount <= 0) {
+            throw new IllegalArgumentException("Lanes count must be greater than 0");
+        }
+        this.laneKeyExtractor = laneKeyExtractor;
+        lanes = new Lane[lanesCount];
+        for (var i = 0; i < lanesCount; i++) {
+            lanes[i] = new Lane(executor, new BoundedTaskQueue(maxQueuedEventsPerLane, overflowPolicy));
+        }
+    }
+
+    @Override
+    public void dispatch(T packet, Runnable listenerCall) {
+        var laneKey = laneKeyExtractor.applyAsInt(packet);
+        lanes[Math.floorMod(laneKey, lanes.length)].submit(listenerCall);
+    }
+
+    @Override
+    public long getDroppedEventsCount() {
+        var droppedEventsCount = 0L;
+        for (var lane : lanes) {
+            droppedEventsCount += lane.queue.getDroppedTasksCount();
+        }
+        return droppedEventsCount;
+    }
+
+    private static class Lane {
+        private final Logger logger = LoggerFactory.getLogger(OrderedLanesDispatchStrategy.class);
+        private final Executor executor;
+        private final BoundedTaskQueue queue;
+        private final AtomicBoolean isScheduled;
+
+        private Lane(Executor executor, BoundedTaskQueue queue) {
+            this.executor = executor;
+            this.queue = queue;
+            isScheduled = new AtomicBoolean();
+        }
+
+        private void submit(Runnable listenerCall) {
+            if (queue.offer(listenerCall)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (isScheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException exception) {
+                    isScheduled.set(false);
+                    logger.error("Error occurred while dispatching packet: {}", exception.getMessage());
+                }
+            }
+        }
+
+        private void drain() {
+            Runnable listenerCall;
+            while ((listenerCall = queue.poll()) != null) {
+                runListenerCall(listenerCall);
+            }
+            isScheduled.set(false);
+            if (queue.size() > 0) {
+                schedule();
+            }
+        }
+
+        private void runListenerCall(Runnable listenerCall) {
+            try {
+                listenerCall.run();
+            } catch (Exception exception) {
+                logger.error("Error occurred in packet listener callback: {}", exception.getMessage());
+                LoggerUtils.logStacktrace(logger, "listener callback", exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.listeners;
+
+import com.github.adrian99.javainsim.api.insim.PacketListener;
+import com.github.adrian99.javainsim.api.insim.dispatch.DispatchStrategy;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.internal.common.util.ListenerArray;
+
+/**
+ * Registry of InSim packet listeners, safe to be modified from any thread. Listeners of each packet type
+ * are kept in separate {@link ListenerArray}, so that the reading thread gets them as plain array snapshot,
+ * without locking.
+ */
+public class PacketListenerRegistry {
+    private static final Registration[] EMPTY = new Registration[0];
+    private final ListenerArray<?>[] listenersByType;
+
+    /**
+     * Creates empty packet listener registry.
+     */
+    public PacketListenerRegistry() {
+        var packetTypes = PacketType.values();
+        listenersByType = new ListenerArray<?>[packetTypes.length];
+        for (var packetType : packetTypes) {
+            listenersByType[packetType.ordinal()] = new ListenerArray<>(EMPTY);
+        }
+    }
+
+    /**
+     * Registers listener of specified packet type, unless the same listener is already registered.
+     * @param packetType type of the packet to listen for
+     * @param packetListener listener to be registered
+     * @param dispatchStrategy strategy of calling the listener
+     * @return whether the listener has been registered
+     */
+    @SuppressWarnings("rawtypes")
+    public boolean add(PacketType packetType, PacketListener packetListener, DispatchStrategy dispatchStrategy) {
+        return getListenerArray(packetType).add(new Registration(packetListener, dispatchStrategy));
+    }
+
+    /**
+     * Unregisters listener of specified packet type.
+     * @param packetType type of the packet that was listened for
+     * @param packetListener listener to be unregistered
+     * @return whether the listener has been unregistered
+     */
+    @SuppressWarnings("rawtypes")
+    public boolean remove(PacketType packetType, PacketListener packetListener) {
+        return getListenerArray(packetType).remove(new Registration(packetListener, null));
+    }
+
+    /**
+     * Returns current snapshot of registrations of specified packet type. Returned array is shared,
+     * so it must not be modified.
+     * @param packetType packet type
+     * @return array of registrations
+     */
+    public Registration[] get(PacketType packetType) {
+        return getListenerArray(packetType).get();
+    }
+
+    /**
+     * @param packetType packet type
+     * @return whether there is any listener of specified packet type
+     */
+    public boolean hasListeners(PacketType packetType) {
+        return !getListenerArray(packetType).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ListenerArray<Registration> getListenerArray(PacketType packetType) {
+        return (ListenerArray<Registration>) listenersByType[packetType.ordinal()];
+    }
+
+    /**
+     * Single packet listener registration. Registrations of the same listener are considered equal regardless
+     * of dispatch strategy, so that duplicate listeners are ignored.
+     */
+    @SuppressWarnings("rawtypes")
+    public static class Registration {
+        private final PacketListener packetListener;
+        private final DispatchStrategy dispatchStrategy;
+
+        private Registration(PacketListener packetListener, DispatchStrategy dispatchStrategy) {
+            this.packetListener = packetListener;
+            this.dispatchStrategy = dispatchStrategy;
+        }
+
+        /**
+         * @return registered listener
+         */
+        public PacketListener getPacketListener() {
+            return packetListener;
+        }
+
+        /**
+         * @return strategy of calling the listener
+         */
+        public DispatchStrategy getDispatchStrategy() {
+            return dispatchStrategy;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Registration registration && packetListener.equals(registration.packetListener);
+        }
+
+        @Override
+        public int hashCode() {
+            return packetListener.hashCode();
+        }
+    }
+}
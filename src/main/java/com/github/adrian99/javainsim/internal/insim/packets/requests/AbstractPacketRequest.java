@@ -17,8 +17,7 @@ import com.github.adrian99.javainsim.api.insim.PacketListener;
 import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
 import com.github.adrian99.javainsim.internal.insim.packets.base.RequestablePacket;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class provides basic implementations of methods from {@link PacketRequest} interface.
@@ -29,9 +28,10 @@ public abstract class AbstractPacketRequest<T extends RequestablePacket> impleme
     private final PacketType requestedPacketType;
     private final boolean singlePacketResponse;
     private final PacketListener<T> callback;
-    private final long timoutMillis;
+    private final long timeoutNanos;
     private InstructionPacket requestPacket;
-    private LocalDateTime lastUpdate;
+    private Runnable timeoutCallback;
+    private volatile long lastUpdateNanos;
 
     /**
      * Creates basic packet request implementation.
@@ -50,8 +50,8 @@ public abstract class AbstractPacketRequest<T extends RequestablePacket> impleme
         this.requestedPacketType = requestedPacketType;
         this.singlePacketResponse = singlePacketResponse;
         this.callback = callback;
-        this.timoutMillis = timeoutMillis;
-        lastUpdate = LocalDateTime.now();
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        lastUpdateNanos = System.nanoTime();
     }
 
     /**
@@ -87,7 +87,7 @@ public abstract class AbstractPacketRequest<T extends RequestablePacket> impleme
                 logger.error("Error occurred in packet request callback: {}", exception.getMessage());
                 LoggerUtils.logStacktrace(logger, "packet request callback", exception);
             }
-            lastUpdate = LocalDateTime.now();
+            lastUpdateNanos = System.nanoTime();
             return singlePacketResponse;
         }
         return false;
@@ -100,6 +100,29 @@ public abstract class AbstractPacketRequest<T extends RequestablePacket> impleme
 
     @Override
     public boolean isTimedOut() {
-        return lastUpdate.until(LocalDateTime.now(), ChronoUnit.MILLIS) > timoutMillis;
+        return System.nanoTime() - lastUpdateNanos > timeoutNanos;
+    }
+
+    @Override
+    public long getTimeoutDeadlineNanos() {
+        return lastUpdateNanos + timeoutNanos;
+    }
+
+    @Override
+    public void setTimeoutCallback(Runnable timeoutCallback) {
+        this.timeoutCallback = timeoutCallback;
+    }
+
+    @Override
+    public void onTimedOut() {
+        logger.debug("Packet request timed out");
+        if (timeoutCallback != null) {
+            try {
+                timeoutCallback.run();
+            } catch (Exception exception) {
+                logger.error("Error occurred in packet request timeout callback: {}", exception.getMessage());
+                LoggerUtils.logStacktrace(logger, "packet request timeout callback", exception);
+            }
+        }
     }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.packets.requests;
+
+import com.github.adrian99.javainsim.api.insim.InSimConnection;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InstructionPacket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet request grouping identical packet requests (with equal {@link PacketRequest#getCoalescingKey() coalescing
+ * keys}), which share single reqI value, request packet and response. Further packet requests can be attached
+ * to the group only until the first packet of the response is received, so that each of them receives
+ * the whole response. Each packet request of the group times out on its own deadline - the group is scheduled
+ * to the earliest deadline of its packet requests, and times out when all of them time out.
+ */
+public class CoalescedPacketRequest implements PacketRequest {
+    private final Object coalescingKey;
+    private final PacketType requestedPacketType;
+    private final List<PacketRequest> packetRequests;
+    private volatile InstructionPacket requestPacket;
+    private boolean hasReceivedPackets;
+    private boolean isClosed;
+
+    /**
+     * Creates group of identical packet requests.
+     * @param packetRequest the first packet request of the group
+     */
+    public CoalescedPacketRequest(PacketRequest packetRequest) {
+        coalescingKey = packetRequest.getCoalescingKey();
+        requestedPacketType = packetRequest.getRequestedPacketType();
+        packetRequests = new ArrayList<>();
+        packetRequests.add(packetRequest);
+    }
+
+    /**
+     * Attaches specified packet request to the group, assigning it reqI value of the group.
+     * @param packetRequest packet request identical to the packet requests of the group
+     * @return whether the packet request was attached - false if the group has already received packets
+     * or has been closed
+     */
+    public synchronized boolean attach(PacketRequest packetRequest) {
+        if (hasReceivedPackets || isClosed || packetRequests.isEmpty()) {
+            return false;
+        }
+        packetRequest.assignReqI(requestPacket.getReqI());
+        packetRequests.add(packetRequest);
+        return true;
+    }
+
+    /**
+     * Detaches specified packet request from the group, so that it no longer receives packets.
+     * @param packetRequest packet request of the group
+     * @return whether there are no more packet requests in the group
+     */
+    public synchronized boolean detach(PacketRequest packetRequest) {
+        packetRequests.remove(packetRequest);
+        return packetRequests.isEmpty();
+    }
+
+    /**
+     * Detaches all timed out packet requests from the group.
+     * @return detached packet requests, whose timeout callbacks should be called
+     */
+    public synchronized List<PacketRequest> detachTimedOut() {
+        var timedOutPacketRequests = new ArrayList<PacketRequest>();
+        var iterator = packetRequests.iterator();
+        while (iterator.hasNext()) {
+            var packetRequest = iterator.next();
+            if (packetRequest.isTimedOut()) {
+                iterator.remove();
+                timedOutPacketRequests.add(packetRequest);
+            }
+        }
+        return timedOutPacketRequests;
+    }
+
+    /**
+     * Closes the group, so that no more packet requests can be attached to it.
+     */
+    public synchronized void close() {
+        isClosed = true;
+    }
+
+    /**
+     * @return packet requests of the group
+     */
+    public synchronized List<PacketRequest> getPacketRequests() {
+        return List.copyOf(packetRequests);
+    }
+
+    @Override
+    public synchronized void assignReqI(short reqI) {
+        for (var packetRequest : packetRequests) {
+            packetRequest.assignReqI(reqI);
+        }
+        requestPacket = packetRequests.get(0).getRequestPacket();
+    }
+
+    @Override
+    public PacketType getRequestedPacketType() {
+        return requestedPacketType;
+    }
+
+    @Override
+    public InstructionPacket getRequestPacket() {
+        return requestPacket;
+    }
+
+    @Override
+    public boolean handleReceivedPacket(InSimConnection inSimConnection, InfoPacket receivedPacket) {
+        if (!matches(receivedPacket.getType(), receivedPacket.getReqI())) {
+            return false;
+        }
+        List<PacketRequest> currentPacketRequests;
+        synchronized (this) {
+            hasReceivedPackets = true;
+            currentPacketRequests = List.copyOf(packetRequests);
+        }
+        var isCompleted = true;
+        for (var packetRequest : currentPacketRequests) {
+            isCompleted &= packetRequest.handleReceivedPacket(inSimConnection, receivedPacket);
+        }
+        return isCompleted;
+    }
+
+    @Override
+    public boolean matches(PacketType packetType, short reqI) {
+        return requestedPacketType.equals(packetType) && requestPacket.getReqI() == reqI;
+    }
+
+    @Override
+    public synchronized boolean isTimedOut() {
+        return packetRequests.stream().allMatch(PacketRequest::isTimedOut);
+    }
+
+    @Override
+    public synchronized long getTimeoutDeadlineNanos() {
+        if (packetRequests.isEmpty()) {
+            return System.nanoTime();
+        }
+        var deadlineNanos = packetRequests.get(0).getTimeoutDeadlineNanos();
+        for (var packetRequest : packetRequests) {
+            if (packetRequest.getTimeoutDeadlineNanos() - deadlineNanos < 0) {
+                deadlineNanos = packetRequest.getTimeoutDeadlineNanos();
+            }
+        }
+        return deadlineNanos;
+    }
+
+    /**
+     * Sets callback to be called when any of packet requests currently in the group times out, replacing their
+     * own timeout callbacks. Packet requests attached to the group later keep their own timeout callbacks.
+     * @param timeoutCallback method to be called when packet request times out
+     */
+    @Override
+    public synchronized void setTimeoutCallback(Runnable timeoutCallback) {
+        for (var packetRequest : packetRequests) {
+            packetRequest.setTimeoutCallback(timeoutCallback);
+        }
+    }
+
+    @Override
+    public void onTimedOut() {
+        for (var packetRequest : getPacketRequests()) {
+            packetRequest.onTimedOut();
+        }
+    }
+
+    @Override
+    public Object getCoalescingKey() {
+        return coalescingKey;
+    }
+}
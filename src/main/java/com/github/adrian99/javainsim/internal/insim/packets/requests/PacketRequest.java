@@ -53,4 +53,30 @@ public interface PacketRequest {
      * @return whether packet request is timed out
      */
     boolean isTimedOut();
+
+    /**
+     * @return value of {@link System#nanoTime()} at which packet request times out, unless any matching packet
+     * is received before
+     */
+    long getTimeoutDeadlineNanos();
+
+    /**
+     * Sets callback to be called when packet request times out.
+     * @param timeoutCallback method to be called when packet request times out
+     */
+    void setTimeoutCallback(Runnable timeoutCallback);
+
+    /**
+     * Handles timing out of the packet request, by calling its timeout callback (if it was set).
+     */
+    void onTimedOut();
+
+    /**
+     * @return key identifying packet requests that can share single response - packet request with the same key
+     * as pending packet request, which has not received any packets yet, is attached to it instead of sending
+     * another request packet; null if the packet request cannot share response with other packet requests
+     */
+    default Object getCoalescingKey() {
+        return null;
+    }
 }
@@ -8,6 +8,8 @@
 
 package com.github.adrian99.javainsim.internal.insim.packets.requests;
 
+import com.github.adrian99.javainsim.api.common.metrics.ConnectionMetrics;
+import com.github.adrian99.javainsim.internal.common.util.HashedTimerWheel;
 import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,54 +18,158 @@ import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
-import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * This class is a helper that manages {@link PacketRequest} instances.
+ * This class is a helper that manages {@link PacketRequest} instances. Pending packet requests are kept in table
+ * indexed by requested packet type and reqI value, so matching received packet with its request takes constant time
+ * and does not lock. Free reqI values are tracked in bitmap per packet type. Timeouts of packet requests are
+ * scheduled in {@link HashedTimerWheel}, so timed out request is removed (and its timeout callback is called)
+ * shortly after its deadline, without scanning other pending requests. Identical packet requests (with equal
+ * {@link PacketRequest#getCoalescingKey() coalescing keys}) made while the first of them awaits response are grouped
+ * in {@link CoalescedPacketRequest}, so that they share single request packet and response. Timeout callbacks
+ * are handed off to specified executor, so that slow callback does not delay other timeouts. All methods can be
+ * called concurrently by packet reading thread, timer thread and threads making requests.
  */
 public class PacketRequests implements Closeable {
+    private static final int REQ_I_VALUES_COUNT = 256;
+    private static final int MIN_REQ_I = 1;
     private final Logger logger = LoggerFactory.getLogger(PacketRequests.class);
-    private final Set<PacketRequest> pendingPacketRequests;
+    private final AtomicReferenceArray<PacketRequest> packetRequestsTable;
+    private final BitSet[] usedReqIs;
+    private final Map<PacketRequest, HashedTimerWheel.Timeout> pendingPacketRequests;
+    private final Map<Object, CoalescedPacketRequest> coalescedPacketRequests;
+    private final Map<PacketRequest, CoalescedPacketRequest> coalescedPacketRequestsByMember;
     private final Random random;
-    private final long cleanUpIntervalMillis;
-    private final ScheduledExecutorService executorService;
-    private ScheduledFuture<?> cleanUpThread;
+    private final long recurringRequestsCheckIntervalNanos;
+    private final HashedTimerWheel timerWheel;
+    private final boolean ownsTimerWheel;
+    private final Executor timeoutCallbackExecutor;
+    private volatile ConnectionMetrics metrics = ConnectionMetrics.noOp();
 
     /**
-     * Creates {@link PacketRequest} helper.
-     * @param cleanUpIntervalMillis interval (in milliseconds) in which checks for timed out packet requests
-     *                              should be performed
+     * Creates {@link PacketRequest} helper, which schedules timeouts using its own timer wheel. The thread of the wheel
+     * is created by specified thread factory, and finishes when the helper is closed.
+     * @param recurringRequestsCheckIntervalMillis interval (in milliseconds) in which recurring packet requests
+     *                                             are checked for being cancelled
+     * @param threadFactory factory of the thread of the timer wheel
+     * @param timeoutCallbackExecutor executor that runs timeout callbacks of packet requests
      */
-    public PacketRequests(long cleanUpIntervalMillis) {
+    public PacketRequests(long recurringRequestsCheckIntervalMillis,
+                          ThreadFactory threadFactory,
+                          Executor timeoutCallbackExecutor) {
+        this(recurringRequestsCheckIntervalMillis, new HashedTimerWheel(threadFactory), true, timeoutCallbackExecutor);
+    }
+
+    /**
+     * Creates {@link PacketRequest} helper, which schedules timeouts using specified timer wheel. The wheel is not
+     * stopped when the helper is closed.
+     * @param recurringRequestsCheckIntervalMillis interval (in milliseconds) in which recurring packet requests
+     *                                             are checked for being cancelled
+     * @param timerWheel timer wheel used to schedule timeouts
+     * @param timeoutCallbackExecutor executor that runs timeout callbacks of packet requests
+     */
+    public PacketRequests(long recurringRequestsCheckIntervalMillis,
+                          HashedTimerWheel timerWheel,
+                          Executor timeoutCallbackExecutor) {
+        this(recurringRequestsCheckIntervalMillis, timerWheel, false, timeoutCallbackExecutor);
+    }
+
+    private PacketRequests(long recurringRequestsCheckIntervalMillis,
+                           HashedTimerWheel timerWheel,
+                           boolean ownsTimerWheel,
+                           Executor timeoutCallbackExecutor) {
         logger.debug("Initializing PacketRequests");
-        this.pendingPacketRequests = new HashSet<>();
+        var packetTypesCount = PacketType.values().length;
+        this.packetRequestsTable = new AtomicReferenceArray<>(packetTypesCount * REQ_I_VALUES_COUNT);
+        this.usedReqIs = new BitSet[packetTypesCount];
+        for (var i = 0; i < packetTypesCount; i++) {
+            usedReqIs[i] = new BitSet(REQ_I_VALUES_COUNT);
+        }
+        this.pendingPacketRequests = new ConcurrentHashMap<>();
+        this.coalescedPacketRequests = new HashMap<>();
+        this.coalescedPacketRequestsByMember = new ConcurrentHashMap<>();
         this.random = new Random();
-        this.cleanUpIntervalMillis = cleanUpIntervalMillis;
-        this.executorService = Executors.newSingleThreadScheduledExecutor();
+        this.recurringRequestsCheckIntervalNanos = TimeUnit.MILLISECONDS.toNanos(recurringRequestsCheckIntervalMillis);
+        this.timerWheel = timerWheel;
+        this.ownsTimerWheel = ownsTimerWheel;
+        this.timeoutCallbackExecutor = timeoutCallbackExecutor;
     }
 
+    /**
+     * Cancels timeouts of all pending packet requests. Their timeout callbacks are not called. Own timer wheel
+     * of the helper is stopped.
+     */
     @Override
     public void close() throws IOException {
         logger.debug("Closing PacketRequests");
-        executorService.shutdownNow();
+        pendingPacketRequests.values().forEach(HashedTimerWheel.Timeout::cancel);
+        if (ownsTimerWheel) {
+            timerWheel.stop();
+        }
+    }
+
+    /**
+     * Sets metrics notified about timed out packet requests and changes of pending packet requests count.
+     * @param connectionMetrics metrics of InSim connection
+     */
+    public void setMetrics(ConnectionMetrics connectionMetrics) {
+        metrics = connectionMetrics;
     }
 
     /**
-     * Adds specified packet request to list of pending packet requests.
+     * Adds specified packet request to list of pending packet requests. If identical packet request is pending
+     * and has not received any packets yet, specified packet request is attached to it - it gets the same reqI value
+     * and receives the same response, so its request packet should not be sent.
      * @param packetRequest packet request to be added
+     * @return whether request packet of the packet request should be sent - false if it has been attached
+     * to identical pending packet request
+     * @throws IllegalStateException if the packet request is already pending, or if all reqI values are already used
+     * by pending requests of the same packet type
      */
-    public void add(PacketRequest packetRequest) {
+    public boolean add(PacketRequest packetRequest) {
+        if (pendingPacketRequests.containsKey(packetRequest) ||
+                coalescedPacketRequestsByMember.containsKey(packetRequest)) {
+            throw new IllegalStateException("Packet request is already pending");
+        }
+        var coalescingKey = packetRequest.getCoalescingKey();
+        if (coalescingKey == null) {
+            addPending(packetRequest);
+            return true;
+        }
+        synchronized (coalescedPacketRequests) {
+            var coalescedPacketRequest = coalescedPacketRequests.get(coalescingKey);
+            if (coalescedPacketRequest != null && coalescedPacketRequest.attach(packetRequest)) {
+                logger.debug("Attaching packet request to identical pending packet request");
+                coalescedPacketRequestsByMember.put(packetRequest, coalescedPacketRequest);
+                return false;
+            }
+            coalescedPacketRequest = new CoalescedPacketRequest(packetRequest);
+            addPending(coalescedPacketRequest);
+            coalescedPacketRequests.put(coalescingKey, coalescedPacketRequest);
+            coalescedPacketRequestsByMember.put(packetRequest, coalescedPacketRequest);
+            return true;
+        }
+    }
+
+    private void addPending(PacketRequest packetRequest) {
         logger.debug("Adding new packet request");
-        packetRequest.assignReqI(getFreeReqI(packetRequest.getRequestedPacketType()));
-        pendingPacketRequests.add(packetRequest);
-        tryToScheduleCleanUpThread();
+        var packetType = packetRequest.getRequestedPacketType();
+        var reqI = allocateReqI(packetType);
+        packetRequest.assignReqI(reqI);
+        packetRequestsTable.set(getTableIndex(packetType, reqI), packetRequest);
+        pendingPacketRequests.put(packetRequest, scheduleTimeout(packetRequest));
+        metrics.onPendingRequestsCountChanged(pendingPacketRequests.size());
     }
 
     /**
@@ -73,7 +179,7 @@ public class PacketRequests implements Closeable {
      * @return whether any match was found
      */
     public boolean anyMatch(PacketType packetType, short reqI) {
-        return pendingPacketRequests.stream().anyMatch(packetRequest -> packetRequest.matches(packetType, reqI));
+        return getPacketRequest(packetType, reqI) != null;
     }
 
     /**
@@ -83,12 +189,37 @@ public class PacketRequests implements Closeable {
      * @param receivedPacket received packet
      */
     public void handle(InSimConnection inSimConnection, InfoPacket receivedPacket) {
-        var anyRequestRemoved = pendingPacketRequests.removeIf(
-                packetRequest -> packetRequest.handleReceivedPacket(inSimConnection, receivedPacket)
-        );
-        if (anyRequestRemoved) {
-            tryToStopCleanUpThread();
+        var packetRequest = getPacketRequest(receivedPacket.getType(), receivedPacket.getReqI());
+        if (packetRequest != null &&
+                packetRequest.handleReceivedPacket(inSimConnection, receivedPacket) &&
+                remove(packetRequest)) {
+            metrics.onPendingRequestsCountChanged(pendingPacketRequests.size());
+        }
+    }
+
+    /**
+     * Removes specified packet request from pending packet requests, releasing its reqI value. Its timeout
+     * callback is not called.
+     * @param packetRequest packet request to be removed
+     * @return whether the packet request was pending
+     */
+    public boolean cancel(PacketRequest packetRequest) {
+        var coalescedPacketRequest = coalescedPacketRequestsByMember.remove(packetRequest);
+        if (coalescedPacketRequest != null) {
+            synchronized (coalescedPacketRequests) {
+                if (!coalescedPacketRequest.detach(packetRequest)) {
+                    logger.debug("Detached packet request from coalesced packet request");
+                    return true;
+                }
+            }
+            return cancel(coalescedPacketRequest);
+        }
+        if (remove(packetRequest)) {
+            logger.debug("Cancelled packet request");
+            metrics.onPendingRequestsCountChanged(pendingPacketRequests.size());
+            return true;
         }
+        return false;
     }
 
     /**
@@ -96,45 +227,127 @@ public class PacketRequests implements Closeable {
      * @throws IOException if I/O error occurs when cancelling recurring packet request
      */
     public void cancelAllRecurringPacketRequests() throws IOException {
-        for (var packetRequest : pendingPacketRequests) {
+        for (var packetRequest : pendingPacketRequests.keySet()) {
             if (packetRequest instanceof RecurringPacketRequest<?> recurringPacketRequest && !recurringPacketRequest.isTimedOut()) {
                 recurringPacketRequest.getActiveSubscription().cancel();
             }
         }
     }
 
-    private short getFreeReqI(PacketType packetType) {
-        var allowedReqIs = IntStream.range(1, 256).filter(
-                reqI -> pendingPacketRequests.stream().noneMatch(
-                        packetRequest -> packetRequest.matches(packetType, (short) reqI)
-                )
-        ).toArray();
-        var reqIIndex = random.nextInt(0, allowedReqIs.length);
-        return (short) allowedReqIs[reqIIndex];
+    private PacketRequest getPacketRequest(PacketType packetType, short reqI) {
+        if (reqI < MIN_REQ_I || reqI >= REQ_I_VALUES_COUNT) {
+            return null;
+        }
+        return packetRequestsTable.get(getTableIndex(packetType, reqI));
     }
 
-    private void tryToScheduleCleanUpThread() {
-        if (cleanUpThread == null || cleanUpThread.isCancelled()) {
-            logger.debug("Scheduling clean-up thread");
-            cleanUpThread = executorService.scheduleAtFixedRate(
-                    this::cleanUp,
-                    cleanUpIntervalMillis,
-                    cleanUpIntervalMillis,
-                    TimeUnit.MILLISECONDS
-            );
+    private boolean remove(PacketRequest packetRequest) {
+        var timeout = pendingPacketRequests.remove(packetRequest);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.cancel();
+        var packetType = packetRequest.getRequestedPacketType();
+        var reqI = packetRequest.getRequestPacket().getReqI();
+        packetRequestsTable.compareAndSet(getTableIndex(packetType, reqI), packetRequest, null);
+        releaseReqI(packetType, reqI);
+        if (packetRequest instanceof CoalescedPacketRequest coalescedPacketRequest) {
+            removeCoalesced(coalescedPacketRequest);
+        }
+        return true;
+    }
+
+    private void removeCoalesced(CoalescedPacketRequest coalescedPacketRequest) {
+        synchronized (coalescedPacketRequests) {
+            coalescedPacketRequest.close();
+            coalescedPacketRequests.remove(coalescedPacketRequest.getCoalescingKey(), coalescedPacketRequest);
+        }
+        for (var packetRequest : coalescedPacketRequest.getPacketRequests()) {
+            coalescedPacketRequestsByMember.remove(packetRequest, coalescedPacketRequest);
+        }
+    }
+
+    private short allocateReqI(PacketType packetType) {
+        var packetTypeReqIs = usedReqIs[packetType.ordinal()];
+        synchronized (packetTypeReqIs) {
+            var reqI = packetTypeReqIs.nextClearBit(random.nextInt(MIN_REQ_I, REQ_I_VALUES_COUNT));
+            if (reqI >= REQ_I_VALUES_COUNT) {
+                reqI = packetTypeReqIs.nextClearBit(MIN_REQ_I);
+            }
+            if (reqI >= REQ_I_VALUES_COUNT) {
+                throw new IllegalStateException("All reqI values are used by pending requests of " + packetType +
+                        " packet");
+            }
+            packetTypeReqIs.set(reqI);
+            return (short) reqI;
+        }
+    }
+
+    private void releaseReqI(PacketType packetType, short reqI) {
+        var packetTypeReqIs = usedReqIs[packetType.ordinal()];
+        synchronized (packetTypeReqIs) {
+            packetTypeReqIs.clear(reqI);
         }
     }
 
-    private void cleanUp() {
-        logger.debug("Cleaning-up timed out packet requests...");
-        pendingPacketRequests.removeIf(PacketRequest::isTimedOut);
-        tryToStopCleanUpThread();
+    private static int getTableIndex(PacketType packetType, short reqI) {
+        return packetType.ordinal() * REQ_I_VALUES_COUNT + reqI;
+    }
+
+    private HashedTimerWheel.Timeout scheduleTimeout(PacketRequest packetRequest) {
+        var delayNanos = packetRequest instanceof RecurringPacketRequest<?> ?
+                recurringRequestsCheckIntervalNanos :
+                packetRequest.getTimeoutDeadlineNanos() - System.nanoTime();
+        return timerWheel.schedule(() -> onTimeoutExpired(packetRequest), delayNanos);
+    }
+
+    private void onTimeoutExpired(PacketRequest packetRequest) {
+        if (packetRequest instanceof CoalescedPacketRequest coalescedPacketRequest) {
+            onCoalescedTimeoutExpired(coalescedPacketRequest);
+        } else if (!packetRequest.isTimedOut()) {
+            pendingPacketRequests.computeIfPresent(packetRequest, (request, expiredTimeout) -> scheduleTimeout(request));
+        } else if (remove(packetRequest)) {
+            var currentMetrics = metrics;
+            currentMetrics.onPendingRequestsCountChanged(pendingPacketRequests.size());
+            if (!(packetRequest instanceof RecurringPacketRequest<?>)) {
+                logger.debug("Removing timed out packet request");
+                currentMetrics.onRequestTimedOut(packetRequest.getRequestedPacketType());
+                callTimeoutCallback(packetRequest);
+            }
+        }
+    }
+
+    private void onCoalescedTimeoutExpired(CoalescedPacketRequest coalescedPacketRequest) {
+        List<PacketRequest> timedOutPacketRequests;
+        boolean isEmpty;
+        synchronized (coalescedPacketRequests) {
+            timedOutPacketRequests = coalescedPacketRequest.detachTimedOut();
+            isEmpty = coalescedPacketRequest.getPacketRequests().isEmpty();
+        }
+        for (var packetRequest : timedOutPacketRequests) {
+            coalescedPacketRequestsByMember.remove(packetRequest, coalescedPacketRequest);
+        }
+        var currentMetrics = metrics;
+        if (!isEmpty) {
+            pendingPacketRequests.computeIfPresent(
+                    coalescedPacketRequest,
+                    (request, expiredTimeout) -> scheduleTimeout(request)
+            );
+        } else if (remove(coalescedPacketRequest)) {
+            currentMetrics.onPendingRequestsCountChanged(pendingPacketRequests.size());
+        }
+        for (var packetRequest : timedOutPacketRequests) {
+            logger.debug("Removing timed out packet request");
+            currentMetrics.onRequestTimedOut(packetRequest.getRequestedPacketType());
+            callTimeoutCallback(packetRequest);
+        }
     }
 
-    private void tryToStopCleanUpThread() {
-        if (pendingPacketRequests.isEmpty() && cleanUpThread != null && !cleanUpThread.isCancelled()) {
-            logger.debug("Stopping clean-up thread - no pending packet requests left");
-            cleanUpThread.cancel(false);
+    private void callTimeoutCallback(PacketRequest packetRequest) {
+        try {
+            timeoutCallbackExecutor.execute(packetRequest::onTimedOut);
+        } catch (RejectedExecutionException exception) {
+            logger.error("Error occurred while calling packet request timeout callback: {}", exception.getMessage());
         }
     }
 }
@@ -11,12 +11,20 @@ package com.github.adrian99.javainsim.internal.insim.packets.requests.builders;
 import com.github.adrian99.javainsim.api.insim.InSimConnection;
 import com.github.adrian99.javainsim.api.insim.PacketListener;
 import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
 import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinyRequestingSubtype;
 import com.github.adrian99.javainsim.api.insim.packets.requests.TinyPacketRequest;
 import com.github.adrian99.javainsim.internal.insim.packets.base.RequestablePacket;
 import com.github.adrian99.javainsim.internal.insim.packets.requests.PacketRequest;
 import com.github.adrian99.javainsim.internal.insim.packets.requests.builders.base.NonRecurringPacketRequestBuilder;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Basic builder of packet request where {@link TinyPacket} serves as a request. Both single and multiple packet
  * responses are allowed.
@@ -35,8 +43,54 @@ public class TinyPacketRequestBuilder<T extends RequestablePacket> extends NonRe
         this.tinySubtype = tinySubtype;
     }
 
+    /**
+     * Concludes building packet request, which is then registered in provided InSim connection, and gathers all
+     * packets received in response. Request packet is followed by {@link TinySubtypes#PING PING}
+     * {@link TinyPacket} - as LFS answers requests in order, receiving the ping reply means that all requested
+     * packets have been received, so the request is removed immediately instead of waiting for its timeout.
+     * Packets sent by LFS over UDP (see {@link InSimConnection#enableUdpReceiving()}) may arrive after
+     * the ping reply, so they should not be requested this way.
+     * @return {@link CompletableFuture} that will complete with list of received packets (in order of receiving)
+     * when the ping reply is received, or complete exceptionally with {@link TimeoutException} if the request
+     * times out
+     * @throws IOException if I/O error occurs when sending request packets
+     */
+    public CompletableFuture<List<T>> aggregate() throws IOException {
+        var completableFuture = new CompletableFuture<List<T>>();
+        var receivedPackets = new ArrayList<T>();
+        var packetRequest = buildPacketRequest((connection, packet) -> {
+            synchronized (receivedPackets) {
+                receivedPackets.add(packet);
+            }
+        });
+        var pingRequest = new TinyPacketRequest<>(TinySubtypes.PING, (connection, packet) -> {
+            connection.cancelRequest(packetRequest);
+            synchronized (receivedPackets) {
+                completableFuture.complete(List.copyOf(receivedPackets));
+            }
+        }, requestTimeoutMillis);
+        Runnable timeoutCallback = () -> {
+            inSimConnection.cancelRequest(packetRequest);
+            inSimConnection.cancelRequest(pingRequest);
+            completableFuture.completeExceptionally(new TimeoutException("Packet request timed out"));
+        };
+        packetRequest.setTimeoutCallback(timeoutCallback);
+        pingRequest.setTimeoutCallback(timeoutCallback);
+        inSimConnection.request(packetRequest);
+        inSimConnection.request(pingRequest);
+        return completableFuture;
+    }
+
+    @Override
+    protected Optional<T> getCachedResponse() {
+        return inSimConnection.getResponseCache().get(tinySubtype);
+    }
+
     @Override
     protected PacketRequest buildPacketRequest(PacketListener<T> callback) {
-        return new TinyPacketRequest<>(tinySubtype, callback, requestTimeoutMillis);
+        return new TinyPacketRequest<>(tinySubtype, (connection, packet) -> {
+            connection.getResponseCache().put(tinySubtype, packet);
+            callback.onPacketReceived(connection, packet);
+        }, requestTimeoutMillis, true);
     }
 }
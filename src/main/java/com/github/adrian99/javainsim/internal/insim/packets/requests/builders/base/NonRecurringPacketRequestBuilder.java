@@ -14,6 +14,7 @@ import com.github.adrian99.javainsim.internal.insim.packets.base.RequestablePack
 import com.github.adrian99.javainsim.internal.insim.packets.requests.PacketRequest;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Basic builder of non-recurring packet request. Both single and multiple packet
@@ -31,14 +32,48 @@ public abstract class NonRecurringPacketRequestBuilder<T extends RequestablePack
 
     /**
      * Concludes building packet request, which is then registered in provided InSim connection.
-     * That causes sending appropriate request packet.
+     * That causes sending appropriate request packet, unless the response is cached - callback is then called
+     * immediately.
      * @param callback method to be called when requested packet is received
      * @throws IOException if I/O error occurs when sending request packet
      */
     public void listen(PacketListener<T> callback) throws IOException {
+        var cachedResponse = getCachedResponse();
+        if (cachedResponse.isPresent()) {
+            callback.onPacketReceived(inSimConnection, cachedResponse.get());
+            return;
+        }
         inSimConnection.request(buildPacketRequest(callback));
     }
 
+    /**
+     * Concludes building packet request, which is then registered in provided InSim connection.
+     * That causes sending appropriate request packet, unless the response is cached - callback is then called
+     * immediately. If the request times out before all requested packets are received, timeout callback is called
+     * using {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * @param callback method to be called when requested packet is received
+     * @param timeoutCallback method to be called when packet request times out
+     * @throws IOException if I/O error occurs when sending request packet
+     */
+    public void listen(PacketListener<T> callback, Runnable timeoutCallback) throws IOException {
+        var cachedResponse = getCachedResponse();
+        if (cachedResponse.isPresent()) {
+            callback.onPacketReceived(inSimConnection, cachedResponse.get());
+            return;
+        }
+        var packetRequest = buildPacketRequest(callback);
+        packetRequest.setTimeoutCallback(timeoutCallback);
+        inSimConnection.request(packetRequest);
+    }
+
+    /**
+     * Gets cached response to the request, which makes sending request packet unnecessary.
+     * @return cached packet, or empty optional if the packet has to be requested
+     */
+    protected Optional<T> getCachedResponse() {
+        return Optional.empty();
+    }
+
     /**
      * Builds packet request to be registered in InSim connection.
      * @param callback method to be called when requested packet is received
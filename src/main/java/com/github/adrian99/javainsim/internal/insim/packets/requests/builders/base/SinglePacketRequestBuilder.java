@@ -13,6 +13,7 @@ import com.github.adrian99.javainsim.internal.insim.packets.base.RequestablePack
 
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Interface for builder of single packet request.
@@ -23,12 +24,16 @@ public interface SinglePacketRequestBuilder<T extends RequestablePacket> {
      * Concludes building packet request, which is then registered in provided InSim connection.
      * That causes sending appropriate request packet.
      *
-     * @return {@link CompletableFuture} that will complete with requested packet value when it is received
+     * @return {@link CompletableFuture} that will complete with requested packet value when it is received,
+     * or complete exceptionally with {@link TimeoutException} if the request times out
      * @throws IOException if I/O error occurs when sending request packet
      */
     default CompletableFuture<T> asCompletableFuture() throws IOException {
         var completableFuture = new CompletableFuture<T>();
-        listen((inSimConnection, packet) -> completableFuture.complete(packet));
+        listen(
+                (inSimConnection, packet) -> completableFuture.complete(packet),
+                () -> completableFuture.completeExceptionally(new TimeoutException("Packet request timed out"))
+        );
         return completableFuture;
     }
 
@@ -39,4 +44,13 @@ public interface SinglePacketRequestBuilder<T extends RequestablePacket> {
      * @throws IOException if I/O error occurs when sending request packet
      */
     void listen(PacketListener<T> callback) throws IOException;
+
+    /**
+     * Concludes building packet request, which is then registered in provided InSim connection.
+     * That causes sending appropriate request packet.
+     * @param callback method to be called when requested packet is received
+     * @param timeoutCallback method to be called when packet request times out
+     * @throws IOException if I/O error occurs when sending request packet
+     */
+    void listen(PacketListener<T> callback, Runnable timeoutCallback) throws IOException;
 }
@@ -9,6 +9,8 @@
 package com.github.adrian99.javainsim.internal.insim.packets.util;
 
 import com.github.adrian99.javainsim.api.insim.packets.*;
+import com.github.adrian99.javainsim.api.insim.packets.structures.CompCar;
+import com.github.adrian99.javainsim.api.insim.packets.structures.NodeLap;
 
 /**
  * This class contains constant values used in library
@@ -22,6 +24,39 @@ public class Constants {
      * Size (in bytes) of header of each packet
      */
     public static final short PACKET_HEADER_SIZE = 3;
+    /**
+     * Maximum size (in bytes) of single packet - size byte of packet header holds packet size divided by 4
+     */
+    public static final short MAX_PACKET_SIZE = 255 * 4;
+    /**
+     * Count of bytes of packets waiting to be sent to LFS above which sending more packets is held back
+     * until pending packets are written
+     */
+    public static final int MAX_PENDING_OUTBOUND_BYTES = 1024 * 1024;
+    /**
+     * Default maximum count of listener calls waiting in queue of dispatch strategy
+     */
+    public static final int DISPATCH_DEFAULT_MAX_QUEUED_EVENTS = 1024;
+    /**
+     * Default count of lanes of ordered lanes dispatch strategy - enough for every PLID and UCID to have its own lane
+     */
+    public static final int DISPATCH_DEFAULT_LANES_COUNT = 256;
+    /**
+     * Default maximum count of packets waiting for demand of single subscriber of packet publisher
+     */
+    public static final int PUBLISHER_DEFAULT_BUFFER_SIZE = 256;
+    /**
+     * Timeout of requests sent to LFS when enabling session state, after which they are no longer awaited
+     */
+    public static final long SESSION_STATE_REQUEST_TIMEOUT_MILLIS = 5000;
+    /**
+     * Default size (in bytes) of single segment file of session recording
+     */
+    public static final int RECORDING_DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    /**
+     * Minimum size (in bytes) of single segment file of session recording
+     */
+    public static final int RECORDING_MIN_SEGMENT_SIZE = 64 * 1024;
     /**
      * Maximum number of player handicaps that can be sent in single {@link PlhPacket}.
      */
@@ -42,6 +77,14 @@ public class Constants {
      * Maximum number of cars that can be sent in single {@link MciPacket}
      */
     public static final short MCI_MAX_CARS = 16;
+    /**
+     * Size (in bytes) of single {@link CompCar} structure
+     */
+    public static final short COMP_CAR_SIZE = 28;
+    /**
+     * Size (in bytes) of single {@link NodeLap} structure
+     */
+    public static final short NODE_LAP_SIZE = 6;
     /**
      * Maximum number of objects that can be sent in single {@link AxmPacket}.
      */
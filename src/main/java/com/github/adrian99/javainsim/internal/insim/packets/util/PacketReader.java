@@ -14,6 +14,8 @@ import com.github.adrian99.javainsim.internal.common.util.PacketDataBytes;
 import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
 import com.github.adrian99.javainsim.internal.insim.packets.exceptions.PacketReadingException;
 
+import java.nio.ByteBuffer;
+
 /**
  * This class is a helper that is used to convert incoming byte array to appropriate {@link InfoPacket}.
  */
@@ -39,6 +41,24 @@ public class PacketReader {
         }
     }
 
+    /**
+     * Creates packet reader out of header bytes stored in specified buffer. Header bytes are read starting
+     * at current position of the buffer, which is then advanced past the header.
+     * @param packetBytes buffer holding packet bytes, positioned at the first header byte
+     * @throws PacketReadingException if buffer has less than 3 remaining bytes
+     */
+    public PacketReader(ByteBuffer packetBytes) throws PacketReadingException {
+        if (packetBytes.remaining() >= Constants.PACKET_HEADER_SIZE) {
+            packetSize = (short) (PacketDataBytes.convertByte(packetBytes.get()) * 4);
+            packetType = PacketType.fromOrdinal(PacketDataBytes.convertByte(packetBytes.get()));
+            packetReqI = PacketDataBytes.convertByte(packetBytes.get());
+        } else {
+            throw new PacketReadingException(
+                    "Received packet header bytes length was less than " + Constants.PACKET_HEADER_SIZE
+            );
+        }
+    }
+
     /**
      * @return packet identifier extracted from header bytes
      */
@@ -67,9 +87,25 @@ public class PacketReader {
      * @throws PacketReadingException if reading given packet type (type is extracted from header bytes)
      * is not supported
      */
-    @SuppressWarnings("java:S1479")
     public InfoPacket read(byte[] dataBytes) throws PacketReadingException {
-        final var packetDataBytes = new PacketDataBytes(dataBytes);
+        return read(new PacketDataBytes(dataBytes));
+    }
+
+    /**
+     * Converts data bytes stored in specified buffer and header bytes (passed in constructor) into appropriate
+     * {@link InfoPacket}. Data bytes are read in place - bytes between current position and limit of the buffer
+     * are treated as data bytes. The buffer is not modified, so it can be reused once this method returns.
+     * @param dataBytes buffer holding data bytes of packet
+     * @return packet class instance
+     * @throws PacketReadingException if reading given packet type (type is extracted from header bytes)
+     * is not supported
+     */
+    public InfoPacket read(ByteBuffer dataBytes) throws PacketReadingException {
+        return read(new PacketDataBytes(dataBytes));
+    }
+
+    @SuppressWarnings("java:S1479")
+    private InfoPacket read(PacketDataBytes packetDataBytes) throws PacketReadingException {
         return switch (packetType) {
             case VER -> new VerPacket(packetReqI, packetDataBytes);
             case TINY -> new TinyPacket(packetReqI, packetDataBytes);
@@ -11,6 +11,7 @@ package com.github.adrian99.javainsim.internal.insim.packets.util;
 import com.github.adrian99.javainsim.internal.common.enums.EnumWithCustomValue;
 import com.github.adrian99.javainsim.internal.insim.packets.annotations.*;
 import com.github.adrian99.javainsim.internal.insim.packets.annotations.Byte;
+import com.github.adrian99.javainsim.internal.insim.packets.annotations.Float;
 import com.github.adrian99.javainsim.internal.insim.packets.annotations.Short;
 import com.github.adrian99.javainsim.internal.insim.packets.base.InstructionPacket;
 import com.github.adrian99.javainsim.internal.insim.packets.enums.ValidationFailureCategory;
@@ -20,15 +21,35 @@ import com.github.adrian99.javainsim.internal.insim.packets.structures.base.Comp
 import com.github.adrian99.javainsim.internal.insim.packets.structures.base.UnsignedInstructionStructure;
 import com.github.adrian99.javainsim.internal.insim.packets.structures.base.WordInstructionStructure;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
 /**
- * This class is a helper that is used while validating packets.
+ * This class is a helper that is used while validating packets. Each packet or structure class is analysed only once
+ * - its annotated fields are compiled into list of validators, which read field values using {@link MethodHandle}s
+ * and check them against ranges and lengths extracted from annotations. Validators of primitive fields do not box
+ * field values.
  */
 public class PacketValidator {
+    private static final ClassValue<FieldValidator[]> packetValidators = new ClassValue<>() {
+        @Override
+        protected FieldValidator[] computeValue(Class<?> packetClass) {
+            return compile(getAllPacketFields(packetClass));
+        }
+    };
+    private static final ClassValue<FieldValidator[]> structureValidators = new ClassValue<>() {
+        @Override
+        protected FieldValidator[] computeValue(Class<?> structureClass) {
+            return compile(getAllStructureFields(structureClass));
+        }
+    };
+
     private PacketValidator() {}
 
     /**
@@ -38,7 +59,7 @@ public class PacketValidator {
      */
     public static void validate(InstructionPacket packet) throws PacketValidationException {
         if (packet != null) {
-            validate(getAllPacketFields(packet.getClass()), packet);
+            validate(packetValidators.get(packet.getClass()), packet);
         }
     }
 
@@ -55,53 +76,136 @@ public class PacketValidator {
         return List.of(structureClass.getDeclaredFields());
     }
 
-    @SuppressWarnings("java:S3011")
-    private static void validate(List<Field> fields, Object packetOrStructure) {
-        for (var field : fields) {
+    private static void validate(FieldValidator[] fieldValidators, Object packetOrStructure) {
+        for (var fieldValidator : fieldValidators) {
             try {
-                field.setAccessible(true);
-                var anyAnnotationFound = tryToValidateByte(field, packetOrStructure) ||
-                        tryToValidateWord(field, packetOrStructure) ||
-                        tryToValidateShort(field, packetOrStructure) ||
-                        tryToValidateChar(field, packetOrStructure) ||
-                        tryToValidateUnsigned(field, packetOrStructure) ||
-                        tryToValidateInt(field, packetOrStructure) ||
-                        tryToValidateFloat(field, packetOrStructure) ||
-                        tryToValidateStructure(field, packetOrStructure);
-
-                if (!anyAnnotationFound) {
-                    throw new PacketValidationException(
-                            field.getName(),
-                            ValidationFailureCategory.INCORRECT_TYPE_ANNOTATION,
-                            "missing LFS type annotation"
-                    );
-                }
-            } catch (IllegalAccessException e) {
-                throw new IllegalStateException(e);
+                fieldValidator.validate(packetOrStructure);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
             }
         }
     }
 
-    private static boolean tryToValidateByte(Field field, Object packetOrStructure) throws IllegalAccessException {
+    private static FieldValidator[] compile(List<Field> fields) {
+        var fieldValidators = new FieldValidator[fields.size()];
+        for (var i = 0; i < fieldValidators.length; i++) {
+            fieldValidators[i] = compile(fields.get(i));
+        }
+        return fieldValidators;
+    }
+
+    private static FieldValidator compile(Field field) {
+        var getter = createGetter(field);
+
         var byteAnnotation = field.getAnnotation(Byte.class);
         if (byteAnnotation != null) {
-            var arrayAnnotation = field.getAnnotation(Array.class);
-            if (arrayAnnotation != null) {
-                validateArray(
-                        arrayAnnotation,
-                        field,
-                        field.get(packetOrStructure),
-                        element -> validateByte(byteAnnotation, field, element)
-                );
+            return compileByte(byteAnnotation, field, getter);
+        }
+        var wordAnnotation = field.getAnnotation(Word.class);
+        if (wordAnnotation != null) {
+            return compileWord(wordAnnotation, field, getter);
+        }
+        var shortAnnotation = field.getAnnotation(Short.class);
+        if (shortAnnotation != null) {
+            return compileShort(shortAnnotation, field, getter);
+        }
+        if (field.getAnnotation(Char.class) != null) {
+            return compileChar(field, getter);
+        }
+        var unsignedAnnotation = field.getAnnotation(Unsigned.class);
+        if (unsignedAnnotation != null) {
+            return compileUnsigned(unsignedAnnotation, field, getter);
+        }
+        var intAnnotation = field.getAnnotation(Int.class);
+        if (intAnnotation != null) {
+            return compileInt(intAnnotation, field, getter);
+        }
+        var floatAnnotation = field.getAnnotation(Float.class);
+        if (floatAnnotation != null) {
+            return compileFloat(floatAnnotation, field, getter);
+        }
+        if (field.getAnnotation(Structure.class) != null) {
+            return compileStructure(field, getter);
+        }
+
+        return packetOrStructure -> {
+            throw new PacketValidationException(
+                    field.getName(),
+                    ValidationFailureCategory.INCORRECT_TYPE_ANNOTATION,
+                    "missing LFS type annotation"
+            );
+        };
+    }
+
+    @SuppressWarnings("java:S3011")
+    private static MethodHandle createGetter(Field field) {
+        try {
+            field.setAccessible(true);
+            var getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                return MethodHandles.dropArguments(getter, 0, Object.class);
             } else {
-                validateByte(byteAnnotation, field, field.get(packetOrStructure));
+                return getter.asType(getter.type().changeParameterType(0, Object.class));
             }
-            return true;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
         }
-        return false;
     }
 
-    private static void validateByte(Byte annotation, Field field, Object value) throws PacketValidationException {
+    private static MethodHandle asGetter(MethodHandle getter, Class<?> valueType) {
+        return getter.asType(MethodType.methodType(valueType, Object.class));
+    }
+
+    private static FieldValidator compileByte(Byte annotation, Field field, MethodHandle getter) {
+        var minValue = annotation.minValue();
+        var maxValue = annotation.maxValue();
+        var arrayAnnotation = field.getAnnotation(Array.class);
+        if (arrayAnnotation != null) {
+            return compileArray(
+                    arrayAnnotation,
+                    field,
+                    getter,
+                    element -> validateByte(minValue, maxValue, field, element)
+            );
+        }
+        var fieldType = field.getType();
+        if (fieldType == short.class) {
+            var shortGetter = asGetter(getter, short.class);
+            return packetOrStructure -> validateRange(
+                    minValue,
+                    maxValue,
+                    field,
+                    (short) shortGetter.invokeExact(packetOrStructure)
+            );
+        } else if (fieldType == char.class) {
+            var charGetter = asGetter(getter, char.class);
+            return packetOrStructure -> validateRange(
+                    minValue,
+                    maxValue,
+                    field,
+                    (char) charGetter.invokeExact(packetOrStructure)
+            );
+        } else if (fieldType == boolean.class) {
+            var booleanGetter = asGetter(getter, boolean.class);
+            return packetOrStructure -> validateRange(
+                    minValue,
+                    maxValue,
+                    field,
+                    (boolean) booleanGetter.invokeExact(packetOrStructure) ? 1 : 0
+            );
+        }
+        var objectGetter = asGetter(getter, Object.class);
+        return packetOrStructure -> validateByte(
+                minValue,
+                maxValue,
+                field,
+                objectGetter.invokeExact(packetOrStructure)
+        );
+    }
+
+    private static void validateByte(short minValue, short maxValue, Field field, Object value) {
         if (value != null) {
             int intValue;
             if (value instanceof java.lang.Short shortValue) {
@@ -118,22 +222,32 @@ public class PacketValidator {
                 throw getUnsupportedTypeException(field, Byte.class.getSimpleName());
             }
 
-            if (intValue < annotation.minValue() || intValue > annotation.maxValue()) {
-                throw getValueOutOfRangeException(field, annotation.minValue(), annotation.maxValue(), intValue);
-            }
+            validateRange(minValue, maxValue, field, intValue);
         }
     }
 
-    private static boolean tryToValidateWord(Field field, Object packetOrStructure) throws IllegalAccessException {
-        var annotation = field.getAnnotation(Word.class);
-        if (annotation != null) {
-            validateWord(annotation, field, field.get(packetOrStructure));
-            return true;
+    private static FieldValidator compileWord(Word annotation, Field field, MethodHandle getter) {
+        var minValue = annotation.minValue();
+        var maxValue = annotation.maxValue();
+        if (field.getType() == int.class) {
+            var intGetter = asGetter(getter, int.class);
+            return packetOrStructure -> validateRange(
+                    minValue,
+                    maxValue,
+                    field,
+                    (int) intGetter.invokeExact(packetOrStructure)
+            );
         }
-        return false;
+        var objectGetter = asGetter(getter, Object.class);
+        return packetOrStructure -> validateWord(
+                minValue,
+                maxValue,
+                field,
+                objectGetter.invokeExact(packetOrStructure)
+        );
     }
 
-    private static void validateWord(Word annotation, Field field, Object value) throws PacketValidationException {
+    private static void validateWord(int minValue, int maxValue, Field field, Object value) {
         if (value != null) {
             int intValue;
             if (value instanceof Integer integerValue) {
@@ -146,43 +260,50 @@ public class PacketValidator {
                 throw getUnsupportedTypeException(field, Word.class.getSimpleName());
             }
 
-            if (intValue < annotation.minValue() || intValue > annotation.maxValue()) {
-                throw getValueOutOfRangeException(field, annotation.minValue(), annotation.maxValue(), intValue);
-            }
+            validateRange(minValue, maxValue, field, intValue);
         }
     }
 
-    private static boolean tryToValidateShort(Field field, Object packetOrStructure) throws IllegalAccessException {
-        var annotation = field.getAnnotation(Short.class);
-        if (annotation != null) {
-            validateShort(annotation, field, field.get(packetOrStructure));
-            return true;
+    private static FieldValidator compileShort(Short annotation, Field field, MethodHandle getter) {
+        var minValue = annotation.minValue();
+        var maxValue = annotation.maxValue();
+        if (field.getType() == short.class) {
+            var shortGetter = asGetter(getter, short.class);
+            return packetOrStructure -> validateRange(
+                    minValue,
+                    maxValue,
+                    field,
+                    (short) shortGetter.invokeExact(packetOrStructure)
+            );
         }
-        return false;
+        var objectGetter = asGetter(getter, Object.class);
+        return packetOrStructure -> validateShort(
+                minValue,
+                maxValue,
+                field,
+                objectGetter.invokeExact(packetOrStructure)
+        );
     }
 
-    private static void validateShort(Short annotation, Field field, Object value) {
+    private static void validateShort(short minValue, short maxValue, Field field, Object value) {
         if (value != null) {
             if (value instanceof java.lang.Short shortValue) {
-                if (shortValue < annotation.minValue() || shortValue > annotation.maxValue()) {
-                    throw getValueOutOfRangeException(field, annotation.minValue(), annotation.maxValue(), shortValue);
-                }
+                validateRange(minValue, maxValue, field, shortValue);
             } else {
                 throw getUnsupportedTypeException(field, Short.class.getSimpleName());
             }
         }
     }
 
-    private static boolean tryToValidateChar(Field field, Object packetOrStructure) throws IllegalAccessException {
-        if (field.getAnnotation(Char.class) != null) {
-            if (field.getAnnotation(Array.class) != null) {
-                validateCharArray(field, field.get(packetOrStructure));
-                return true;
-            } else {
+    private static FieldValidator compileChar(Field field, MethodHandle getter) {
+        if (field.getAnnotation(Array.class) != null) {
+            var objectGetter = asGetter(getter, Object.class);
+            return packetOrStructure -> validateCharArray(field, objectGetter.invokeExact(packetOrStructure));
+        } else {
+            return packetOrStructure -> {
                 throw getMissingArrayAnnotationException(field);
-            }
+            };
         }
-        return false;
     }
 
     private static void validateCharArray(Field field, Object value) {
@@ -194,26 +315,37 @@ public class PacketValidator {
         }
     }
 
-    private static boolean tryToValidateUnsigned(Field field, Object packetOrStructure) throws IllegalAccessException {
-        var unsignedAnnotation = field.getAnnotation(Unsigned.class);
-        if (unsignedAnnotation != null) {
-            var arrayAnnotation = field.getAnnotation(Array.class);
-            if (arrayAnnotation != null) {
-                validateArray(
-                        arrayAnnotation,
-                        field,
-                        field.get(packetOrStructure),
-                        element -> validateUnsigned(unsignedAnnotation, field, element)
-                );
-            } else {
-                validateUnsigned(unsignedAnnotation, field, field.get(packetOrStructure));
-            }
-            return true;
+    private static FieldValidator compileUnsigned(Unsigned annotation, Field field, MethodHandle getter) {
+        var minValue = annotation.minValue();
+        var maxValue = annotation.maxValue();
+        var arrayAnnotation = field.getAnnotation(Array.class);
+        if (arrayAnnotation != null) {
+            return compileArray(
+                    arrayAnnotation,
+                    field,
+                    getter,
+                    element -> validateUnsigned(minValue, maxValue, field, element)
+            );
+        }
+        if (field.getType() == long.class) {
+            var longGetter = asGetter(getter, long.class);
+            return packetOrStructure -> validateRange(
+                    minValue,
+                    maxValue,
+                    field,
+                    (long) longGetter.invokeExact(packetOrStructure)
+            );
         }
-        return false;
+        var objectGetter = asGetter(getter, Object.class);
+        return packetOrStructure -> validateUnsigned(
+                minValue,
+                maxValue,
+                field,
+                objectGetter.invokeExact(packetOrStructure)
+        );
     }
 
-    private static void validateUnsigned(Unsigned annotation, Field field, Object value) {
+    private static void validateUnsigned(long minValue, long maxValue, Field field, Object value) {
         if (value != null) {
             long longValue;
             if (value instanceof Long lngValue) {
@@ -224,106 +356,139 @@ public class PacketValidator {
                 throw getUnsupportedTypeException(field, Unsigned.class.getSimpleName());
             }
 
-            if (longValue < annotation.minValue() || longValue > annotation.maxValue()) {
-                throw getValueOutOfRangeException(field, annotation.minValue(), annotation.maxValue(), longValue);
-            }
+            validateRange(minValue, maxValue, field, longValue);
         }
     }
 
-    private static boolean tryToValidateInt(Field field, Object packetOrStructure) throws IllegalAccessException {
-        var annotation = field.getAnnotation(Int.class);
-        if (annotation != null) {
-            validateInt(annotation, field, field.get(packetOrStructure));
-            return true;
+    private static FieldValidator compileInt(Int annotation, Field field, MethodHandle getter) {
+        var minValue = annotation.minValue();
+        var maxValue = annotation.maxValue();
+        if (field.getType() == int.class) {
+            var intGetter = asGetter(getter, int.class);
+            return packetOrStructure -> validateRange(
+                    minValue,
+                    maxValue,
+                    field,
+                    (int) intGetter.invokeExact(packetOrStructure)
+            );
         }
-        return false;
+        var objectGetter = asGetter(getter, Object.class);
+        return packetOrStructure -> validateInt(minValue, maxValue, field, objectGetter.invokeExact(packetOrStructure));
     }
 
-    private static void validateInt(Int annotation, Field field, Object value) {
+    private static void validateInt(int minValue, int maxValue, Field field, Object value) {
         if (value != null) {
             if (value instanceof Integer intValue) {
-                if (intValue < annotation.minValue() || intValue > annotation.maxValue()) {
-                    throw getValueOutOfRangeException(field, annotation.minValue(), annotation.maxValue(), intValue);
-                }
+                validateRange(minValue, maxValue, field, intValue);
             } else {
                 throw getUnsupportedTypeException(field, Int.class.getSimpleName());
             }
         }
     }
 
-    private static boolean tryToValidateFloat(Field field, Object packetOrStructure) throws IllegalAccessException {
-        var annotation = field.getAnnotation(com.github.adrian99.javainsim.internal.insim.packets.annotations.Float.class);
-        if (annotation != null) {
-            validateFloat(annotation, field, field.get(packetOrStructure));
-            return true;
+    private static FieldValidator compileFloat(Float annotation, Field field, MethodHandle getter) {
+        var minValue = annotation.minValue();
+        var maxValue = annotation.maxValue();
+        if (field.getType() == float.class) {
+            var floatGetter = asGetter(getter, float.class);
+            return packetOrStructure -> validateRange(
+                    minValue,
+                    maxValue,
+                    field,
+                    (float) floatGetter.invokeExact(packetOrStructure)
+            );
         }
-        return false;
+        var objectGetter = asGetter(getter, Object.class);
+        return packetOrStructure -> validateFloat(
+                minValue,
+                maxValue,
+                field,
+                objectGetter.invokeExact(packetOrStructure)
+        );
     }
 
-    private static void validateFloat(com.github.adrian99.javainsim.internal.insim.packets.annotations.Float annotation, Field field, Object value) {
+    private static void validateFloat(float minValue, float maxValue, Field field, Object value) {
         if (value != null) {
             if (value instanceof java.lang.Float floatValue) {
-                if (floatValue < annotation.minValue() || floatValue > annotation.maxValue()) {
-                    throw getValueOutOfRangeException(field, annotation.minValue(), annotation.maxValue(), floatValue);
-                }
+                validateRange(minValue, maxValue, field, floatValue);
             } else {
-                throw getUnsupportedTypeException(field, com.github.adrian99.javainsim.internal.insim.packets.annotations.Float.class.getSimpleName());
+                throw getUnsupportedTypeException(field, Float.class.getSimpleName());
             }
         }
     }
 
-    private static boolean tryToValidateStructure(Field field, Object packetOrStructure) throws IllegalAccessException {
-        if (field.getAnnotation(Structure.class) != null) {
-            var arrayAnnotation = field.getAnnotation(Array.class);
-            if (arrayAnnotation != null) {
-                validateArray(
-                        arrayAnnotation,
-                        field,
-                        field.get(packetOrStructure),
-                        element -> validateStructure(field, element)
-                );
-            } else {
-                validateStructure(field, field.get(packetOrStructure));
-            }
-            return true;
+    private static FieldValidator compileStructure(Field field, MethodHandle getter) {
+        var arrayAnnotation = field.getAnnotation(Array.class);
+        if (arrayAnnotation != null) {
+            return compileArray(arrayAnnotation, field, getter, element -> validateStructure(field, element));
         }
-        return false;
+        var objectGetter = asGetter(getter, Object.class);
+        return packetOrStructure -> validateStructure(field, objectGetter.invokeExact(packetOrStructure));
     }
 
     private static void validateStructure(Field field, Object value) {
         if (value != null) {
             if (value instanceof ComplexInstructionStructure) {
-                validate(getAllStructureFields(value.getClass()), value);
+                validate(structureValidators.get(value.getClass()), value);
             } else {
                 throw getUnsupportedTypeException(field, Structure.class.getSimpleName());
             }
         }
     }
 
-    private static void validateArray(Array annotation, Field field, Object value, Consumer<Object> elementValidator) {
+    private static FieldValidator compileArray(Array annotation,
+                                               Field field,
+                                               MethodHandle getter,
+                                               Consumer<Object> elementValidator) {
+        var length = annotation.length();
+        var dynamicLength = annotation.dynamicLength();
+        var objectGetter = asGetter(getter, Object.class);
+        return packetOrStructure -> validateArray(
+                length,
+                dynamicLength,
+                field,
+                objectGetter.invokeExact(packetOrStructure),
+                elementValidator
+        );
+    }
+
+    private static void validateArray(int length,
+                                      boolean dynamicLength,
+                                      Field field,
+                                      Object value,
+                                      Consumer<Object> elementValidator) {
         if (value != null) {
-            Object[] valuesArray;
             if (value instanceof Object[] arrayValue) {
-                valuesArray = arrayValue;
+                validateArrayLength(length, dynamicLength, field, arrayValue.length);
+                for (var element : arrayValue) {
+                    elementValidator.accept(element);
+                }
             } else if (value instanceof List<?> listValue) {
-                valuesArray = listValue.toArray();
+                validateArrayLength(length, dynamicLength, field, listValue.size());
+                for (var i = 0; i < listValue.size(); i++) {
+                    elementValidator.accept(listValue.get(i));
+                }
             } else {
                 throw getUnsupportedTypeException(field, Array.class.getSimpleName());
             }
+        }
+    }
 
-            if ((annotation.dynamicLength() && valuesArray.length <= annotation.length()) ||
-                    valuesArray.length == annotation.length()) {
-                for (var listElement : valuesArray) {
-                    elementValidator.accept(listElement);
-                }
-            } else {
-                throw getWrongArrayLengthException(
-                        field,
-                        annotation.length(),
-                        valuesArray.length,
-                        annotation.dynamicLength()
-                );
-            }
+    private static void validateArrayLength(int length, boolean dynamicLength, Field field, int actualLength) {
+        if ((!dynamicLength || actualLength > length) && actualLength != length) {
+            throw getWrongArrayLengthException(field, length, actualLength, dynamicLength);
+        }
+    }
+
+    private static void validateRange(long minValue, long maxValue, Field field, long value) {
+        if (value < minValue || value > maxValue) {
+            throw getValueOutOfRangeException(field, minValue, maxValue, value);
+        }
+    }
+
+    private static void validateRange(float minValue, float maxValue, Field field, float value) {
+        if (value < minValue || value > maxValue) {
+            throw getValueOutOfRangeException(field, minValue, maxValue, value);
         }
     }
 
@@ -331,7 +496,7 @@ public class PacketValidator {
         return new PacketValidationException(
                 field.getName(),
                 ValidationFailureCategory.UNSUPPORTED_TYPE,
-                String.format("type %s not supported as %s", field.getClass().getSimpleName(), typeName)
+                String.format("type %s not supported as %s", field.getType().getSimpleName(), typeName)
         );
     }
 
@@ -380,4 +545,9 @@ public class PacketValidator {
                 )
         );
     }
+
+    @FunctionalInterface
+    private interface FieldValidator {
+        void validate(Object packetOrStructure) throws Throwable;
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.transport;
+
+import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
+import com.github.adrian99.javainsim.internal.insim.packets.util.PacketReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * InSim transport based on non-blocking {@link SocketChannel}. Reading and writing is driven by
+ * {@link SelectorEventLoop}, which may be shared by many transports. Incoming packets are decoded
+ * in place, directly from the read buffer of the transport. Outgoing packets are gathered from outbound queue
+ * into single write buffer. If the socket cannot accept all bytes at once, the rest is written by the event loop
+ * thread as soon as the socket becomes writable, while threads adding packets to a full outbound queue wait.
+ */
+public class ChannelInSimTransport implements InSimTransport {
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int WRITE_BUFFER_SIZE = 16384;
+    private static final long OUTBOUND_QUEUE_WAIT_MILLIS = 100;
+    private final Logger logger = LoggerFactory.getLogger(ChannelInSimTransport.class);
+    private final SelectorEventLoop eventLoop;
+    private final InSimPacketHandler packetHandler;
+    private final SocketChannel channel;
+    private final ByteBuffer readBuffer;
+    private final OutboundPacketQueue outboundQueue;
+    private final ByteBuffer writeBuffer;
+    private final Object writeLock = new Object();
+    private final SelectionKey selectionKey;
+    private boolean connectionLostHandled;
+
+    /**
+     * Opens socket channel connection and registers it in specified event loop.
+     * @param hostname address of the host where LFS is running
+     * @param port port which has been open by LFS for InSim connection
+     * @param eventLoop event loop that will drive reading and writing
+     * @param packetHandler handler of received packets
+     * @throws IOException if I/O error occurs when creating a connection
+     */
+    public ChannelInSimTransport(String hostname,
+                                 int port,
+                                 SelectorEventLoop eventLoop,
+                                 InSimPacketHandler packetHandler) throws IOException {
+        this.eventLoop = eventLoop;
+        this.packetHandler = packetHandler;
+        readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        outboundQueue = new OutboundPacketQueue(Constants.MAX_PENDING_OUTBOUND_BYTES);
+        writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).flip();
+        channel = SocketChannel.open(new InetSocketAddress(hostname, port));
+        try {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.configureBlocking(false);
+            selectionKey = eventLoop.register(channel, SelectionKey.OP_READ, this);
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    @Override
+    public void enqueue(byte[] bytes) throws IOException {
+        if (outboundQueue.isFull(bytes.length)) {
+            flush();
+            awaitOutboundQueueSpace(bytes.length);
+        }
+        outboundQueue.add(bytes);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            if (!writePendingBytes()) {
+                selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                eventLoop.wakeup();
+            }
+        }
+    }
+
+    @Override
+    public long getPendingBytes() {
+        return outboundQueue.getPendingBytes();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        selectionKey.cancel();
+        channel.close();
+    }
+
+    /**
+     * Reads available bytes from the channel and passes every complete packet to the packet handler.
+     * Called by event loop thread only.
+     * @throws IOException if I/O error occurs while reading
+     */
+    void onReadable() throws IOException {
+        if (channel.read(readBuffer) == -1) {
+            logger.error("Lost connection to LFS");
+            closeAndNotify();
+            return;
+        }
+        readBuffer.flip();
+        while (readBuffer.remaining() >= Constants.PACKET_HEADER_SIZE) {
+            var packetSize = Byte.toUnsignedInt(readBuffer.get(readBuffer.position())) * 4;
+            if (packetSize == 0) {
+                logger.error("Received packet of size 0 - unable to continue reading packets");
+                closeAndNotify();
+                return;
+            } else if (readBuffer.remaining() < packetSize) {
+                break;
+            }
+            var packetEnd = readBuffer.position() + packetSize;
+            onPacketReceived(packetEnd);
+            readBuffer.position(packetEnd);
+        }
+        readBuffer.compact();
+    }
+
+    /**
+     * Writes pending bytes to the channel. Called by event loop thread only.
+     * @throws IOException if I/O error occurs while writing
+     */
+    void onWritable() throws IOException {
+        synchronized (writeLock) {
+            if (writePendingBytes()) {
+                selectionKey.interestOps(SelectionKey.OP_READ);
+            }
+            writeLock.notifyAll();
+        }
+    }
+
+    /**
+     * Closes transport after error has occurred. Called by event loop thread only.
+     * @param exception exception that caused closing the transport
+     */
+    void onError(Exception exception) {
+        if (channel.isOpen()) {
+            logger.error("Error occurred in InSim channel: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "InSim channel", exception);
+        }
+        closeAndNotify();
+    }
+
+    private void onPacketReceived(int packetEnd) {
+        try {
+            var packetReader = new PacketReader(readBuffer);
+            if (packetHandler.shouldPacketBeRead(packetReader.getPacketType(), packetReader.getPacketReqI())) {
+                var bufferLimit = readBuffer.limit();
+                readBuffer.limit(packetEnd);
+                try {
+                    packetHandler.onPacketReceived(packetReader, readBuffer);
+                } finally {
+                    readBuffer.limit(bufferLimit);
+                }
+            } else {
+                logger.atDebug().log("Received {} packet - skipping", packetReader.getPacketType());
+                packetHandler.onPacketSkipped(packetReader);
+            }
+        } catch (Exception exception) {
+            logger.error("Error occurred while reading packet: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "reading packet", exception);
+        }
+    }
+
+    private boolean writePendingBytes() throws IOException {
+        while (true) {
+            if (!writeBuffer.hasRemaining()) {
+                writeBuffer.clear();
+                outboundQueue.drainTo(writeBuffer);
+                writeBuffer.flip();
+                if (!writeBuffer.hasRemaining()) {
+                    return true;
+                }
+            }
+            channel.write(writeBuffer);
+            if (writeBuffer.hasRemaining()) {
+                return false;
+            }
+        }
+    }
+
+    private void awaitOutboundQueueSpace(int bytesCount) throws IOException {
+        if (eventLoop.isEventLoopThread()) {
+            return;
+        }
+        synchronized (writeLock) {
+            while (outboundQueue.isFull(bytesCount) && channel.isOpen()) {
+                try {
+                    writeLock.wait(OUTBOUND_QUEUE_WAIT_MILLIS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for space in outbound queue");
+                }
+            }
+        }
+        if (!channel.isOpen()) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    private void closeAndNotify() {
+        try {
+            close();
+        } catch (IOException exception) {
+            logger.error("Error occurred while closing InSim channel: {}", exception.getMessage());
+        }
+        if (!connectionLostHandled) {
+            connectionLostHandled = true;
+            packetHandler.onConnectionLost();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.transport;
+
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.internal.insim.packets.util.PacketReader;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface is implemented by the receiver of packets framed by {@link InSimTransport}.
+ */
+public interface InSimPacketHandler {
+    /**
+     * Checks whether packet with specified header should be read. If not, transport is allowed to skip
+     * data bytes of the packet without passing them further.
+     * @param packetType packet type extracted from header bytes
+     * @param reqI packet reqI value extracted from header bytes
+     * @return whether packet should be read
+     */
+    boolean shouldPacketBeRead(PacketType packetType, short reqI);
+
+    /**
+     * Handles single framed packet. Data bytes are stored in reusable buffer of the transport, so they are valid
+     * only until this method returns.
+     * @param packetReader packet reader created out of packet header bytes
+     * @param dataBytes buffer holding data bytes of packet between its position and limit
+     */
+    void onPacketReceived(PacketReader packetReader, ByteBuffer dataBytes);
+
+    /**
+     * Handles situation when packet was skipped by transport, as {@link #shouldPacketBeRead} returned false
+     * or packet of its type is not expected to be received by the transport.
+     * @param packetReader packet reader created out of packet header bytes
+     */
+    void onPacketSkipped(PacketReader packetReader);
+
+    /**
+     * Handles situation when datagram received by transport was dropped, because it could not be framed
+     * as single packet.
+     */
+    void onDatagramDropped();
+
+    /**
+     * Handles situation when transport was closed by remote side or due to I/O error.
+     */
+    void onConnectionLost();
+}
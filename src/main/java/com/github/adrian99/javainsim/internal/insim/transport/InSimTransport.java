@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * This interface should be implemented by all transports that carry InSim packets between LFS and the library.
+ * Transport is responsible for sending raw packet bytes and for framing incoming bytes into packets, which are
+ * then passed to {@link InSimPacketHandler}.
+ */
+public interface InSimTransport extends Closeable {
+    /**
+     * Adds specified packet bytes to outbound queue, without writing them yet. If outbound queue is full,
+     * this method first tries to write pending bytes and may block until there is enough space in the queue.
+     * @param bytes packet bytes
+     * @throws IOException if I/O error occurs while writing pending bytes
+     */
+    void enqueue(byte[] bytes) throws IOException;
+
+    /**
+     * Writes all packets from outbound queue to LFS, gathering as many of them as possible into single write.
+     * @throws IOException if I/O error occurs while writing bytes
+     */
+    void flush() throws IOException;
+
+    /**
+     * Writes specified packet bytes to LFS, together with all packets that were waiting in outbound queue.
+     * @param bytes packet bytes
+     * @throws IOException if I/O error occurs while writing bytes
+     */
+    default void write(byte[] bytes) throws IOException {
+        enqueue(bytes);
+        flush();
+    }
+
+    /**
+     * @return count of bytes of packets waiting in outbound queue
+     */
+    long getPendingBytes();
+
+    /**
+     * @return whether transport is still open
+     */
+    boolean isOpen();
+}
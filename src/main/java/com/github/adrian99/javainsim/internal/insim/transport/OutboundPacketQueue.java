@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.transport;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue of packets waiting to be written by {@link InSimTransport}. Packets can be added by many threads at once,
+ * while draining is expected to be performed by single thread at a time (the one holding write lock
+ * of the transport). Draining gathers many packets into single buffer, so that they can be written
+ * using single write operation.
+ */
+public class OutboundPacketQueue {
+    private final Queue<byte[]> packets;
+    private final AtomicLong pendingBytes;
+    private final long maxPendingBytes;
+
+    /**
+     * Creates outbound packet queue.
+     * @param maxPendingBytes count of pending bytes above which the queue is considered full
+     */
+    public OutboundPacketQueue(long maxPendingBytes) {
+        this.maxPendingBytes = maxPendingBytes;
+        packets = new ConcurrentLinkedQueue<>();
+        pendingBytes = new AtomicLong();
+    }
+
+    /**
+     * Adds packet bytes at the end of the queue.
+     * @param bytes packet bytes
+     */
+    public void add(byte[] bytes) {
+        pendingBytes.addAndGet(bytes.length);
+        packets.add(bytes);
+    }
+
+    /**
+     * Checks whether adding packet bytes of specified count would exceed the limit of pending bytes.
+     * @param bytesCount count of bytes to be added
+     * @return whether the limit would be exceeded
+     */
+    public boolean isFull(int bytesCount) {
+        return pendingBytes.get() + bytesCount > maxPendingBytes;
+    }
+
+    /**
+     * @return whether there are no pending packets
+     */
+    public boolean isEmpty() {
+        return packets.isEmpty();
+    }
+
+    /**
+     * @return count of bytes of pending packets
+     */
+    public long getPendingBytes() {
+        return pendingBytes.get();
+    }
+
+    /**
+     * Moves as many whole pending packets as fit into specified buffer. Must not be called by many threads at once.
+     * @param buffer buffer to put packet bytes into
+     * @return count of moved bytes
+     */
+    public int drainTo(ByteBuffer buffer) {
+        var drainedBytes = 0;
+        byte[] bytes;
+        while ((bytes = packets.peek()) != null && bytes.length <= buffer.remaining()) {
+            packets.poll();
+            buffer.put(bytes);
+            drainedBytes += bytes.length;
+        }
+        pendingBytes.addAndGet(-drainedBytes);
+        return drainedBytes;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.transport;
+
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import com.github.adrian99.javainsim.internal.common.recording.FrameSink;
+import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
+import com.github.adrian99.javainsim.internal.insim.packets.util.PacketReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+
+/**
+ * InSim transport that is not connected to LFS - incoming packets are frames of recorded session, replayed by
+ * {@link com.github.adrian99.javainsim.api.common.recording.SessionReplay}, while outgoing packets are discarded.
+ */
+public class ReplayInSimTransport implements InSimTransport, FrameSink {
+    private final Logger logger = LoggerFactory.getLogger(ReplayInSimTransport.class);
+    private final InSimPacketHandler tcpPacketHandler;
+    private final InSimPacketHandler udpPacketHandler;
+    private volatile boolean isOpen = true;
+
+    /**
+     * Creates replay transport.
+     * @param tcpPacketHandler handler of replayed packets that were received over TCP
+     * @param udpPacketHandler handler of replayed packets that were received over UDP
+     */
+    public ReplayInSimTransport(InSimPacketHandler tcpPacketHandler, InSimPacketHandler udpPacketHandler) {
+        this.tcpPacketHandler = tcpPacketHandler;
+        this.udpPacketHandler = udpPacketHandler;
+    }
+
+    @Override
+    public void enqueue(byte[] bytes) {}
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public long getPendingBytes() {
+        return 0;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    @Override
+    public void close() {
+        isOpen = false;
+    }
+
+    @Override
+    public void onFrame(FrameSource source, ByteBuffer frameBytes) {
+        if (!isOpen) {
+            return;
+        }
+        if (source == FrameSource.INSIM_TCP) {
+            onPacketReceived(tcpPacketHandler, frameBytes);
+        } else if (source == FrameSource.INSIM_UDP) {
+            onPacketReceived(udpPacketHandler, frameBytes);
+        }
+    }
+
+    private void onPacketReceived(InSimPacketHandler packetHandler, ByteBuffer frameBytes) {
+        try {
+            var packetReader = new PacketReader(frameBytes);
+            if (packetHandler.shouldPacketBeRead(packetReader.getPacketType(), packetReader.getPacketReqI())) {
+                packetHandler.onPacketReceived(packetReader, frameBytes);
+            } else {
+                logger.atDebug().log("Replayed {} packet - skipping", packetReader.getPacketType());
+                packetHandler.onPacketSkipped(packetReader);
+            }
+        } catch (Exception exception) {
+            logger.error("Error occurred while reading replayed packet: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "reading replayed packet", exception);
+        }
+    }
+}
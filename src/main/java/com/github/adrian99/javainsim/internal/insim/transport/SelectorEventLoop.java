@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.transport;
+
+import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Event loop that multiplexes reads and writes of many {@link ChannelInSimTransport} instances
+ * using single {@link Selector} and single thread.
+ */
+public class SelectorEventLoop implements Closeable {
+    private final Logger logger = LoggerFactory.getLogger(SelectorEventLoop.class);
+    private final Selector selector;
+    private final Queue<Runnable> pendingTasks;
+    private final ExecutorService executorService;
+    private volatile Thread eventLoopThread;
+    private volatile boolean isRunning;
+
+    /**
+     * Opens selector and starts event loop thread.
+     * @throws IOException if I/O error occurs when opening selector
+     */
+    public SelectorEventLoop() throws IOException {
+        this(Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Opens selector and starts event loop thread created by specified thread factory.
+     * @param threadFactory factory of event loop thread
+     * @throws IOException if I/O error occurs when opening selector
+     */
+    public SelectorEventLoop(ThreadFactory threadFactory) throws IOException {
+        logger.debug("Starting selector event loop");
+        selector = Selector.open();
+        pendingTasks = new ConcurrentLinkedQueue<>();
+        isRunning = true;
+        executorService = Executors.newSingleThreadExecutor(threadFactory);
+        executorService.submit(this::run);
+    }
+
+    @Override
+    public void close() throws IOException {
+        logger.debug("Closing selector event loop");
+        isRunning = false;
+        selector.wakeup();
+        executorService.shutdown();
+    }
+
+    /**
+     * @return whether event loop is still running
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Registers channel in the selector of this event loop. If called from outside the event loop thread,
+     * this method waits until the registration is completed.
+     * @param channel non-blocking channel to be registered
+     * @param interestOps initial interest set
+     * @param transport transport that will handle events of the channel
+     * @return selection key of registered channel
+     * @throws IOException if channel could not be registered
+     */
+    SelectionKey register(SelectableChannel channel,
+                          int interestOps,
+                          ChannelInSimTransport transport) throws IOException {
+        if (!isRunning) {
+            throw new IOException("Selector event loop is closed");
+        }
+        var registrationFuture = new CompletableFuture<SelectionKey>();
+        execute(() -> {
+            try {
+                registrationFuture.complete(channel.register(selector, interestOps, transport));
+            } catch (Exception exception) {
+                registrationFuture.completeExceptionally(exception);
+            }
+        });
+        try {
+            return registrationFuture.join();
+        } catch (CompletionException exception) {
+            throw new IOException("Could not register channel in selector event loop", exception.getCause());
+        }
+    }
+
+    /**
+     * Wakes up the selector, so that the changes of interest sets are picked up immediately.
+     */
+    void wakeup() {
+        if (!isEventLoopThread()) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * @return whether current thread is the event loop thread
+     */
+    boolean isEventLoopThread() {
+        return Thread.currentThread() == eventLoopThread;
+    }
+
+    private void execute(Runnable task) {
+        if (isEventLoopThread()) {
+            task.run();
+        } else {
+            pendingTasks.add(task);
+            selector.wakeup();
+        }
+    }
+
+    private void run() {
+        logger.debug("Started selector event loop thread");
+        eventLoopThread = Thread.currentThread();
+        try {
+            while (isRunning) {
+                selector.select();
+                runPendingTasks();
+                var selectedKeys = selector.selectedKeys();
+                for (var selectionKey : selectedKeys) {
+                    handleSelectedKey(selectionKey);
+                }
+                selectedKeys.clear();
+            }
+        } catch (IOException | ClosedSelectorException exception) {
+            logger.error("Error occurred in selector event loop: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "selector event loop", exception);
+        }
+        isRunning = false;
+        runPendingTasks();
+        closeRegisteredTransports();
+        logger.debug("Stopping selector event loop thread");
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void handleSelectedKey(SelectionKey selectionKey) {
+        var transport = (ChannelInSimTransport) selectionKey.attachment();
+        try {
+            if (selectionKey.isValid() && selectionKey.isReadable()) {
+                transport.onReadable();
+            }
+            if (selectionKey.isValid() && selectionKey.isWritable()) {
+                transport.onWritable();
+            }
+        } catch (IOException | CancelledKeyException exception) {
+            transport.onError(exception);
+        }
+    }
+
+    private void closeRegisteredTransports() {
+        try {
+            for (var selectionKey : new ArrayList<>(selector.keys())) {
+                ((ChannelInSimTransport) selectionKey.attachment()).onError(
+                        new IOException("Selector event loop was closed")
+                );
+            }
+            selector.close();
+        } catch (IOException | ClosedSelectorException exception) {
+            logger.error("Error occurred while closing selector: {}", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.transport;
+
+import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
+import com.github.adrian99.javainsim.internal.insim.packets.util.PacketReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * InSim transport based on blocking {@link Socket}. Each instance owns a dedicated thread that reads incoming packets.
+ * Incoming bytes are buffered and every packet is read into single reusable frame buffer. Outgoing packets are
+ * written by the thread that flushes them, gathering all packets queued by other threads into single write.
+ */
+public class SocketInSimTransport implements InSimTransport {
+    private static final int WRITE_BUFFER_SIZE = 16384;
+    private final Logger logger = LoggerFactory.getLogger(SocketInSimTransport.class);
+    private final InSimPacketHandler packetHandler;
+    private final Socket socket;
+    private final OutputStream out;
+    private final InputStream in;
+    private final ExecutorService executorService;
+    private final OutboundPacketQueue outboundQueue;
+    private final ByteBuffer writeBuffer;
+    private final Object writeLock = new Object();
+
+    /**
+     * Opens blocking socket connection and starts packet reading thread.
+     * @param hostname address of the host where LFS is running
+     * @param port port which has been open by LFS for InSim connection
+     * @param packetHandler handler of received packets
+     * @throws IOException if I/O error occurs when creating a connection
+     */
+    public SocketInSimTransport(String hostname, int port, InSimPacketHandler packetHandler) throws IOException {
+        this(hostname, port, packetHandler, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Opens blocking socket connection and starts packet reading thread created by specified thread factory.
+     * @param hostname address of the host where LFS is running
+     * @param port port which has been open by LFS for InSim connection
+     * @param packetHandler handler of received packets
+     * @param threadFactory factory of packet reading thread
+     * @throws IOException if I/O error occurs when creating a connection
+     */
+    public SocketInSimTransport(String hostname,
+                                int port,
+                                InSimPacketHandler packetHandler,
+                                ThreadFactory threadFactory) throws IOException {
+        this.packetHandler = packetHandler;
+        socket = new Socket(hostname, port);
+        out = socket.getOutputStream();
+        in = new BufferedInputStream(socket.getInputStream());
+        outboundQueue = new OutboundPacketQueue(Constants.MAX_PENDING_OUTBOUND_BYTES);
+        writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        executorService = Executors.newSingleThreadExecutor(threadFactory);
+        executorService.submit(this::readIncomingPackets);
+    }
+
+    @Override
+    public void enqueue(byte[] bytes) throws IOException {
+        if (outboundQueue.isFull(bytes.length)) {
+            flush();
+        }
+        outboundQueue.add(bytes);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            while (!outboundQueue.isEmpty()) {
+                writeBuffer.clear();
+                outboundQueue.drainTo(writeBuffer);
+                out.write(writeBuffer.array(), 0, writeBuffer.position());
+            }
+        }
+    }
+
+    @Override
+    public long getPendingBytes() {
+        return outboundQueue.getPendingBytes();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !socket.isClosed();
+    }
+
+    @Override
+    public void close() throws IOException {
+        executorService.shutdownNow();
+        in.close();
+        out.close();
+        socket.close();
+    }
+
+    private void readIncomingPackets() {
+        logger.debug("Started packet reading thread");
+        try {
+            var frameBytes = new byte[Constants.MAX_PACKET_SIZE];
+            var frameBuffer = ByteBuffer.wrap(frameBytes);
+            while (in.readNBytes(frameBytes, 0, Constants.PACKET_HEADER_SIZE) == Constants.PACKET_HEADER_SIZE) {
+                onPacketReceived(frameBytes, frameBuffer);
+            }
+            logger.error("Lost connection to LFS");
+            packetHandler.onConnectionLost();
+        } catch (IOException exception) {
+            logger.error("Error occurred while reading packet header bytes: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "reading packet header", exception);
+            packetHandler.onConnectionLost();
+        }
+        logger.debug("Stopping packet reading thread");
+    }
+
+    private void onPacketReceived(byte[] frameBytes, ByteBuffer frameBuffer) {
+        try {
+            frameBuffer.clear();
+            var packetReader = new PacketReader(frameBuffer);
+            var dataBytesCount = packetReader.getDataBytesCount();
+            if (packetHandler.shouldPacketBeRead(packetReader.getPacketType(), packetReader.getPacketReqI())) {
+                if (in.readNBytes(frameBytes, Constants.PACKET_HEADER_SIZE, dataBytesCount) == dataBytesCount) {
+                    frameBuffer.limit(Constants.PACKET_HEADER_SIZE + dataBytesCount);
+                    packetHandler.onPacketReceived(packetReader, frameBuffer);
+                }
+            } else {
+                logger.atDebug().log("Received {} packet - skipping", packetReader.getPacketType());
+                in.skipNBytes(dataBytesCount);
+                packetHandler.onPacketSkipped(packetReader);
+            }
+        } catch (Exception exception) {
+            logger.error("Error occurred while reading packet: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "reading packet", exception);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.transport;
+
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.internal.common.util.LoggerUtils;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
+import com.github.adrian99.javainsim.internal.insim.packets.util.PacketReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Receiver of InSim packets sent by LFS over UDP. When non-zero UDP port is specified in initialization packet,
+ * LFS sends {@link PacketType#NLP NLP} and {@link PacketType#MCI MCI} packets to that port instead of TCP
+ * connection, so that frequent position updates do not delay other packets. Each datagram is decoded in place,
+ * directly from the reusable receive buffer, and passed to the same packet handler as packets received over TCP.
+ * Packets of other types are skipped.
+ */
+public class UdpPacketReceiver implements Closeable {
+    private final Logger logger = LoggerFactory.getLogger(UdpPacketReceiver.class);
+    private final InSimPacketHandler packetHandler;
+    private final DatagramChannel channel;
+    private final ExecutorService executorService;
+
+    /**
+     * Binds datagram channel to specified port and starts packet receiving thread.
+     * @param port UDP port to receive packets on
+     * @param packetHandler handler of received packets
+     * @param threadFactory factory of packet receiving thread
+     * @throws IOException if I/O error occurs when binding the channel, e.g. when the port is already in use
+     */
+    public UdpPacketReceiver(int port, InSimPacketHandler packetHandler, ThreadFactory threadFactory) throws IOException {
+        this.packetHandler = packetHandler;
+        channel = DatagramChannel.open();
+        try {
+            channel.bind(new InetSocketAddress(port));
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+        executorService = Executors.newSingleThreadExecutor(threadFactory);
+        executorService.submit(this::receiveIncomingPackets);
+    }
+
+    /**
+     * @return whether the receiver is still open
+     */
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        executorService.shutdownNow();
+        channel.close();
+    }
+
+    private void receiveIncomingPackets() {
+        logger.debug("Started UDP packet receiving thread");
+        var buffer = ByteBuffer.allocate(Constants.MAX_PACKET_SIZE);
+        try {
+            while (channel.isOpen()) {
+                buffer.clear();
+                channel.receive(buffer);
+                buffer.flip();
+                onDatagramReceived(buffer);
+            }
+        } catch (IOException exception) {
+            if (channel.isOpen()) {
+                logger.error("Error occurred while receiving UDP packet: {}", exception.getMessage());
+                LoggerUtils.logStacktrace(logger, "receiving UDP packet", exception);
+            }
+        }
+        logger.debug("Stopping UDP packet receiving thread");
+    }
+
+    private void onDatagramReceived(ByteBuffer buffer) {
+        try {
+            if (buffer.remaining() < Constants.PACKET_HEADER_SIZE) {
+                logger.debug("Received too short UDP datagram - skipping");
+                packetHandler.onDatagramDropped();
+                return;
+            }
+            var packetSize = Byte.toUnsignedInt(buffer.get(buffer.position())) * 4;
+            var packetReader = new PacketReader(buffer);
+            var packetType = packetReader.getPacketType();
+            if (packetSize != buffer.limit()) {
+                logger.debug("Received UDP datagram of unexpected size - skipping");
+                packetHandler.onDatagramDropped();
+            } else if ((packetType == PacketType.NLP || packetType == PacketType.MCI) &&
+                    packetHandler.shouldPacketBeRead(packetType, packetReader.getPacketReqI())) {
+                packetHandler.onPacketReceived(packetReader, buffer);
+            } else {
+                logger.atDebug().log("Received {} packet over UDP - skipping", packetType);
+                packetHandler.onPacketSkipped(packetReader);
+            }
+        } catch (Exception exception) {
+            logger.error("Error occurred while reading UDP packet: {}", exception.getMessage());
+            LoggerUtils.logStacktrace(logger, "reading UDP packet", exception);
+        }
+    }
+}
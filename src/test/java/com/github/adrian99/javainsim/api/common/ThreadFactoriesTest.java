@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThreadFactoriesTest {
+    @Test
+    void platform() throws InterruptedException {
+        var taskRun = new AtomicBoolean();
+
+        var thread = ThreadFactories.platform().newThread(() -> taskRun.set(true));
+        thread.start();
+        thread.join();
+
+        assertTrue(taskRun.get());
+    }
+
+    @Test
+    void virtual() throws InterruptedException {
+        if (ThreadFactories.isVirtualSupported()) {
+            var taskRun = new AtomicBoolean();
+
+            var thread = ThreadFactories.virtual().newThread(() -> taskRun.set(true));
+            thread.start();
+            thread.join();
+
+            assertTrue(taskRun.get());
+        } else {
+            assertThrows(UnsupportedOperationException.class, ThreadFactories::virtual);
+        }
+    }
+}
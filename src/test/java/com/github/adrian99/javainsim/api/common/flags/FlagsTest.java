@@ -82,6 +82,16 @@ class FlagsTest {
         assertTrue(flags.hasNoFlag(ConfirmationFlag.TIME));
     }
 
+    @Test
+    void createFlags_fromBinaryWithUnknownBits() {
+        var flags = new Flags<>(IsiFlag.class, 0x10000L | 1220);
+
+        assertEquals(1220, flags.getUnsignedValue());
+        assertTrue(flags.hasFlag(IsiFlag.LOCAL));
+        assertTrue(flags.hasNoFlag(IsiFlag.NLP));
+        assertTrue(flags.hasNoFlag(null));
+    }
+
     @Test
     void createFlags_fromBinary() {
         var flags = new Flags<>(IsiFlag.class, 1220);
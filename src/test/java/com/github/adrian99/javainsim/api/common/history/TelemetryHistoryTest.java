@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.history;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelemetryHistoryTest {
+    private enum TestField implements TelemetryField {
+        SPEED(false),
+        GEAR(true);
+
+        private final boolean integer;
+
+        TestField(boolean integer) {
+            this.integer = integer;
+        }
+
+        @Override
+        public boolean isInteger() {
+            return integer;
+        }
+    }
+
+    @Test
+    void recordAndQuery() {
+        var history = new TelemetryHistory<>(TestField.class, 10);
+        for (var i = 1; i <= 5; i++) {
+            record(history, i * 100L, i * 1.5f, i);
+        }
+
+        assertEquals(10, history.getCapacity());
+        assertEquals(5, history.getSize());
+        assertEquals(5, history.getRecordedSamplesCount());
+        assertEquals(3, history.countSamples(200, 400));
+        assertEquals(3.0, history.min(TestField.SPEED, 150, 450));
+        assertEquals(6.0, history.max(TestField.SPEED, 150, 450));
+        assertEquals(3.0, history.average(TestField.GEAR, 0, 1000));
+        assertTrue(Double.isNaN(history.min(TestField.SPEED, 501, 1000)));
+        assertEquals(0, history.countSamples(501, 1000));
+    }
+
+    @Test
+    void recordAndQuery_overwrittenSamples() {
+        var history = new TelemetryHistory<>(TestField.class, 4);
+        for (var i = 1; i <= 10; i++) {
+            record(history, i * 100L, i, i);
+        }
+
+        assertEquals(4, history.getSize());
+        assertEquals(10, history.getRecordedSamplesCount());
+        assertEquals(4, history.countSamples(0, 1000));
+        assertEquals(7.0, history.min(TestField.GEAR, 0, 1000));
+        assertEquals(10.0, history.max(TestField.GEAR, 0, 1000));
+        assertEquals(2, history.countSamples(0, 800));
+    }
+
+    @Test
+    void copyValues() {
+        var history = new TelemetryHistory<>(TestField.class, 8);
+        for (var i = 1; i <= 6; i++) {
+            record(history, i * 10L, i * 0.5f, i);
+        }
+        var values = new double[3];
+
+        var count = history.copyValues(TestField.SPEED, 20, 60, values);
+
+        assertEquals(3, count);
+        assertArrayEquals(new double[] { 1.0, 1.5, 2.0 }, values);
+
+        count = history.copyValues(TestField.SPEED, 55, 60, values);
+
+        assertEquals(1, count);
+        assertEquals(3.0, values[0]);
+    }
+
+    @Test
+    void forEachSample() {
+        var history = new TelemetryHistory<>(TestField.class, 8);
+        for (var i = 1; i <= 6; i++) {
+            record(history, i * 10L, i * 0.5f, i);
+        }
+        var times = new ArrayList<Long>();
+        var gears = new ArrayList<Integer>();
+        var speeds = new ArrayList<Float>();
+
+        history.forEachSample(25, 45, sample -> {
+            times.add(sample.getTime());
+            gears.add(sample.getInt(TestField.GEAR));
+            speeds.add(sample.getFloat(TestField.SPEED));
+        });
+
+        assertEquals(List.of(30L, 40L), times);
+        assertEquals(List.of(3, 4), gears);
+        assertEquals(List.of(1.5f, 2.0f), speeds);
+    }
+
+    @Test
+    void concurrentRecordAndQuery() throws InterruptedException {
+        var history = new TelemetryHistory<>(TestField.class, 64);
+        var writer = new Thread(() -> {
+            for (var i = 0; i < 100000; i++) {
+                record(history, i, i, i);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            var count = history.countSamples(0, Long.MAX_VALUE);
+            var min = history.min(TestField.GEAR, 0, Long.MAX_VALUE);
+            var max = history.max(TestField.GEAR, 0, Long.MAX_VALUE);
+            assertTrue(count <= 64);
+            if (count > 0 && !Double.isNaN(min)) {
+                assertTrue(min <= max);
+            }
+        }
+        writer.join();
+
+        assertEquals(64, history.countSamples(0, Long.MAX_VALUE));
+        assertEquals(99936.0, history.min(TestField.GEAR, 0, Long.MAX_VALUE));
+        assertEquals(99999.0, history.max(TestField.GEAR, 0, Long.MAX_VALUE));
+    }
+
+    @Test
+    void create_invalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TelemetryHistory<>(TestField.class, 0));
+    }
+
+    private static void record(TelemetryHistory<TestField> history, long time, float speed, int gear) {
+        history.beginSample(time);
+        history.setFloat(TestField.SPEED, speed);
+        history.setInt(TestField.GEAR, gear);
+        history.endSample();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+    @Test
+    void record() {
+        var histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(5);
+        histogram.record(7);
+        histogram.record(1000);
+        histogram.record(-3);
+
+        assertEquals(6, histogram.getCount());
+        assertEquals(1013, histogram.getTotalNanos());
+        assertEquals(1013 / 6.0, histogram.getMeanNanos());
+        assertEquals(1000, histogram.getMaxNanos());
+        assertEquals(2, histogram.getBucketCount(0));
+        assertEquals(1, histogram.getBucketCount(1));
+        assertEquals(2, histogram.getBucketCount(3));
+        assertEquals(1, histogram.getBucketCount(10));
+    }
+
+    @Test
+    void getPercentileNanos() {
+        var histogram = new LatencyHistogram();
+        for (var i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5000);
+
+        assertEquals(127, histogram.getPercentileNanos(50));
+        assertEquals(127, histogram.getPercentileNanos(99));
+        assertEquals(5000, histogram.getPercentileNanos(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+    }
+
+    @Test
+    void getPercentileNanos_emptyHistogram() {
+        var histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    void getBucketUpperBoundNanos() {
+        assertEquals(0, LatencyHistogram.getBucketUpperBoundNanos(0));
+        assertEquals(1, LatencyHistogram.getBucketUpperBoundNanos(1));
+        assertEquals(1023, LatencyHistogram.getBucketUpperBoundNanos(10));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.getBucketUpperBoundNanos(LatencyHistogram.BUCKETS_COUNT - 1));
+    }
+
+    @Test
+    void record_concurrently() throws InterruptedException {
+        var histogram = new LatencyHistogram();
+        var executorService = Executors.newFixedThreadPool(4);
+        for (var i = 0; i < 4; i++) {
+            var threadIndex = i;
+            executorService.submit(() -> {
+                for (var j = 0; j < 10000; j++) {
+                    histogram.record(threadIndex * 10000 + j);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(40000, histogram.getCount());
+        assertEquals(39999, histogram.getMaxNanos());
+        assertEquals(39999L * 40000 / 2, histogram.getTotalNanos());
+    }
+}
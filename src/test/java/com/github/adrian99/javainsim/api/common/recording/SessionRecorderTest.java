@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.recording;
+
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRecorderTest {
+    private static final int SEGMENT_SIZE = 64 * 1024;
+    private static final int SEGMENT_HEADER_SIZE = 32;
+    private static final int FRAME_HEADER_SIZE = 16;
+
+    private Path directory;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        directory = Files.createTempDirectory("session-recorder-test");
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        try (var paths = Files.walk(directory)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    void record() throws IOException {
+        try (var sessionRecorder = new SessionRecorder(directory, SEGMENT_SIZE)) {
+            sessionRecorder.record(FrameSource.INSIM_TCP, new byte[] { 1, 3, 0, 0 }, 0, 4);
+            sessionRecorder.record(FrameSource.OUTGAUGE, new byte[] { 9, 8, 7, 6, 5, 4 }, 2, 3);
+            sessionRecorder.record(FrameSource.INSIM_UDP, ByteBuffer.wrap(new byte[] { 0, 2, 4, 6, 8 }).position(1));
+
+            assertEquals(3, sessionRecorder.getRecordedFramesCount());
+            assertEquals(1, sessionRecorder.getSegmentsCount());
+        }
+
+        var segment = readSegment("segment-000000.jisr");
+        assertEquals(0x5253494A, segment.getInt(0));
+        assertEquals(0, segment.getInt(8));
+
+        var position = SEGMENT_HEADER_SIZE;
+        position = assertFrame(segment, position, FrameSource.INSIM_TCP, new byte[] { 1, 3, 0, 0 });
+        position = assertFrame(segment, position, FrameSource.OUTGAUGE, new byte[] { 7, 6, 5 });
+        position = assertFrame(segment, position, FrameSource.INSIM_UDP, new byte[] { 2, 4, 6, 8 });
+        assertEquals(0, segment.getInt(position));
+    }
+
+    @Test
+    void record_segmentRollover() throws IOException {
+        var frame = new byte[1000];
+        try (var sessionRecorder = new SessionRecorder(directory, SEGMENT_SIZE)) {
+            for (var i = 0; i < 200; i++) {
+                frame[0] = (byte) i;
+                sessionRecorder.record(FrameSource.OUTSIM, frame, 0, frame.length);
+            }
+
+            assertEquals(200, sessionRecorder.getRecordedFramesCount());
+            assertEquals(4, sessionRecorder.getSegmentsCount());
+        }
+
+        var framesCount = 0;
+        var previousTimestamp = 0L;
+        for (var segmentIndex = 0; segmentIndex < 4; segmentIndex++) {
+            var segment = readSegment(String.format("segment-%06d.jisr", segmentIndex));
+            assertEquals(segmentIndex, segment.getInt(8));
+            var position = SEGMENT_HEADER_SIZE;
+            while (segment.getInt(position) != 0) {
+                assertEquals(1000, segment.getInt(position));
+                assertEquals(FrameSource.OUTSIM.ordinal(), segment.getShort(position + 4));
+                assertTrue(segment.getLong(position + 8) >= previousTimestamp);
+                assertEquals((byte) framesCount, segment.get(position + FRAME_HEADER_SIZE));
+                previousTimestamp = segment.getLong(position + 8);
+                position += FRAME_HEADER_SIZE + 1000;
+                framesCount++;
+            }
+        }
+        assertEquals(200, framesCount);
+    }
+
+    @Test
+    void record_closedRecorder() throws IOException {
+        var sessionRecorder = new SessionRecorder(directory, SEGMENT_SIZE);
+        sessionRecorder.close();
+
+        assertFalse(sessionRecorder.isOpen());
+        assertThrows(
+                IllegalStateException.class,
+                () -> sessionRecorder.record(FrameSource.INSIM_TCP, new byte[4], 0, 4)
+        );
+    }
+
+    @Test
+    void create_tooSmallSegment() {
+        assertThrows(IllegalArgumentException.class, () -> new SessionRecorder(directory, 1024));
+    }
+
+    private ByteBuffer readSegment(String fileName) throws IOException {
+        var bytes = Files.readAllBytes(directory.resolve(fileName));
+        assertEquals(SEGMENT_SIZE, bytes.length);
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int assertFrame(ByteBuffer segment, int position, FrameSource source, byte[] expectedBytes) {
+        assertEquals(expectedBytes.length, segment.getInt(position));
+        assertEquals(source.ordinal(), segment.getShort(position + 4));
+        var bytes = new byte[expectedBytes.length];
+        segment.get(position + FRAME_HEADER_SIZE, bytes);
+        assertArrayEquals(expectedBytes, bytes);
+        return position + FRAME_HEADER_SIZE + expectedBytes.length;
+    }
+}
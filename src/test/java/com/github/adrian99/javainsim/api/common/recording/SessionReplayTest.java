@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.common.recording;
+
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.insim.InSimConnection;
+import com.github.adrian99.javainsim.api.insim.packets.MciPacket;
+import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.api.outgauge.OutGaugeConnection;
+import com.github.adrian99.javainsim.api.outsim.OutSimConnection;
+import com.github.adrian99.javainsim.api.outsim.flags.OutSimOpts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionReplayTest {
+    private static final int SEGMENT_SIZE = 64 * 1024;
+    private static final byte[] REPLY_PACKET_BYTES = new byte[] {
+            1, 3, 5, 4
+    };
+    private static final byte[] MCI_PACKET_BYTES = new byte[] {
+            15, 38, -112, 2, -84, 2, 9, 0, 17, 1, 96, 0, 102, -99, 79, 9,
+            -113, -55, -40, -1, 82, -41, 1, 0, -32, 63, -28, 119, 42, 49, 71, 0,
+            102, 1, 9, 0, 13, 2, -94, 0, -51, -70, -15, -1, 78, -108, -39, -1,
+            119, -26, -1, -1, 87, 41, -30, 61, -106, 58, -16, -1
+    };
+
+    private Path directory;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        directory = Files.createTempDirectory("session-replay-test");
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        try (var paths = Files.walk(directory)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    void replay() throws IOException {
+        try (var sessionRecorder = new SessionRecorder(directory, SEGMENT_SIZE)) {
+            for (var i = 0; i < 1000; i++) {
+                sessionRecorder.record(FrameSource.INSIM_TCP, REPLY_PACKET_BYTES, 0, REPLY_PACKET_BYTES.length);
+                sessionRecorder.record(FrameSource.INSIM_UDP, MCI_PACKET_BYTES, 0, MCI_PACKET_BYTES.length);
+                sessionRecorder.record(FrameSource.OUTSIM, new byte[68], 0, 68);
+                sessionRecorder.record(FrameSource.OUTGAUGE, new byte[96], 0, 96);
+            }
+            assertTrue(sessionRecorder.getSegmentsCount() > 1);
+        }
+        var tinyPackets = new ArrayList<TinyPacket>();
+        var mciPacketsCount = new AtomicInteger();
+        var outSimPacketsCount = new AtomicInteger();
+        var outGaugePacketsCount = new AtomicInteger();
+
+        try (var sessionReplay = new SessionReplay(directory);
+             var inSimConnection = new InSimConnection(sessionReplay);
+             var outSimConnection = new OutSimConnection(sessionReplay, new Flags<>(OutSimOpts.class, 0));
+             var outGaugeConnection = new OutGaugeConnection(sessionReplay)) {
+            inSimConnection.listen(TinyPacket.class, (connection, packet) -> {
+                assertEquals(inSimConnection, connection);
+                tinyPackets.add(packet);
+            });
+            inSimConnection.listen(MciPacket.class, (connection, packet) -> mciPacketsCount.incrementAndGet());
+            outSimConnection.listen(packet -> outSimPacketsCount.incrementAndGet());
+            outGaugeConnection.listen(packet -> outGaugePacketsCount.incrementAndGet());
+
+            assertEquals(4000, sessionReplay.replay());
+            assertEquals(0, sessionReplay.replay());
+        }
+
+        assertEquals(1000, tinyPackets.size());
+        assertEquals(5, tinyPackets.get(0).getReqI());
+        assertEquals(TinySubtypes.REPLY, tinyPackets.get(0).getSubT());
+        assertEquals(1000, mciPacketsCount.get());
+        assertEquals(1000, outSimPacketsCount.get());
+        assertEquals(1000, outGaugePacketsCount.get());
+    }
+
+    @Test
+    void replay_withSpeed() throws IOException, InterruptedException {
+        try (var sessionRecorder = new SessionRecorder(directory, SEGMENT_SIZE)) {
+            sessionRecorder.record(FrameSource.INSIM_TCP, REPLY_PACKET_BYTES, 0, REPLY_PACKET_BYTES.length);
+            Thread.sleep(400);
+            sessionRecorder.record(FrameSource.INSIM_TCP, REPLY_PACKET_BYTES, 0, REPLY_PACKET_BYTES.length);
+        }
+        var packetsCount = new AtomicInteger();
+
+        try (var sessionReplay = new SessionReplay(directory);
+             var inSimConnection = new InSimConnection(sessionReplay)) {
+            inSimConnection.listen(TinyPacket.class, (connection, packet) -> packetsCount.incrementAndGet());
+
+            var replayStartTime = System.nanoTime();
+            assertEquals(2, sessionReplay.replay(2));
+            var replayDurationMillis = (System.nanoTime() - replayStartTime) / 1_000_000;
+
+            assertTrue(replayDurationMillis >= 200);
+        }
+
+        assertEquals(2, packetsCount.get());
+    }
+
+    @Test
+    void create_noRecording() {
+        assertThrows(IOException.class, () -> new SessionReplay(directory));
+    }
+}
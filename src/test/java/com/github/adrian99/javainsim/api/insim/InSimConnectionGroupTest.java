@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim;
+
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.insim.packets.IsiPacket;
+import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
+import com.github.adrian99.javainsim.api.insim.packets.enums.Product;
+import com.github.adrian99.javainsim.api.insim.packets.flags.IsiFlag;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.testutil.AssertionUtils;
+import com.github.adrian99.javainsim.testutil.LfsTcpMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InSimConnectionGroupTest {
+    private static final int LFS_MOCK_PORT_1 = 49997;
+    private static final int LFS_MOCK_PORT_2 = 49998;
+    private static final IsiPacket INIT_PACKET = new IsiPacket(
+            0,
+            new Flags<>(IsiFlag.LOCAL),
+            null,
+            250,
+            "password",
+            "application"
+    );
+    private static final byte[] INIT_PACKET_BYTES = new byte[] {
+            11, 1, 1, 0, 0, 0, 4, 0, 9, 0, -6, 0, 112, 97, 115, 115,
+            119, 111, 114, 100, 0, 0, 0, 0, 0, 0, 0, 0, 97, 112, 112, 108,
+            105, 99, 97, 116, 105, 111, 110, 0, 0, 0, 0, 0
+    };
+    private static final byte[] CLOSE_PACKET_BYTES = new byte[] {
+            1, 3, 0, 2
+    };
+    private static final byte[] KEEP_ALIVE_PACKET_BYTES = new byte[] {
+            1, 3, 0, 0
+    };
+
+    private LfsTcpMock lfsTcpMock1;
+    private LfsTcpMock lfsTcpMock2;
+    private InSimConnectionGroup connectionGroup;
+    private InSimConnection inSimConnection1;
+    private InSimConnection inSimConnection2;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        lfsTcpMock1 = new LfsTcpMock(LFS_MOCK_PORT_1, Product.S3, "0.7D");
+        lfsTcpMock2 = new LfsTcpMock(LFS_MOCK_PORT_2, Product.S3, "0.7D");
+        connectionGroup = new InSimConnectionGroup();
+        inSimConnection1 = new InSimConnection("localhost", LFS_MOCK_PORT_1, INIT_PACKET, connectionGroup);
+        inSimConnection2 = new InSimConnection("localhost", LFS_MOCK_PORT_2, INIT_PACKET, connectionGroup);
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        lfsTcpMock1.close();
+        lfsTcpMock2.close();
+        inSimConnection1.close();
+        inSimConnection2.close();
+        connectionGroup.close();
+    }
+
+    @Test
+    void closeInSimConnection() throws IOException {
+        var lfs1ReceivedPackets = lfsTcpMock1.awaitReceivedPackets(1);
+        assertArrayEquals(INIT_PACKET_BYTES, lfs1ReceivedPackets.get(0));
+        var lfs2ReceivedPackets = lfsTcpMock2.awaitReceivedPackets(1);
+        assertArrayEquals(INIT_PACKET_BYTES, lfs2ReceivedPackets.get(0));
+
+        AssertionUtils.assertConditionMet(
+                () -> inSimConnection1.isConnected() && inSimConnection2.isConnected(),
+                1000,
+                100
+        );
+
+        inSimConnection1.close();
+
+        assertFalse(inSimConnection1.isConnected());
+        assertTrue(inSimConnection2.isConnected());
+        assertTrue(connectionGroup.isOpen());
+
+        lfs1ReceivedPackets = lfsTcpMock1.awaitReceivedPackets(2);
+        assertEquals(2, lfs1ReceivedPackets.size());
+        assertArrayEquals(CLOSE_PACKET_BYTES, lfs1ReceivedPackets.get(1));
+    }
+
+    @Test
+    void closeInSimConnectionGroup() throws IOException {
+        lfsTcpMock1.awaitReceivedPackets(1);
+        lfsTcpMock2.awaitReceivedPackets(1);
+
+        connectionGroup.close();
+
+        AssertionUtils.assertConditionMet(
+                () -> !inSimConnection1.isConnected() && !inSimConnection2.isConnected(),
+                1000,
+                100
+        );
+        assertFalse(connectionGroup.isOpen());
+    }
+
+    @Test
+    void keepAlivePackets() throws IOException {
+        lfsTcpMock1.send(KEEP_ALIVE_PACKET_BYTES);
+        lfsTcpMock2.send(KEEP_ALIVE_PACKET_BYTES);
+
+        var lfs1ReceivedPackets = lfsTcpMock1.awaitReceivedPackets(2);
+        assertEquals(2, lfs1ReceivedPackets.size());
+        assertArrayEquals(KEEP_ALIVE_PACKET_BYTES, lfs1ReceivedPackets.get(1));
+        var lfs2ReceivedPackets = lfsTcpMock2.awaitReceivedPackets(2);
+        assertEquals(2, lfs2ReceivedPackets.size());
+        assertArrayEquals(KEEP_ALIVE_PACKET_BYTES, lfs2ReceivedPackets.get(1));
+    }
+
+    @Test
+    void listen() throws IOException {
+        var connection1ListenerCalls = new AtomicInteger();
+        var connection2ListenerCalls = new AtomicInteger();
+
+        inSimConnection1.listen(TinyPacket.class, (ic, packet) -> {
+            assertEquals(inSimConnection1, ic);
+            connection1ListenerCalls.getAndIncrement();
+        });
+        inSimConnection2.listen(TinyPacket.class, (ic, packet) -> {
+            assertEquals(inSimConnection2, ic);
+            connection2ListenerCalls.getAndIncrement();
+        });
+
+        for (var i = 0; i < 50; i++) {
+            lfsTcpMock1.send(KEEP_ALIVE_PACKET_BYTES);
+        }
+        lfsTcpMock2.send(KEEP_ALIVE_PACKET_BYTES);
+
+        AssertionUtils.assertConditionMet(
+                () -> connection1ListenerCalls.get() == 50 && connection2ListenerCalls.get() == 1,
+                1000,
+                100
+        );
+    }
+
+    @Test
+    void sendAll() throws IOException {
+        lfsTcpMock1.awaitReceivedPackets(1);
+        var packets = new ArrayList<TinyPacket>();
+        for (var i = 1; i <= 200; i++) {
+            packets.add(new TinyPacket(i, TinySubtypes.PING));
+        }
+
+        inSimConnection1.sendAll(packets);
+
+        var lfs1ReceivedPackets = lfsTcpMock1.awaitReceivedPackets(201);
+        assertEquals(201, lfs1ReceivedPackets.size());
+        for (var i = 0; i < packets.size(); i++) {
+            assertArrayEquals(packets.get(i).getBytes(), lfs1ReceivedPackets.get(i + 1));
+        }
+    }
+}
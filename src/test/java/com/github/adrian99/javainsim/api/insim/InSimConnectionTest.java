@@ -8,7 +8,11 @@
 
 package com.github.adrian99.javainsim.api.insim;
 
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
 import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.common.metrics.InMemoryConnectionMetrics;
+import com.github.adrian99.javainsim.api.common.recording.SessionRecorder;
+import com.github.adrian99.javainsim.api.insim.dispatch.DispatchStrategy;
 import com.github.adrian99.javainsim.api.insim.packets.*;
 import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
 import com.github.adrian99.javainsim.api.insim.packets.enums.Product;
@@ -20,11 +24,17 @@ import com.github.adrian99.javainsim.testutil.TestInSimConnection;
 import org.junit.jupiter.api.*;
 import com.github.adrian99.javainsim.api.insim.packets.requests.TinyPacketRequest;
 import com.github.adrian99.javainsim.testutil.LfsTcpMock;
+import com.github.adrian99.javainsim.testutil.LfsUdpMock;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -186,6 +196,38 @@ class InSimConnectionTest {
         assertEquals(1, smallPacketListenerCalls.get());
     }
 
+    @Test
+    void listen_withDispatchStrategy() throws IOException {
+        var readingThread = new AtomicReference<Thread>();
+        var listenerThread = new AtomicReference<Thread>();
+        var slowListenerCalls = new AtomicInteger();
+
+        inSimConnection.listen(TinyPacket.class, (ic, packet) -> readingThread.set(Thread.currentThread()));
+        inSimConnection.listen(
+                TinyPacket.class,
+                (ic, packet) -> {
+                    listenerThread.set(Thread.currentThread());
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                    slowListenerCalls.getAndIncrement();
+                },
+                DispatchStrategy.sharedPool()
+        );
+
+        for (var i = 0; i < 5; i++) {
+            lfsTcpMock.send(KEEP_ALIVE_PACKET_BYTES);
+        }
+
+        var lfsReceivedPackets = lfsTcpMock.awaitReceivedPackets(6);
+        assertEquals(6, lfsReceivedPackets.size());
+        AssertionUtils.assertConditionMet(() -> slowListenerCalls.get() == 5, 1000, 100);
+        assertNotNull(readingThread.get());
+        assertNotEquals(readingThread.get(), listenerThread.get());
+    }
+
     @Test
     void listen_withThrowingCallback() throws IOException {
         var firstListenerCalled = new AtomicBoolean();
@@ -271,6 +313,26 @@ class InSimConnectionTest {
         AssertionUtils.assertConditionNotMet(() -> receivedResponsesCount.get() > 1, 1000);
     }
 
+    @Test
+    void responseCacheInvalidatedByTinyPacket() throws IOException {
+        var responseCache = inSimConnection.getResponseCache();
+        responseCache.enable(10000);
+        responseCache.get(TinySubtypes.ISM);
+        lfsTcpMock.awaitReceivedPackets(1);
+
+        lfsTcpMock.send(new byte[] {
+                10, 10, 0, 0, 0, 0, 0, 0, 69, 120, 97, 109, 112, 108, 101, 32, 76,
+                70, 83, 32, 83, 101, 114, 118, 101, 114, 0, 0, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, 0
+        });
+
+        AssertionUtils.assertConditionMet(() -> responseCache.get(TinySubtypes.ISM).isPresent(), 1000, 100);
+
+        lfsTcpMock.send(new byte[] { 1, 3, 0, 9 });
+
+        AssertionUtils.assertConditionMet(() -> responseCache.get(TinySubtypes.ISM).isEmpty(), 1000, 100);
+    }
+
     @Test
     void request_multiplePacketResponse() throws IOException {
         var receivedResponsesCount = new AtomicInteger();
@@ -423,6 +485,31 @@ class InSimConnectionTest {
         assertEquals(255, distinctReqIsCount);
     }
 
+    @Test
+    void enableUdpReceiving() throws IOException {
+        var mciPacket = new AtomicReference<MciPacket>();
+        inSimConnection.listen(MciPacket.class, (ic, packet) -> mciPacket.set(packet));
+
+        inSimConnection.enableUdpReceiving();
+        assertTrue(inSimConnection.isUdpReceivingEnabled());
+        assertThrows(IllegalStateException.class, () -> inSimConnection.initializeOutGauge(500));
+
+        try (var lfsUdpMock = new LfsUdpMock(UDP_PORT)) {
+            lfsUdpMock.send(new byte[] {
+                    15, 38, -112, 2, -84, 2, 9, 0, 17, 1, 96, 0, 102, -99, 79, 9,
+                    -113, -55, -40, -1, 82, -41, 1, 0, -32, 63, -28, 119, 42, 49, 71, 0,
+                    102, 1, 9, 0, 13, 2, -94, 0, -51, -70, -15, -1, 78, -108, -39, -1,
+                    119, -26, -1, -1, 87, 41, -30, 61, -106, 58, -16, -1
+            });
+
+            AssertionUtils.assertConditionMet(() -> mciPacket.get() != null, 1000, 100);
+            assertEquals(2, mciPacket.get().getNumC());
+        }
+
+        inSimConnection.disableUdpReceiving();
+        assertFalse(inSimConnection.isUdpReceivingEnabled());
+    }
+
     @Test
     void initializeOutSim() throws IOException {
         try (var outSimConnection = inSimConnection.initializeOutSim(500, 25)) {
@@ -494,4 +581,102 @@ class InSimConnectionTest {
         assertEquals(0, lfsReceivedPackets.get(1)[6]);
         assertEquals(0, lfsReceivedPackets.get(1)[7]);
     }
+
+    @Test
+    void sendAll() throws IOException {
+        var packets = List.of(
+                new TinyPacket(1, TinySubtypes.PING),
+                new TinyPacket(2, TinySubtypes.PING),
+                new TinyPacket(3, TinySubtypes.PING)
+        );
+
+        inSimConnection.sendAll(packets);
+
+        var lfsReceivedPackets = lfsTcpMock.awaitReceivedPackets(4);
+        assertEquals(4, lfsReceivedPackets.size());
+        for (var i = 0; i < packets.size(); i++) {
+            assertArrayEquals(packets.get(i).getBytes(), lfsReceivedPackets.get(i + 1));
+        }
+        assertEquals(0, inSimConnection.getPendingBytesCount());
+    }
+
+    @Test
+    void enqueueAndFlush() throws IOException {
+        lfsTcpMock.awaitReceivedPackets(1);
+        var packet = new TinyPacket(1, TinySubtypes.PING);
+
+        inSimConnection.enqueue(packet);
+
+        assertEquals(4, inSimConnection.getPendingBytesCount());
+        AssertionUtils.assertConditionNotMet(() -> lfsTcpMock.awaitReceivedPackets(1).size() > 1, 300);
+
+        inSimConnection.flush();
+
+        var lfsReceivedPackets = lfsTcpMock.awaitReceivedPackets(2);
+        assertEquals(2, lfsReceivedPackets.size());
+        assertArrayEquals(packet.getBytes(), lfsReceivedPackets.get(1));
+        assertEquals(0, inSimConnection.getPendingBytesCount());
+    }
+
+    @Test
+    void startRecording() throws IOException {
+        lfsTcpMock.awaitReceivedPackets(1);
+        var directory = Files.createTempDirectory("insim-recording-test");
+        var segmentPath = directory.resolve("segment-000000.jisr");
+        try {
+            try (var sessionRecorder = new SessionRecorder(directory, 64 * 1024)) {
+                inSimConnection.startRecording(sessionRecorder);
+
+                lfsTcpMock.send(SMALL_PACKET_BYTES);
+
+                AssertionUtils.assertConditionMet(() -> sessionRecorder.getRecordedFramesCount() == 1, 1000, 100);
+
+                inSimConnection.stopRecording();
+            }
+
+            var segment = ByteBuffer.wrap(Files.readAllBytes(segmentPath)).order(ByteOrder.LITTLE_ENDIAN);
+            assertEquals(SMALL_PACKET_BYTES.length, segment.getInt(32));
+            assertEquals(FrameSource.INSIM_TCP.ordinal(), segment.getShort(36));
+            var frameBytes = new byte[SMALL_PACKET_BYTES.length];
+            segment.get(48, frameBytes);
+            assertArrayEquals(SMALL_PACKET_BYTES, frameBytes);
+        } finally {
+            Files.deleteIfExists(segmentPath);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void setMetrics() throws IOException {
+        lfsTcpMock.awaitReceivedPackets(1);
+        var metrics = new InMemoryConnectionMetrics();
+        inSimConnection.setMetrics(metrics);
+        var smallPacketListenerCalls = new AtomicInteger();
+
+        lfsTcpMock.send(SMALL_PACKET_BYTES);
+        lfsTcpMock.send(KEEP_ALIVE_PACKET_BYTES);
+
+        AssertionUtils.assertConditionMet(() -> metrics.getSentPacketsCount(PacketType.TINY) == 1, 1000, 100);
+
+        inSimConnection.listen(SmallPacket.class, (ic, packet) -> smallPacketListenerCalls.getAndIncrement());
+        lfsTcpMock.send(SMALL_PACKET_BYTES);
+
+        AssertionUtils.assertConditionMet(() -> smallPacketListenerCalls.get() == 1, 1000, 100);
+        AssertionUtils.assertConditionMet(() -> metrics.getListenerTimes(PacketType.SMALL).getCount() == 1, 1000, 100);
+
+        assertEquals(metrics, inSimConnection.getMetrics());
+        assertEquals(2, metrics.getReceivedPacketsCount(PacketType.SMALL));
+        assertEquals(1, metrics.getSkippedPacketsCount(PacketType.SMALL));
+        assertEquals(1, metrics.getDecodedPacketsCount(PacketType.SMALL));
+        assertEquals(1, metrics.getReceivedPacketsCount(PacketType.TINY));
+        assertEquals(1, metrics.getDecodedPacketsCount(PacketType.TINY));
+        assertEquals(2 * SMALL_PACKET_BYTES.length + KEEP_ALIVE_PACKET_BYTES.length, metrics.getReceivedBytesCount());
+        assertEquals(KEEP_ALIVE_PACKET_BYTES.length, metrics.getSentBytesCount());
+
+        inSimConnection.request(new TinyPacketRequest<>(TinySubtypes.ISM, (ic, packet) -> {}, 100));
+
+        AssertionUtils.assertConditionMet(() -> metrics.getPendingRequestsCount() == 1, 1000, 100);
+        AssertionUtils.assertConditionMet(() -> metrics.getTimedOutRequestsCount(PacketType.ISM) == 1, 2000, 100);
+        assertEquals(0, metrics.getPendingRequestsCount());
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.dispatch;
+
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.internal.insim.dispatch.ExecutorDispatchStrategy;
+import com.github.adrian99.javainsim.testutil.AssertionUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchStrategyTest {
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void beforeEach() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void afterEach() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void inline() {
+        var callingThread = new ArrayList<Thread>();
+        DispatchStrategy.<TinyPacket>inline().dispatch(
+                new TinyPacket(1, TinySubtypes.PING),
+                () -> callingThread.add(Thread.currentThread())
+        );
+
+        assertEquals(List.of(Thread.currentThread()), callingThread);
+    }
+
+    @Test
+    void executor() {
+        var calls = new AtomicInteger();
+        var strategy = DispatchStrategy.<TinyPacket>executor(executorService, 100, OverflowPolicy.BLOCK);
+
+        for (var i = 0; i < 100; i++) {
+            strategy.dispatch(new TinyPacket(1, TinySubtypes.PING), calls::getAndIncrement);
+        }
+
+        AssertionUtils.assertConditionMet(() -> calls.get() == 100, 1000, 100);
+    }
+
+    @Test
+    void orderedLanes() {
+        var receivedReqIs = new ArrayList<List<Short>>();
+        for (var i = 0; i < 4; i++) {
+            receivedReqIs.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+        var strategy = DispatchStrategy.<TinyPacket>orderedLanes(
+                executorService,
+                packet -> packet.getReqI() % 4,
+                4,
+                1000,
+                OverflowPolicy.BLOCK
+        );
+
+        for (var i = 1; i <= 200; i++) {
+            var packet = new TinyPacket(i, TinySubtypes.PING);
+            strategy.dispatch(packet, () -> receivedReqIs.get(packet.getReqI() % 4).add(packet.getReqI()));
+        }
+
+        AssertionUtils.assertConditionMet(
+                () -> receivedReqIs.stream().mapToInt(List::size).sum() == 200,
+                1000,
+                100
+        );
+        for (var lane : receivedReqIs) {
+            for (var i = 1; i < lane.size(); i++) {
+                assertTrue(lane.get(i - 1) < lane.get(i));
+            }
+        }
+    }
+
+    @Test
+    void executor_dropNewest() throws InterruptedException {
+        var blockingLatch = new CountDownLatch(1);
+        var executedValues = Collections.synchronizedList(new ArrayList<Integer>());
+        var singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            var strategy = DispatchStrategy.<TinyPacket>executor(
+                    singleThreadExecutor,
+                    2,
+                    OverflowPolicy.DROP_NEWEST
+            );
+            var packet = new TinyPacket(1, TinySubtypes.PING);
+
+            strategy.dispatch(packet, () -> awaitLatch(blockingLatch));
+            AssertionUtils.assertConditionMet(
+                    () -> ((ExecutorDispatchStrategy<?>) strategy).getQueuedEventsCount() == 0,
+                    1000,
+                    10
+            );
+            for (var i = 0; i < 5; i++) {
+                var value = i;
+                strategy.dispatch(packet, () -> executedValues.add(value));
+            }
+            blockingLatch.countDown();
+
+            AssertionUtils.assertConditionMet(() -> executedValues.size() == 2, 1000, 100);
+            assertEquals(List.of(0, 1), executedValues);
+            assertEquals(3, strategy.getDroppedEventsCount());
+        } finally {
+            singleThreadExecutor.shutdownNow();
+            assertTrue(singleThreadExecutor.awaitTermination(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void executor_dropOldest() throws InterruptedException {
+        var blockingLatch = new CountDownLatch(1);
+        var executedValues = Collections.synchronizedList(new ArrayList<Integer>());
+        var singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            var strategy = DispatchStrategy.<TinyPacket>executor(
+                    singleThreadExecutor,
+                    2,
+                    OverflowPolicy.DROP_OLDEST
+            );
+            var packet = new TinyPacket(1, TinySubtypes.PING);
+
+            strategy.dispatch(packet, () -> awaitLatch(blockingLatch));
+            AssertionUtils.assertConditionMet(
+                    () -> ((ExecutorDispatchStrategy<?>) strategy).getQueuedEventsCount() == 0,
+                    1000,
+                    10
+            );
+            for (var i = 0; i < 5; i++) {
+                var value = i;
+                strategy.dispatch(packet, () -> executedValues.add(value));
+            }
+            blockingLatch.countDown();
+
+            AssertionUtils.assertConditionMet(() -> executedValues.size() == 2, 1000, 100);
+            assertEquals(List.of(3, 4), executedValues);
+            assertEquals(3, strategy.getDroppedEventsCount());
+        } finally {
+            singleThreadExecutor.shutdownNow();
+            assertTrue(singleThreadExecutor.awaitTermination(1, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
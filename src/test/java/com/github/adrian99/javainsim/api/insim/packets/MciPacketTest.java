@@ -16,6 +16,8 @@ import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
 import com.github.adrian99.javainsim.api.insim.packets.flags.CompCarFlag;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static com.github.adrian99.javainsim.testutil.AssertionUtils.*;
@@ -79,6 +81,35 @@ class MciPacketTest {
         assertEquals(-16, castedReadPacket.getInfo().get(1).getAngVel());
     }
 
+    @Test
+    void readMciPacket_withLazyCarAccess() {
+        var headerBytes = new byte[] { 15, 38, -112 };
+        var dataBytes = new byte[] {
+                2, -84, 2, 9, 0, 17, 1, 96, 0, 102, -99, 79, 9, -113, -55, -40,
+                -1, 82, -41, 1, 0, -32, 63, -28, 119, 42, 49, 71, 0, 102, 1, 9,
+                0, 13, 2, -94, 0, -51, -70, -15, -1, 78, -108, -39, -1, 119, -26, -1,
+                -1, 87, 41, -30, 61, -106, 58, -16, -1
+        };
+        var packet = (MciPacket) new PacketReader(headerBytes).read(dataBytes);
+
+        assertEquals(2, packet.getNumC());
+        assertEquals(684, packet.getCar(0).getNode());
+        assertEquals(-935219, packet.getCar(1).getX());
+        assertThrows(IndexOutOfBoundsException.class, () -> packet.getCar(2));
+
+        var car = packet.getCarByPlid((short) 13);
+        assertTrue(car.isPresent());
+        assertEquals(2, car.get().getPosition());
+        assertEquals(-16, car.get().getAngVel());
+        assertTrue(packet.getCarByPlid((short) 14).isEmpty());
+
+        var visitedPlids = new ArrayList<Short>();
+        packet.forEachCar(compCar -> visitedPlids.add(compCar.getPlid()));
+        assertEquals(List.of((short) 17, (short) 13), visitedPlids);
+
+        assertSame(packet.getInfo().get(1), packet.getCar(1));
+    }
+
     @Test
     void requestMciPacket() throws IOException {
         var inSimConnectionMock = new MockedInSimConnection();
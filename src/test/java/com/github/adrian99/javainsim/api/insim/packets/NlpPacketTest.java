@@ -15,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.github.adrian99.javainsim.testutil.AssertionUtils.assertPacketHeaderEquals;
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,6 +56,30 @@ class NlpPacketTest {
         assertEquals(3, castedReadPacket.getInfo().get(2).getPosition());
     }
 
+    @Test
+    void readNlpPacket_withLazyNodeLapAccess() {
+        var headerBytes = new byte[] { 6, 37, -112 };
+        var dataBytes = new byte[] {
+                3, -102, 0, 15, 0, 6, 2, 73, 1, 18, 0, 10, 1, 59, 0, 15,
+                0, 2, 3, 0, 0
+        };
+        var packet = (NlpPacket) new PacketReader(headerBytes).read(dataBytes);
+
+        assertEquals(3, packet.getNumP());
+        assertEquals(329, packet.getNodeLap(1).getNode());
+        assertThrows(IndexOutOfBoundsException.class, () -> packet.getNodeLap(3));
+
+        var nodeLap = packet.getNodeLapByPlid((short) 2);
+        assertTrue(nodeLap.isPresent());
+        assertEquals(59, nodeLap.get().getNode());
+        assertEquals(3, nodeLap.get().getPosition());
+        assertTrue(packet.getNodeLapByPlid((short) 7).isEmpty());
+
+        var visitedPlids = new ArrayList<Short>();
+        packet.forEachNodeLap(nl -> visitedPlids.add(nl.getPlid()));
+        assertEquals(List.of((short) 6, (short) 10, (short) 2), visitedPlids);
+    }
+
     @Test
     void requestNlpPacket() throws IOException {
         var inSimConnectionMock = new MockedInSimConnection();
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.packets.requests;
+
+import com.github.adrian99.javainsim.api.insim.packets.SmallPacket;
+import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
+import com.github.adrian99.javainsim.api.insim.packets.VerPacket;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.internal.common.util.PacketDataBytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+    private ResponseCache responseCache;
+
+    @BeforeEach
+    void beforeEach() {
+        responseCache = new ResponseCache();
+    }
+
+    @Test
+    void disabledByDefault() {
+        responseCache.put(TinySubtypes.VER, createVerPacket());
+
+        assertFalse(responseCache.isEnabled());
+        assertTrue(responseCache.get(TinySubtypes.VER).isEmpty());
+        assertFalse(responseCache.isRefreshedBy(PacketType.VER));
+    }
+
+    @Test
+    void enable_invalidTtl() {
+        assertThrows(IllegalArgumentException.class, () -> responseCache.enable(0));
+    }
+
+    @Test
+    void putAndGet() {
+        var verPacket = createVerPacket();
+        responseCache.enable(10000);
+
+        assertTrue(responseCache.get(TinySubtypes.VER).isEmpty());
+
+        responseCache.put(TinySubtypes.VER, verPacket);
+
+        assertSame(verPacket, responseCache.get(TinySubtypes.VER).orElseThrow());
+        assertTrue(responseCache.get(TinySubtypes.ISM).isEmpty());
+    }
+
+    @Test
+    void get_expired() throws InterruptedException {
+        responseCache.enable(50);
+        responseCache.put(TinySubtypes.VER, createVerPacket());
+
+        Thread.sleep(150);
+
+        assertTrue(responseCache.get(TinySubtypes.VER).isEmpty());
+    }
+
+    @Test
+    void put_notCacheable() {
+        responseCache.enable(10000);
+        responseCache.put(TinySubtypes.PING, new TinyPacket(1, TinySubtypes.REPLY));
+
+        assertTrue(responseCache.get(TinySubtypes.PING).isEmpty());
+    }
+
+    @Test
+    void refresh() {
+        var verPacket = createVerPacket();
+        responseCache.enable(10000);
+        responseCache.refresh(verPacket);
+
+        assertFalse(responseCache.isRefreshedBy(PacketType.VER));
+        assertTrue(responseCache.get(TinySubtypes.VER).isEmpty());
+        assertTrue(responseCache.isRefreshedBy(PacketType.VER));
+
+        responseCache.refresh(verPacket);
+
+        assertSame(verPacket, responseCache.get(TinySubtypes.VER).orElseThrow());
+    }
+
+    @Test
+    void refresh_smallPacket() {
+        var smallPacket = createSmallPacket();
+        responseCache.enable(10000);
+        responseCache.get(TinySubtypes.GTH);
+
+        assertFalse(responseCache.isRefreshedBy(PacketType.SMALL));
+
+        responseCache.put(TinySubtypes.GTH, smallPacket);
+
+        assertSame(smallPacket, responseCache.get(TinySubtypes.GTH).orElseThrow());
+        assertTrue(responseCache.get(TinySubtypes.ALC).isEmpty());
+    }
+
+    @Test
+    void invalidate() {
+        responseCache.enable(10000);
+        responseCache.put(TinySubtypes.VER, createVerPacket());
+        responseCache.put(TinySubtypes.GTH, createSmallPacket());
+        responseCache.invalidate(TinySubtypes.VER);
+
+        assertTrue(responseCache.get(TinySubtypes.VER).isEmpty());
+        assertTrue(responseCache.get(TinySubtypes.GTH).isPresent());
+
+        responseCache.invalidateAll();
+
+        assertTrue(responseCache.get(TinySubtypes.GTH).isEmpty());
+    }
+
+    @Test
+    void invalidateBy() {
+        responseCache.enable(10000);
+        responseCache.put(TinySubtypes.VER, createVerPacket());
+        responseCache.put(TinySubtypes.GTH, createSmallPacket());
+        responseCache.put(TinySubtypes.ALC, createSmallPacket());
+        responseCache.invalidateBy(TinySubtypes.CLR);
+
+        assertTrue(responseCache.get(TinySubtypes.ALC).isPresent());
+
+        responseCache.invalidateBy(TinySubtypes.MPE);
+
+        assertTrue(responseCache.get(TinySubtypes.VER).isPresent());
+        assertTrue(responseCache.get(TinySubtypes.GTH).isPresent());
+        assertTrue(responseCache.get(TinySubtypes.ALC).isEmpty());
+
+        responseCache.invalidateBy(TinySubtypes.NONE);
+
+        assertTrue(responseCache.get(TinySubtypes.VER).isPresent());
+    }
+
+    @Test
+    void disable() {
+        responseCache.enable(10000);
+        responseCache.get(TinySubtypes.VER);
+        responseCache.put(TinySubtypes.VER, createVerPacket());
+        responseCache.disable();
+
+        assertFalse(responseCache.isEnabled());
+        assertFalse(responseCache.isRefreshedBy(PacketType.VER));
+
+        responseCache.enable(10000);
+
+        assertTrue(responseCache.get(TinySubtypes.VER).isEmpty());
+    }
+
+    private static SmallPacket createSmallPacket() {
+        return new SmallPacket((short) 1, new PacketDataBytes(new byte[] { 6, -80, 100, 5, 0 }));
+    }
+
+    private static VerPacket createVerPacket() {
+        var dataBytes = new byte[] { 0, 48, 46, 55, 68, 0, 0, 0, 0, 83, 51, 0, 0, 0, 0, 9 };
+        return new VerPacket((short) 0, new PacketDataBytes(dataBytes));
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.api.insim.session;
+
+import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.insim.packets.enums.RaceProgress;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.internal.insim.packets.base.InfoPacket;
+import com.github.adrian99.javainsim.internal.insim.packets.util.PacketReader;
+import com.github.adrian99.javainsim.testutil.MockedInSimConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.github.adrian99.javainsim.testutil.AssertionUtils.assertRequestPacketBytesEqual;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionStateTest {
+    private SessionState sessionState;
+
+    @BeforeEach
+    void beforeEach() {
+        sessionState = new SessionState();
+    }
+
+    @Test
+    void isUpdatedBy() {
+        assertTrue(sessionState.isUpdatedBy(PacketType.NCN));
+        assertTrue(sessionState.isUpdatedBy(PacketType.MCI));
+        assertFalse(sessionState.isUpdatedBy(PacketType.VER));
+    }
+
+    @Test
+    void update_connectionsAndPlayers() {
+        var emptySnapshot = sessionState.getSnapshot();
+        sessionState.update(createNcnPacket());
+        var connectedSnapshot = sessionState.getSnapshot();
+
+        assertEquals(0, emptySnapshot.getVersion());
+        assertEquals(0, emptySnapshot.getConnectionsCount());
+        assertEquals(1, connectedSnapshot.getVersion());
+        assertArrayEquals(new short[] { 21 }, connectedSnapshot.getUcids());
+        assertTrue(connectedSnapshot.isConnected(21));
+        assertEquals("theuser", connectedSnapshot.getUserName(21));
+        assertEquals("New User Nick", connectedSnapshot.getConnectionNickname(21));
+
+        sessionState.update(createNplPacket());
+        sessionState.update(createCprPacket());
+        var snapshot = sessionState.getSnapshot();
+
+        assertEquals(3, snapshot.getVersion());
+        assertArrayEquals(new short[] { 17 }, snapshot.getPlids());
+        assertTrue(snapshot.isInRace(17));
+        assertEquals(21, snapshot.getPlayerUcid(17));
+        assertEquals("^1New ^2Player ^3Name", snapshot.getPlayerNickname(17));
+        assertEquals("AD36 RFY", snapshot.getPlate(17));
+        assertEquals("^1New ^2Player ^3Name", snapshot.getConnectionNickname(21));
+        assertEquals("New User Nick", connectedSnapshot.getConnectionNickname(21));
+        assertFalse(connectedSnapshot.isInRace(17));
+
+        sessionState.update(readPacket(new byte[] { 2, 31, 0 }, new byte[] { 17, 21, 31, 0, 0 }));
+
+        assertEquals(31, sessionState.getSnapshot().getPlayerUcid(17));
+
+        sessionState.update(readPacket(new byte[] { 2, 19, 0 }, new byte[] { 21, 3, 26, 0, 0 }));
+
+        assertFalse(sessionState.getSnapshot().isConnected(21));
+        assertTrue(sessionState.getSnapshot().isInRace(17));
+
+        sessionState.update(readPacket(new byte[] { 1, 23, 0 }, new byte[] { 17 }));
+
+        assertFalse(sessionState.getSnapshot().isInRace(17));
+        assertEquals(-1, sessionState.getSnapshot().getPlayerUcid(17));
+        assertEquals(0, sessionState.getSnapshot().getPlayersCount());
+    }
+
+    @Test
+    void update_positionsAndTimings() {
+        sessionState.update(createNplPacket());
+        sessionState.update(createMciPacket());
+        sessionState.update(createLapPacket());
+        sessionState.update(createSpxPacket());
+        var snapshot = sessionState.getSnapshot();
+
+        assertEquals(684, snapshot.getNode(17));
+        assertEquals(9, snapshot.getLap(17));
+        assertEquals(1, snapshot.getRacePosition(17));
+        assertEquals(156212582, snapshot.getX(17));
+        assertEquals(-2569841, snapshot.getY(17));
+        assertEquals(120658, snapshot.getZ(17));
+        assertEquals(16352, snapshot.getSpeed(17));
+        assertTrue(snapshot.isInRace(17));
+        assertNotEquals(0, snapshot.getNode(13));
+        assertEquals(4, snapshot.getLapsDone(17));
+        assertEquals(56820, snapshot.getLastLapTime(17));
+        assertEquals(140560, snapshot.getElapsedTime(17));
+        assertEquals(26190, snapshot.getSplitTime(17, 1));
+        assertEquals(0, snapshot.getSplitTime(17, 2));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getSplitTime(17, 4));
+
+        sessionState.update(createLapPacket());
+
+        assertEquals(0, sessionState.getSnapshot().getSplitTime(17, 1));
+        assertEquals(228849, sessionState.getSnapshot().getElapsedTime(17));
+        assertEquals(26190, snapshot.getSplitTime(17, 1));
+
+        sessionState.update(readPacket(new byte[] { 1, 23, 0 }, new byte[] { 17 }));
+
+        assertEquals(0, sessionState.getSnapshot().getNode(17));
+        assertEquals(0, sessionState.getSnapshot().getLapsDone(17));
+        assertEquals(684, snapshot.getNode(17));
+    }
+
+    @Test
+    void update_multiPacketPositions() {
+        sessionState.update(createNplPacket());
+        sessionState.update(readPacket(new byte[] { 8, 38, -112 }, new byte[] {
+                1, -84, 2, 9, 0, 17, 1, 96, 0, 102, -99, 79, 9, -113, -55, -40,
+                -1, 82, -41, 1, 0, -32, 63, -28, 119, 42, 49, 71, 0
+        }));
+        var snapshot = sessionState.getSnapshot();
+
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(0, snapshot.getNode(17));
+
+        sessionState.update(readPacket(new byte[] { 8, 38, -112 }, new byte[] {
+                1, 102, 1, 9, 0, 13, 2, -94, 0, -51, -70, -15, -1, 78, -108, -39,
+                -1, 119, -26, -1, -1, 87, 41, -30, 61, -106, 58, -16, -1
+        }));
+        snapshot = sessionState.getSnapshot();
+
+        assertEquals(2, snapshot.getVersion());
+        assertEquals(684, snapshot.getNode(17));
+        assertNotEquals(0, snapshot.getNode(13));
+    }
+
+    @Test
+    void update_raceStart() {
+        sessionState.update(createNplPacket());
+        sessionState.update(createMciPacket());
+        sessionState.update(createLapPacket());
+        sessionState.update(readPacket(new byte[] { 7, 17, -112 }, new byte[] {
+                0, 15, 0, 20, 67, 70, 69, 49, 82, 0, 0, 1, 2, 33, 1, -24,
+                3, 0, 0, -32, 0, 77, 2, -67, 2
+        }));
+        var snapshot = sessionState.getSnapshot();
+
+        assertEquals(0, snapshot.getLapsDone(17));
+        assertEquals(0, snapshot.getLastLapTime(17));
+        assertEquals(684, snapshot.getNode(17));
+        assertTrue(snapshot.isInRace(17));
+    }
+
+    @Test
+    void update_state() {
+        sessionState.update(createStaPacket());
+
+        assertEquals("AS1X", sessionState.getSnapshot().getTrack());
+        assertEquals(RaceProgress.NO_RACE, sessionState.getSnapshot().getRaceProgress());
+    }
+
+    @Test
+    void update_unchangedState() {
+        sessionState.update(createStaPacket());
+        sessionState.update(createStaPacket());
+        sessionState.update(createNplPacket((byte) 0));
+        sessionState.update(readPacket(new byte[] { 1, 23, 0 }, new byte[] { 17 }));
+
+        assertEquals(1, sessionState.getSnapshot().getVersion());
+        assertEquals(0, sessionState.getSnapshot().getPlayersCount());
+    }
+
+    @Test
+    void update_ignoredPacket() {
+        sessionState.update(readPacket(new byte[] { 5, 2, -112 }, new byte[] {
+                0, 48, 46, 55, 68, 0, 0, 0, 0, 83, 51, 0, 0, 0, 0, 9
+        }));
+
+        assertEquals(0, sessionState.getSnapshot().getVersion());
+    }
+
+    @Test
+    void enableSessionState() throws IOException {
+        var inSimConnectionMock = new MockedInSimConnection();
+        var enabledSessionState = inSimConnectionMock.enableSessionState();
+
+        assertSame(enabledSessionState, inSimConnectionMock.getSessionState());
+        assertSame(enabledSessionState, inSimConnectionMock.enableSessionState());
+
+        var requestPacketsBytes = inSimConnectionMock.assertAndPopSentPacketsBytes(5);
+        assertRequestPacketBytesEqual(new byte[] { 1, 3, 0, 13 }, requestPacketsBytes.get(0));
+        assertRequestPacketBytesEqual(new byte[] { 1, 3, 0, 3 }, requestPacketsBytes.get(1));
+        assertRequestPacketBytesEqual(new byte[] { 1, 3, 0, 14 }, requestPacketsBytes.get(2));
+        assertRequestPacketBytesEqual(new byte[] { 1, 3, 0, 3 }, requestPacketsBytes.get(3));
+        assertRequestPacketBytesEqual(new byte[] { 1, 3, 0, 7 }, requestPacketsBytes.get(4));
+
+        var packetRequests = inSimConnectionMock.assertAndPopPacketRequests(5);
+        for (var i = 1; i <= 3; i += 2) {
+            var pingReqI = packetRequests.get(i).getRequestPacket().getReqI();
+            var pingReply = new TinyPacket(pingReqI, TinySubtypes.REPLY);
+            packetRequests.get(i).handleReceivedPacket(inSimConnectionMock, pingReply);
+
+            assertFalse(inSimConnectionMock.cancelRequest(packetRequests.get(i - 1)));
+        }
+
+        var staPacket = createStaPacket();
+        enabledSessionState.update(staPacket);
+        packetRequests.get(4).handleReceivedPacket(inSimConnectionMock, staPacket);
+
+        assertEquals(1, enabledSessionState.getSnapshot().getVersion());
+
+        inSimConnectionMock.disableSessionState();
+
+        assertNull(inSimConnectionMock.getSessionState());
+    }
+
+    private static InfoPacket createNcnPacket() {
+        return readPacket(new byte[] { 14, 18, -112 }, new byte[] {
+                21, 116, 104, 101, 117, 115, 101, 114, 0, 0, 0, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 78, 101, 119, 32, 85, 115, 101,
+                114, 32, 78, 105, 99, 107, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                0, 1, 34, 4, 0
+        });
+    }
+
+    private static InfoPacket createCprPacket() {
+        return readPacket(new byte[] { 9, 20, 0 }, new byte[] {
+                21, 94, 49, 78, 101, 119, 32, 94, 50, 80, 108, 97, 121, 101, 114, 32,
+                94, 51, 78, 97, 109, 101, 0, 0, 0, 65, 68, 51, 54, 32, 82, 70,
+                89
+        });
+    }
+
+    private static InfoPacket createNplPacket() {
+        return createNplPacket((byte) 3);
+    }
+
+    private static InfoPacket createNplPacket(byte numP) {
+        return readPacket(new byte[] { 19, 21, -112 }, new byte[] {
+                17, 21, 6, 9, 50, 80, 108, 97, 121, 101, 114, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 77, 121, 32,
+                80, 108, 97, 116, 101, 85, 70, 49, 0, 100, 101, 102, 97, 117, 108, 116,
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 5, 5, 5, 5, 0, 0, 0,
+                100, 0, 0, 0, 0, 7, numP, 1, 54
+        });
+    }
+
+    private static InfoPacket createMciPacket() {
+        return readPacket(new byte[] { 15, 38, -112 }, new byte[] {
+                2, -84, 2, 9, 0, 17, 1, 96, 0, 102, -99, 79, 9, -113, -55, -40,
+                -1, 82, -41, 1, 0, -32, 63, -28, 119, 42, 49, 71, 0, 102, 1, 9,
+                0, 13, 2, -94, 0, -51, -70, -15, -1, 78, -108, -39, -1, 119, -26, -1,
+                -1, 87, 41, -30, 61, -106, 58, -16, -1
+        });
+    }
+
+    private static InfoPacket createStaPacket() {
+        return readPacket(new byte[] { 7, 5, -112 }, new byte[] {
+                0, 0, 0, -64, 63, 25, 74, 3, 0, 35, 41, 0, 0, 0, 0, 0,
+                1, 65, 83, 49, 88, 0, 0, 1, 1
+        });
+    }
+
+    private static InfoPacket createLapPacket() {
+        return readPacket(new byte[] { 5, 24, 0 }, new byte[] {
+                17, -12, -35, 0, 0, -15, 125, 3, 0, 4, 0, -111, 0, 0, 5, 1,
+                115
+        });
+    }
+
+    private static InfoPacket createSpxPacket() {
+        return readPacket(new byte[] { 4, 25, 0 }, new byte[] {
+                17, 78, 102, 0, 0, 16, 37, 2, 0, 1, 0, 2, 86
+        });
+    }
+
+    private static InfoPacket readPacket(byte[] headerBytes, byte[] dataBytes) {
+        return new PacketReader(headerBytes).read(dataBytes);
+    }
+}
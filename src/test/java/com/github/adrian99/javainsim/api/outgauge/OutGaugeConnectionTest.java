@@ -14,22 +14,29 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.github.adrian99.javainsim.api.common.enums.DefaultCar;
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import com.github.adrian99.javainsim.api.common.enums.FrameSource;
+import com.github.adrian99.javainsim.api.common.metrics.InMemoryConnectionMetrics;
+import com.github.adrian99.javainsim.api.common.recording.SessionRecorder;
 import com.github.adrian99.javainsim.api.outgauge.flags.DashLight;
 import com.github.adrian99.javainsim.api.outgauge.flags.OutGaugeFlag;
 
 import java.io.IOException;
 import java.net.SocketException;
+import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static com.github.adrian99.javainsim.testutil.AssertionUtils.*;
 
 class OutGaugeConnectionTest {
-    private static final int PORT = 30004;
     private static final byte[] OUT_GAUGE_PACKET_BYTES = new byte[] {
             -39, -4, 11, 0, 88, 82, 84, 0, 2, 32, 3, 29, -15, -45, 122, 65,
             -114, -57, -60, 69, 127, -39, 61, 63, -21, 27, -74, 66, -60, -112, -7, 62,
@@ -43,8 +50,8 @@ class OutGaugeConnectionTest {
 
     @BeforeEach
     void beforeEach() throws SocketException {
-        lfsUdpMock = new LfsUdpMock(PORT);
-        outGaugeConnection = new OutGaugeConnection(PORT);
+        outGaugeConnection = new OutGaugeConnection(0);
+        lfsUdpMock = new LfsUdpMock(outGaugeConnection.getPort());
     }
 
     @AfterEach
@@ -139,4 +146,130 @@ class OutGaugeConnectionTest {
                 100
         );
     }
+
+    @Test
+    void listen_withThreadFactory() throws IOException {
+        var readingThreadName = new AtomicReference<String>();
+        outGaugeConnection.close();
+        outGaugeConnection = new OutGaugeConnection(
+                0,
+                runnable -> new Thread(runnable, "custom-out-gauge-thread")
+        );
+        lfsUdpMock.close();
+        lfsUdpMock = new LfsUdpMock(outGaugeConnection.getPort());
+
+        outGaugeConnection.listen(packet -> readingThreadName.set(Thread.currentThread().getName()));
+
+        lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+
+        AssertionUtils.assertConditionMet(() -> readingThreadName.get() != null, 1000, 100);
+        assertEquals("custom-out-gauge-thread", readingThreadName.get());
+    }
+
+    @Test
+    void getPort() {
+        assertTrue(outGaugeConnection.getPort() > 0);
+
+        outGaugeConnection.close();
+
+        assertEquals(-1, outGaugeConnection.getPort());
+    }
+
+    @Test
+    void enableHistory() throws IOException {
+        var history = outGaugeConnection.enableHistory(16);
+
+        lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+        lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+
+        AssertionUtils.assertConditionMet(() -> history.getSize() == 2, 1000, 100);
+        assertEquals(history, outGaugeConnection.getHistory());
+        assertEquals(2, history.countSamples(785625, 785625));
+        assertEquals(3.0, history.max(OutGaugeHistoryField.GEAR, 0, Long.MAX_VALUE));
+        assertEquals(6296.9443359375, history.average(OutGaugeHistoryField.RPM, 0, Long.MAX_VALUE));
+        assertEquals(0.01665399968624114990234375, history.min(OutGaugeHistoryField.BRAKE, 0, Long.MAX_VALUE));
+
+        outGaugeConnection.disableHistory();
+        lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+
+        assertNull(outGaugeConnection.getHistory());
+        assertEquals(2, history.getSize());
+    }
+
+    @Test
+    void startRecording() throws IOException {
+        var directory = Files.createTempDirectory("out-gauge-recording-test");
+        try (var sessionRecorder = new SessionRecorder(directory, 64 * 1024)) {
+            outGaugeConnection.startRecording(sessionRecorder);
+
+            lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+            lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+
+            AssertionUtils.assertConditionMet(() -> sessionRecorder.getRecordedFramesCount() == 2, 1000, 100);
+
+            outGaugeConnection.stopRecording();
+        } finally {
+            Files.delete(directory.resolve("segment-000000.jisr"));
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void setMetrics() throws IOException {
+        var metrics = new InMemoryConnectionMetrics();
+        outGaugeConnection.setMetrics(metrics);
+        outGaugeConnection.listen(packet -> {});
+
+        lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+        lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+
+        AssertionUtils.assertConditionMet(
+                () -> metrics.getDatagramListenerTimes(FrameSource.OUTGAUGE).getCount() == 2,
+                1000,
+                100
+        );
+        assertEquals(metrics, outGaugeConnection.getMetrics());
+        assertEquals(2, metrics.getReceivedDatagramsCount(FrameSource.OUTGAUGE));
+        assertEquals(2L * OUT_GAUGE_PACKET_BYTES.length, metrics.getReceivedDatagramBytesCount(FrameSource.OUTGAUGE));
+        assertEquals(2, metrics.getDatagramDecodeTimes(FrameSource.OUTGAUGE).getCount());
+        assertEquals(0, metrics.getDroppedDatagramsCount(FrameSource.OUTGAUGE));
+    }
+
+    @Test
+    void publisher() throws IOException {
+        var receivedPackets = new ConcurrentLinkedQueue<OutGaugePacket>();
+        var isCompleted = new AtomicBoolean();
+        var subscription = new AtomicReference<Flow.Subscription>();
+        outGaugeConnection.publisher(1, OverflowPolicy.LATEST_ONLY).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription newSubscription) {
+                subscription.set(newSubscription);
+            }
+
+            @Override
+            public void onNext(OutGaugePacket packet) {
+                receivedPackets.add(packet);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {
+                isCompleted.set(true);
+            }
+        });
+
+        subscription.get().request(1);
+        lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+        AssertionUtils.assertConditionMet(() -> receivedPackets.size() == 1, 1000, 100);
+        lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+        lfsUdpMock.send(OUT_GAUGE_PACKET_BYTES);
+        outGaugeConnection.close();
+        assertEquals(1, receivedPackets.size());
+
+        subscription.get().request(1);
+        assertTrue(receivedPackets.size() <= 2);
+        assertTrue(isCompleted.get());
+    }
 }
@@ -11,7 +11,6 @@ package com.github.adrian99.javainsim.api.outsim;
 import com.github.adrian99.javainsim.testutil.AssertionUtils;
 import com.github.adrian99.javainsim.testutil.LfsUdpMock;
 import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.github.adrian99.javainsim.api.outsim.flags.OutSimOpts;
 import com.github.adrian99.javainsim.api.common.flags.Flags;
@@ -23,53 +22,50 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class OutSimConnectionTest {
-    private static final int PORT = 30003;
+    private static final byte[] FULL_OUT_SIM_PACK_2_BYTES = new byte[] {
+            76, 70, 83, 84, 65, 0, 0, 0, 105, 92, 13, 0, 27, 47, 93, 61,
+            50, 85, -64, -66, -83, -27, 121, 58, -33, 79, -119, 66, -35, 36, -72, -64,
+            -77, -46, 57, -64, -115, -105, -10, 63, 92, 56, -64, -66, -127, -107, 3, 62,
+            114, 121, 42, 65, 10, -41, 35, 64, -84, -59, 39, 60, -75, -18, 1, 0,
+            69, -128, -2, -1, 111, 14, 0, 0, 0, 0, -128, 63, -100, -60, 32, 62,
+            68, -117, -52, -65, 0, 0, 0, 0, 0, 0, 0, 0, 4, 0, 0, 0,
+            41, 92, 95, 64, -106, -45, -114, 67, -3, 75, -99, 68, 68, -43, -94, 68,
+            23, -102, 91, 63, -95, -8, 39, 64, 24, -78, -128, -65, 92, 56, -64, 62,
+            17, 63, -108, 62, -13, 57, -121, 63, -81, -88, -108, 59, 27, 115, 1, 0,
+            12, -49, 38, 59, 87, 101, 96, 63, -9, 47, 63, 63, -22, 85, -119, -68,
+            -70, 66, 61, 62, -91, 40, 27, 59, 88, 96, 62, 63, -42, -1, -59, 63,
+            -93, -23, 108, -67, 26, 96, 2, 0, 36, -24, 93, 63, 0, 81, -89, -66,
+            87, -85, 85, 63, 102, 102, 102, 63, 20, 8, -53, 62, -84, 26, -60, 61,
+            -4, -87, 49, 62, 113, -63, -68, 63, 1, -92, 54, 62, 25, 98, 3, 0,
+            -121, 121, -125, 62, 118, 109, 121, -65, 15, 15, 73, 62, 30, -31, 41, -64,
+            -125, -52, 36, 63, -22, 84, -76, -64, -112, -66, -15, 62, -120, 44, -32, 64,
+            -71, 22, 53, 62, 24, -63, 4, 0, 7, 64, -68, 62, -76, -49, 73, 63,
+            -67, -43, -2, 65, 0, 0, 0, 0
+    };
     private LfsUdpMock lfsUdpMock;
 
-    @BeforeEach
-    void beforeEach() throws SocketException {
-        lfsUdpMock = new LfsUdpMock(PORT);
-    }
-
     @AfterEach
     void afterEach() {
-        lfsUdpMock.close();
+        if (lfsUdpMock != null) {
+            lfsUdpMock.close();
+        }
     }
 
     @Test
     @SuppressWarnings("java:S5961")
     void receiveFullOutSimPack2() throws IOException {
-        final var outSimPacketBytes = new byte[] {
-                76, 70, 83, 84, 65, 0, 0, 0, 105, 92, 13, 0, 27, 47, 93, 61,
-                50, 85, -64, -66, -83, -27, 121, 58, -33, 79, -119, 66, -35, 36, -72, -64,
-                -77, -46, 57, -64, -115, -105, -10, 63, 92, 56, -64, -66, -127, -107, 3, 62,
-                114, 121, 42, 65, 10, -41, 35, 64, -84, -59, 39, 60, -75, -18, 1, 0,
-                69, -128, -2, -1, 111, 14, 0, 0, 0, 0, -128, 63, -100, -60, 32, 62,
-                68, -117, -52, -65, 0, 0, 0, 0, 0, 0, 0, 0, 4, 0, 0, 0,
-                41, 92, 95, 64, -106, -45, -114, 67, -3, 75, -99, 68, 68, -43, -94, 68,
-                23, -102, 91, 63, -95, -8, 39, 64, 24, -78, -128, -65, 92, 56, -64, 62,
-                17, 63, -108, 62, -13, 57, -121, 63, -81, -88, -108, 59, 27, 115, 1, 0,
-                12, -49, 38, 59, 87, 101, 96, 63, -9, 47, 63, 63, -22, 85, -119, -68,
-                -70, 66, 61, 62, -91, 40, 27, 59, 88, 96, 62, 63, -42, -1, -59, 63,
-                -93, -23, 108, -67, 26, 96, 2, 0, 36, -24, 93, 63, 0, 81, -89, -66,
-                87, -85, 85, 63, 102, 102, 102, 63, 20, 8, -53, 62, -84, 26, -60, 61,
-                -4, -87, 49, 62, 113, -63, -68, 63, 1, -92, 54, 62, 25, 98, 3, 0,
-                -121, 121, -125, 62, 118, 109, 121, -65, 15, 15, 73, 62, 30, -31, 41, -64,
-                -125, -52, 36, 63, -22, 84, -76, -64, -112, -66, -15, 62, -120, 44, -32, 64,
-                -71, 22, 53, 62, 24, -63, 4, 0, 7, 64, -68, 62, -76, -49, 73, 63,
-                -67, -43, -2, 65, 0, 0, 0, 0
-        };
         var outSimPacket = new AtomicReference<OutSimPacket2>();
 
-        try (var outSimConnection = new OutSimConnection(PORT, 0x1FF)) {
+        try (var outSimConnection = createOutSimConnection(0x1FF)) {
             assertTrue(outSimConnection.isConnected());
 
             outSimConnection.listen(outSimPacket::set);
 
-            lfsUdpMock.send(outSimPacketBytes);
+            lfsUdpMock.send(FULL_OUT_SIM_PACK_2_BYTES);
 
             AssertionUtils.assertConditionMet(() -> outSimPacket.get() != null, 1000, 100);
         }
@@ -173,8 +169,9 @@ class OutSimConnectionTest {
 
         var outSimPacket = new AtomicReference<OutSimPacket2>();
 
-        try (var outSimConnection = new OutSimConnection(PORT, new Flags<>(OutSimOpts.ID, OutSimOpts.EXTRA_1))) {
+        try (var outSimConnection = createOutSimConnection(new Flags<>(OutSimOpts.ID, OutSimOpts.EXTRA_1))) {
             assertTrue(outSimConnection.isConnected());
+            assertThrows(IllegalStateException.class, () -> outSimConnection.enableHistory(8));
 
             outSimConnection.listen(outSimPacket::set);
 
@@ -209,7 +206,7 @@ class OutSimConnectionTest {
 
         var outSimPacket = new AtomicReference<OutSimPacket2>();
 
-        try (var outSimConnection = new OutSimConnection(PORT, 0)) {
+        try (var outSimConnection = createOutSimConnection(0)) {
             assertTrue(outSimConnection.isConnected());
 
             outSimConnection.listen(outSimPacket::set);
@@ -252,7 +249,7 @@ class OutSimConnectionTest {
         var firstListenerCalled = new AtomicBoolean();
         var secondListenerCalled = new AtomicBoolean();
 
-        try (var outSimConnection = new OutSimConnection(PORT, new Flags<>(OutSimOpts.TIME))) {
+        try (var outSimConnection = createOutSimConnection(new Flags<>(OutSimOpts.TIME))) {
             outSimConnection.listen(packet -> {
                 firstListenerCalled.set(true);
                 throw new RuntimeException("Exception in listener callback");
@@ -276,7 +273,7 @@ class OutSimConnectionTest {
 
         Consumer<OutSimPacket2> packetListener1 = packet -> firstListenerCalled.set(true);
 
-        try (var outSimConnection = new OutSimConnection(PORT, new Flags<>(OutSimOpts.TIME))) {
+        try (var outSimConnection = createOutSimConnection(new Flags<>(OutSimOpts.TIME))) {
             outSimConnection.listen(packetListener1);
             outSimConnection.listen(packet -> secondListenerCalled.set(true));
 
@@ -291,4 +288,123 @@ class OutSimConnectionTest {
             );
         }
     }
+
+    @Test
+    void listenView() throws IOException {
+        var outSimPacket = new AtomicReference<OutSimPacket2>();
+        var copiedOutSimPacket = new AtomicReference<OutSimPacket2>();
+        var viewValues = new float[7];
+        var viewPosX = new int[1];
+
+        try (var outSimConnection = createOutSimConnection(0x1FF)) {
+            outSimConnection.listen(outSimPacket::set);
+            outSimConnection.listenView(view -> {
+                viewValues[0] = view.getAngVel(0);
+                viewValues[1] = view.getHeading();
+                viewValues[2] = view.getThrottle();
+                viewValues[3] = view.getEngineAngVel();
+                viewValues[4] = view.getIndexedDistance();
+                viewValues[5] = view.getWheelVerticalLoad(3);
+                viewValues[6] = view.getSteerTorque();
+                viewPosX[0] = view.getPos(0);
+                copiedOutSimPacket.set(view.toPacket());
+            });
+
+            lfsUdpMock.send(FULL_OUT_SIM_PACK_2_BYTES);
+
+            AssertionUtils.assertConditionMet(
+                    () -> outSimPacket.get() != null && copiedOutSimPacket.get() != null,
+                    1000,
+                    100
+            );
+        }
+
+        var packet = outSimPacket.get();
+        assertEquals(packet.getOsMain().get().getAngVel().getX(), viewValues[0]);
+        assertEquals(packet.getOsMain().get().getHeading(), viewValues[1]);
+        assertEquals(packet.getOsInputs().get().getThrottle(), viewValues[2]);
+        assertEquals(packet.getOsDrive().get().getEngineAngVel(), viewValues[3]);
+        assertEquals(packet.getOsDistance().get().getIndexedDistance(), viewValues[4]);
+        assertEquals(packet.getOsWheels().get().getRightFront().getVerticalLoad(), viewValues[5]);
+        assertEquals(packet.getOsExtra1().get().getSteerTorque(), viewValues[6]);
+        assertEquals(packet.getOsMain().get().getPos().getX(), viewPosX[0]);
+        assertEquals(packet.getOsTime().get().getTime(), copiedOutSimPacket.get().getOsTime().get().getTime());
+        assertEquals(packet.getOsId().get().getId(), copiedOutSimPacket.get().getOsId().get().getId());
+    }
+
+    @Test
+    void listenView_missingStructure() throws IOException {
+        var thrownException = new AtomicReference<Exception>();
+
+        try (var outSimConnection = createOutSimConnection(0)) {
+            outSimConnection.listenView(view -> {
+                try {
+                    view.getThrottle();
+                } catch (Exception exception) {
+                    thrownException.set(exception);
+                }
+            });
+
+            lfsUdpMock.send(new byte[68]);
+
+            AssertionUtils.assertConditionMet(() -> thrownException.get() != null, 1000, 100);
+        }
+
+        assertTrue(thrownException.get() instanceof IllegalStateException);
+    }
+
+    @Test
+    void enableHistory() throws IOException {
+        var outSimPacket = new AtomicReference<OutSimPacket2>();
+
+        try (var outSimConnection = createOutSimConnection(0x1FF)) {
+            var history = outSimConnection.enableHistory(8);
+            outSimConnection.listen(outSimPacket::set);
+
+            lfsUdpMock.send(FULL_OUT_SIM_PACK_2_BYTES);
+
+            AssertionUtils.assertConditionMet(() -> history.getSize() == 1 && outSimPacket.get() != null, 1000, 100);
+
+            var packet = outSimPacket.get();
+            var time = packet.getOsTime().get().getTime();
+            assertEquals(1, history.countSamples(time, time));
+            assertEquals(
+                    (double) packet.getOsMain().get().getHeading(),
+                    history.max(OutSimHistoryField.HEADING, time, time)
+            );
+            assertEquals(
+                    (double) packet.getOsMain().get().getPos().getX(),
+                    history.max(OutSimHistoryField.POS_X, time, time)
+            );
+            assertEquals(
+                    (double) packet.getOsDrive().get().getGear(),
+                    history.max(OutSimHistoryField.GEAR, time, time)
+            );
+            assertEquals(
+                    (double) packet.getOsExtra1().get().getSteerTorque(),
+                    history.max(OutSimHistoryField.STEER_TORQUE, time, time)
+            );
+        }
+    }
+
+    @Test
+    void getPort() throws IOException {
+        var outSimConnection = createOutSimConnection(0);
+
+        assertTrue(outSimConnection.getPort() > 0);
+
+        outSimConnection.close();
+
+        assertEquals(-1, outSimConnection.getPort());
+    }
+
+    private OutSimConnection createOutSimConnection(int opts) throws SocketException {
+        return createOutSimConnection(new Flags<>(OutSimOpts.class, opts));
+    }
+
+    private OutSimConnection createOutSimConnection(Flags<OutSimOpts> opts) throws SocketException {
+        var outSimConnection = new OutSimConnection(0, opts);
+        lfsUdpMock = new LfsUdpMock(outSimConnection.getPort());
+        return outSimConnection;
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.enums;
+
+import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
+import com.github.adrian99.javainsim.api.insim.packets.enums.FlagType;
+import com.github.adrian99.javainsim.api.insim.packets.enums.JrrAction;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.outgauge.flags.DashLight;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumHelperTest {
+    @Test
+    void fromOrdinal_withCustomValues() {
+        var enumHelper = EnumHelpers.get(JrrAction.class);
+
+        assertEquals(JrrAction.REJECT, enumHelper.fromOrdinal(0));
+        assertEquals(JrrAction.SPAWN, enumHelper.fromOrdinal(1));
+        assertEquals(JrrAction.RESET, enumHelper.fromOrdinal(4));
+        assertEquals(JrrAction.RESET_NO_REPAIR, enumHelper.fromOrdinal(5));
+    }
+
+    @Test
+    void fromOrdinal_withUnknownCustomValue() {
+        assertEquals(JrrAction.REJECT, EnumHelpers.get(JrrAction.class).fromOrdinal(3));
+        assertEquals(JrrAction.REJECT, EnumHelpers.get(JrrAction.class).fromOrdinal(200));
+        assertEquals(JrrAction.REJECT, EnumHelpers.get(JrrAction.class).fromOrdinal(-1));
+        assertEquals(FlagType.GIVEN_BLUE, EnumHelpers.get(FlagType.class).fromOrdinal(0));
+    }
+
+    @Test
+    void fromOrdinal_withSparseCustomValues() {
+        var enumHelper = EnumHelpers.get(DashLight.class);
+
+        assertEquals(DashLight.ENGINE_SEVERE, enumHelper.fromOrdinal(1 << 28));
+        assertEquals(DashLight.SHIFT, enumHelper.fromOrdinal(1));
+        assertEquals(DashLight.SHIFT, enumHelper.fromOrdinal(3));
+    }
+
+    @Test
+    void get_returnsSameInstance() {
+        assertSame(EnumHelpers.get(PacketType.class), EnumHelpers.get(PacketType.class));
+    }
+
+    @Test
+    void fromPacketClass() {
+        assertEquals(PacketType.TINY, PacketType.fromPacketClass(TinyPacket.class));
+        assertEquals(PacketType.NONE, PacketType.fromPacketClass(null));
+    }
+}
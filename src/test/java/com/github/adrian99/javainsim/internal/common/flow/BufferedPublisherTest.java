@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.flow;
+
+import com.github.adrian99.javainsim.api.common.enums.OverflowPolicy;
+import com.github.adrian99.javainsim.testutil.AssertionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BufferedPublisherTest {
+    private final List<Consumer<Integer>> registeredConsumers = new CopyOnWriteArrayList<>();
+
+    @Test
+    void subscribe_deliversRequestedItems() {
+        var publisher = createPublisher(10, OverflowPolicy.BLOCK);
+        var subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        publish(1, 2, 3);
+        assertTrue(subscriber.items.isEmpty());
+
+        subscriber.subscription.request(2);
+        assertArrayEquals(new Integer[] { 1, 2 }, subscriber.items.toArray(new Integer[0]));
+
+        publish(4);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        publish(5);
+        assertArrayEquals(new Integer[] { 1, 2, 3, 4, 5 }, subscriber.items.toArray(new Integer[0]));
+    }
+
+    @Test
+    void overflow_dropNewest() {
+        var subscriber = subscribeAndOverflow(OverflowPolicy.DROP_NEWEST);
+        assertArrayEquals(new Integer[] { 1, 2, 3 }, subscriber.items.toArray(new Integer[0]));
+        assertEquals(2, ((BufferedSubscription<?>) subscriber.subscription).getDroppedItemsCount());
+    }
+
+    @Test
+    void overflow_dropOldest() {
+        var subscriber = subscribeAndOverflow(OverflowPolicy.DROP_OLDEST);
+        assertArrayEquals(new Integer[] { 3, 4, 5 }, subscriber.items.toArray(new Integer[0]));
+        assertEquals(2, ((BufferedSubscription<?>) subscriber.subscription).getDroppedItemsCount());
+    }
+
+    @Test
+    void overflow_latestOnly() {
+        var subscriber = subscribeAndOverflow(OverflowPolicy.LATEST_ONLY);
+        assertArrayEquals(new Integer[] { 4, 5 }, subscriber.items.toArray(new Integer[0]));
+        assertEquals(3, ((BufferedSubscription<?>) subscriber.subscription).getDroppedItemsCount());
+    }
+
+    @Test
+    void overflow_block() {
+        var publisher = createPublisher(1, OverflowPolicy.BLOCK);
+        var subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        var isPublishingFinished = new AtomicBoolean();
+
+        var publishingThread = new Thread(() -> {
+            publish(1, 2);
+            isPublishingFinished.set(true);
+        });
+        publishingThread.start();
+
+        AssertionUtils.assertConditionMet(() -> publishingThread.getState() == Thread.State.WAITING, 1000, 10);
+        assertFalse(isPublishingFinished.get());
+        subscriber.subscription.request(2);
+        AssertionUtils.assertConditionMet(isPublishingFinished::get, 1000, 10);
+        assertArrayEquals(new Integer[] { 1, 2 }, subscriber.items.toArray(new Integer[0]));
+    }
+
+    @Test
+    void cancel() {
+        var publisher = createPublisher(10, OverflowPolicy.BLOCK);
+        var subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        publish(1);
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertTrue(subscriber.items.isEmpty());
+        assertTrue(registeredConsumers.isEmpty());
+        assertEquals(0, publisher.getSubscriptionsCount());
+    }
+
+    @Test
+    void request_invalidCount() {
+        var publisher = createPublisher(10, OverflowPolicy.BLOCK);
+        var subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error.get());
+        assertTrue(registeredConsumers.isEmpty());
+    }
+
+    @Test
+    void complete() {
+        var publisher = createPublisher(10, OverflowPolicy.BLOCK);
+        var subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        publish(1, 2);
+
+        publisher.complete();
+        assertTrue(registeredConsumers.isEmpty());
+        assertFalse(subscriber.isCompleted.get());
+
+        subscriber.subscription.request(2);
+        assertArrayEquals(new Integer[] { 1, 2 }, subscriber.items.toArray(new Integer[0]));
+        assertTrue(subscriber.isCompleted.get());
+
+        var lateSubscriber = new TestSubscriber();
+        publisher.subscribe(lateSubscriber);
+        assertTrue(lateSubscriber.isCompleted.get());
+    }
+
+    @Test
+    void subscriberError_cancelsSubscription() {
+        var publisher = createPublisher(10, OverflowPolicy.BLOCK);
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(Integer item) {
+                throw new IllegalStateException("Test");
+            }
+        };
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        publish(1);
+
+        assertTrue(registeredConsumers.isEmpty());
+    }
+
+    private TestSubscriber subscribeAndOverflow(OverflowPolicy overflowPolicy) {
+        var publisher = createPublisher(3, overflowPolicy);
+        var subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        publish(1, 2, 3, 4, 5);
+        subscriber.subscription.request(5);
+        return subscriber;
+    }
+
+    private BufferedPublisher<Integer> createPublisher(int bufferSize, OverflowPolicy overflowPolicy) {
+        return new BufferedPublisher<>(bufferSize, overflowPolicy, consumer -> {
+            registeredConsumers.add(consumer);
+            return () -> registeredConsumers.remove(consumer);
+        });
+    }
+
+    private void publish(Integer... items) {
+        for (var item : items) {
+            registeredConsumers.forEach(consumer -> consumer.accept(item));
+        }
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<Integer> {
+        private final ConcurrentLinkedQueue<Integer> items = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final AtomicBoolean isCompleted = new AtomicBoolean();
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted.set(true);
+        }
+    }
+}
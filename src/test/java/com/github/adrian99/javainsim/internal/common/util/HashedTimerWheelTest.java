@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.util;
+
+import com.github.adrian99.javainsim.testutil.AssertionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimerWheelTest {
+    private static final long TICK_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Test
+    void schedule() {
+        var timerWheel = createTimerWheel();
+        var expiredTasks = new ConcurrentLinkedQueue<Integer>();
+        var scheduleTime = System.nanoTime();
+        var firstTaskTime = new AtomicLong();
+
+        timerWheel.schedule(() -> expiredTasks.add(3), TimeUnit.MILLISECONDS.toNanos(150));
+        var timeout = timerWheel.schedule(() -> {
+            firstTaskTime.set(System.nanoTime());
+            expiredTasks.add(1);
+        }, TimeUnit.MILLISECONDS.toNanos(20));
+        timerWheel.schedule(() -> expiredTasks.add(2), TimeUnit.MILLISECONDS.toNanos(60));
+
+        AssertionUtils.assertConditionMet(() -> expiredTasks.size() == 3, 1000, 20);
+        assertArrayEquals(new Integer[] { 1, 2, 3 }, expiredTasks.toArray(new Integer[0]));
+        assertTrue(firstTaskTime.get() - scheduleTime >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    void cancel() {
+        var timerWheel = createTimerWheel();
+        var cancelledTaskRuns = new AtomicInteger();
+        var taskRuns = new AtomicInteger();
+
+        var timeout = timerWheel.schedule(cancelledTaskRuns::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(30));
+        timerWheel.schedule(taskRuns::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(60));
+
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+        AssertionUtils.assertConditionMet(() -> taskRuns.get() == 1, 1000, 20);
+        assertEquals(0, cancelledTaskRuns.get());
+    }
+
+    @Test
+    void schedule_afterIdlePeriod() {
+        var timerWheel = createTimerWheel();
+        var taskRuns = new AtomicInteger();
+
+        timerWheel.schedule(taskRuns::incrementAndGet, 0);
+        AssertionUtils.assertConditionMet(() -> taskRuns.get() == 1, 1000, 20);
+        AssertionUtils.assertConditionNotMet(() -> taskRuns.get() > 1, 100);
+
+        timerWheel.schedule(taskRuns::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(10));
+        AssertionUtils.assertConditionMet(() -> taskRuns.get() == 2, 1000, 20);
+    }
+
+    @Test
+    void schedule_manyTimeouts() {
+        var timerWheel = createTimerWheel();
+        var taskRuns = new AtomicInteger();
+        var cancelledTimeouts = 0;
+
+        for (var i = 0; i < 10000; i++) {
+            var timeout = timerWheel.schedule(taskRuns::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(i % 100));
+            if (i % 10 == 0 && timeout.cancel()) {
+                cancelledTimeouts++;
+            }
+        }
+
+        var expectedTaskRuns = 10000 - cancelledTimeouts;
+        AssertionUtils.assertConditionMet(() -> taskRuns.get() == expectedTaskRuns, 2000, 20);
+    }
+
+    @Test
+    void schedule_throwingTask() {
+        var timerWheel = createTimerWheel();
+        var taskRuns = new AtomicInteger();
+
+        timerWheel.schedule(() -> {
+            throw new AssertionError("Task error");
+        }, 0);
+        timerWheel.schedule(taskRuns::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(20));
+
+        AssertionUtils.assertConditionMet(() -> taskRuns.get() == 1, 1000, 20);
+    }
+
+    @Test
+    void stop() {
+        var threads = new ConcurrentLinkedQueue<Thread>();
+        var timerWheel = new HashedTimerWheel(TICK_DURATION_NANOS, 8, runnable -> {
+            var thread = new Thread(runnable);
+            threads.add(thread);
+            return thread;
+        });
+        var taskRuns = new AtomicInteger();
+
+        var timeout = timerWheel.schedule(taskRuns::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(50));
+        timerWheel.stop();
+        timerWheel.schedule(taskRuns::incrementAndGet, 0);
+
+        assertEquals(1, threads.size());
+        AssertionUtils.assertConditionMet(() -> !threads.peek().isAlive(), 1000, 20);
+        assertEquals(0, taskRuns.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    private static HashedTimerWheel createTimerWheel() {
+        return new HashedTimerWheel(TICK_DURATION_NANOS, 8, runnable -> {
+            var thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
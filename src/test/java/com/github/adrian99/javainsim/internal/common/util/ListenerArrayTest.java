@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListenerArrayTest {
+    @Test
+    void addAndRemove() {
+        var listenerArray = new ListenerArray<>(new String[0]);
+
+        assertTrue(listenerArray.isEmpty());
+        assertTrue(listenerArray.add("first"));
+        assertTrue(listenerArray.add("second"));
+        assertFalse(listenerArray.add("first"));
+        assertTrue(listenerArray.add("third"));
+        assertArrayEquals(new String[] { "first", "second", "third" }, listenerArray.get());
+
+        assertTrue(listenerArray.remove("second"));
+        assertFalse(listenerArray.remove("second"));
+        assertArrayEquals(new String[] { "first", "third" }, listenerArray.get());
+
+        assertTrue(listenerArray.remove("first"));
+        assertTrue(listenerArray.remove("third"));
+        assertTrue(listenerArray.isEmpty());
+    }
+
+    @Test
+    void get_snapshotNotAffectedByModifications() {
+        var listenerArray = new ListenerArray<>(new String[0]);
+        listenerArray.add("first");
+
+        var snapshot = listenerArray.get();
+        listenerArray.add("second");
+        listenerArray.remove("first");
+
+        assertArrayEquals(new String[] { "first" }, snapshot);
+        assertArrayEquals(new String[] { "second" }, listenerArray.get());
+    }
+
+    @Test
+    void concurrentModifications() throws InterruptedException {
+        var listenerArray = new ListenerArray<>(new Integer[0]);
+        var startLatch = new CountDownLatch(1);
+        var readerFailed = new AtomicBoolean();
+        var isRunning = new AtomicBoolean(true);
+        var reader = new Thread(() -> {
+            while (isRunning.get()) {
+                for (var listener : listenerArray.get()) {
+                    if (listener == null) {
+                        readerFailed.set(true);
+                    }
+                }
+            }
+        });
+        var writers = new ArrayList<Thread>();
+        for (var i = 0; i < 4; i++) {
+            var offset = i * 1000;
+            writers.add(new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                for (var j = 0; j < 1000; j++) {
+                    listenerArray.add(offset + j);
+                }
+                for (var j = 0; j < 1000; j += 2) {
+                    listenerArray.remove(offset + j);
+                }
+            }));
+        }
+
+        reader.start();
+        writers.forEach(Thread::start);
+        startLatch.countDown();
+        for (var writer : writers) {
+            writer.join();
+        }
+        isRunning.set(false);
+        reader.join();
+
+        assertFalse(readerFailed.get());
+        assertEquals(2000, listenerArray.get().length);
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.internal.insim.packets.requests;
+
+import com.github.adrian99.javainsim.api.insim.PacketListener;
+import com.github.adrian99.javainsim.api.insim.packets.NcnPacket;
+import com.github.adrian99.javainsim.api.insim.packets.NplPacket;
+import com.github.adrian99.javainsim.api.insim.packets.SmallPacket;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.insim.packets.requests.TinyPacketRequest;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.internal.common.util.PacketDataBytes;
+import com.github.adrian99.javainsim.testutil.AssertionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PacketRequestsTest {
+    private static final byte[] RTP_PACKET_DATA_BYTES = new byte[] { 6, -80, 100, 5, 0 };
+
+    @Test
+    void add() throws IOException {
+        try (var packetRequests = createPacketRequests(60000)) {
+            var reqIs = new HashSet<Short>();
+            for (var i = 0; i < 255; i++) {
+                var packetRequest = new TinyPacketRequest<>(TinySubtypes.GTH, (connection, packet) -> {}, 60000);
+                packetRequests.add(packetRequest);
+                var reqI = packetRequest.getRequestPacket().getReqI();
+                assertTrue(reqI >= 1 && reqI <= 255);
+                assertTrue(packetRequests.anyMatch(PacketType.SMALL, reqI));
+                reqIs.add(reqI);
+            }
+
+            assertEquals(255, reqIs.size());
+            assertFalse(packetRequests.anyMatch(PacketType.SMALL, (short) 0));
+            assertFalse(packetRequests.anyMatch(PacketType.VER, reqIs.iterator().next()));
+            var excessPacketRequest = new TinyPacketRequest<>(TinySubtypes.GTH, (connection, packet) -> {}, 60000);
+            assertThrows(IllegalStateException.class, () -> packetRequests.add(excessPacketRequest));
+
+            var verPacketRequest = new TinyPacketRequest<>(TinySubtypes.VER, (connection, packet) -> {}, 60000);
+            packetRequests.add(verPacketRequest);
+            assertTrue(packetRequests.anyMatch(PacketType.VER, verPacketRequest.getRequestPacket().getReqI()));
+        }
+    }
+
+    @Test
+    void add_alreadyPending() throws IOException {
+        try (var packetRequests = createPacketRequests(60000)) {
+            var packetRequest = new TinyPacketRequest<>(TinySubtypes.GTH, (connection, packet) -> {}, 60000);
+            packetRequests.add(packetRequest);
+            var reqI = packetRequest.getRequestPacket().getReqI();
+
+            assertThrows(IllegalStateException.class, () -> packetRequests.add(packetRequest));
+            assertEquals(reqI, packetRequest.getRequestPacket().getReqI());
+            assertTrue(packetRequests.cancel(packetRequest));
+            assertFalse(packetRequests.anyMatch(PacketType.SMALL, reqI));
+
+            var coalescingPacketRequest = createCoalescingGthRequest(new AtomicInteger());
+            packetRequests.add(coalescingPacketRequest);
+
+            assertThrows(IllegalStateException.class, () -> packetRequests.add(coalescingPacketRequest));
+        }
+    }
+
+    @Test
+    void handle() throws IOException {
+        try (var packetRequests = createPacketRequests(60000)) {
+            var receivedPacketsCount = new AtomicInteger();
+            var packetRequest = new TinyPacketRequest<>(
+                    TinySubtypes.GTH,
+                    (connection, packet) -> receivedPacketsCount.incrementAndGet(),
+                    60000
+            );
+            packetRequests.add(packetRequest);
+            var reqI = packetRequest.getRequestPacket().getReqI();
+
+            var otherReqI = (short) (reqI % 255 + 1);
+            packetRequests.handle(null, new SmallPacket(otherReqI, new PacketDataBytes(RTP_PACKET_DATA_BYTES)));
+
+            assertEquals(0, receivedPacketsCount.get());
+            assertTrue(packetRequests.anyMatch(PacketType.SMALL, reqI));
+
+            packetRequests.handle(null, new SmallPacket(reqI, new PacketDataBytes(RTP_PACKET_DATA_BYTES)));
+            packetRequests.handle(null, new SmallPacket(reqI, new PacketDataBytes(RTP_PACKET_DATA_BYTES)));
+
+            assertEquals(1, receivedPacketsCount.get());
+            assertFalse(packetRequests.anyMatch(PacketType.SMALL, reqI));
+        }
+    }
+
+    @Test
+    void handle_concurrentRequests() throws Exception {
+        try (var packetRequests = createPacketRequests(60000)) {
+            var receivedPacketsCount = new AtomicInteger();
+            var addedPacketRequests = new ConcurrentLinkedQueue<PacketRequest>();
+            var executorService = Executors.newFixedThreadPool(8);
+            for (var i = 0; i < 8; i++) {
+                executorService.submit(() -> {
+                    for (var j = 0; j < 30; j++) {
+                        var packetRequest = new TinyPacketRequest<>(
+                                TinySubtypes.GTH,
+                                (connection, packet) -> receivedPacketsCount.incrementAndGet(),
+                                60000
+                        );
+                        packetRequests.add(packetRequest);
+                        addedPacketRequests.add(packetRequest);
+                        for (short reqI = 1; reqI <= 255; reqI++) {
+                            packetRequests.anyMatch(PacketType.SMALL, reqI);
+                        }
+                    }
+                });
+            }
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+
+            var reqIs = addedPacketRequests.stream()
+                    .map(packetRequest -> packetRequest.getRequestPacket().getReqI())
+                    .toList();
+            assertEquals(240, new HashSet<>(reqIs).size());
+
+            var handlingExecutorService = Executors.newFixedThreadPool(4);
+            for (var reqI : List.copyOf(reqIs)) {
+                handlingExecutorService.submit(() -> packetRequests.handle(
+                        null,
+                        new SmallPacket(reqI, new PacketDataBytes(RTP_PACKET_DATA_BYTES))
+                ));
+            }
+            handlingExecutorService.shutdown();
+            assertTrue(handlingExecutorService.awaitTermination(5, TimeUnit.SECONDS));
+
+            assertEquals(240, receivedPacketsCount.get());
+            assertTrue(reqIs.stream().noneMatch(reqI -> packetRequests.anyMatch(PacketType.SMALL, reqI)));
+        }
+    }
+
+    @Test
+    void timeout() throws IOException {
+        try (var packetRequests = createPacketRequests(50)) {
+            var timeoutCallbackCalls = new AtomicInteger();
+            var packetRequest = new TinyPacketRequest<>(TinySubtypes.GTH, (connection, packet) -> {}, 100);
+            packetRequest.setTimeoutCallback(timeoutCallbackCalls::incrementAndGet);
+            packetRequests.add(packetRequest);
+            var reqI = packetRequest.getRequestPacket().getReqI();
+
+            assertTrue(packetRequests.anyMatch(PacketType.SMALL, reqI));
+            AssertionUtils.assertConditionMet(() -> !packetRequests.anyMatch(PacketType.SMALL, reqI), 1000, 20);
+            assertTrue(packetRequest.isTimedOut());
+            AssertionUtils.assertConditionMet(() -> timeoutCallbackCalls.get() == 1, 1000, 10);
+        }
+    }
+
+    @Test
+    void timeout_extendedByReceivedPacket() throws IOException {
+        try (var packetRequests = createPacketRequests(50)) {
+            var timeoutCallbackCalls = new AtomicInteger();
+            var packetRequest = new TinyPacketRequest<>(TinySubtypes.NCN, (connection, packet) -> {}, 600);
+            packetRequest.setTimeoutCallback(timeoutCallbackCalls::incrementAndGet);
+            packetRequests.add(packetRequest);
+            var reqI = packetRequest.getRequestPacket().getReqI();
+
+            AssertionUtils.assertConditionNotMet(() -> timeoutCallbackCalls.get() > 0, 300);
+            packetRequests.handle(null, createNcnPacket(reqI));
+            AssertionUtils.assertConditionNotMet(() -> timeoutCallbackCalls.get() > 0, 300);
+
+            assertTrue(packetRequests.anyMatch(PacketType.NCN, reqI));
+            AssertionUtils.assertConditionMet(() -> timeoutCallbackCalls.get() == 1, 1500, 20);
+            assertFalse(packetRequests.anyMatch(PacketType.NCN, reqI));
+        }
+    }
+
+    @Test
+    void close() throws IOException {
+        var timeoutCallbackCalls = new AtomicInteger();
+        var packetRequest = new TinyPacketRequest<>(TinySubtypes.GTH, (connection, packet) -> {}, 50);
+        packetRequest.setTimeoutCallback(timeoutCallbackCalls::incrementAndGet);
+        var packetRequests = createPacketRequests(50);
+        packetRequests.add(packetRequest);
+
+        packetRequests.close();
+
+        AssertionUtils.assertConditionNotMet(() -> timeoutCallbackCalls.get() > 0, 300);
+    }
+
+    @Test
+    void add_coalescing() throws IOException {
+        try (var packetRequests = createPacketRequests(60000)) {
+            var receivedPacketsCount = new AtomicInteger();
+            var firstPacketRequest = createCoalescingGthRequest(receivedPacketsCount);
+            var secondPacketRequest = createCoalescingGthRequest(receivedPacketsCount);
+
+            assertTrue(packetRequests.add(firstPacketRequest));
+            assertFalse(packetRequests.add(secondPacketRequest));
+            var reqI = firstPacketRequest.getRequestPacket().getReqI();
+            assertEquals(reqI, secondPacketRequest.getRequestPacket().getReqI());
+
+            packetRequests.handle(null, new SmallPacket(reqI, new PacketDataBytes(RTP_PACKET_DATA_BYTES)));
+
+            assertEquals(2, receivedPacketsCount.get());
+            assertFalse(packetRequests.anyMatch(PacketType.SMALL, reqI));
+            assertTrue(packetRequests.add(createCoalescingGthRequest(receivedPacketsCount)));
+        }
+    }
+
+    @Test
+    void add_multiPacketSubtypeNotCoalesced() throws IOException {
+        try (var packetRequests = createPacketRequests(60000)) {
+            PacketListener<NplPacket> callback = (connection, packet) -> {};
+            var firstPacketRequest = new TinyPacketRequest<>(TinySubtypes.NPL, callback, 60000, true);
+            var secondPacketRequest = new TinyPacketRequest<>(TinySubtypes.NPL, callback, 60000, true);
+
+            assertTrue(packetRequests.add(firstPacketRequest));
+            var reqI = firstPacketRequest.getRequestPacket().getReqI();
+
+            assertTrue(packetRequests.add(secondPacketRequest));
+            assertNotEquals(reqI, secondPacketRequest.getRequestPacket().getReqI());
+            assertTrue(packetRequests.anyMatch(PacketType.NPL, reqI));
+        }
+    }
+
+    @Test
+    void cancel_coalesced() throws IOException {
+        try (var packetRequests = createPacketRequests(60000)) {
+            var firstReceivedPacketsCount = new AtomicInteger();
+            var secondReceivedPacketsCount = new AtomicInteger();
+            var firstPacketRequest = createCoalescingGthRequest(firstReceivedPacketsCount);
+            var secondPacketRequest = createCoalescingGthRequest(secondReceivedPacketsCount);
+            packetRequests.add(firstPacketRequest);
+            packetRequests.add(secondPacketRequest);
+            var reqI = firstPacketRequest.getRequestPacket().getReqI();
+
+            assertTrue(packetRequests.cancel(firstPacketRequest));
+            assertFalse(packetRequests.cancel(firstPacketRequest));
+            assertTrue(packetRequests.anyMatch(PacketType.SMALL, reqI));
+
+            packetRequests.handle(null, new SmallPacket(reqI, new PacketDataBytes(RTP_PACKET_DATA_BYTES)));
+
+            assertEquals(0, firstReceivedPacketsCount.get());
+            assertEquals(1, secondReceivedPacketsCount.get());
+            assertFalse(packetRequests.cancel(secondPacketRequest));
+
+            var thirdPacketRequest = createCoalescingGthRequest(firstReceivedPacketsCount);
+            packetRequests.add(thirdPacketRequest);
+            var thirdReqI = thirdPacketRequest.getRequestPacket().getReqI();
+            assertTrue(packetRequests.cancel(thirdPacketRequest));
+            assertFalse(packetRequests.anyMatch(PacketType.SMALL, thirdReqI));
+        }
+    }
+
+    @Test
+    void timeout_coalesced() throws IOException {
+        try (var packetRequests = createPacketRequests(50)) {
+            var timeoutCallbackCalls = new AtomicInteger();
+            var firstPacketRequest = new TinyPacketRequest<>(TinySubtypes.GTH, (connection, packet) -> {}, 100, true);
+            var secondPacketRequest = new TinyPacketRequest<>(TinySubtypes.GTH, (connection, packet) -> {}, 300, true);
+            firstPacketRequest.setTimeoutCallback(timeoutCallbackCalls::incrementAndGet);
+            secondPacketRequest.setTimeoutCallback(timeoutCallbackCalls::incrementAndGet);
+            packetRequests.add(firstPacketRequest);
+            packetRequests.add(secondPacketRequest);
+            var reqI = firstPacketRequest.getRequestPacket().getReqI();
+
+            AssertionUtils.assertConditionMet(() -> timeoutCallbackCalls.get() == 1, 1000, 10);
+            assertTrue(packetRequests.anyMatch(PacketType.SMALL, reqI));
+            AssertionUtils.assertConditionMet(() -> !packetRequests.anyMatch(PacketType.SMALL, reqI), 1000, 20);
+            AssertionUtils.assertConditionMet(() -> timeoutCallbackCalls.get() == 2, 1000, 10);
+        }
+    }
+
+    @Test
+    void timeout_coalescedTimeoutCallback() {
+        var timeoutCallbackCalls = new AtomicInteger();
+        var coalescedPacketRequest = new CoalescedPacketRequest(createCoalescingGthRequest(new AtomicInteger()));
+        coalescedPacketRequest.assignReqI((short) 1);
+        coalescedPacketRequest.attach(createCoalescingGthRequest(new AtomicInteger()));
+        coalescedPacketRequest.setTimeoutCallback(timeoutCallbackCalls::incrementAndGet);
+        coalescedPacketRequest.onTimedOut();
+
+        assertEquals(2, timeoutCallbackCalls.get());
+    }
+
+    @Test
+    void timeout_callbackExecutor() throws IOException {
+        var executedTasks = new AtomicInteger();
+        var timeoutCallbackThread = new AtomicReference<Thread>();
+        Executor executor = task -> {
+            executedTasks.incrementAndGet();
+            new Thread(task).start();
+        };
+        var packetRequest = new TinyPacketRequest<>(TinySubtypes.GTH, (connection, packet) -> {}, 50);
+        packetRequest.setTimeoutCallback(() -> timeoutCallbackThread.set(Thread.currentThread()));
+        try (var packetRequests = new PacketRequests(50, Executors.defaultThreadFactory(), executor)) {
+            packetRequests.add(packetRequest);
+
+            AssertionUtils.assertConditionMet(() -> timeoutCallbackThread.get() != null, 1000, 20);
+            assertEquals(1, executedTasks.get());
+        }
+    }
+
+    private static PacketRequests createPacketRequests(long recurringRequestsCheckIntervalMillis) {
+        return new PacketRequests(
+                recurringRequestsCheckIntervalMillis,
+                Executors.defaultThreadFactory(),
+                ForkJoinPool.commonPool()
+        );
+    }
+
+    private static TinyPacketRequest<SmallPacket> createCoalescingGthRequest(AtomicInteger receivedPacketsCount) {
+        return new TinyPacketRequest<>(
+                TinySubtypes.GTH,
+                (connection, packet) -> receivedPacketsCount.incrementAndGet(),
+                60000,
+                true
+        );
+    }
+
+    private static NcnPacket createNcnPacket(short reqI) {
+        return new NcnPacket(reqI, new PacketDataBytes(new byte[53]));
+    }
+}
@@ -48,4 +48,32 @@ class SingleTinyPacketRequestBuilderTest {
         assertEquals(SmallSubtypes.RTP, packet.getSubT());
         assertEquals(353456, packet.getUVal());
     }
+
+    @Test
+    void asCompletableFuture_cachedResponse() throws IOException, ExecutionException, InterruptedException {
+        var inSimConnectionMock = new MockedInSimConnection();
+        inSimConnectionMock.getResponseCache().enable(10000);
+        var firstCompletableFuture = new SingleTinyPacketRequestBuilder<>(inSimConnectionMock, TinySubtypes.GTH)
+                .asCompletableFuture();
+
+        var reqI = inSimConnectionMock.assertAndPopSentPacketBytes()[2];
+        inSimConnectionMock.assertAndPopPacketRequest().handleReceivedPacket(
+                inSimConnectionMock,
+                new SmallPacket(byteToShort(reqI), new PacketDataBytes(new byte[] { 6, -80, 100, 5, 0 }))
+        );
+        var firstPacket = firstCompletableFuture.get();
+
+        var secondCompletableFuture = new SingleTinyPacketRequestBuilder<>(inSimConnectionMock, TinySubtypes.GTH)
+                .asCompletableFuture();
+
+        assertTrue(secondCompletableFuture.isDone());
+        assertSame(firstPacket, secondCompletableFuture.get());
+
+        inSimConnectionMock.getResponseCache().invalidate(TinySubtypes.GTH);
+        var thirdCompletableFuture = new SingleTinyPacketRequestBuilder<>(inSimConnectionMock, TinySubtypes.GTH)
+                .asCompletableFuture();
+
+        assertFalse(thirdCompletableFuture.isDone());
+        inSimConnectionMock.assertAndPopPacketRequest();
+    }
 }
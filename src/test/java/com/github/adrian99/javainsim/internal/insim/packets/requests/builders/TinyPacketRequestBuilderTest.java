@@ -15,10 +15,13 @@ import com.github.adrian99.javainsim.testutil.AssertionUtils;
 import com.github.adrian99.javainsim.testutil.MockedInSimConnection;
 import com.github.adrian99.javainsim.testutil.TestUtils;
 import org.junit.jupiter.api.Test;
+import com.github.adrian99.javainsim.api.insim.packets.NcnPacket;
 import com.github.adrian99.javainsim.api.insim.packets.SmallPacket;
+import com.github.adrian99.javainsim.api.insim.packets.TinyPacket;
 import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,4 +57,39 @@ class TinyPacketRequestBuilderTest {
 
         AssertionUtils.assertConditionMet(() -> receivedSmallPacketsCount.get() == 1, 5000, 100);
     }
+
+    @Test
+    void aggregate() throws IOException, ExecutionException, InterruptedException {
+        var inSimConnectionMock = new MockedInSimConnection();
+
+        var completableFuture = new TinyPacketRequestBuilder<>(inSimConnectionMock, TinySubtypes.NCN).aggregate();
+
+        var sentPacketsBytes = inSimConnectionMock.assertAndPopSentPacketsBytes(2);
+        var reqI = sentPacketsBytes.get(0)[2];
+        var pingReqI = sentPacketsBytes.get(1)[2];
+        assertArrayEquals(new byte[] { 1, 3, reqI, 13 }, sentPacketsBytes.get(0));
+        assertArrayEquals(new byte[] { 1, 3, pingReqI, 3 }, sentPacketsBytes.get(1));
+
+        var packetRequests = inSimConnectionMock.assertAndPopPacketRequests(2);
+        var ncnPacketRequest = packetRequests.get(0);
+        var pingPacketRequest = packetRequests.get(1);
+        assertEquals(PacketType.NCN, ncnPacketRequest.getRequestedPacketType());
+        assertEquals(PacketType.TINY, pingPacketRequest.getRequestedPacketType());
+        for (var i = 0; i < 3; i++) {
+            ncnPacketRequest.handleReceivedPacket(
+                    inSimConnectionMock,
+                    new NcnPacket(TestUtils.byteToShort(reqI), new PacketDataBytes(new byte[53]))
+            );
+        }
+        assertFalse(completableFuture.isDone());
+
+        pingPacketRequest.handleReceivedPacket(
+                inSimConnectionMock,
+                new TinyPacket(TestUtils.byteToShort(pingReqI), TinySubtypes.REPLY)
+        );
+
+        assertTrue(completableFuture.isDone());
+        assertEquals(3, completableFuture.get().size());
+        assertFalse(inSimConnectionMock.cancelRequest(ncnPacketRequest));
+    }
 }
@@ -8,10 +8,14 @@
 
 package com.github.adrian99.javainsim.internal.insim.packets.util;
 
+import com.github.adrian99.javainsim.api.insim.packets.SmallPacket;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.small.SmallSubtypes;
 import org.junit.jupiter.api.Test;
 import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
 import com.github.adrian99.javainsim.internal.insim.packets.exceptions.PacketReadingException;
 
+import java.nio.ByteBuffer;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PacketReaderTest {
@@ -39,4 +43,37 @@ class PacketReaderTest {
         assertEquals(0, packetBuilder.getPacketReqI());
         assertThrows(PacketReadingException.class, () -> packetBuilder.read(dataBytes));
     }
+
+    @Test
+    void packetReader_tooShortHeaderBuffer() {
+        var packetBytes = ByteBuffer.wrap(new byte[] { 1, 1 });
+        assertThrows(PacketReadingException.class, () -> new PacketReader(packetBytes));
+    }
+
+    @Test
+    void read_fromBufferSlice() {
+        var packetBytes = ByteBuffer.allocateDirect(16);
+        packetBytes.put(new byte[] { 99, 99, 2, 4, 7, 8, 17, 49, 0, 0, 99, 99 });
+        packetBytes.flip();
+        packetBytes.position(2);
+        packetBytes.limit(10);
+
+        var packetReader = new PacketReader(packetBytes);
+
+        assertEquals(PacketType.SMALL, packetReader.getPacketType());
+        assertEquals(5, packetReader.getDataBytesCount());
+        assertEquals(7, packetReader.getPacketReqI());
+        assertEquals(5, packetBytes.position());
+
+        var readPacket = packetReader.read(packetBytes);
+
+        assertEquals(5, packetBytes.position());
+        assertEquals(10, packetBytes.limit());
+        assertInstanceOf(SmallPacket.class, readPacket);
+        var smallPacket = (SmallPacket) readPacket;
+        assertEquals(PacketType.SMALL, smallPacket.getType());
+        assertEquals(7, smallPacket.getReqI());
+        assertEquals(SmallSubtypes.ALC, smallPacket.getSubT());
+        assertEquals(12561, smallPacket.getUVal());
+    }
 }
@@ -585,6 +585,10 @@ class PacketValidatorTest {
         var exception = assertThrows(PacketValidationException.class, () -> PacketValidator.validate(packet));
         Assertions.assertEquals(ValidationFailureCategory.UNSUPPORTED_TYPE, exception.getFailureCategory());
         assertEquals("stringByte", exception.getFieldName());
+        assertEquals(
+                "Validation failed for field \"stringByte\": type String not supported as Byte",
+                exception.getMessage()
+        );
     }
 
     @Test
@@ -704,6 +708,144 @@ class PacketValidatorTest {
         assertEquals("stringStructure", exception.getFieldName());
     }
 
+    @Test
+    void validate_fieldKindsWithValidValues() {
+        assertDoesNotThrow(() -> PacketValidator.validate(new FieldKindsTestPacket()));
+    }
+
+    @Test
+    void validate_fieldKindsWithNullValues() {
+        var packet = new FieldKindsTestPacket();
+        packet.boxedShortByte = null;
+        packet.enumByte = null;
+        packet.shortArrayByteArray = null;
+        packet.boxedIntegerWord = null;
+        packet.boxedShortShort = null;
+        packet.boxedLongUnsigned = null;
+        packet.boxedIntegerInt = null;
+        packet.boxedFloatFloat = null;
+        packet.longListUnsignedArrayDynamicLength = null;
+
+        assertDoesNotThrow(() -> PacketValidator.validate(packet));
+    }
+
+    @Test
+    void validate_withTooHighPrimitiveCharByte() {
+        var packet = new FieldKindsTestPacket();
+        packet.charByte = 'z';
+
+        assertValueOutOfRange(packet, "charByte", "expected value between 0 and 100 - was 122");
+    }
+
+    @Test
+    void validate_withTooHighBoxedShortByte() {
+        var packet = new FieldKindsTestPacket();
+        packet.boxedShortByte = 256;
+
+        assertValueOutOfRange(packet, "boxedShortByte", "expected value between 0 and 255 - was 256");
+    }
+
+    @Test
+    void validate_withTooHighEnumByte() {
+        var packet = new FieldKindsTestPacket();
+        packet.enumByte = TestCustomValueEnum.VALUE3;
+
+        assertValueOutOfRange(packet, "enumByte", "expected value between 0 and 1 - was 2");
+    }
+
+    @Test
+    void validate_withIncorrectValueInsideShortArrayByteArray() {
+        var packet = new FieldKindsTestPacket();
+        packet.shortArrayByteArray = new java.lang.Short[] { 1, 256 };
+
+        assertValueOutOfRange(packet, "shortArrayByteArray", "expected value between 0 and 255 - was 256");
+    }
+
+    @Test
+    void validate_withTooShortByteArray() {
+        var packet = new FieldKindsTestPacket();
+        packet.shortArrayByteArray = new java.lang.Short[] { 1 };
+
+        var exception = assertThrows(PacketValidationException.class, () -> PacketValidator.validate(packet));
+        assertEquals(ValidationFailureCategory.INCORRECT_VALUE_LENGTH, exception.getFailureCategory());
+        assertEquals(
+                "Validation failed for field \"shortArrayByteArray\": expected 2 elements long array - " +
+                        "was 1 elements long",
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    void validate_withShorterDynamicLengthArray() {
+        var packet = new FieldKindsTestPacket();
+        packet.longListUnsignedArrayDynamicLength = List.of();
+
+        assertDoesNotThrow(() -> PacketValidator.validate(packet));
+    }
+
+    @Test
+    void validate_withTooLongDynamicLengthArray() {
+        var packet = new FieldKindsTestPacket();
+        packet.longListUnsignedArrayDynamicLength = List.of(1L, 2L, 3L, 4L);
+
+        var exception = assertThrows(PacketValidationException.class, () -> PacketValidator.validate(packet));
+        assertEquals(ValidationFailureCategory.INCORRECT_VALUE_LENGTH, exception.getFailureCategory());
+        assertEquals(
+                "Validation failed for field \"longListUnsignedArrayDynamicLength\": expected at most 3 elements " +
+                        "long array - was 4 elements long",
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    void validate_withTooHighBoxedIntegerWord() {
+        var packet = new FieldKindsTestPacket();
+        packet.boxedIntegerWord = 65536;
+
+        assertValueOutOfRange(packet, "boxedIntegerWord", "expected value between 0 and 65535 - was 65536");
+    }
+
+    @Test
+    void validate_withTooLowBoxedShortShort() {
+        var packet = new FieldKindsTestPacket();
+        packet.boxedShortShort = -1001;
+
+        assertValueOutOfRange(packet, "boxedShortShort", "expected value between -1000 and 1000 - was -1001");
+    }
+
+    @Test
+    void validate_withTooLowBoxedLongUnsigned() {
+        var packet = new FieldKindsTestPacket();
+        packet.boxedLongUnsigned = -1L;
+
+        assertValueOutOfRange(packet, "boxedLongUnsigned", "expected value between 0 and 4294967295 - was -1");
+    }
+
+    @Test
+    void validate_withTooHighBoxedIntegerInt() {
+        var packet = new FieldKindsTestPacket();
+        packet.boxedIntegerInt = 11;
+
+        assertValueOutOfRange(packet, "boxedIntegerInt", "expected value between -10 and 10 - was 11");
+    }
+
+    @Test
+    void validate_withTooHighBoxedFloatFloat() {
+        var packet = new FieldKindsTestPacket();
+        packet.boxedFloatFloat = 1.5f;
+
+        var exception = assertThrows(PacketValidationException.class, () -> PacketValidator.validate(packet));
+        assertEquals(ValidationFailureCategory.VALUE_OUT_OF_RANGE, exception.getFailureCategory());
+        assertEquals("boxedFloatFloat", exception.getFieldName());
+    }
+
+    private static void assertValueOutOfRange(InstructionPacket packet, String fieldName, String reason) {
+        var exception = assertThrows(PacketValidationException.class, () -> PacketValidator.validate(packet));
+        assertEquals(ValidationFailureCategory.VALUE_OUT_OF_RANGE, exception.getFailureCategory());
+        assertEquals(fieldName, exception.getFieldName());
+        assertEquals("Validation failed for field \"" + fieldName + "\": " + reason, exception.getMessage());
+    }
+
     @SuppressWarnings("all")
     private static class ValidTestPacket extends AbstractPacket implements InstructionPacket {
         @Byte
@@ -787,6 +929,41 @@ class PacketValidatorTest {
         }
     }
 
+    @SuppressWarnings("all")
+    private static class FieldKindsTestPacket extends AbstractPacket implements InstructionPacket {
+        @Byte(maxValue = 100)
+        private char charByte = 'a';
+        @Byte
+        private java.lang.Short boxedShortByte = 200;
+        @Byte(maxValue = 1)
+        private TestCustomValueEnum enumByte = TestCustomValueEnum.VALUE2;
+        @Byte
+        @Array(length = 2)
+        private java.lang.Short[] shortArrayByteArray = new java.lang.Short[] { 1, 2 };
+        @Word
+        private Integer boxedIntegerWord = 1000;
+        @Short(minValue = -1000, maxValue = 1000)
+        private java.lang.Short boxedShortShort = -1000;
+        @Unsigned
+        private Long boxedLongUnsigned = 4294967295L;
+        @Int(minValue = -10, maxValue = 10)
+        private Integer boxedIntegerInt = -10;
+        @Float(minValue = -1.0f, maxValue = 1.0f)
+        private java.lang.Float boxedFloatFloat = 0.5f;
+        @Unsigned
+        @Array(length = 3, dynamicLength = true)
+        private List<Long> longListUnsignedArrayDynamicLength = List.of(1L, 2L, 3L);
+
+        private FieldKindsTestPacket() {
+            super(8, PacketType.NONE, 54);
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return new byte[0];
+        }
+    }
+
     @SuppressWarnings("all")
     private static class PacketWithFieldWithoutAnnotation extends AbstractPacket implements InstructionPacket {
         private final int fieldWithNoAnnotation;
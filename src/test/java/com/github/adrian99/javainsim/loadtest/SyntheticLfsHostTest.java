@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.loadtest;
+
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.insim.InSimConnection;
+import com.github.adrian99.javainsim.api.insim.packets.*;
+import com.github.adrian99.javainsim.api.insim.packets.flags.IsiFlag;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.api.outgauge.OutGaugeConnection;
+import com.github.adrian99.javainsim.api.outsim.OutSimConnection;
+import com.github.adrian99.javainsim.api.outsim.flags.OutSimOpts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticLfsHostTest {
+    private static final int HOST_PORT = 49998;
+    private static final int UDP_PORT = 30005;
+    private static final int CONNECTIONS_COUNT = 8;
+    private static final int CARS_COUNT = 20;
+
+    private SyntheticLfsHost syntheticLfsHost;
+    private InSimConnection inSimConnection;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        syntheticLfsHost = new SyntheticLfsHost(HOST_PORT, CONNECTIONS_COUNT, CARS_COUNT);
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        if (inSimConnection != null) {
+            inSimConnection.close();
+        }
+        syntheticLfsHost.close();
+    }
+
+    @Test
+    void streamsRaceToInSimClient() throws IOException {
+        inSimConnection = createInSimConnection(0);
+        var mciCarsCounts = ConcurrentHashMap.<Short>newKeySet();
+        var nlpCarsCount = new AtomicInteger();
+        var timingPacketsCount = new AtomicInteger();
+        var conPacketsCount = new AtomicInteger();
+        var obhPacketsCount = new AtomicInteger();
+        inSimConnection.listen(MciPacket.class, (connection, packet) -> mciCarsCounts.add(packet.getNumC()));
+        inSimConnection.listen(NlpPacket.class, (connection, packet) -> nlpCarsCount.set(packet.getNumP()));
+        inSimConnection.listen(SpxPacket.class, (connection, packet) -> timingPacketsCount.incrementAndGet());
+        inSimConnection.listen(LapPacket.class, (connection, packet) -> timingPacketsCount.incrementAndGet());
+        inSimConnection.listen(ConPacket.class, (connection, packet) -> conPacketsCount.incrementAndGet());
+        inSimConnection.listen(ObhPacket.class, (connection, packet) -> obhPacketsCount.incrementAndGet());
+
+        syntheticLfsHost.startStreaming(500);
+
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> conPacketsCount.get() > 0 && obhPacketsCount.get() > 0 && timingPacketsCount.get() > 0);
+        assertEquals(1, syntheticLfsHost.getConnectedClientsCount());
+        assertTrue(mciCarsCounts.contains((short) 16));
+        assertTrue(mciCarsCounts.contains((short) 4));
+        assertEquals(CARS_COUNT, nlpCarsCount.get());
+    }
+
+    @Test
+    void answersTinyRequests() throws Exception {
+        inSimConnection = createInSimConnection(0);
+        var ncnPacketsCount = new AtomicInteger();
+        var nplPacketsCount = new AtomicInteger();
+        var replyReceived = new AtomicInteger();
+        inSimConnection.listen(TinyPacket.class, (connection, packet) -> {
+            if (packet.getSubT() == TinySubtypes.REPLY) {
+                replyReceived.incrementAndGet();
+            }
+        });
+
+        var staPacket = StaPacket.request(inSimConnection).asCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(CARS_COUNT, staPacket.getNumP());
+        assertEquals(CONNECTIONS_COUNT, staPacket.getNumConns());
+
+        NcnPacket.request(inSimConnection).listen((connection, packet) -> ncnPacketsCount.incrementAndGet());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> ncnPacketsCount.get() == CONNECTIONS_COUNT);
+
+        NplPacket.request(inSimConnection).listen((connection, packet) -> nplPacketsCount.incrementAndGet());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> nplPacketsCount.get() == CARS_COUNT);
+
+        inSimConnection.send(new TinyPacket(50, TinySubtypes.PING));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> replyReceived.get() == 1);
+    }
+
+    @Test
+    void streamsPositionUpdatesOverUdp() throws IOException {
+        inSimConnection = createInSimConnection(UDP_PORT);
+        inSimConnection.enableUdpReceiving();
+        var mciPacketsCount = new AtomicInteger();
+        inSimConnection.listen(MciPacket.class, (connection, packet) -> mciPacketsCount.incrementAndGet());
+
+        syntheticLfsHost.startStreaming(500);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mciPacketsCount.get() >= 10);
+    }
+
+    @Test
+    void streamsOutSimAndOutGauge() throws IOException {
+        var opts = new Flags<>(OutSimOpts.values());
+        var outSimTime = new AtomicLong();
+        var outGaugePacketsCount = new AtomicInteger();
+        try (var outSimConnection = new OutSimConnection(UDP_PORT + 1, opts);
+             var outGaugeConnection = new OutGaugeConnection(UDP_PORT + 2)) {
+            outSimConnection.listenView(view -> outSimTime.set(view.getTime()));
+            outGaugeConnection.listen(packet -> outGaugePacketsCount.incrementAndGet());
+
+            syntheticLfsHost.startOutSim("localhost", UDP_PORT + 1, opts, 1000);
+            syntheticLfsHost.startOutGauge("localhost", UDP_PORT + 2, 1000);
+
+            await().atMost(5, TimeUnit.SECONDS)
+                    .until(() -> outSimTime.get() > 100 && outGaugePacketsCount.get() >= 10);
+            assertTrue(syntheticLfsHost.getSentDatagramsCount() >= 10);
+        }
+    }
+
+    private static InSimConnection createInSimConnection(int udpPort) throws IOException {
+        return new InSimConnection(
+                "localhost",
+                HOST_PORT,
+                new IsiPacket(
+                        udpPort,
+                        new Flags<>(IsiFlag.LOCAL, IsiFlag.MCI, IsiFlag.NLP, IsiFlag.CON, IsiFlag.OBH),
+                        null,
+                        10,
+                        "",
+                        "load test"
+                )
+        );
+    }
+}
@@ -55,4 +55,18 @@ public class MockedInSimConnection extends InSimConnection {
         caughtPacketRequests.clear();
         return packetRequest;
     }
+
+    public List<byte[]> assertAndPopSentPacketsBytes(int expectedCount) {
+        assertEquals(expectedCount, caughtSentPackets.size(), "Unexpected size of caught sent packets");
+        var packetsBytes = caughtSentPackets.stream().map(InstructionPacket::getBytes).toList();
+        caughtSentPackets.clear();
+        return packetsBytes;
+    }
+
+    public List<PacketRequest> assertAndPopPacketRequests(int expectedCount) {
+        assertEquals(expectedCount, caughtPacketRequests.size(), "Unexpected size of caught packet requests");
+        var packetRequests = List.copyOf(caughtPacketRequests);
+        caughtPacketRequests.clear();
+        return packetRequests;
+    }
 }
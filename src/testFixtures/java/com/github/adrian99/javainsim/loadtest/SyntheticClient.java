@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.loadtest;
+
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.insim.packets.flags.IsiFlag;
+import com.github.adrian99.javainsim.api.insim.packets.subtypes.tiny.TinySubtypes;
+import com.github.adrian99.javainsim.internal.insim.packets.util.PacketBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InSim client connected to {@link SyntheticLfsHost}. Reads packets sent by the client, initializes it
+ * with received ISI packet and answers TINY requests.
+ */
+class SyntheticClient implements Closeable {
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final SyntheticRace race;
+    private final DatagramSocket datagramSocket;
+    private final AtomicLong sentPacketsCount;
+    private volatile Flags<IsiFlag> isiFlags;
+    private volatile InetSocketAddress udpAddress;
+
+    SyntheticClient(Socket socket, SyntheticRace race, DatagramSocket datagramSocket, AtomicLong sentPacketsCount)
+            throws IOException {
+        this.socket = socket;
+        this.race = race;
+        this.datagramSocket = datagramSocket;
+        this.sentPacketsCount = sentPacketsCount;
+        in = socket.getInputStream();
+        out = socket.getOutputStream();
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    boolean isInitialized() {
+        return isiFlags != null;
+    }
+
+    boolean hasIsiFlag(IsiFlag flag) {
+        var flags = isiFlags;
+        return flags != null && flags.hasFlag(flag);
+    }
+
+    /**
+     * Reads packets sent by the client until connection is closed. Connection is left to be closed by the client
+     * (after sending TINY_CLOSE packet), so that its port is not held by closed connections.
+     * @throws IOException if I/O error occurs
+     */
+    void readPackets() throws IOException {
+        int sizeByte;
+        while ((sizeByte = in.read()) != -1) {
+            var remainingBytes = in.readNBytes(sizeByte * 4 - 1);
+            if (remainingBytes.length < 2) {
+                break;
+            }
+            var packetType = PacketType.fromOrdinal(remainingBytes[0] & 0xFF);
+            var reqI = remainingBytes[1] & 0xFF;
+            if (packetType == PacketType.ISI) {
+                handleIsi(remainingBytes, reqI);
+            } else if (packetType == PacketType.TINY && remainingBytes.length >= 3) {
+                handleTiny(remainingBytes[2] & 0xFF, reqI);
+            }
+        }
+    }
+
+    /**
+     * Sends packet to the client using TCP connection.
+     * @param packetBytes packet bytes
+     * @throws IOException if I/O error occurs
+     */
+    void send(byte[] packetBytes) throws IOException {
+        synchronized (out) {
+            out.write(packetBytes);
+        }
+        sentPacketsCount.incrementAndGet();
+    }
+
+    /**
+     * Sends packet to the client using UDP if the client has specified UDP port in ISI packet,
+     * or using TCP connection otherwise (as LFS does with NLP and MCI packets).
+     * @param packetBytes packet bytes
+     * @throws IOException if I/O error occurs
+     */
+    void sendPositionUpdate(byte[] packetBytes) throws IOException {
+        var address = udpAddress;
+        if (address != null) {
+            datagramSocket.send(new DatagramPacket(packetBytes, packetBytes.length, address));
+            sentPacketsCount.incrementAndGet();
+        } else {
+            send(packetBytes);
+        }
+    }
+
+    private void handleIsi(byte[] remainingBytes, int reqI) throws IOException {
+        var udpPort = (remainingBytes[3] & 0xFF) | (remainingBytes[4] & 0xFF) << 8;
+        var flagsValue = (remainingBytes[5] & 0xFF) | (remainingBytes[6] & 0xFF) << 8;
+        udpAddress = udpPort != 0 ? new InetSocketAddress(socket.getInetAddress(), udpPort) : null;
+        isiFlags = new Flags<>(IsiFlag.class, flagsValue);
+        if (reqI != 0) {
+            send(createVerPacket(reqI));
+        }
+    }
+
+    private void handleTiny(int subtype, int reqI) throws IOException {
+        if (reqI == 0) {
+            return;
+        }
+        if (subtype == TinySubtypes.VER.getByteValue()) {
+            send(createVerPacket(reqI));
+        } else if (subtype == TinySubtypes.PING.getByteValue()) {
+            send(new PacketBuilder((short) 4, PacketType.TINY, (short) reqI)
+                    .writeByte(TinySubtypes.REPLY.getByteValue())
+                    .getBytes());
+        } else if (subtype == TinySubtypes.SST.getByteValue()) {
+            send(race.createStaPacket(reqI));
+        } else if (subtype == TinySubtypes.NCN.getByteValue()) {
+            sendAll(race.createNcnPackets(reqI));
+        } else if (subtype == TinySubtypes.NPL.getByteValue()) {
+            sendAll(race.createNplPackets(reqI));
+        } else if (subtype == TinySubtypes.NLP.getByteValue()) {
+            send(race.createNlpPacket(reqI));
+        } else if (subtype == TinySubtypes.MCI.getByteValue()) {
+            sendAll(race.createMciPackets(reqI));
+        }
+    }
+
+    private void sendAll(List<byte[]> packets) throws IOException {
+        for (var packetBytes : packets) {
+            send(packetBytes);
+        }
+    }
+
+    private static byte[] createVerPacket(int reqI) {
+        return new PacketBuilder((short) 20, PacketType.VER, (short) reqI)
+                .writeZeroByte()
+                .writeCharArray("0.7F", 8)
+                .writeCharArray("S3", 6)
+                .writeByte(9)
+                .writeZeroByte()
+                .getBytes();
+    }
+}
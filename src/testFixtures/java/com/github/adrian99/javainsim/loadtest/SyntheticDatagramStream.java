@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.loadtest;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stream of UDP packets (OutSim or OutGauge) sent by {@link SyntheticLfsHost} at fixed rate.
+ * Single buffer is reused for all sent packets.
+ */
+abstract class SyntheticDatagramStream {
+    private final DatagramSocket socket;
+    private final DatagramPacket datagramPacket;
+    private final ByteBuffer buffer;
+    private final AtomicLong sentDatagramsCount;
+    private long startTime;
+    private ScheduledFuture<?> future;
+
+    SyntheticDatagramStream(DatagramSocket socket, SocketAddress address, int packetSize,
+                            AtomicLong sentDatagramsCount) {
+        this.socket = socket;
+        this.sentDatagramsCount = sentDatagramsCount;
+        var packetBytes = new byte[packetSize];
+        buffer = ByteBuffer.wrap(packetBytes).order(ByteOrder.LITTLE_ENDIAN);
+        datagramPacket = new DatagramPacket(packetBytes, packetSize, address);
+    }
+
+    void start(ScheduledExecutorService executorService, long periodNanos) {
+        startTime = System.currentTimeMillis();
+        future = executorService.scheduleAtFixedRate(this::send, 0, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void stop() {
+        future.cancel(false);
+    }
+
+    /**
+     * Writes bytes of the next packet to the buffer.
+     * @param buffer buffer positioned at the beginning of the packet
+     * @param time milliseconds elapsed since the stream was started
+     */
+    protected abstract void write(ByteBuffer buffer, long time);
+
+    private void send() {
+        buffer.clear();
+        write(buffer, System.currentTimeMillis() - startTime);
+        try {
+            socket.send(datagramPacket);
+            sentDatagramsCount.incrementAndGet();
+        } catch (IOException exception) {
+            // receiver is not listening yet - packet is lost, as it would be when sent by LFS
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.loadtest;
+
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.api.insim.packets.flags.IsiFlag;
+import com.github.adrian99.javainsim.api.outsim.flags.OutSimOpts;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Synthetic LFS host, that can be used for load testing of InSim applications without running LFS.
+ * It accepts any number of InSim clients and simulates a race with specified count of connections and cars.
+ * Connected clients receive packets, depending on flags set in their ISI packets, at configurable rate:
+ * <ul>
+ *     <li>MCI (split into packets of at most {@value Constants#MCI_MAX_CARS} cars) and NLP - on every update,
+ *     using UDP if UDP port was specified in ISI packet,</li>
+ *     <li>SPX and LAP - whenever car crosses split or finish line (every 50 updates per car),</li>
+ *     <li>CON and OBH - every 25 updates, alternately.</li>
+ * </ul>
+ * TINY requests for version, ping, state, connections, players, NLP and MCI are answered. Additionally, OutSim
+ * and OutGauge packets can be streamed to specified UDP ports.
+ */
+public class SyntheticLfsHost implements Closeable {
+    private static final int CLOSE_TIMEOUT_SECONDS = 5;
+    private final SyntheticRace race;
+    private final ServerSocket serverSocket;
+    private final DatagramSocket datagramSocket;
+    private final ExecutorService clientsExecutorService;
+    private final ScheduledExecutorService streamingExecutorService;
+    private final List<SyntheticClient> clients = new CopyOnWriteArrayList<>();
+    private final AtomicLong sentPacketsCount = new AtomicLong();
+    private final AtomicLong sentDatagramsCount = new AtomicLong();
+    private ScheduledFuture<?> streamingFuture;
+    private SyntheticDatagramStream outSimStream;
+    private SyntheticDatagramStream outGaugeStream;
+
+    /**
+     * Creates synthetic LFS host and starts accepting InSim clients on specified port.
+     * @param port TCP port on which InSim clients are accepted
+     * @param connectionsCount count of simulated connections (including host), between 1 and 255
+     * @param carsCount count of simulated cars, between 1 and {@value Constants#NLP_MAX_CARS}
+     * @throws IOException if I/O error occurs when opening sockets
+     */
+    public SyntheticLfsHost(int port, int connectionsCount, int carsCount) throws IOException {
+        if (connectionsCount < 1 || connectionsCount > 255) {
+            throw new IllegalArgumentException("Connections count must be between 1 and 255");
+        }
+        if (carsCount < 1 || carsCount > Constants.NLP_MAX_CARS) {
+            throw new IllegalArgumentException("Cars count must be between 1 and " + Constants.NLP_MAX_CARS);
+        }
+        race = new SyntheticRace(connectionsCount, carsCount);
+        serverSocket = new ServerSocket(port);
+        datagramSocket = new DatagramSocket();
+        clientsExecutorService = Executors.newCachedThreadPool();
+        streamingExecutorService = Executors.newScheduledThreadPool(3);
+        clientsExecutorService.execute(this::acceptClients);
+    }
+
+    /**
+     * Starts streaming packets of simulated race to all connected clients.
+     * If streaming was already started, its rate is changed.
+     * @param updatesPerSecond count of race updates per second (LFS sends MCI and NLP packets
+     *                         at most 100 times per second)
+     */
+    public synchronized void startStreaming(int updatesPerSecond) {
+        stopStreaming();
+        streamingFuture = streamingExecutorService.scheduleAtFixedRate(
+                this::sendUpdate,
+                0,
+                getPeriodNanos(updatesPerSecond),
+                TimeUnit.NANOSECONDS
+        );
+    }
+
+    /**
+     * Stops streaming packets of simulated race.
+     */
+    public synchronized void stopStreaming() {
+        if (streamingFuture != null) {
+            streamingFuture.cancel(false);
+            streamingFuture = null;
+        }
+    }
+
+    /**
+     * Starts streaming OutSim packets to specified address. Packets hold structures specified by OutSim options,
+     * values of time, position, velocity and heading change with every packet.
+     * If OutSim streaming was already started, it is restarted with new parameters.
+     * @param hostname address to which packets are sent
+     * @param port port to which packets are sent
+     * @param opts OutSim options - must be the same as options of receiving OutSim connection
+     * @param packetsPerSecond count of packets sent per second
+     */
+    public synchronized void startOutSim(String hostname, int port, Flags<OutSimOpts> opts, int packetsPerSecond) {
+        stopOutSim();
+        outSimStream = new SyntheticOutSimStream(
+                datagramSocket,
+                new InetSocketAddress(hostname, port),
+                opts,
+                sentDatagramsCount
+        );
+        outSimStream.start(streamingExecutorService, getPeriodNanos(packetsPerSecond));
+    }
+
+    /**
+     * Stops streaming OutSim packets.
+     */
+    public synchronized void stopOutSim() {
+        if (outSimStream != null) {
+            outSimStream.stop();
+            outSimStream = null;
+        }
+    }
+
+    /**
+     * Starts streaming OutGauge packets to specified address. Values of time, speed and RPM change
+     * with every packet. If OutGauge streaming was already started, it is restarted with new parameters.
+     * @param hostname address to which packets are sent
+     * @param port port to which packets are sent
+     * @param packetsPerSecond count of packets sent per second
+     */
+    public synchronized void startOutGauge(String hostname, int port, int packetsPerSecond) {
+        stopOutGauge();
+        outGaugeStream = new SyntheticOutGaugeStream(
+                datagramSocket,
+                new InetSocketAddress(hostname, port),
+                sentDatagramsCount
+        );
+        outGaugeStream.start(streamingExecutorService, getPeriodNanos(packetsPerSecond));
+    }
+
+    /**
+     * Stops streaming OutGauge packets.
+     */
+    public synchronized void stopOutGauge() {
+        if (outGaugeStream != null) {
+            outGaugeStream.stop();
+            outGaugeStream = null;
+        }
+    }
+
+    /**
+     * @return count of currently connected InSim clients
+     */
+    public int getConnectedClientsCount() {
+        return clients.size();
+    }
+
+    /**
+     * @return total count of InSim packets sent to all clients, using both TCP and UDP
+     */
+    public long getSentPacketsCount() {
+        return sentPacketsCount.get();
+    }
+
+    /**
+     * @return total count of sent OutSim and OutGauge packets
+     */
+    public long getSentDatagramsCount() {
+        return sentDatagramsCount.get();
+    }
+
+    /**
+     * Stops streaming and disconnects all clients.
+     * @throws IOException if I/O error occurs when closing sockets
+     */
+    @Override
+    public void close() throws IOException {
+        streamingExecutorService.shutdownNow();
+        serverSocket.close();
+        for (var client : clients) {
+            client.close();
+        }
+        clientsExecutorService.shutdownNow();
+        datagramSocket.close();
+        try {
+            // port is released only after accepting thread returns
+            clientsExecutorService.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acceptClients() {
+        while (!serverSocket.isClosed()) {
+            try {
+                var socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                clientsExecutorService.execute(() -> serveClient(socket));
+            } catch (IOException exception) {
+                return;
+            }
+        }
+    }
+
+    private void serveClient(Socket socket) {
+        SyntheticClient client = null;
+        try {
+            client = new SyntheticClient(socket, race, datagramSocket, sentPacketsCount);
+            clients.add(client);
+            client.readPackets();
+        } catch (IOException exception) {
+            // client disconnected
+        } finally {
+            if (client != null) {
+                clients.remove(client);
+            }
+            try {
+                socket.close();
+            } catch (IOException exception) {
+                // socket is already closed
+            }
+        }
+    }
+
+    private void sendUpdate() {
+        var events = new ArrayList<byte[]>();
+        race.advance(events::add);
+        var mciPackets = race.createMciPackets(0);
+        var nlpPacket = race.createNlpPacket(0);
+        for (var client : clients) {
+            if (client.isInitialized()) {
+                try {
+                    sendUpdate(client, mciPackets, nlpPacket, events);
+                } catch (IOException exception) {
+                    clients.remove(client);
+                }
+            }
+        }
+    }
+
+    private static void sendUpdate(SyntheticClient client, List<byte[]> mciPackets, byte[] nlpPacket,
+                                   List<byte[]> events) throws IOException {
+        if (client.hasIsiFlag(IsiFlag.MCI)) {
+            for (var mciPacket : mciPackets) {
+                client.sendPositionUpdate(mciPacket);
+            }
+        }
+        if (client.hasIsiFlag(IsiFlag.NLP)) {
+            client.sendPositionUpdate(nlpPacket);
+        }
+        for (var event : events) {
+            if (isEventSent(client, event)) {
+                client.send(event);
+            }
+        }
+    }
+
+    private static boolean isEventSent(SyntheticClient client, byte[] event) {
+        var packetType = PacketType.fromOrdinal(event[1]);
+        return switch (packetType) {
+            case CON -> client.hasIsiFlag(IsiFlag.CON);
+            case OBH -> client.hasIsiFlag(IsiFlag.OBH);
+            default -> true;
+        };
+    }
+
+    private static long getPeriodNanos(int perSecond) {
+        if (perSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        return TimeUnit.SECONDS.toNanos(1) / perSecond;
+    }
+}
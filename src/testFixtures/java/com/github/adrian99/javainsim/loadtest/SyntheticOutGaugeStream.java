@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.loadtest;
+
+import com.github.adrian99.javainsim.api.outgauge.OutGaugePacket;
+
+import java.net.DatagramSocket;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stream of OutGauge packets of car accelerating in 4th gear and then slowing down, in 10 seconds cycles.
+ */
+class SyntheticOutGaugeStream extends SyntheticDatagramStream {
+    private static final int CYCLE_TIME = 10000;
+
+    SyntheticOutGaugeStream(DatagramSocket socket, SocketAddress address, AtomicLong sentDatagramsCount) {
+        super(socket, address, OutGaugePacket.SIZE, sentDatagramsCount);
+    }
+
+    @Override
+    protected void write(ByteBuffer buffer, long time) {
+        var cycleProgress = (float) Math.abs(1 - 2.0 * (time % CYCLE_TIME) / CYCLE_TIME);
+        buffer.putInt((int) time)
+                .put((byte) 'X').put((byte) 'R').put((byte) 'T').put((byte) 0)
+                .putShort((short) 0)
+                .put((byte) 5)
+                .put((byte) 1)
+                .putFloat(20 + cycleProgress * 30)
+                .putFloat(3000 + cycleProgress * 4000)
+                .putFloat(0)
+                .putFloat(90)
+                .putFloat(0.5f)
+                .putFloat(0)
+                .putFloat(90)
+                .putInt(0)
+                .putInt(0)
+                .putFloat(cycleProgress)
+                .putFloat(0)
+                .putFloat(0)
+                .put(new byte[32])
+                .putInt(0);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.loadtest;
+
+import com.github.adrian99.javainsim.api.common.flags.Flags;
+import com.github.adrian99.javainsim.api.outsim.flags.OutSimOpts;
+import com.github.adrian99.javainsim.api.outsim.structures.*;
+
+import java.net.DatagramSocket;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stream of OutSim packets of car driving around circular track.
+ */
+class SyntheticOutSimStream extends SyntheticDatagramStream {
+    private static final double TRACK_RADIUS = 300;
+    private static final double ANGULAR_VELOCITY = 0.1;
+    private final Flags<OutSimOpts> opts;
+    private final boolean outSimPack2;
+
+    SyntheticOutSimStream(DatagramSocket socket, SocketAddress address, Flags<OutSimOpts> opts,
+                          AtomicLong sentDatagramsCount) {
+        super(socket, address, calculatePacketSize(opts), sentDatagramsCount);
+        this.opts = opts;
+        outSimPack2 = opts.getUnsignedValue() > 0;
+    }
+
+    @Override
+    protected void write(ByteBuffer buffer, long time) {
+        if (!outSimPack2) {
+            buffer.putInt((int) time);
+            writeMain(buffer, time);
+            buffer.putInt(0);
+            return;
+        }
+        if (opts.hasFlag(OutSimOpts.HEADER)) {
+            buffer.put((byte) 'L').put((byte) 'F').put((byte) 'S').put((byte) 'T');
+        }
+        if (opts.hasFlag(OutSimOpts.ID)) {
+            buffer.putInt(0);
+        }
+        if (opts.hasFlag(OutSimOpts.TIME)) {
+            buffer.putInt((int) time);
+        }
+        if (opts.hasFlag(OutSimOpts.MAIN)) {
+            writeMain(buffer, time);
+        }
+        if (opts.hasFlag(OutSimOpts.INPUTS)) {
+            buffer.putFloat(1).putFloat(0).putFloat(0.1f).putFloat(0).putFloat(0);
+        }
+        if (opts.hasFlag(OutSimOpts.DRIVE)) {
+            buffer.put((byte) 4).put(new byte[3]).putFloat(700).putFloat(800);
+        }
+        if (opts.hasFlag(OutSimOpts.DISTANCE)) {
+            var distance = (float) (TRACK_RADIUS * ANGULAR_VELOCITY * time / 1000);
+            buffer.putFloat(distance).putFloat(distance);
+        }
+        if (opts.hasFlag(OutSimOpts.WHEELS)) {
+            for (var i = 0; i < 4; i++) {
+                buffer.putFloat(0.05f).putFloat(0).putFloat(0).putFloat(0).putFloat(3000).putFloat(100).putFloat(0)
+                        .put((byte) 80).put((byte) 0).put((byte) 1).put((byte) 0)
+                        .putFloat(0).putFloat(0);
+            }
+        }
+        if (opts.hasFlag(OutSimOpts.EXTRA_1)) {
+            buffer.putFloat(0).putInt(0);
+        }
+    }
+
+    private static void writeMain(ByteBuffer buffer, long time) {
+        var angle = ANGULAR_VELOCITY * time / 1000;
+        var speed = TRACK_RADIUS * ANGULAR_VELOCITY;
+        buffer.putFloat(0).putFloat(0).putFloat((float) ANGULAR_VELOCITY)
+                .putFloat((float) angle).putFloat(0).putFloat(0)
+                .putFloat((float) (-Math.cos(angle) * speed * ANGULAR_VELOCITY))
+                .putFloat((float) (-Math.sin(angle) * speed * ANGULAR_VELOCITY))
+                .putFloat(0)
+                .putFloat((float) (-Math.sin(angle) * speed))
+                .putFloat((float) (Math.cos(angle) * speed))
+                .putFloat(0)
+                .putInt((int) (Math.cos(angle) * TRACK_RADIUS * 65536))
+                .putInt((int) (Math.sin(angle) * TRACK_RADIUS * 65536))
+                .putInt(0);
+    }
+
+    private static int calculatePacketSize(Flags<OutSimOpts> opts) {
+        if (opts.getUnsignedValue() == 0) {
+            return OutSimTime.SIZE + OutSimMain.SIZE + OutSimId.SIZE;
+        }
+        var size = 0;
+        size += opts.hasFlag(OutSimOpts.HEADER) ? OutSimHeader.SIZE : 0;
+        size += opts.hasFlag(OutSimOpts.ID) ? OutSimId.SIZE : 0;
+        size += opts.hasFlag(OutSimOpts.TIME) ? OutSimTime.SIZE : 0;
+        size += opts.hasFlag(OutSimOpts.MAIN) ? OutSimMain.SIZE : 0;
+        size += opts.hasFlag(OutSimOpts.INPUTS) ? OutSimInputs.SIZE : 0;
+        size += opts.hasFlag(OutSimOpts.DRIVE) ? OutSimDrive.SIZE : 0;
+        size += opts.hasFlag(OutSimOpts.DISTANCE) ? OutSimDistance.SIZE : 0;
+        size += opts.hasFlag(OutSimOpts.WHEELS) ? 4 * OutSimWheel.SIZE : 0;
+        size += opts.hasFlag(OutSimOpts.EXTRA_1) ? OutSimExtra1.SIZE : 0;
+        return size;
+    }
+}
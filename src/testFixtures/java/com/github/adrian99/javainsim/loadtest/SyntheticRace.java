@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026, Adrian-99
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.github.adrian99.javainsim.loadtest;
+
+import com.github.adrian99.javainsim.api.insim.packets.enums.PacketType;
+import com.github.adrian99.javainsim.internal.insim.packets.util.Constants;
+import com.github.adrian99.javainsim.internal.insim.packets.util.PacketBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * State of the race simulated by {@link SyntheticLfsHost}. Cars drive around circular track, each advancing
+ * by single node per update. Cars crossing split nodes generate SPX packets, cars crossing finish line generate
+ * LAP packets, and every few updates a contact between cars or with an object is generated.
+ */
+class SyntheticRace {
+    private static final int NODES_PER_LAP = 200;
+    private static final int NODES_PER_SPLIT = 50;
+    private static final int CONTACT_INTERVAL = 25;
+    private static final double TRACK_RADIUS = 300;
+    private static final int SPEED = 13000;
+    private static final int SPLIT_TIME = 15000;
+    private final int connectionsCount;
+    private final int carsCount;
+    private final int[] nodes;
+    private final int[] laps;
+    private final long startTime;
+    private long updatesCount;
+
+    SyntheticRace(int connectionsCount, int carsCount) {
+        this.connectionsCount = connectionsCount;
+        this.carsCount = carsCount;
+        nodes = new int[carsCount];
+        laps = new int[carsCount];
+        for (var i = 0; i < carsCount; i++) {
+            nodes[i] = NODES_PER_LAP - 1 - i * NODES_PER_LAP / carsCount;
+        }
+        startTime = System.currentTimeMillis();
+    }
+
+    int getConnectionsCount() {
+        return connectionsCount;
+    }
+
+    int getCarsCount() {
+        return carsCount;
+    }
+
+    /**
+     * Moves all cars by single node and passes packets of generated events (LAP, SPX, CON, OBH) to specified
+     * consumer.
+     * @param eventConsumer consumer of bytes of generated event packets
+     */
+    synchronized void advance(Consumer<byte[]> eventConsumer) {
+        updatesCount++;
+        for (var i = 0; i < carsCount; i++) {
+            nodes[i] = (nodes[i] + 1) % NODES_PER_LAP;
+            if (nodes[i] == 0) {
+                laps[i]++;
+                eventConsumer.accept(createLapPacket(i));
+            } else if (nodes[i] % NODES_PER_SPLIT == 0) {
+                eventConsumer.accept(createSpxPacket(i));
+            }
+        }
+        if (updatesCount % CONTACT_INTERVAL == 0) {
+            var carIndex = (int) (updatesCount / CONTACT_INTERVAL % carsCount);
+            if (updatesCount % (2 * CONTACT_INTERVAL) == 0 && carsCount > 1) {
+                eventConsumer.accept(createConPacket(carIndex, (carIndex + 1) % carsCount));
+            } else {
+                eventConsumer.accept(createObhPacket(carIndex));
+            }
+        }
+    }
+
+    synchronized List<byte[]> createMciPackets(int reqI) {
+        var packets = new ArrayList<byte[]>();
+        for (var firstCar = 0; firstCar < carsCount; firstCar += Constants.MCI_MAX_CARS) {
+            var numC = Math.min(Constants.MCI_MAX_CARS, carsCount - firstCar);
+            var builder = new PacketBuilder((short) (4 + numC * Constants.COMP_CAR_SIZE), PacketType.MCI, (short) reqI)
+                    .writeByte(numC);
+            for (var i = firstCar; i < firstCar + numC; i++) {
+                var angle = 2 * Math.PI * nodes[i] / NODES_PER_LAP;
+                var direction = (int) ((angle / (2 * Math.PI) + 0.25) * 65536) & 0xFFFF;
+                builder.writeWord(nodes[i])
+                        .writeWord(laps[i] + 1)
+                        .writeByte(getPlid(i))
+                        .writeByte(getPosition(i))
+                        .writeZeroBytes(2)
+                        .writeInt((int) (Math.cos(angle) * TRACK_RADIUS * 65536))
+                        .writeInt((int) (Math.sin(angle) * TRACK_RADIUS * 65536))
+                        .writeInt(0)
+                        .writeWord(SPEED)
+                        .writeWord(direction)
+                        .writeWord(direction)
+                        .writeShort((short) 0);
+            }
+            packets.add(builder.getBytes());
+        }
+        return packets;
+    }
+
+    synchronized byte[] createNlpPacket(int reqI) {
+        var size = (4 + carsCount * Constants.NODE_LAP_SIZE + 3) / 4 * 4;
+        var builder = new PacketBuilder((short) size, PacketType.NLP, (short) reqI)
+                .writeByte(carsCount);
+        for (var i = 0; i < carsCount; i++) {
+            builder.writeWord(nodes[i])
+                    .writeWord(laps[i] + 1)
+                    .writeByte(getPlid(i))
+                    .writeByte(getPosition(i));
+        }
+        return builder.writeZeroBytes(size - 4 - carsCount * Constants.NODE_LAP_SIZE).getBytes();
+    }
+
+    List<byte[]> createNcnPackets(int reqI) {
+        var packets = new ArrayList<byte[]>();
+        for (var ucid = 0; ucid < connectionsCount; ucid++) {
+            packets.add(new PacketBuilder((short) 56, PacketType.NCN, (short) reqI)
+                    .writeByte(ucid)
+                    .writeCharArray(ucid == 0 ? "host" : "user" + ucid, 24)
+                    .writeCharArray(ucid == 0 ? "Host" : "Player " + ucid, 24)
+                    .writeByte(ucid == 0)
+                    .writeByte(connectionsCount)
+                    .writeZeroBytes(2)
+                    .getBytes());
+        }
+        return packets;
+    }
+
+    List<byte[]> createNplPackets(int reqI) {
+        var packets = new ArrayList<byte[]>();
+        for (var i = 0; i < carsCount; i++) {
+            packets.add(new PacketBuilder((short) 76, PacketType.NPL, (short) reqI)
+                    .writeByte(getPlid(i))
+                    .writeByte(getUcid(i))
+                    .writeZeroByte()
+                    .writeWord(0)
+                    .writeCharArray("Player " + getPlid(i), 24)
+                    .writeCharArray(String.valueOf(getPlid(i)), 8)
+                    .writeCharArray("XRT", 4)
+                    .writeCharArray("DEFAULT", 16)
+                    .writeZeroBytes(13)
+                    .writeByte(carsCount)
+                    .writeZeroBytes(2)
+                    .getBytes());
+        }
+        return packets;
+    }
+
+    byte[] createStaPacket(int reqI) {
+        return new PacketBuilder((short) 28, PacketType.STA, (short) reqI)
+                .writeZeroByte()
+                .writeFloat(1)
+                .writeWord(0)
+                .writeZeroBytes(2)
+                .writeByte(carsCount)
+                .writeByte(connectionsCount)
+                .writeZeroByte()
+                .writeByte(1)
+                .writeZeroBytes(3)
+                .writeByte(1)
+                .writeCharArray("BL1", 6)
+                .writeZeroBytes(2)
+                .getBytes();
+    }
+
+    private byte[] createLapPacket(int carIndex) {
+        return new PacketBuilder((short) 20, PacketType.LAP, (short) 0)
+                .writeByte(getPlid(carIndex))
+                .writeUnsigned(NODES_PER_LAP / NODES_PER_SPLIT * (long) SPLIT_TIME)
+                .writeUnsigned(getElapsedTime())
+                .writeWord(laps[carIndex])
+                .writeWord(0)
+                .writeZeroBytes(4)
+                .getBytes();
+    }
+
+    private byte[] createSpxPacket(int carIndex) {
+        return new PacketBuilder((short) 16, PacketType.SPX, (short) 0)
+                .writeByte(getPlid(carIndex))
+                .writeUnsigned((long) nodes[carIndex] / NODES_PER_SPLIT * SPLIT_TIME)
+                .writeUnsigned(getElapsedTime())
+                .writeByte(nodes[carIndex] / NODES_PER_SPLIT)
+                .writeZeroBytes(3)
+                .getBytes();
+    }
+
+    private byte[] createConPacket(int carIndexA, int carIndexB) {
+        var builder = new PacketBuilder((short) 40, PacketType.CON, (short) 0)
+                .writeZeroByte()
+                .writeWord(50)
+                .writeWord((int) (getElapsedTime() / 10));
+        for (var carIndex : new int[] {carIndexA, carIndexB}) {
+            builder.writeByte(getPlid(carIndex))
+                    .writeZeroBytes(6)
+                    .writeByte(SPEED / 327)
+                    .writeZeroBytes(4)
+                    .writeShort((short) 0)
+                    .writeShort((short) 0);
+        }
+        return builder.getBytes();
+    }
+
+    private byte[] createObhPacket(int carIndex) {
+        return new PacketBuilder((short) 24, PacketType.OBH, (short) 0)
+                .writeByte(getPlid(carIndex))
+                .writeWord(30)
+                .writeWord((int) (getElapsedTime() / 10))
+                .writeZeroBytes(2)
+                .writeByte(SPEED / 327)
+                .writeZeroBytes(13)
+                .getBytes();
+    }
+
+    private long getElapsedTime() {
+        return System.currentTimeMillis() - startTime;
+    }
+
+    private int getPosition(int carIndex) {
+        var progress = (long) laps[carIndex] * NODES_PER_LAP + nodes[carIndex];
+        var position = 1;
+        for (var i = 0; i < carsCount; i++) {
+            var otherProgress = (long) laps[i] * NODES_PER_LAP + nodes[i];
+            if (otherProgress > progress || (otherProgress == progress && i < carIndex)) {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    private int getUcid(int carIndex) {
+        return carIndex % connectionsCount;
+    }
+
+    private static int getPlid(int carIndex) {
+        return carIndex + 1;
+    }
+}